@@ -0,0 +1,80 @@
+package com.reqres.benchmarks;
+
+import org.json.simple.JSONObject;
+import org.json.simple.parser.JSONParser;
+import org.json.simple.parser.ParseException;
+import com.reqres.contract.JsonSchema;
+import com.reqres.contract.ResponseContract;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ContractValidationBenchmark Class - Cost of checking a create user response
+ *
+ * Strategies:
+ * - parseTree*         - decode to String and parse with json-simple, then look fields up,
+ *                        as the tests did before contracts
+ * - compileAndValidate - load and compile the schema on every call
+ * - precompiled        - ResponseContract.CREATE_USER, compiled once, one pass over the bytes
+ *
+ * Run with: mvn test -Pjmh -Djmh.args="ContractValidationBenchmark -prof gc"
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ContractValidationBenchmark {
+
+    private byte[] body;
+    private String schemaJson;
+
+    @Setup
+    public void setUp() {
+        body = ("{\"args\": {}, \"data\": \"{\\\"name\\\":\\\"John Doe\\\",\\\"job\\\":\\\"QA Engineer\\\"}\", "
+                + "\"files\": {}, \"form\": {}, \"json\": {\"name\": \"John Doe\", \"job\": \"QA Engineer\"}, "
+                + "\"headers\": {\"Accept\": \"application/json\", \"Content-Length\": \"41\", "
+                + "\"Content-Type\": \"application/json\", \"Host\": \"localhost:8089\", "
+                + "\"User-Agent\": \"Apache-HttpClient/4.5.13 (Java/21.0.1)\"}, "
+                + "\"origin\": \"127.0.0.1\", \"url\": \"http://localhost:8089/post\"}").getBytes(StandardCharsets.UTF_8);
+        try (InputStream input = getClass().getClassLoader().getResourceAsStream("schemas/user-create.schema.json")) {
+            schemaJson = new String(input.readAllBytes(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Benchmark
+    public boolean parseTreeFieldChecks() throws ParseException {
+        Object root = new JSONParser().parse(new String(body, StandardCharsets.UTF_8));
+        Object json = ((Map<?, ?>) root).get("json");
+        return json instanceof JSONObject && ((Map<?, ?>) json).containsKey("name") && ((Map<?, ?>) json).containsKey("job");
+    }
+
+    @Benchmark
+    public List<String> compileAndValidate() {
+        return JsonSchema.compile("user-create", schemaJson).validate(body);
+    }
+
+    @Benchmark
+    public List<String> precompiled() {
+        return ResponseContract.CREATE_USER.validate(body);
+    }
+}
@@ -0,0 +1,118 @@
+package com.reqres.benchmarks;
+
+import org.json.simple.JSONObject;
+import com.reqres.utils.JsonBodyEncoder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * RequestBodyBenchmark Class - Throughput and allocation of request body construction
+ * 
+ * Strategies:
+ * - stringFormat* - String.format templates, as in UserAPI.createUser/updateUser/partialUpdateUser
+ * - jsonSimple*   - json-simple JSONObject.toJSONString(), as in LoginAPI and RegisterAPI
+ * - encoder*      - JsonBodyEncoder, used by all api wrappers
+ * 
+ * Every benchmark returns the UTF-8 bytes that go on the wire, so encoding cost is included.
+ * Run with: mvn test -Pjmh (adds -prof gc for allocation rate per operation)
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RequestBodyBenchmark {
+
+    /**
+     * Length of each string field: short names, long job titles, oversized free text
+     */
+    @Param({"12", "64", "1024"})
+    public int fieldLength;
+
+    private String name;
+    private String job;
+    private String email;
+    private String password;
+    private int userId;
+
+    @Setup
+    public void setUp() {
+        name = text("John O'Brien ", fieldLength);
+        job = text("QA Engineer ", fieldLength);
+        email = text("eve.holt", fieldLength - "@reqres.in".length()) + "@reqres.in";
+        password = text("cityslicka", fieldLength);
+        userId = 42;
+    }
+
+    @Benchmark
+    public byte[] stringFormatCreateUser() {
+        return String.format("{\n" +
+                "  \"name\": \"%s\",\n" +
+                "  \"job\": \"%s\"\n" +
+                "}", name, job).getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public byte[] stringFormatUpdateUser() {
+        return String.format("{\n" +
+                "  \"id\": %d,\n" +
+                "  \"name\": \"%s\",\n" +
+                "  \"job\": \"%s\"\n" +
+                "}", userId, name, job).getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    @SuppressWarnings("unchecked")
+    public byte[] jsonSimpleCreateUser() {
+        JSONObject requestBody = new JSONObject();
+        requestBody.put("name", name);
+        requestBody.put("job", job);
+        return requestBody.toJSONString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    @SuppressWarnings("unchecked")
+    public byte[] jsonSimpleLogin() {
+        JSONObject requestBody = new JSONObject();
+        requestBody.put("email", email);
+        requestBody.put("password", password);
+        return requestBody.toJSONString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public byte[] encoderCreateUser() {
+        return JsonBodyEncoder.begin().field("name", name).field("job", job).end();
+    }
+
+    @Benchmark
+    public byte[] encoderUpdateUser() {
+        return JsonBodyEncoder.begin().field("id", userId).field("name", name).field("job", job).end();
+    }
+
+    @Benchmark
+    public byte[] encoderLogin() {
+        return JsonBodyEncoder.begin().field("email", email).field("password", password).end();
+    }
+
+    private static String text(String seed, int length) {
+        StringBuilder builder = new StringBuilder(Math.max(length, 1));
+        while (builder.length() < length) {
+            builder.append(seed);
+        }
+        builder.setLength(Math.max(length, 1));
+        return builder.toString();
+    }
+}
@@ -0,0 +1,78 @@
+package com.reqres.benchmarks;
+
+import io.restassured.path.json.JsonPath;
+import org.json.simple.JSONObject;
+import org.json.simple.parser.JSONParser;
+import org.json.simple.parser.ParseException;
+import com.reqres.models.CreatedUser;
+import com.reqres.models.CreatedUserReader;
+import com.reqres.models.HttpbinEchoReader;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * TypedResponseBenchmark Class - Cost of turning a create user response into a CreatedUser
+ *
+ * Strategies:
+ * - jsonPath        - RestAssured's Groovy JsonPath, as response.jsonPath() does
+ * - jsonSimple      - parse to a json-simple tree, then copy the fields
+ * - generatedReader - HttpbinEchoReader/CreatedUserReader from the @JsonModel processor,
+ *                     as UserAPI.createUserTyped does
+ *
+ * Every benchmark starts from the response bytes, so decoding the body is included.
+ * Run with: mvn test -Pjmh -Djmh.args="TypedResponseBenchmark -prof gc"
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TypedResponseBenchmark {
+
+    private static final HttpbinEchoReader<CreatedUser> ECHO_READER = new HttpbinEchoReader<>(CreatedUserReader.INSTANCE);
+
+    private byte[] body;
+
+    @Setup
+    public void setUp() {
+        body = ("{\"args\": {}, \"data\": \"{\\\"name\\\":\\\"John Doe\\\",\\\"job\\\":\\\"QA Engineer\\\"}\", "
+                + "\"files\": {}, \"form\": {}, \"json\": {\"name\": \"John Doe\", \"job\": \"QA Engineer\"}, "
+                + "\"headers\": {\"Accept\": \"application/json\", \"Content-Length\": \"41\", "
+                + "\"Content-Type\": \"application/json\", \"Host\": \"localhost:8089\", "
+                + "\"User-Agent\": \"Apache-HttpClient/4.5.13 (Java/21.0.1)\"}, "
+                + "\"origin\": \"127.0.0.1\", \"url\": \"http://localhost:8089/post\"}").getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public CreatedUser jsonPath() {
+        JsonPath jsonPath = JsonPath.from(new String(body, StandardCharsets.UTF_8));
+        return new CreatedUser(jsonPath.getString("json.id"), jsonPath.getString("json.name"),
+                jsonPath.getString("json.job"), jsonPath.getString("json.createdAt"));
+    }
+
+    @Benchmark
+    public CreatedUser jsonSimple() throws ParseException {
+        JSONObject root = (JSONObject) new JSONParser().parse(new String(body, StandardCharsets.UTF_8));
+        Map<?, ?> json = (Map<?, ?>) root.get("json");
+        return new CreatedUser((String) json.get("id"), (String) json.get("name"),
+                (String) json.get("job"), (String) json.get("createdAt"));
+    }
+
+    @Benchmark
+    public CreatedUser generatedReader() {
+        return ECHO_READER.read(body).json();
+    }
+}
@@ -0,0 +1,297 @@
+package com.reqres.codegen;
+
+import com.reqres.json.JsonModel;
+import com.reqres.json.JsonName;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.Filer;
+import javax.annotation.processing.Messager;
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.RecordComponentElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.TypeParameterElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.type.TypeVariable;
+import javax.lang.model.util.Elements;
+import javax.tools.Diagnostic;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * JsonModelProcessor Class - Generates a JSON reader for every {@link JsonModel} record
+ *
+ * This class provides:
+ * - One FooReader source per record Foo, in Foo's package, written during compilation
+ * - Field dispatch through pre-encoded names and a switch, then a single canonical
+ *   constructor call: no reflection, no Groovy, no intermediate JSON tree
+ * - Compile errors, pointing at the component, for types the reader cannot decode
+ *
+ * The processor lives in src/main/java and is registered in
+ * META-INF/services/javax.annotation.processing.Processor; the test compilation finds it
+ * on its class path. The main compilation runs with annotation processing off, since
+ * javac cannot run a processor it is still compiling.
+ */
+@SupportedAnnotationTypes("com.reqres.json.JsonModel")
+public class JsonModelProcessor extends AbstractProcessor {
+
+    private static final String READER_SUFFIX = "Reader";
+
+    private Elements elements;
+    private Filer filer;
+    private Messager messager;
+
+    @Override
+    public synchronized void init(ProcessingEnvironment processingEnv) {
+        super.init(processingEnv);
+        this.elements = processingEnv.getElementUtils();
+        this.filer = processingEnv.getFiler();
+        this.messager = processingEnv.getMessager();
+    }
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        for (Element element : roundEnv.getElementsAnnotatedWith(JsonModel.class)) {
+            if (element.getKind() != ElementKind.RECORD) {
+                messager.printMessage(Diagnostic.Kind.ERROR, "@JsonModel is only supported on records", element);
+                continue;
+            }
+            TypeElement record = (TypeElement) element;
+            if (record.getNestingKind() != NestingKind.TOP_LEVEL) {
+                messager.printMessage(Diagnostic.Kind.ERROR, "@JsonModel records must be top-level types", element);
+                continue;
+            }
+            try {
+                String source = generate(record);
+                try (Writer writer = filer.createSourceFile(readerName(record), record).openWriter()) {
+                    writer.write(source);
+                }
+            } catch (UnsupportedComponentException e) {
+                messager.printMessage(Diagnostic.Kind.ERROR, e.getMessage(), e.component);
+            } catch (IOException e) {
+                throw new UncheckedIOException("Could not write the reader of " + record.getQualifiedName(), e);
+            }
+        }
+        return true;
+    }
+
+    private String generate(TypeElement record) {
+        PackageElement pkg = elements.getPackageOf(record);
+        String simpleName = record.getSimpleName().toString();
+        String readerSimpleName = simpleName + READER_SUFFIX;
+        List<? extends TypeParameterElement> typeParameters = record.getTypeParameters();
+        List<? extends RecordComponentElement> components = record.getRecordComponents();
+
+        String typeVariables = "";
+        if (!typeParameters.isEmpty()) {
+            List<String> names = new ArrayList<>();
+            typeParameters.forEach(parameter -> names.add(parameter.getSimpleName().toString()));
+            typeVariables = "<" + String.join(", ", names) + ">";
+        }
+        String modelType = simpleName + typeVariables;
+
+        StringBuilder names = new StringBuilder();
+        StringBuilder locals = new StringBuilder();
+        StringBuilder cases = new StringBuilder();
+        List<String> arguments = new ArrayList<>();
+        for (int i = 0; i < components.size(); i++) {
+            RecordComponentElement component = components.get(i);
+            String variable = component.getSimpleName().toString();
+            TypeMirror type = component.asType();
+            JsonName jsonName = component.getAnnotation(JsonName.class);
+
+            names.append(i == 0 ? "" : ", ").append('"').append(escape(jsonName != null ? jsonName.value() : variable)).append('"');
+            locals.append("        ").append(type).append(' ').append(variable).append(" = ").append(defaultValue(type)).append(";\n");
+            cases.append("                case ").append(i).append(" -> ").append(variable).append(" = ")
+                    .append(valueExpression(component, type, "reader", 0)).append(";\n");
+            arguments.add(variable);
+        }
+
+        StringBuilder source = new StringBuilder();
+        if (!pkg.isUnnamed()) {
+            source.append("package ").append(pkg.getQualifiedName()).append(";\n\n");
+        }
+        source.append("import com.reqres.json.JsonModelReader;\n")
+                .append("import com.reqres.json.JsonReader;\n\n")
+                .append("import javax.annotation.processing.Generated;\n\n")
+                .append("/**\n * Reads {@link ").append(simpleName).append("} from JSON; generated from the record, do not edit\n */\n")
+                .append("@Generated(\"").append(JsonModelProcessor.class.getName()).append("\")\n")
+                .append("public final class ").append(readerSimpleName).append(typeVariables)
+                .append(" implements JsonModelReader<").append(modelType).append("> {\n\n");
+
+        if (typeParameters.isEmpty()) {
+            source.append("    public static final ").append(readerSimpleName).append(" INSTANCE = new ")
+                    .append(readerSimpleName).append("();\n\n");
+        }
+        source.append("    private static final byte[][] NAMES = JsonReader.names(").append(names).append(");\n\n");
+
+        if (typeParameters.isEmpty()) {
+            source.append("    private ").append(readerSimpleName).append("() {\n    }\n\n");
+        } else {
+            List<String> parameters = new ArrayList<>();
+            for (TypeParameterElement parameter : typeParameters) {
+                String name = parameter.getSimpleName().toString();
+                source.append("    private final JsonModelReader<").append(name).append("> ")
+                        .append(typeVariableReader(name)).append(";\n");
+                parameters.add("JsonModelReader<" + name + "> " + typeVariableReader(name));
+            }
+            source.append("\n    /**\n");
+            for (TypeParameterElement parameter : typeParameters) {
+                String name = parameter.getSimpleName().toString();
+                source.append("     * @param ").append(typeVariableReader(name)).append(" Reader of ").append(name).append(" values\n");
+            }
+            source.append("     */\n    public ").append(readerSimpleName).append('(').append(String.join(", ", parameters)).append(") {\n");
+            for (TypeParameterElement parameter : typeParameters) {
+                String name = typeVariableReader(parameter.getSimpleName().toString());
+                source.append("        this.").append(name).append(" = ").append(name).append(";\n");
+            }
+            source.append("    }\n\n");
+        }
+
+        source.append("    @Override\n")
+                .append("    public ").append(modelType).append(" read(JsonReader reader) {\n")
+                .append("        if (reader.readNull()) {\n            return null;\n        }\n")
+                .append(locals)
+                .append("        reader.beginObject();\n")
+                .append("        while (reader.hasNext()) {\n")
+                .append("            switch (reader.nextField(NAMES)) {\n")
+                .append(cases)
+                .append("                default -> reader.skipValue();\n")
+                .append("            }\n")
+                .append("        }\n")
+                .append("        return new ").append(simpleName).append(typeParameters.isEmpty() ? "" : "<>")
+                .append('(').append(String.join(", ", arguments)).append(");\n")
+                .append("    }\n")
+                .append("}\n");
+        return source.toString();
+    }
+
+    /**
+     * Java expression that reads a value of the given type from the reader variable
+     */
+    private String valueExpression(Element component, TypeMirror type, String reader, int depth) {
+        switch (type.getKind()) {
+            case INT:
+                return reader + ".readInt()";
+            case LONG:
+                return reader + ".readLong()";
+            case DOUBLE:
+                return reader + ".readDouble()";
+            case BOOLEAN:
+                return reader + ".readBoolean()";
+            case TYPEVAR:
+                return typeVariableReader(((TypeVariable) type).asElement().getSimpleName().toString()) + ".read(" + reader + ")";
+            case DECLARED:
+                break;
+            default:
+                throw new UnsupportedComponentException(component, type);
+        }
+
+        DeclaredType declared = (DeclaredType) type;
+        TypeElement typeElement = (TypeElement) declared.asElement();
+        List<? extends TypeMirror> typeArguments = declared.getTypeArguments();
+        switch (typeElement.getQualifiedName().toString()) {
+            case "java.lang.String":
+                return reader + ".readString()";
+            case "java.lang.Integer":
+                return reader + ".readNull() ? null : " + reader + ".readInt()";
+            case "java.lang.Long":
+                return reader + ".readNull() ? null : " + reader + ".readLong()";
+            case "java.lang.Double":
+                return reader + ".readNull() ? null : " + reader + ".readDouble()";
+            case "java.lang.Boolean":
+                return reader + ".readNull() ? null : " + reader + ".readBoolean()";
+            case "java.util.List":
+                return reader + ".readList(" + readerExpression(component, typeArguments.get(0), depth + 1) + ")";
+            case "java.util.Map":
+                if (!typeArguments.get(0).toString().equals("java.lang.String")) {
+                    throw new UnsupportedComponentException(component, type);
+                }
+                return reader + ".readMap(" + readerExpression(component, typeArguments.get(1), depth + 1) + ")";
+            default:
+                break;
+        }
+
+        if (typeElement.getAnnotation(JsonModel.class) == null) {
+            throw new UnsupportedComponentException(component, type);
+        }
+        String modelReader = readerName(typeElement);
+        if (typeArguments.isEmpty()) {
+            return modelReader + ".INSTANCE.read(" + reader + ")";
+        }
+        List<String> argumentReaders = new ArrayList<>();
+        for (TypeMirror argument : typeArguments) {
+            argumentReaders.add(readerExpression(component, argument, depth + 1));
+        }
+        return "new " + modelReader + "<>(" + String.join(", ", argumentReaders) + ").read(" + reader + ")";
+    }
+
+    /**
+     * Java expression of a JsonModelReader for element and value types
+     */
+    private String readerExpression(Element component, TypeMirror type, int depth) {
+        if (type.getKind() == TypeKind.WILDCARD) {
+            throw new UnsupportedComponentException(component, type);
+        }
+        if (type.toString().equals("java.lang.String")) {
+            return "JsonReader::readString";
+        }
+        String variable = "r" + depth;
+        return "(JsonModelReader<" + type + ">) " + variable + " -> " + valueExpression(component, type, variable, depth);
+    }
+
+    private String readerName(TypeElement record) {
+        return record.getQualifiedName() + READER_SUFFIX;
+    }
+
+    private static String typeVariableReader(String typeVariable) {
+        return Character.toLowerCase(typeVariable.charAt(0)) + typeVariable.substring(1) + READER_SUFFIX;
+    }
+
+    private static String defaultValue(TypeMirror type) {
+        return switch (type.getKind()) {
+            case INT, LONG -> "0";
+            case DOUBLE -> "0.0";
+            case BOOLEAN -> "false";
+            default -> "null";
+        };
+    }
+
+    private static String escape(String name) {
+        return name.replace("\\", "\\\\").replace("\"", "\\\"");
+    }
+
+    /**
+     * A record component whose type has no generated read path
+     */
+    private static final class UnsupportedComponentException extends RuntimeException {
+
+        private static final long serialVersionUID = 1L;
+
+        private final transient Element component;
+
+        UnsupportedComponentException(Element component, TypeMirror type) {
+            super("@JsonModel cannot read " + type + " (component " + component.getSimpleName()
+                    + "); supported: String, primitives and their boxes, List, Map<String, ?>, @JsonModel records"
+                    + " and type parameters");
+            this.component = component;
+        }
+    }
+}
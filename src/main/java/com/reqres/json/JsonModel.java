@@ -0,0 +1,31 @@
+package com.reqres.json;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * JsonModel Annotation - Marks a record whose JSON reader is generated at compile time
+ *
+ * For a record Foo the annotation processor writes FooReader next to it: a
+ * {@link JsonModelReader} that decodes Foo straight from response bytes, without
+ * reflection. Records with one type parameter get a reader for the parameter as a
+ * constructor argument.
+ *
+ * Supported component types: String, boolean, int, long, double (and their boxes),
+ * List and Map with String keys of any supported type, other @JsonModel records and
+ * the record's type parameter. Unknown JSON fields are skipped; missing ones are null,
+ * or zero / false for primitives.
+ *
+ * Usage:
+ * {@literal @}JsonModel
+ * public record CreatedUser(String id, String name, String job, String createdAt) {}
+ * CreatedUser user = CreatedUserReader.INSTANCE.read(response.asByteArray());
+ */
+@Documented
+@Retention(RetentionPolicy.SOURCE)
+@Target(ElementType.TYPE)
+public @interface JsonModel {
+}
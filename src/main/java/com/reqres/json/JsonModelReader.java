@@ -0,0 +1,47 @@
+package com.reqres.json;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * JsonModelReader Interface - Decodes one JSON value into a typed object
+ *
+ * Implemented by the readers generated for {@link JsonModel} records, and by method
+ * references such as {@code JsonReader::readString} for element types.
+ *
+ * @param <T> Decoded type
+ */
+@FunctionalInterface
+public interface JsonModelReader<T> {
+
+    /**
+     * Read the value at the reader's position
+     *
+     * @param reader Reader positioned at the value
+     * @return Decoded value
+     */
+    T read(JsonReader reader);
+
+    /**
+     * Decode a whole UTF-8 document
+     *
+     * @param json Document bytes
+     * @return Decoded value
+     * @throws IllegalArgumentException if the document is not valid JSON for this type
+     */
+    default T read(byte[] json) {
+        JsonReader reader = new JsonReader(json);
+        T value = read(reader);
+        reader.endDocument();
+        return value;
+    }
+
+    /**
+     * Decode a whole document given as a String
+     *
+     * @param json Document text
+     * @return Decoded value
+     */
+    default T read(String json) {
+        return read(json.getBytes(StandardCharsets.UTF_8));
+    }
+}
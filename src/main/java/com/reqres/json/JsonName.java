@@ -0,0 +1,26 @@
+package com.reqres.json;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * JsonName Annotation - JSON field name of a {@link JsonModel} record component
+ *
+ * Only needed when the field name differs from the component name.
+ *
+ * Usage:
+ * {@literal @}JsonName("first_name") String firstName
+ */
+@Documented
+@Retention(RetentionPolicy.SOURCE)
+@Target(ElementType.RECORD_COMPONENT)
+public @interface JsonName {
+
+    /**
+     * @return Field name in the JSON document
+     */
+    String value();
+}
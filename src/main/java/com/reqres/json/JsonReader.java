@@ -0,0 +1,450 @@
+package com.reqres.json;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * JsonReader Class - Pull reader over UTF-8 JSON bytes for generated model readers
+ *
+ * This class provides:
+ * - Forward-only reading of objects, arrays and scalar values straight from the bytes
+ * - Field lookup against pre-encoded names ({@link #nextField(byte[][])}), so known keys
+ *   are matched without creating a String per key
+ * - Skipping of values a model does not declare
+ *
+ * Readers are not thread-safe and are meant to decode one document. Malformed input
+ * fails with an IllegalArgumentException naming the byte offset.
+ *
+ * Usage (what generated readers do):
+ * reader.beginObject();
+ * while (reader.hasNext()) {
+ *     switch (reader.nextField(NAMES)) {
+ *         case 0 -> name = reader.readString();
+ *         default -> reader.skipValue();
+ *     }
+ * }
+ */
+public final class JsonReader {
+
+    private static final int MAX_DEPTH = 256;
+
+    private final byte[] json;
+    private int pos;
+
+    // Per open object or array: whether an element was read, so the next needs a comma
+    private int depth;
+    private boolean[] started = new boolean[16];
+
+    public JsonReader(byte[] json) {
+        this.json = json;
+    }
+
+    /**
+     * Encode field names once for {@link #nextField(byte[][])}
+     *
+     * @param names Field names in the order the caller switches on them
+     * @return UTF-8 encoded names
+     */
+    public static byte[][] names(String... names) {
+        byte[][] encoded = new byte[names.length][];
+        for (int i = 0; i < names.length; i++) {
+            encoded[i] = names[i].getBytes(StandardCharsets.UTF_8);
+        }
+        return encoded;
+    }
+
+    /**
+     * Consume the opening brace of an object
+     */
+    public void beginObject() {
+        begin('{');
+    }
+
+    /**
+     * Consume the opening bracket of an array
+     */
+    public void beginArray() {
+        begin('[');
+    }
+
+    /**
+     * Move to the next field or element of the current object or array
+     *
+     * @return true if there is one, false after consuming the closing brace or bracket
+     */
+    public boolean hasNext() {
+        skipWhitespace();
+        byte next = peek();
+        if (next == '}' || next == ']') {
+            pos++;
+            depth--;
+            return false;
+        }
+        if (started[depth - 1]) {
+            expect(',');
+            skipWhitespace();
+        }
+        started[depth - 1] = true;
+        return true;
+    }
+
+    /**
+     * Read a field name and its colon, and look it up among known names
+     *
+     * @param names Names from {@link #names(String...)}
+     * @return Index of the matching name, or -1 for an unknown field
+     */
+    public int nextField(byte[][] names) {
+        int start = pos + 1;
+        boolean escaped = skipString();
+        int end = pos - 1;
+        skipWhitespace();
+        expect(':');
+        if (escaped) {
+            byte[] decoded = decode(start, end).getBytes(StandardCharsets.UTF_8);
+            return indexOf(names, decoded, 0, decoded.length);
+        }
+        return indexOf(names, json, start, end);
+    }
+
+    /**
+     * Read a field name and its colon
+     *
+     * @return Field name
+     */
+    public String nextName() {
+        String name = readString();
+        if (name == null) {
+            throw invalid("expected a field name");
+        }
+        skipWhitespace();
+        expect(':');
+        return name;
+    }
+
+    /**
+     * Consume a null literal if one is next
+     *
+     * @return true if a null was consumed
+     */
+    public boolean readNull() {
+        skipWhitespace();
+        if (pos < json.length && json[pos] == 'n') {
+            literal("null");
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Read a string value
+     *
+     * @return String, or null for a JSON null
+     */
+    public String readString() {
+        if (readNull()) {
+            return null;
+        }
+        if (peek() != '"') {
+            throw invalid("expected a string");
+        }
+        int start = pos + 1;
+        boolean escaped = skipString();
+        int end = pos - 1;
+        return escaped ? decode(start, end) : new String(json, start, end - start, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Read a boolean value
+     *
+     * @return Boolean value
+     */
+    public boolean readBoolean() {
+        skipWhitespace();
+        if (peek() == 't') {
+            literal("true");
+            return true;
+        }
+        literal("false");
+        return false;
+    }
+
+    /**
+     * Read an integral number that fits an int
+     *
+     * @return Integer value
+     */
+    public int readInt() {
+        long value = readLong();
+        if (value != (int) value) {
+            throw invalid("number " + value + " does not fit an int");
+        }
+        return (int) value;
+    }
+
+    /**
+     * Read an integral number
+     *
+     * @return Long value
+     */
+    public long readLong() {
+        skipWhitespace();
+        boolean negative = peek() == '-';
+        if (negative) {
+            pos++;
+        }
+        int start = pos;
+        long value = 0;
+        while (pos < json.length && json[pos] >= '0' && json[pos] <= '9') {
+            int digit = json[pos++] - '0';
+            if (value > (Long.MAX_VALUE - digit) / 10) {
+                throw invalid("number does not fit a long");
+            }
+            value = value * 10 + digit;
+        }
+        if (pos == start) {
+            throw invalid("expected a number");
+        }
+        if (pos < json.length && (json[pos] == '.' || json[pos] == 'e' || json[pos] == 'E')) {
+            throw invalid("expected an integer");
+        }
+        return negative ? -value : value;
+    }
+
+    /**
+     * Read any number
+     *
+     * @return Double value
+     */
+    public double readDouble() {
+        skipWhitespace();
+        int start = pos;
+        skipNumber();
+        return Double.parseDouble(new String(json, start, pos - start, StandardCharsets.US_ASCII));
+    }
+
+    /**
+     * Read an array of values
+     *
+     * @param elementReader Reader of one element
+     * @param <E> Element type
+     * @return List in document order, or null for a JSON null
+     */
+    public <E> List<E> readList(JsonModelReader<E> elementReader) {
+        if (readNull()) {
+            return null;
+        }
+        List<E> list = new ArrayList<>();
+        beginArray();
+        while (hasNext()) {
+            list.add(elementReader.read(this));
+        }
+        return list;
+    }
+
+    /**
+     * Read an object as a map
+     *
+     * @param valueReader Reader of one field value
+     * @param <V> Value type
+     * @return Map in document order, or null for a JSON null
+     */
+    public <V> Map<String, V> readMap(JsonModelReader<V> valueReader) {
+        if (readNull()) {
+            return null;
+        }
+        Map<String, V> map = new LinkedHashMap<>();
+        beginObject();
+        while (hasNext()) {
+            String name = nextName();
+            map.put(name, valueReader.read(this));
+        }
+        return map;
+    }
+
+    /**
+     * Skip the next value, however deeply nested
+     */
+    public void skipValue() {
+        skipWhitespace();
+        switch (peek()) {
+            case '{' -> {
+                beginObject();
+                while (hasNext()) {
+                    skipString();
+                    skipWhitespace();
+                    expect(':');
+                    skipValue();
+                }
+            }
+            case '[' -> {
+                beginArray();
+                while (hasNext()) {
+                    skipValue();
+                }
+            }
+            case '"' -> skipString();
+            case 't' -> literal("true");
+            case 'f' -> literal("false");
+            case 'n' -> literal("null");
+            default -> skipNumber();
+        }
+    }
+
+    /**
+     * Check that nothing but whitespace follows the value just read
+     */
+    public void endDocument() {
+        skipWhitespace();
+        if (pos < json.length) {
+            throw invalid("unexpected data after the document");
+        }
+    }
+
+    private void begin(char open) {
+        skipWhitespace();
+        expect(open);
+        if (depth == MAX_DEPTH) {
+            throw invalid("nesting deeper than " + MAX_DEPTH);
+        }
+        if (depth == started.length) {
+            started = Arrays.copyOf(started, depth * 2);
+        }
+        started[depth++] = false;
+    }
+
+    private void skipNumber() {
+        int start = pos;
+        if (pos < json.length && json[pos] == '-') {
+            pos++;
+        }
+        while (pos < json.length && isNumberPart(json[pos])) {
+            pos++;
+        }
+        if (pos == start) {
+            throw invalid("expected a value");
+        }
+    }
+
+    private static boolean isNumberPart(byte b) {
+        return (b >= '0' && b <= '9') || b == '.' || b == 'e' || b == 'E' || b == '+' || b == '-';
+    }
+
+    /**
+     * Move past a string starting at the opening quote
+     *
+     * @return true if the string contains escape sequences
+     */
+    private boolean skipString() {
+        if (peek() != '"') {
+            throw invalid("expected a string");
+        }
+        pos++;
+        boolean escaped = false;
+        while (pos < json.length) {
+            byte b = json[pos++];
+            if (b == '"') {
+                return escaped;
+            }
+            if (b == '\\') {
+                escaped = true;
+                pos++;
+            }
+        }
+        throw invalid("unterminated string");
+    }
+
+    private String decode(int start, int end) {
+        StringBuilder decoded = new StringBuilder(end - start);
+        int segment = start;
+        int i = start;
+        while (i < end) {
+            if (json[i] != '\\') {
+                i++;
+                continue;
+            }
+            decoded.append(new String(json, segment, i - segment, StandardCharsets.UTF_8));
+            if (i + 1 >= end) {
+                throw invalid("invalid escape sequence");
+            }
+            byte escape = json[i + 1];
+            i += 2;
+            switch (escape) {
+                case '"', '\\', '/' -> decoded.append((char) escape);
+                case 'b' -> decoded.append('\b');
+                case 'f' -> decoded.append('\f');
+                case 'n' -> decoded.append('\n');
+                case 'r' -> decoded.append('\r');
+                case 't' -> decoded.append('\t');
+                case 'u' -> {
+                    if (i + 4 > end) {
+                        throw invalid("invalid unicode escape");
+                    }
+                    int code = 0;
+                    for (int k = 0; k < 4; k++) {
+                        int digit = Character.digit(json[i + k], 16);
+                        if (digit < 0) {
+                            throw invalid("invalid unicode escape");
+                        }
+                        code = code * 16 + digit;
+                    }
+                    decoded.append((char) code);
+                    i += 4;
+                }
+                default -> throw invalid("invalid escape sequence");
+            }
+            segment = i;
+        }
+        return decoded.append(new String(json, segment, end - segment, StandardCharsets.UTF_8)).toString();
+    }
+
+    private static int indexOf(byte[][] names, byte[] key, int start, int end) {
+        for (int i = 0; i < names.length; i++) {
+            if (Arrays.equals(names[i], 0, names[i].length, key, start, end)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private void literal(String literal) {
+        for (int i = 0; i < literal.length(); i++) {
+            if (pos >= json.length || json[pos] != literal.charAt(i)) {
+                throw invalid("expected " + literal);
+            }
+            pos++;
+        }
+    }
+
+    private void skipWhitespace() {
+        while (pos < json.length) {
+            byte b = json[pos];
+            if (b != ' ' && b != '\n' && b != '\r' && b != '\t') {
+                return;
+            }
+            pos++;
+        }
+    }
+
+    private byte peek() {
+        if (pos >= json.length) {
+            throw invalid("unexpected end of document");
+        }
+        return json[pos];
+    }
+
+    private void expect(char expected) {
+        if (peek() != expected) {
+            throw invalid("expected '" + expected + "'");
+        }
+        pos++;
+    }
+
+    private IllegalArgumentException invalid(String problem) {
+        return new IllegalArgumentException("Invalid JSON at offset " + pos + ": " + problem);
+    }
+}
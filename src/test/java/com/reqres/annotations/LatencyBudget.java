@@ -0,0 +1,50 @@
+package com.reqres.annotations;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * LatencyBudget Annotation - Declares a latency SLO for the API calls made by a test
+ * 
+ * Every HTTP exchange made while the test method runs is measured. When a percentile
+ * exceeds its budget the test fails (or only logs a warning, see {@link #warnOnly()}).
+ * A budget of 0 is not checked; at least one budget should be set.
+ * 
+ * Enforced by {@link com.reqres.listeners.LatencyBudgetListener}.
+ * 
+ * Usage:
+ * {@literal @}LatencyBudget(p95Millis = 200, repeat = 20)
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.METHOD)
+public @interface LatencyBudget {
+
+    /**
+     * @return Budget for the median latency in milliseconds, 0 to skip
+     */
+    long p50Millis() default 0;
+
+    /**
+     * @return Budget for the 95th percentile latency in milliseconds, 0 to skip
+     */
+    long p95Millis() default 0;
+
+    /**
+     * @return Budget for the 99th percentile latency in milliseconds, 0 to skip
+     */
+    long p99Millis() default 0;
+
+    /**
+     * @return Number of times the test body runs so the percentiles have enough samples
+     */
+    int repeat() default 1;
+
+    /**
+     * @return true to log a warning instead of failing when the budget is exceeded
+     */
+    boolean warnOnly() default false;
+}
@@ -0,0 +1,64 @@
+package com.reqres.api;
+
+import io.restassured.response.Response;
+import io.restassured.specification.RequestSpecification;
+import com.reqres.utils.AsyncHttpEngine;
+import com.reqres.utils.JsonBodyEncoder;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * AsyncLoginAPI Class - Non-blocking counterpart of {@link LoginAPI}
+ * 
+ * EndPoints:
+ * - POST /post - Mock login endpoint (using httpbin.org)
+ * 
+ * Same methods and parameters as {@link LoginAPI}, sent through {@link AsyncHttpEngine}
+ */
+public class AsyncLoginAPI {
+
+    /**
+     * Perform login with email and password
+     * 
+     * @param requestSpec RequestSpecification object
+     * @param email User email
+     * @param password User password
+     * @return Future Response object
+     */
+    public static CompletableFuture<Response> loginWithValidCredentials(RequestSpecification requestSpec, String email, String password) {
+        byte[] requestBody = JsonBodyEncoder.begin()
+                .field("email", email)
+                .field("password", password)
+                .end();
+
+        return AsyncHttpEngine.getInstance().send(requestSpec, "POST", "/post", Map.of(), requestBody);
+    }
+
+    /**
+     * Perform login with only email (missing password)
+     * 
+     * @param requestSpec RequestSpecification object
+     * @param email User email
+     * @return Future Response object
+     */
+    public static CompletableFuture<Response> loginWithoutPassword(RequestSpecification requestSpec, String email) {
+        byte[] requestBody = JsonBodyEncoder.begin()
+                .field("email", email)
+                .end();
+
+        return AsyncHttpEngine.getInstance().send(requestSpec, "POST", "/post", Map.of(), requestBody);
+    }
+
+    /**
+     * Perform login with empty credentials
+     * 
+     * @param requestSpec RequestSpecification object
+     * @return Future Response object
+     */
+    public static CompletableFuture<Response> loginWithEmptyCredentials(RequestSpecification requestSpec) {
+        byte[] requestBody = JsonBodyEncoder.begin().end();
+
+        return AsyncHttpEngine.getInstance().send(requestSpec, "POST", "/post", Map.of(), requestBody);
+    }
+}
@@ -0,0 +1,134 @@
+package com.reqres.api;
+
+import io.restassured.response.Response;
+import io.restassured.specification.RequestSpecification;
+import com.reqres.utils.AsyncHttpEngine;
+import com.reqres.utils.JsonBodyEncoder;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * AsyncUserAPI Class - Non-blocking counterpart of {@link UserAPI}
+ * 
+ * EndPoints:
+ * - GET /get - Get request (httpbin.org)
+ * - POST /post - Post request (httpbin.org)
+ * - PUT /put - Put request (httpbin.org)
+ * - PATCH /patch - Patch request (httpbin.org)
+ * - DELETE /delete - Delete request (httpbin.org)
+ * 
+ * Same methods and parameters as {@link UserAPI}, sent through {@link AsyncHttpEngine}
+ * Responses complete on engine threads; join() them or compose with CompletableFuture
+ */
+public class AsyncUserAPI {
+
+    /**
+     * Get all users with pagination
+     * 
+     * @param requestSpec RequestSpecification object
+     * @param page Page number (default 1)
+     * @return Future Response object
+     */
+    public static CompletableFuture<Response> getAllUsers(RequestSpecification requestSpec, int page) {
+        return AsyncHttpEngine.getInstance().send(requestSpec, "GET", "/get", Map.of("page", page), null);
+    }
+
+    /**
+     * Get all users from first page
+     * 
+     * @param requestSpec RequestSpecification object
+     * @return Future Response object
+     */
+    public static CompletableFuture<Response> getAllUsers(RequestSpecification requestSpec) {
+        return AsyncHttpEngine.getInstance().send(requestSpec, "GET", "/get", Map.of(), null);
+    }
+
+    /**
+     * Get user by ID
+     * 
+     * @param requestSpec RequestSpecification object
+     * @param userId User ID
+     * @return Future Response object
+     */
+    public static CompletableFuture<Response> getUserById(RequestSpecification requestSpec, int userId) {
+        return AsyncHttpEngine.getInstance().send(requestSpec, "GET", "/get", Map.of("id", userId), null);
+    }
+
+    /**
+     * Get non-existent user (testing error handling)
+     * 
+     * @param requestSpec RequestSpecification object
+     * @param userId Non-existent user ID
+     * @return Future Response object
+     */
+    public static CompletableFuture<Response> getNonExistentUser(RequestSpecification requestSpec, int userId) {
+        return AsyncHttpEngine.getInstance().send(requestSpec, "GET", "/get", Map.of("id", userId), null);
+    }
+
+    /**
+     * Create new user
+     * 
+     * @param requestSpec RequestSpecification object
+     * @param name User name
+     * @param job User job
+     * @return Future Response object
+     */
+    public static CompletableFuture<Response> createUser(RequestSpecification requestSpec, String name, String job) {
+        byte[] requestBody = JsonBodyEncoder.begin()
+                .field("name", name)
+                .field("job", job)
+                .end();
+
+        return AsyncHttpEngine.getInstance().send(requestSpec, "POST", "/post", Map.of(), requestBody);
+    }
+
+    /**
+     * Update user with PUT request
+     * 
+     * @param requestSpec RequestSpecification object
+     * @param userId User ID to update
+     * @param name Updated user name
+     * @param job Updated user job
+     * @return Future Response object
+     */
+    public static CompletableFuture<Response> updateUser(RequestSpecification requestSpec, int userId, String name, String job) {
+        byte[] requestBody = JsonBodyEncoder.begin()
+                .field("id", userId)
+                .field("name", name)
+                .field("job", job)
+                .end();
+
+        return AsyncHttpEngine.getInstance().send(requestSpec, "PUT", "/put", Map.of(), requestBody);
+    }
+
+    /**
+     * Partially update user with PATCH request
+     * 
+     * @param requestSpec RequestSpecification object
+     * @param userId User ID to update
+     * @param name Updated user name
+     * @param job Updated user job
+     * @return Future Response object
+     */
+    public static CompletableFuture<Response> partialUpdateUser(RequestSpecification requestSpec, int userId, String name, String job) {
+        byte[] requestBody = JsonBodyEncoder.begin()
+                .field("id", userId)
+                .field("name", name)
+                .field("job", job)
+                .end();
+
+        return AsyncHttpEngine.getInstance().send(requestSpec, "PATCH", "/patch", Map.of(), requestBody);
+    }
+
+    /**
+     * Delete user
+     * 
+     * @param requestSpec RequestSpecification object
+     * @param userId User ID to delete
+     * @return Future Response object
+     */
+    public static CompletableFuture<Response> deleteUser(RequestSpecification requestSpec, int userId) {
+        return AsyncHttpEngine.getInstance().send(requestSpec, "DELETE", "/delete", Map.of("id", userId), null);
+    }
+}
@@ -0,0 +1,159 @@
+package com.reqres.api;
+
+import io.restassured.response.Response;
+import org.HdrHistogram.Histogram;
+import com.reqres.utils.LatencyHistograms;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * BatchResult Class - Per-item outcome and aggregate timing of a {@link UserBatchAPI} batch
+ *
+ * This class provides:
+ * - One {@link Item} per input, in input order, holding the response or the error
+ * - Success and failure counts (success means a response with a status below 400)
+ * - Wall-clock duration, throughput and per-item latency percentiles
+ *
+ * @param <T> Input type
+ */
+public class BatchResult<T> {
+
+    private final String operation;
+    private final List<Item<T>> items;
+    private final long elapsedNanos;
+    private final int window;
+    private final Histogram latencies;
+
+    BatchResult(String operation, List<Item<T>> items, long elapsedNanos, int window, Histogram latencies) {
+        this.operation = operation;
+        this.items = Collections.unmodifiableList(items);
+        this.elapsedNanos = elapsedNanos;
+        this.window = window;
+        this.latencies = latencies;
+    }
+
+    public List<Item<T>> getItems() {
+        return items;
+    }
+
+    public int size() {
+        return items.size();
+    }
+
+    /**
+     * Get the items that failed with an error or an error status
+     *
+     * @return Failed items in input order
+     */
+    public List<Item<T>> getFailures() {
+        List<Item<T>> failures = new ArrayList<>();
+        for (Item<T> item : items) {
+            if (!item.isSuccess()) {
+                failures.add(item);
+            }
+        }
+        return failures;
+    }
+
+    public int getSucceeded() {
+        return items.size() - getFailures().size();
+    }
+
+    public long getElapsedMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(elapsedNanos);
+    }
+
+    /**
+     * Get the batch throughput
+     *
+     * @return Items completed per second of wall-clock time
+     */
+    public double getItemsPerSecond() {
+        return elapsedNanos == 0 ? 0 : items.size() * 1e9 / elapsedNanos;
+    }
+
+    /**
+     * Get a per-item latency percentile
+     *
+     * @param percentile Percentile, e.g. 95.0
+     * @return Latency in milliseconds
+     */
+    public double getLatencyMillis(double percentile) {
+        return LatencyHistograms.percentileMillis(latencies, percentile);
+    }
+
+    /**
+     * Summarize the batch in one line
+     *
+     * @return Counts, duration, throughput and latency percentiles
+     */
+    public String getSummary() {
+        return String.format("%s: %d items (%d failed) in %d ms, %.0f items/s, window %d, "
+                        + "latency p50=%.1f ms p95=%.1f ms p99=%.1f ms max=%.1f ms",
+                operation, items.size(), items.size() - getSucceeded(), getElapsedMillis(), getItemsPerSecond(), window,
+                getLatencyMillis(50), getLatencyMillis(95), getLatencyMillis(99), LatencyHistograms.maxMillis(latencies));
+    }
+
+    @Override
+    public String toString() {
+        return getSummary();
+    }
+
+    /**
+     * Outcome of one input
+     *
+     * @param <T> Input type
+     */
+    public static final class Item<T> {
+
+        private final T input;
+        private final Response response;
+        private final Throwable error;
+        private final long latencyNanos;
+
+        Item(T input, Response response, Throwable error, long latencyNanos) {
+            this.input = input;
+            this.response = response;
+            this.error = error;
+            this.latencyNanos = latencyNanos;
+        }
+
+        public T getInput() {
+            return input;
+        }
+
+        /**
+         * Get the response
+         *
+         * @return Response, or null if the request failed without one
+         */
+        public Response getResponse() {
+            return response;
+        }
+
+        /**
+         * Get the error that prevented a response
+         *
+         * @return Error, or null if a response arrived
+         */
+        public Throwable getError() {
+            return error;
+        }
+
+        public long getLatencyMillis() {
+            return TimeUnit.NANOSECONDS.toMillis(latencyNanos);
+        }
+
+        public boolean isSuccess() {
+            return response != null && response.getStatusCode() < 400;
+        }
+
+        @Override
+        public String toString() {
+            return input + " -> " + (response != null ? String.valueOf(response.getStatusCode()) : String.valueOf(error));
+        }
+    }
+}
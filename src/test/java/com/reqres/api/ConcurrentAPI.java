@@ -0,0 +1,212 @@
+package com.reqres.api;
+
+import io.restassured.response.Response;
+import io.restassured.specification.RequestSpecification;
+import com.reqres.config.ConfigReader;
+import com.reqres.filters.BufferedExchangeLoggingFilter;
+import com.reqres.utils.LoggerUtil;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import java.util.function.IntFunction;
+import java.util.stream.IntStream;
+
+/**
+ * ConcurrentAPI Class - Fans API calls out over virtual threads
+ *
+ * This class provides:
+ * - Concurrent variants of {@link UserAPI}, {@link LoginAPI} and {@link RegisterAPI} calls,
+ *   returning responses in input order
+ * - A generic {@link #fanOut(List, Function)} for any other call
+ * - Bounded concurrency: at most maxInFlight calls run at once (concurrency.maxInFlight by default)
+ * - Structured cancellation: every fan-out runs in its own scope that is closed before it returns;
+ *   the first failure interrupts the calls still running, starts no new ones and is rethrown
+ *
+ * Each call runs on its own virtual thread, so thousands of requests can be in flight
+ * without thousands of platform threads; the connection pool (pool.maxPerRoute) still
+ * limits how many reach the server at once. The test name is carried into the logging
+ * context of every call and exchanges are buffered for the test's failure log, but
+ * exchanges made on the virtual threads are not captured by {@code @LatencyBudget}.
+ *
+ * Usage:
+ * List<Response> responses = new ConcurrentAPI(requestSpec()).createUsers(100, i -> "User " + i, i -> "QA");
+ */
+public class ConcurrentAPI {
+
+    private static final ThreadFactory VIRTUAL_THREADS = Thread.ofVirtual().name("api-vt-", 0).factory();
+
+    private final RequestSpecification requestSpec;
+    private final int maxInFlight;
+
+    /**
+     * Create a facade limited to concurrency.maxInFlight calls at once
+     *
+     * @param requestSpec RequestSpecification object shared by all calls
+     */
+    public ConcurrentAPI(RequestSpecification requestSpec) {
+        this(requestSpec, ConfigReader.getConcurrencyMaxInFlight());
+    }
+
+    /**
+     * Create a facade with an explicit concurrency limit
+     *
+     * @param requestSpec RequestSpecification object shared by all calls
+     * @param maxInFlight Maximum number of calls running at once
+     */
+    public ConcurrentAPI(RequestSpecification requestSpec, int maxInFlight) {
+        if (maxInFlight < 1) {
+            throw new IllegalArgumentException("maxInFlight must be at least 1, got " + maxInFlight);
+        }
+        this.requestSpec = requestSpec;
+        this.maxInFlight = maxInFlight;
+    }
+
+    /**
+     * Create users concurrently
+     *
+     * @param count Number of users
+     * @param name Name of the user at each index
+     * @param job Job of the user at each index
+     * @return Responses in index order
+     */
+    public List<Response> createUsers(int count, IntFunction<String> name, IntFunction<String> job) {
+        return fanOut(indexes(count), i -> UserAPI.createUser(requestSpec, name.apply(i), job.apply(i)));
+    }
+
+    /**
+     * Get users by ID concurrently
+     *
+     * @param userIds User IDs
+     * @return Responses in the order of userIds
+     */
+    public List<Response> getUsersById(List<Integer> userIds) {
+        return fanOut(userIds, userId -> UserAPI.getUserById(requestSpec, userId));
+    }
+
+    /**
+     * Update users concurrently with PUT requests
+     *
+     * @param userIds User IDs to update
+     * @param name Updated name for each user ID
+     * @param job Updated job for each user ID
+     * @return Responses in the order of userIds
+     */
+    public List<Response> updateUsers(List<Integer> userIds, IntFunction<String> name, IntFunction<String> job) {
+        return fanOut(userIds, userId -> UserAPI.updateUser(requestSpec, userId, name.apply(userId), job.apply(userId)));
+    }
+
+    /**
+     * Delete users concurrently
+     *
+     * @param userIds User IDs to delete
+     * @return Responses in the order of userIds
+     */
+    public List<Response> deleteUsers(List<Integer> userIds) {
+        return fanOut(userIds, userId -> UserAPI.deleteUser(requestSpec, userId));
+    }
+
+    /**
+     * Log in with several credential pairs concurrently
+     *
+     * @param credentials Email to password, in the order responses should be returned
+     * @return Responses in the iteration order of credentials
+     */
+    public List<Response> loginAll(Map<String, String> credentials) {
+        return fanOut(new ArrayList<>(credentials.entrySet()),
+                entry -> LoginAPI.loginWithValidCredentials(requestSpec, entry.getKey(), entry.getValue()));
+    }
+
+    /**
+     * Register several credential pairs concurrently
+     *
+     * @param credentials Email to password, in the order responses should be returned
+     * @return Responses in the iteration order of credentials
+     */
+    public List<Response> registerAll(Map<String, String> credentials) {
+        return fanOut(new ArrayList<>(credentials.entrySet()),
+                entry -> RegisterAPI.registerWithValidCredentials(requestSpec, entry.getKey(), entry.getValue()));
+    }
+
+    /**
+     * Run one call per input on virtual threads, at most maxInFlight at a time
+     *
+     * @param inputs Inputs, one call each
+     * @param call Call to make for an input
+     * @param <T> Input type
+     * @param <R> Result type
+     * @return Results in input order
+     */
+    public <T, R> List<R> fanOut(List<T> inputs, Function<? super T, ? extends R> call) {
+        String testContext = LoggerUtil.getTestContext();
+        BufferedExchangeLoggingFilter.ExchangeBuffer exchanges = BufferedExchangeLoggingFilter.currentBuffer();
+        Semaphore permits = new Semaphore(maxInFlight);
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        List<Future<R>> futures = new ArrayList<>(inputs.size());
+
+        try (ExecutorService scope = Executors.newThreadPerTaskExecutor(VIRTUAL_THREADS)) {
+            try {
+                for (T input : inputs) {
+                    permits.acquire();
+                    if (failure.get() != null) {
+                        break;
+                    }
+                    futures.add(scope.submit(() -> {
+                        if (testContext != null) {
+                            LoggerUtil.setTestContext(testContext);
+                        }
+                        try {
+                            return BufferedExchangeLoggingFilter.recordInto(exchanges, () -> call.apply(input));
+                        } catch (Throwable e) {
+                            if (failure.compareAndSet(null, e)) {
+                                scope.shutdownNow();
+                            }
+                            throw e;
+                        } finally {
+                            permits.release();
+                        }
+                    }));
+                }
+            } catch (RejectedExecutionException e) {
+                // A call failed and closed the scope while the next one was being submitted
+            } catch (InterruptedException e) {
+                scope.shutdownNow();
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while submitting concurrent calls", e);
+            }
+        }
+
+        Throwable firstFailure = failure.get();
+        if (firstFailure != null) {
+            throw ConcurrentAPI.<RuntimeException>rethrow(firstFailure);
+        }
+        List<R> results = new ArrayList<>(futures.size());
+        for (Future<R> future : futures) {
+            results.add(future.resultNow());
+        }
+        return results;
+    }
+
+    private static List<Integer> indexes(int count) {
+        if (count < 0) {
+            throw new IllegalArgumentException("count must not be negative, got " + count);
+        }
+        return IntStream.range(0, count).boxed().toList();
+    }
+
+    /**
+     * Rethrow the first failure unchanged so assertion errors and RestAssured exceptions surface as-is
+     */
+    @SuppressWarnings("unchecked")
+    private static <T extends Throwable> T rethrow(Throwable error) throws T {
+        throw (T) error;
+    }
+}
@@ -3,16 +3,27 @@ package com.reqres.api;
 import io.restassured.RestAssured;
 import io.restassured.response.Response;
 import io.restassured.specification.RequestSpecification;
-import org.json.simple.JSONObject;
+import com.reqres.models.Credentials;
+import com.reqres.models.CredentialsReader;
+import com.reqres.models.HttpbinEchoReader;
+import com.reqres.models.TypedResponses;
+import com.reqres.utils.DirectHttpClient;
+import com.reqres.utils.DirectResponse;
+import com.reqres.utils.JsonBodyEncoder;
 
 /**
  * LoginAPI Class - Handles Login API endpoints
  * 
  * EndPoints:
  * - POST /post - Mock login endpoint (using httpbin.org)
+ * 
+ * Typed variants decode the response with readers generated at compile time (see {@link TypedResponses})
+ * DirectHttpClient variants send the same requests without RestAssured (see {@link DirectHttpClient})
  */
 public class LoginAPI {
 
+    private static final HttpbinEchoReader<Credentials> CREDENTIALS_ECHO = new HttpbinEchoReader<>(CredentialsReader.INSTANCE);
+
     /**
      * Perform login with email and password
      * 
@@ -22,16 +33,60 @@ public class LoginAPI {
      * @return Response object
      */
     public static Response loginWithValidCredentials(RequestSpecification requestSpec, String email, String password) {
-        JSONObject requestBody = new JSONObject();
-        requestBody.put("email", email);
-        requestBody.put("password", password);
+        byte[] requestBody = JsonBodyEncoder.begin()
+                .field("email", email)
+                .field("password", password)
+                .end();
 
         return RestAssured
                 .given(requestSpec)
-                .body(requestBody.toJSONString())
+                .body(requestBody)
                 .post("/post");
     }
 
+    /**
+     * Perform login with email and password, without RestAssured
+     * 
+     * @param client DirectHttpClient object
+     * @param email User email
+     * @param password User password
+     * @return DirectResponse object
+     */
+    public static DirectResponse loginWithValidCredentials(DirectHttpClient client, String email, String password) {
+        byte[] requestBody = JsonBodyEncoder.begin()
+                .field("email", email)
+                .field("password", password)
+                .end();
+
+        return client.post("/post", requestBody);
+    }
+
+    /**
+     * Perform login with email and password and decode the echoed credentials
+     * 
+     * @param requestSpec RequestSpecification object
+     * @param email User email
+     * @param password User password
+     * @return Credentials as received by the server
+     */
+    public static Credentials loginWithValidCredentialsTyped(RequestSpecification requestSpec, String email, String password) {
+        return TypedResponses.echoedJson("LoginAPI.loginWithValidCredentialsTyped",
+                loginWithValidCredentials(requestSpec, email, password), CREDENTIALS_ECHO);
+    }
+
+    /**
+     * Perform login with email and password and decode the echoed credentials, without RestAssured
+     * 
+     * @param client DirectHttpClient object
+     * @param email User email
+     * @param password User password
+     * @return Credentials as received by the server
+     */
+    public static Credentials loginWithValidCredentialsTyped(DirectHttpClient client, String email, String password) {
+        return TypedResponses.echoedJson("LoginAPI.loginWithValidCredentialsTyped",
+                loginWithValidCredentials(client, email, password), CREDENTIALS_ECHO);
+    }
+
     /**
      * Perform login with only email (missing password)
      * 
@@ -40,12 +95,13 @@ public class LoginAPI {
      * @return Response object
      */
     public static Response loginWithoutPassword(RequestSpecification requestSpec, String email) {
-        JSONObject requestBody = new JSONObject();
-        requestBody.put("email", email);
+        byte[] requestBody = JsonBodyEncoder.begin()
+                .field("email", email)
+                .end();
 
         return RestAssured
                 .given(requestSpec)
-                .body(requestBody.toJSONString())
+                .body(requestBody)
                 .post("/post");
     }
 
@@ -56,11 +112,11 @@ public class LoginAPI {
      * @return Response object
      */
     public static Response loginWithEmptyCredentials(RequestSpecification requestSpec) {
-        JSONObject requestBody = new JSONObject();
+        byte[] requestBody = JsonBodyEncoder.begin().end();
 
         return RestAssured
                 .given(requestSpec)
-                .body(requestBody.toJSONString())
+                .body(requestBody)
                 .post("/post");
     }
 }
@@ -3,6 +3,18 @@ package com.reqres.api;
 import io.restassured.RestAssured;
 import io.restassured.response.Response;
 import io.restassured.specification.RequestSpecification;
+import com.reqres.models.CreatedUser;
+import com.reqres.models.CreatedUserReader;
+import com.reqres.models.HttpbinEchoReader;
+import com.reqres.models.TypedResponses;
+import com.reqres.models.UpdatedUser;
+import com.reqres.models.UpdatedUserReader;
+import com.reqres.utils.DirectHttpClient;
+import com.reqres.utils.DirectResponse;
+import com.reqres.utils.IdempotentRequestExecutor;
+import com.reqres.utils.JsonBodyEncoder;
+
+import java.util.Map;
 
 /**
  * UserAPI Class - Handles User related API endpoints
@@ -13,9 +25,18 @@ import io.restassured.specification.RequestSpecification;
  * - PUT /put - Put request (httpbin.org)
  * - PATCH /patch - Patch request (httpbin.org)
  * - DELETE /delete - Delete request (httpbin.org)
+ * 
+ * Request bodies are encoded with {@link JsonBodyEncoder}
+ * Idempotent reads and deletes go through {@link IdempotentRequestExecutor} for retries and hedging
+ * Typed variants decode the response with readers generated at compile time (see {@link TypedResponses})
+ * DirectHttpClient variants send the same requests without RestAssured (see {@link DirectHttpClient});
+ * they are not retried or hedged
  */
 public class UserAPI {
 
+    private static final HttpbinEchoReader<CreatedUser> CREATED_USER_ECHO = new HttpbinEchoReader<>(CreatedUserReader.INSTANCE);
+    private static final HttpbinEchoReader<UpdatedUser> UPDATED_USER_ECHO = new HttpbinEchoReader<>(UpdatedUserReader.INSTANCE);
+
     /**
      * Get all users with pagination
      * 
@@ -24,10 +45,21 @@ public class UserAPI {
      * @return Response object
      */
     public static Response getAllUsers(RequestSpecification requestSpec, int page) {
-        return RestAssured
+        return IdempotentRequestExecutor.execute("GET /get", () -> RestAssured
                 .given(requestSpec)
                 .queryParam("page", page)
-                .get("/get");
+                .get("/get"));
+    }
+
+    /**
+     * Get all users with pagination, without RestAssured
+     * 
+     * @param client DirectHttpClient object
+     * @param page Page number
+     * @return DirectResponse object
+     */
+    public static DirectResponse getAllUsers(DirectHttpClient client, int page) {
+        return client.get("/get", Map.of("page", page));
     }
 
     /**
@@ -37,9 +69,9 @@ public class UserAPI {
      * @return Response object
      */
     public static Response getAllUsers(RequestSpecification requestSpec) {
-        return RestAssured
+        return IdempotentRequestExecutor.execute("GET /get", () -> RestAssured
                 .given(requestSpec)
-                .get("/get");
+                .get("/get"));
     }
 
     /**
@@ -50,10 +82,21 @@ public class UserAPI {
      * @return Response object
      */
     public static Response getUserById(RequestSpecification requestSpec, int userId) {
-        return RestAssured
+        return IdempotentRequestExecutor.execute("GET /get", () -> RestAssured
                 .given(requestSpec)
                 .queryParam("id", userId)
-                .get("/get");
+                .get("/get"));
+    }
+
+    /**
+     * Get user by ID, without RestAssured
+     * 
+     * @param client DirectHttpClient object
+     * @param userId User ID
+     * @return DirectResponse object
+     */
+    public static DirectResponse getUserById(DirectHttpClient client, int userId) {
+        return client.get("/get", Map.of("id", userId));
     }
 
     /**
@@ -79,10 +122,10 @@ public class UserAPI {
      * @return Response object
      */
     public static Response createUser(RequestSpecification requestSpec, String name, String job) {
-        String requestBody = String.format("{\n" +
-                "  \"name\": \"%s\",\n" +
-                "  \"job\": \"%s\"\n" +
-                "}", name, job);
+        byte[] requestBody = JsonBodyEncoder.begin()
+                .field("name", name)
+                .field("job", job)
+                .end();
 
         return RestAssured
                 .given(requestSpec)
@@ -90,6 +133,47 @@ public class UserAPI {
                 .post("/post");
     }
 
+    /**
+     * Create new user, without RestAssured
+     * 
+     * @param client DirectHttpClient object
+     * @param name User name
+     * @param job User job
+     * @return DirectResponse object
+     */
+    public static DirectResponse createUser(DirectHttpClient client, String name, String job) {
+        byte[] requestBody = JsonBodyEncoder.begin()
+                .field("name", name)
+                .field("job", job)
+                .end();
+
+        return client.post("/post", requestBody);
+    }
+
+    /**
+     * Create new user and decode the result
+     * 
+     * @param requestSpec RequestSpecification object
+     * @param name User name
+     * @param job User job
+     * @return CreatedUser as returned by the server
+     */
+    public static CreatedUser createUserTyped(RequestSpecification requestSpec, String name, String job) {
+        return TypedResponses.echoedJson("UserAPI.createUserTyped", createUser(requestSpec, name, job), CREATED_USER_ECHO);
+    }
+
+    /**
+     * Create new user and decode the result, without RestAssured
+     * 
+     * @param client DirectHttpClient object
+     * @param name User name
+     * @param job User job
+     * @return CreatedUser as returned by the server
+     */
+    public static CreatedUser createUserTyped(DirectHttpClient client, String name, String job) {
+        return TypedResponses.echoedJson("UserAPI.createUserTyped", createUser(client, name, job), CREATED_USER_ECHO);
+    }
+
     /**
      * Update user with PUT request
      * 
@@ -100,11 +184,11 @@ public class UserAPI {
      * @return Response object
      */
     public static Response updateUser(RequestSpecification requestSpec, int userId, String name, String job) {
-        String requestBody = String.format("{\n" +
-                "  \"id\": %d,\n" +
-                "  \"name\": \"%s\",\n" +
-                "  \"job\": \"%s\"\n" +
-                "}", userId, name, job);
+        byte[] requestBody = JsonBodyEncoder.begin()
+                .field("id", userId)
+                .field("name", name)
+                .field("job", job)
+                .end();
 
         return RestAssured
                 .given(requestSpec)
@@ -112,6 +196,38 @@ public class UserAPI {
                 .put("/put");
     }
 
+    /**
+     * Update user with PUT request, without RestAssured
+     * 
+     * @param client DirectHttpClient object
+     * @param userId User ID to update
+     * @param name Updated user name
+     * @param job Updated user job
+     * @return DirectResponse object
+     */
+    public static DirectResponse updateUser(DirectHttpClient client, int userId, String name, String job) {
+        byte[] requestBody = JsonBodyEncoder.begin()
+                .field("id", userId)
+                .field("name", name)
+                .field("job", job)
+                .end();
+
+        return client.put("/put", requestBody);
+    }
+
+    /**
+     * Update user with PUT request and decode the result
+     * 
+     * @param requestSpec RequestSpecification object
+     * @param userId User ID to update
+     * @param name Updated user name
+     * @param job Updated user job
+     * @return UpdatedUser as returned by the server
+     */
+    public static UpdatedUser updateUserTyped(RequestSpecification requestSpec, int userId, String name, String job) {
+        return TypedResponses.echoedJson("UserAPI.updateUserTyped", updateUser(requestSpec, userId, name, job), UPDATED_USER_ECHO);
+    }
+
     /**
      * Partially update user with PATCH request
      * 
@@ -122,11 +238,11 @@ public class UserAPI {
      * @return Response object
      */
     public static Response partialUpdateUser(RequestSpecification requestSpec, int userId, String name, String job) {
-        String requestBody = String.format("{\n" +
-                "  \"id\": %d,\n" +
-                "  \"name\": \"%s\",\n" +
-                "  \"job\": \"%s\"\n" +
-                "}", userId, name, job);
+        byte[] requestBody = JsonBodyEncoder.begin()
+                .field("id", userId)
+                .field("name", name)
+                .field("job", job)
+                .end();
 
         return RestAssured
                 .given(requestSpec)
@@ -134,6 +250,39 @@ public class UserAPI {
                 .patch("/patch");
     }
 
+    /**
+     * Partially update user with PATCH request, without RestAssured
+     * 
+     * @param client DirectHttpClient object
+     * @param userId User ID to update
+     * @param name Updated user name
+     * @param job Updated user job
+     * @return DirectResponse object
+     */
+    public static DirectResponse partialUpdateUser(DirectHttpClient client, int userId, String name, String job) {
+        byte[] requestBody = JsonBodyEncoder.begin()
+                .field("id", userId)
+                .field("name", name)
+                .field("job", job)
+                .end();
+
+        return client.patch("/patch", requestBody);
+    }
+
+    /**
+     * Partially update user with PATCH request and decode the result
+     * 
+     * @param requestSpec RequestSpecification object
+     * @param userId User ID to update
+     * @param name Updated user name
+     * @param job Updated user job
+     * @return UpdatedUser as returned by the server
+     */
+    public static UpdatedUser partialUpdateUserTyped(RequestSpecification requestSpec, int userId, String name, String job) {
+        return TypedResponses.echoedJson("UserAPI.partialUpdateUserTyped",
+                partialUpdateUser(requestSpec, userId, name, job), UPDATED_USER_ECHO);
+    }
+
     /**
      * Delete user
      * 
@@ -142,9 +291,20 @@ public class UserAPI {
      * @return Response object
      */
     public static Response deleteUser(RequestSpecification requestSpec, int userId) {
-        return RestAssured
+        return IdempotentRequestExecutor.execute("DELETE /delete", () -> RestAssured
                 .given(requestSpec)
                 .queryParam("id", userId)
-                .delete("/delete");
+                .delete("/delete"));
+    }
+
+    /**
+     * Delete user, without RestAssured
+     * 
+     * @param client DirectHttpClient object
+     * @param userId User ID to delete
+     * @return DirectResponse object
+     */
+    public static DirectResponse deleteUser(DirectHttpClient client, int userId) {
+        return client.delete("/delete", Map.of("id", userId));
     }
 }
@@ -0,0 +1,187 @@
+package com.reqres.api;
+
+import io.restassured.response.Response;
+import io.restassured.specification.RequestSpecification;
+import org.HdrHistogram.Histogram;
+import org.apache.logging.log4j.Logger;
+import com.reqres.config.ConfigReader;
+import com.reqres.utils.LatencyHistograms;
+import com.reqres.utils.LoggerUtil;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Semaphore;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * UserBatchAPI Class - Batch create, update and delete of users for seeding and teardown
+ *
+ * This class provides:
+ * - Batch variants of {@link UserAPI#createUser}, {@link UserAPI#updateUser} and
+ *   {@link UserAPI#deleteUser} that take collections or (lazy) streams of inputs
+ * - A sliding in-flight window: the next input is only pulled and sent when one of the
+ *   window's requests has completed, so a stream of any length is never fully buffered
+ * - A {@link BatchResult} with the per-item responses and the aggregate timing
+ *
+ * Requests go through {@link com.reqres.utils.AsyncHttpEngine} on its persistent
+ * connections (HTTP/2 streams where the server supports it, keep-alive HTTP/1.1
+ * otherwise), so the caller needs no thread per request. The window defaults to batch.window and is also capped by
+ * async.maxInFlight. Failed items are reported in the result, not thrown.
+ *
+ * Usage:
+ * BatchResult<UserBatchAPI.NewUser> result = UserBatchAPI.createUsers(requestSpec(), users);
+ * assertTrue(result.getFailures().isEmpty(), result.getSummary());
+ */
+public class UserBatchAPI {
+
+    private static final Logger logger = LoggerUtil.getLogger(UserBatchAPI.class);
+
+    /**
+     * Input of a batch create
+     *
+     * @param name User name
+     * @param job User job
+     */
+    public record NewUser(String name, String job) {
+    }
+
+    /**
+     * Input of a batch update
+     *
+     * @param id User ID to update
+     * @param name Updated user name
+     * @param job Updated user job
+     */
+    public record UserUpdate(int id, String name, String job) {
+    }
+
+    /**
+     * Create users with the default window
+     *
+     * @param requestSpec RequestSpecification object
+     * @param users Users to create
+     * @return BatchResult in input order
+     */
+    public static BatchResult<NewUser> createUsers(RequestSpecification requestSpec, Collection<NewUser> users) {
+        return createUsers(requestSpec, users.stream(), ConfigReader.getBatchWindow());
+    }
+
+    /**
+     * Create users from a stream, keeping at most window requests in flight
+     *
+     * @param requestSpec RequestSpecification object
+     * @param users Users to create; the stream is closed when the batch ends
+     * @param window Maximum requests in flight
+     * @return BatchResult in input order
+     */
+    public static BatchResult<NewUser> createUsers(RequestSpecification requestSpec, Stream<NewUser> users, int window) {
+        return run("POST /post", users, window,
+                user -> AsyncUserAPI.createUser(requestSpec, user.name(), user.job()));
+    }
+
+    /**
+     * Update users with PUT requests and the default window
+     *
+     * @param requestSpec RequestSpecification object
+     * @param updates Updates to apply
+     * @return BatchResult in input order
+     */
+    public static BatchResult<UserUpdate> updateUsers(RequestSpecification requestSpec, Collection<UserUpdate> updates) {
+        return updateUsers(requestSpec, updates.stream(), ConfigReader.getBatchWindow());
+    }
+
+    /**
+     * Update users from a stream, keeping at most window requests in flight
+     *
+     * @param requestSpec RequestSpecification object
+     * @param updates Updates to apply; the stream is closed when the batch ends
+     * @param window Maximum requests in flight
+     * @return BatchResult in input order
+     */
+    public static BatchResult<UserUpdate> updateUsers(RequestSpecification requestSpec, Stream<UserUpdate> updates, int window) {
+        return run("PUT /put", updates, window,
+                update -> AsyncUserAPI.updateUser(requestSpec, update.id(), update.name(), update.job()));
+    }
+
+    /**
+     * Delete users with the default window
+     *
+     * @param requestSpec RequestSpecification object
+     * @param userIds User IDs to delete
+     * @return BatchResult in input order
+     */
+    public static BatchResult<Integer> deleteUsers(RequestSpecification requestSpec, Collection<Integer> userIds) {
+        return deleteUsers(requestSpec, userIds.stream(), ConfigReader.getBatchWindow());
+    }
+
+    /**
+     * Delete users from a stream, keeping at most window requests in flight
+     *
+     * @param requestSpec RequestSpecification object
+     * @param userIds User IDs to delete; the stream is closed when the batch ends
+     * @param window Maximum requests in flight
+     * @return BatchResult in input order
+     */
+    public static BatchResult<Integer> deleteUsers(RequestSpecification requestSpec, Stream<Integer> userIds, int window) {
+        return run("DELETE /delete", userIds, window,
+                userId -> AsyncUserAPI.deleteUser(requestSpec, userId));
+    }
+
+    private static <T> BatchResult<T> run(String operation, Stream<T> inputs, int window,
+                                          Function<T, CompletableFuture<Response>> send) {
+        if (window < 1) {
+            throw new IllegalArgumentException("Batch window must be at least 1, got " + window);
+        }
+        Semaphore slots = new Semaphore(window);
+        Histogram latencies = LatencyHistograms.createConcurrent();
+        List<CompletableFuture<BatchResult.Item<T>>> pending = new ArrayList<>();
+
+        long start = System.nanoTime();
+        try (inputs) {
+            Iterator<T> iterator = inputs.iterator();
+            while (iterator.hasNext()) {
+                T input = iterator.next();
+                acquire(slots);
+                long sentAt = System.nanoTime();
+                CompletableFuture<Response> call;
+                try {
+                    call = send.apply(input);
+                } catch (RuntimeException e) {
+                    call = CompletableFuture.failedFuture(e);
+                }
+                pending.add(call.handle((response, error) -> {
+                    long latencyNanos = System.nanoTime() - sentAt;
+                    LatencyHistograms.recordNanos(latencies, latencyNanos);
+                    slots.release();
+                    return new BatchResult.Item<>(input, response, unwrap(error), latencyNanos);
+                }));
+            }
+        }
+
+        List<BatchResult.Item<T>> items = new ArrayList<>(pending.size());
+        for (CompletableFuture<BatchResult.Item<T>> item : pending) {
+            items.add(item.join());
+        }
+        BatchResult<T> result = new BatchResult<>(operation, items, System.nanoTime() - start, window, latencies);
+        logger.info("Batch {}", result.getSummary());
+        return result;
+    }
+
+    private static void acquire(Semaphore slots) {
+        try {
+            slots.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for a batch window slot", e);
+        }
+    }
+
+    private static Throwable unwrap(Throwable error) {
+        return error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+    }
+}
@@ -1,34 +1,177 @@
 package com.reqres.base;
 
-import io.restassured.RestAssured;
+import io.qameta.allure.Allure;
 import io.restassured.specification.RequestSpecification;
-import org.testng.annotations.BeforeClass;
+import org.apache.logging.log4j.Logger;
+import org.testng.ITestResult;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.AfterSuite;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.BeforeSuite;
 import com.reqres.config.ConfigReader;
-import com.reqres.utils.RequestSpecificationUtil;
+import com.reqres.filters.BufferedExchangeLoggingFilter;
+import com.reqres.filters.CassetteFilter;
+import com.reqres.filters.RequestTimingFilter;
+import com.reqres.filters.RequestTimingReport;
+import com.reqres.filters.ResponseCacheFilter;
+import com.reqres.utils.AsyncHttpEngine;
+import com.reqres.utils.DirectHttpClient;
+import com.reqres.utils.HttpConnectionPool;
+import com.reqres.utils.IdempotentRequestExecutor;
+import com.reqres.utils.LoggerUtil;
+
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.nio.file.Path;
+import java.util.concurrent.ThreadLocalRandom;
 
 /**
- * BaseTest Class - Initializes RestAssured configuration and common setup
+ * BaseTest Class - Provides shared RestAssured configuration and common setup
  * 
  * This class provides:
- * - RestAssured base URI initialization
- * - RequestSpecification setup
- * - Global test configuration
+ * - Suite bootstrap before the first test (see {@link SuiteBootstrap}, bootstrap.warmup)
+ * - One RequestSpecification shared by all test threads (safe for parallel="methods" and "classes")
+ * - The Groovy-free {@link DirectHttpClient} for startup-sensitive smoke tests
+ * - Logging context binding so parallel log lines can be attributed to their test
+ * - Request/response exchanges logged and attached to Allure only for failed or sampled tests
+ * - Suite level reporting of connection pool statistics, response cache counters
+ *   and per-endpoint request timings
+ * 
+ * No global RestAssured state is written: the base URI lives on each specification.
  */
 public class BaseTest {
 
-    protected RequestSpecification requestSpec;
+    private static final Logger logger = LoggerUtil.getLogger(BaseTest.class);
+
+    private static final Path REQUEST_TIMINGS_FILE = Path.of("target", "timings", "request-timings.json");
+
+    private static final double EXCHANGE_LOG_SAMPLE_RATE = ConfigReader.getExchangeLogSampleRate();
+
+    /**
+     * Get the request specification shared by all test threads
+     * The api wrappers copy it per request; do not mutate it
+     * 
+     * @return Shared RequestSpecification
+     */
+    protected RequestSpecification requestSpec() {
+        return SuiteBootstrap.getRequestSpecification();
+    }
+
+    /**
+     * Get the client of the Groovy-free request path
+     * 
+     * @return Shared DirectHttpClient
+     */
+    protected DirectHttpClient directClient() {
+        return DirectHttpClient.getInstance();
+    }
+
+    /**
+     * Initialize shared specifications and clients once, and warm up when configured
+     */
+    @BeforeSuite(alwaysRun = true)
+    public void bootstrapSuite() {
+        SuiteBootstrap.start();
+    }
 
     /**
-     * Setup method executed before each test class
-     * Initializes RestAssured base URI and request specification
+     * Bind the running test name to the logging context of the current thread
+     * 
+     * @param method Test method about to run
      */
-    @BeforeClass
-    public void setUp() {
-        // Initialize base URI from configuration
-        String baseURI = ConfigReader.getBaseURI();
-        RestAssured.baseURI = baseURI;
+    @BeforeMethod(alwaysRun = true)
+    public void bindLoggingContext(Method method) {
+        LoggerUtil.setTestContext(getClass().getSimpleName() + "." + method.getName());
+        // Exchanges from configuration methods are not part of this test
+        BufferedExchangeLoggingFilter.clear();
+    }
 
-        // Initialize request specification with logging and common headers
-        this.requestSpec = RequestSpecificationUtil.getRequestSpecification();
+    /**
+     * Write out the exchanges of a failed or sampled test, then clear the logging context
+     * 
+     * @param result Result of the test method that just ran
+     */
+    @AfterMethod(alwaysRun = true)
+    public void flushExchangesAndClearContext(ITestResult result) {
+        boolean failed = result.getStatus() == ITestResult.FAILURE;
+        String exchanges = selectExchanges(failed);
+        if (!exchanges.isEmpty()) {
+            if (failed) {
+                logger.error("HTTP exchanges of failed test:\n{}", exchanges);
+            } else {
+                logger.info("HTTP exchanges (sampled):\n{}", exchanges);
+            }
+            Allure.addAttachment("HTTP exchanges", "text/plain", exchanges, ".txt");
+        }
+        LoggerUtil.clearTestContext();
+    }
+
+    /**
+     * Render the exchanges buffered for the current test if it failed or is picked
+     * by the sampling rate; otherwise discard them without rendering
+     * 
+     * @param failed Whether the test failed
+     * @return The exchanges to write out, or an empty string when there are none
+     */
+    protected String selectExchanges(boolean failed) {
+        boolean sampled = !failed && EXCHANGE_LOG_SAMPLE_RATE > 0
+                && ThreadLocalRandom.current().nextDouble() < EXCHANGE_LOG_SAMPLE_RATE;
+        if (!failed && !sampled) {
+            BufferedExchangeLoggingFilter.clear();
+            return "";
+        }
+        return BufferedExchangeLoggingFilter.drain();
+    }
+
+    /**
+     * Log connection pool statistics and attach them to the Allure report
+     */
+    @AfterSuite(alwaysRun = true)
+    public void publishConnectionPoolStatistics() {
+        HttpConnectionPool.PoolStatistics statistics = HttpConnectionPool.getInstance().getStatistics();
+        logger.info("Connection pool statistics: {}", statistics);
+        logger.info("Idempotent call statistics: {}", IdempotentRequestExecutor.getStatistics());
+        if (AsyncHttpEngine.isCreated()) {
+            logger.info("Async engine statistics: {}", AsyncHttpEngine.getInstance().getStatistics());
+        }
+        Allure.addAttachment("Connection pool statistics", "application/json", statistics.toJson(), ".json");
+    }
+
+    /**
+     * Log response cache counters and attach them to the Allure report when the cache is enabled
+     */
+    @AfterSuite(alwaysRun = true)
+    public void publishResponseCacheStatistics() {
+        ResponseCacheFilter cache = ResponseCacheFilter.getInstance();
+        if (cache.isEnabled()) {
+            String statistics = cache.getStatisticsJson();
+            logger.info("Response cache statistics: {}", statistics);
+            Allure.addAttachment("Response cache statistics", "application/json", statistics, ".json");
+        }
+    }
+
+    /**
+     * Write per-endpoint request timings to target/timings and attach them to the Allure report
+     */
+    @AfterSuite(alwaysRun = true)
+    public void publishRequestTimings() {
+        RequestTimingReport report = RequestTimingFilter.getInstance().getReport();
+        try {
+            report.writeTo(REQUEST_TIMINGS_FILE);
+            logger.info("Request timings for {} exchanges written to {}", report.getTotalRequests(), REQUEST_TIMINGS_FILE);
+        } catch (IOException e) {
+            logger.warn("Could not write request timings to {}: {}", REQUEST_TIMINGS_FILE, e.toString());
+        }
+        report.attachToAllure();
+    }
+
+    /**
+     * Finish a cassette recording so cassette.file holds this run's exchanges
+     */
+    @AfterSuite(alwaysRun = true)
+    public void closeCassette() {
+        if (ConfigReader.getCassetteMode().equals("record")) {
+            CassetteFilter.getInstance().close();
+        }
     }
 }
@@ -0,0 +1,130 @@
+package com.reqres.base;
+
+import io.restassured.RestAssured;
+import io.restassured.specification.RequestSpecification;
+import org.apache.logging.log4j.Logger;
+import com.reqres.api.UserAPI;
+import com.reqres.config.ConfigReader;
+import com.reqres.contract.ResponseContract;
+import com.reqres.utils.DirectHttpClient;
+import com.reqres.utils.LoggerUtil;
+import com.reqres.utils.RequestSpecificationUtil;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * SuiteBootstrap Class - Builds the shared request specification and clients once per JVM
+ *
+ * This class provides:
+ * - One RequestSpecification shared by every test thread, built on first use
+ * - Early initialization of configuration, the connection pool, the direct client and the
+ *   compiled response contracts, so the first test does not pay for them
+ * - Optional warm-up (bootstrap.warmup): GETs and POSTs through RestAssured and through
+ *   {@link DirectHttpClient}, which opens a pooled connection, loads RestAssured and Groovy,
+ *   and gives the JIT a head start on encoding, contract validation and typed reading
+ *
+ * Warm-up traffic uses a filter-free specification and an untimed direct client, so it
+ * never appears in exchange logs, request timings, the response cache or a cassette.
+ * It is skipped in cassette replay mode, and a failed warm-up is logged, not fatal.
+ * Replay mode without a cassette file fails the bootstrap with the missing path.
+ *
+ * The RestAssured specification is only built when a test asks for it or warm-up is on,
+ * so suites on the direct path alone never load RestAssured.
+ */
+public final class SuiteBootstrap {
+
+    private static final Logger logger = LoggerUtil.getLogger(SuiteBootstrap.class);
+
+    private static boolean started;
+
+    private SuiteBootstrap() {
+    }
+
+    /**
+     * Initialize shared state and start the configured warm-up; later calls do nothing
+     *
+     * @throws IllegalStateException if cassette.mode=replay and cassette.file does not exist
+     */
+    public static synchronized void start() {
+        if (started) {
+            return;
+        }
+        checkCassette();
+        started = true;
+        long begin = System.nanoTime();
+        DirectHttpClient.getInstance();
+        ResponseContract.values();
+
+        String mode = ConfigReader.getBootstrapWarmupMode();
+        if (!mode.equals("off") && ConfigReader.getCassetteMode().equals("replay")) {
+            logger.info("Skipping warm-up: cassette.mode=replay does not touch the network");
+            mode = "off";
+        }
+        int rounds = ConfigReader.getBootstrapWarmupRequests();
+        switch (mode) {
+            case "blocking" -> warmUp(rounds);
+            case "background" -> Thread.ofPlatform().daemon().name("suite-warmup").start(() -> warmUp(rounds));
+            default -> {
+                // No warm-up
+            }
+        }
+        logger.info("Suite bootstrap finished in {} ms (warm-up {})",
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - begin), mode);
+    }
+
+    /**
+     * Fail before any request when replay has nothing to replay; otherwise the shared
+     * cassette filter would fail in its initializer on the first request of every test
+     */
+    private static void checkCassette() {
+        if (!ConfigReader.getCassetteMode().equals("replay")) {
+            return;
+        }
+        Path cassette = Path.of(ConfigReader.getCassetteFile());
+        if (!Files.isRegularFile(cassette)) {
+            throw new IllegalStateException("cassette.mode=replay but cassette file " + cassette.toAbsolutePath()
+                    + " does not exist; record it first with -Dcassette.mode=record");
+        }
+    }
+
+    /**
+     * Get the RequestSpecification shared by all tests
+     * RestAssured.given(spec) copies it, so callers must not mutate the returned spec
+     *
+     * @return Shared RequestSpecification
+     */
+    public static RequestSpecification getRequestSpecification() {
+        return SharedSpec.INSTANCE;
+    }
+
+    private static void warmUp(int rounds) {
+        long begin = System.nanoTime();
+        getRequestSpecification();
+        RequestSpecification spec = RequestSpecificationUtil.getWarmupRequestSpecification();
+        DirectHttpClient direct = DirectHttpClient.createUntimed();
+        int round = 0;
+        try {
+            for (; round < rounds; round++) {
+                ResponseContract.GET_USER_BY_ID.validate(RestAssured.given(spec).queryParam("id", 1).get("/get"));
+                UserAPI.createUserTyped(spec, "Warm Up", "Bootstrap");
+                ResponseContract.GET_USER_BY_ID.validate(UserAPI.getUserById(direct, 1).asByteArray());
+                UserAPI.createUserTyped(direct, "Warm Up", "Bootstrap");
+            }
+        } catch (RuntimeException e) {
+            logger.warn("Warm-up stopped after {} of {} rounds: {}", round, rounds, e.toString());
+            return;
+        }
+        logger.info("Warm-up of {} rounds finished in {} ms", rounds,
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - begin));
+    }
+
+    /**
+     * Holder for the shared specification; class initialization builds it once, on first use
+     */
+    private static final class SharedSpec {
+
+        private static final RequestSpecification INSTANCE = RequestSpecificationUtil.getRequestSpecification();
+    }
+}
@@ -0,0 +1,271 @@
+package com.reqres.cassette;
+
+import org.apache.logging.log4j.Logger;
+import com.reqres.utils.LoggerUtil;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Cassette Class - Append-only, indexed on-disk store of recorded HTTP exchanges
+ *
+ * File layout (big-endian):
+ * - Magic "RQC2"
+ * - Records, each: int length of the rest of the record, int key length, key (UTF-8),
+ *   short status code, int status line length, status line, int headers length,
+ *   headers ("Name: value\n" lines), int body length, body
+ *
+ * Recording starts a fresh cassette: records are appended under a lock to a temporary
+ * file next to the cassette, so parallel tests can share it, and {@link #close()} moves
+ * it over the cassette. An interrupted recording leaves the previous cassette in place.
+ * Replaying maps the file read-only and scans only the record headers to build an index
+ * from key to record offsets; bodies are read from the mapping on demand. When a key was
+ * recorded several times the recordings are served in order, then the last one repeats.
+ * A truncated final record (an interrupted recording) is ignored.
+ *
+ * Cassettes are limited to 2 GB.
+ */
+public class Cassette implements AutoCloseable {
+
+    private static final Logger logger = LoggerUtil.getLogger(Cassette.class);
+
+    private static final byte[] MAGIC = {'R', 'Q', 'C', '2'};
+
+    private final Path file;
+    private final Path recording;
+    private final FileChannel channel;
+    private final MappedByteBuffer mapping;
+    private final Map<String, long[]> index;
+    private final Map<String, AtomicInteger> replayCursors = new ConcurrentHashMap<>();
+
+    private Cassette(Path file, Path recording, FileChannel channel, MappedByteBuffer mapping, Map<String, long[]> index) {
+        this.file = file;
+        this.recording = recording;
+        this.channel = channel;
+        this.mapping = mapping;
+        this.index = index;
+    }
+
+    /**
+     * Open a cassette for recording; it replaces any earlier recording once closed
+     *
+     * @param file Cassette file
+     * @return Cassette in record mode
+     */
+    public static Cassette openForRecording(Path file) {
+        try {
+            Path parent = file.toAbsolutePath().getParent();
+            Files.createDirectories(parent);
+            Path recording = parent.resolve(file.getFileName() + ".recording");
+            FileChannel channel = FileChannel.open(recording,
+                    StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+            channel.write(ByteBuffer.wrap(MAGIC));
+            logger.info("Recording HTTP exchanges to {}", file);
+            return new Cassette(file, recording, channel, null, null);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not open cassette " + file + " for recording", e);
+        }
+    }
+
+    /**
+     * Open a recorded cassette for replay
+     *
+     * @param file Cassette file
+     * @return Cassette in replay mode
+     */
+    public static Cassette openForReplay(Path file) {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            MappedByteBuffer mapping = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            Map<String, long[]> index = buildIndex(file, mapping);
+            logger.info("Replaying {} distinct requests from {}", index.size(), file);
+            return new Cassette(file, null, null, mapping, index);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not open cassette " + file + " for replay", e);
+        }
+    }
+
+    /**
+     * Append one exchange
+     *
+     * @param key Request key
+     * @param exchange Recorded response
+     */
+    public void record(String key, RecordedResponse exchange) {
+        byte[] keyBytes = key.getBytes(StandardCharsets.UTF_8);
+        byte[] statusLine = exchange.getStatusLine().getBytes(StandardCharsets.UTF_8);
+        byte[] headers = exchange.getHeaders().getBytes(StandardCharsets.UTF_8);
+        byte[] body = exchange.getBody();
+        long length = 4L + keyBytes.length + 2 + 4 + statusLine.length + 4 + headers.length + 4 + body.length;
+        if (length > Integer.MAX_VALUE - 4) {
+            throw new IllegalArgumentException("Exchange for " + key + " is too large to record: " + length + " bytes");
+        }
+
+        ByteBuffer record = ByteBuffer.allocate(4 + (int) length);
+        record.putInt((int) length)
+                .putInt(keyBytes.length).put(keyBytes)
+                .putShort((short) exchange.getStatusCode())
+                .putInt(statusLine.length).put(statusLine)
+                .putInt(headers.length).put(headers)
+                .putInt(body.length).put(body)
+                .flip();
+        synchronized (this) {
+            try {
+                while (record.hasRemaining()) {
+                    channel.write(record);
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException("Could not append to cassette " + file, e);
+            }
+        }
+    }
+
+    /**
+     * Look up the next recorded response for a key
+     *
+     * @param key Request key
+     * @return Recorded response, or null if the key was never recorded
+     */
+    public RecordedResponse replay(String key) {
+        long[] offsets = index.get(key);
+        if (offsets == null) {
+            return null;
+        }
+        int next = replayCursors.computeIfAbsent(key, k -> new AtomicInteger()).getAndIncrement();
+        long offset = offsets[Math.min(next, offsets.length - 1)];
+
+        ByteBuffer record = mapping.duplicate();
+        record.position((int) offset);
+        record.getInt();
+        skip(record, record.getInt());
+        int status = Short.toUnsignedInt(record.getShort());
+        String statusLine = readString(record, record.getInt());
+        String headers = readString(record, record.getInt());
+        byte[] body = new byte[record.getInt()];
+        record.get(body);
+        return new RecordedResponse(status, statusLine, headers, body);
+    }
+
+    /**
+     * Finish a recording and move it over the cassette file; does nothing in replay mode or when already closed
+     */
+    @Override
+    public synchronized void close() {
+        if (channel == null || !channel.isOpen()) {
+            return;
+        }
+        try {
+            channel.force(false);
+            channel.close();
+            Files.move(recording, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            logger.info("Recorded HTTP exchanges to {}", file);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not finish cassette " + file, e);
+        }
+    }
+
+    private static Map<String, long[]> buildIndex(Path file, MappedByteBuffer mapping) {
+        ByteBuffer buffer = mapping.duplicate();
+        byte[] magic = new byte[MAGIC.length];
+        if (buffer.remaining() < MAGIC.length || !Arrays.equals(readInto(buffer, magic), MAGIC)) {
+            throw new IllegalArgumentException("Not a cassette file: " + file);
+        }
+
+        Map<String, List<Long>> offsets = new HashMap<>();
+        while (buffer.remaining() >= 4) {
+            int start = buffer.position();
+            int length = buffer.getInt();
+            if (length < 4 || length > buffer.remaining()) {
+                logger.warn("Ignoring truncated record at offset {} of {}", start, file);
+                break;
+            }
+            try {
+                int keyLength = buffer.getInt();
+                if (keyLength < 0 || keyLength > length - 4) {
+                    throw new BufferUnderflowException();
+                }
+                String key = readString(buffer, keyLength);
+                offsets.computeIfAbsent(key, k -> new ArrayList<>()).add((long) start);
+            } catch (BufferUnderflowException e) {
+                logger.warn("Ignoring corrupt record at offset {} of {}", start, file);
+                break;
+            }
+            buffer.position(start + 4 + length);
+        }
+
+        Map<String, long[]> index = new HashMap<>(offsets.size() * 2);
+        for (Map.Entry<String, List<Long>> entry : offsets.entrySet()) {
+            index.put(entry.getKey(), entry.getValue().stream().mapToLong(Long::longValue).toArray());
+        }
+        return index;
+    }
+
+    private static byte[] readInto(ByteBuffer buffer, byte[] target) {
+        buffer.get(target);
+        return target;
+    }
+
+    private static String readString(ByteBuffer buffer, int length) {
+        byte[] bytes = new byte[length];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static void skip(ByteBuffer buffer, int length) {
+        buffer.position(buffer.position() + length);
+    }
+
+    /**
+     * Status, headers and body of one recorded response
+     */
+    public static final class RecordedResponse {
+
+        private final int statusCode;
+        private final String statusLine;
+        private final String headers;
+        private final byte[] body;
+
+        public RecordedResponse(int statusCode, String statusLine, String headers, byte[] body) {
+            this.statusCode = statusCode;
+            this.statusLine = statusLine;
+            this.headers = headers;
+            this.body = body;
+        }
+
+        public int getStatusCode() {
+            return statusCode;
+        }
+
+        public String getStatusLine() {
+            return statusLine;
+        }
+
+        /**
+         * Get the headers as "Name: value" lines separated by newlines
+         *
+         * @return Header block
+         */
+        public String getHeaders() {
+            return headers;
+        }
+
+        public byte[] getBody() {
+            return body;
+        }
+    }
+}
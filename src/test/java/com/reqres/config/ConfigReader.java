@@ -1,67 +1,704 @@
 package com.reqres.config;
 
+import com.reqres.stub.HttpbinStubServer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.Locale;
+import java.util.Properties;
+import java.util.function.UnaryOperator;
+
 /**
  * ConfigReader Class - Manages application configuration properties
- * 
+ *
  * This class provides centralized access to configuration values
  * such as base URI, timeouts, and other API endpoints
+ *
+ * Each key is resolved from the first source that defines it:
+ * 1. System property           (-Dhttp.connectTimeout=2000)
+ * 2. Environment variable      (HTTP_CONNECT_TIMEOUT=2000: dots become underscores,
+ *                               camelCase becomes SNAKE_CASE)
+ * 3. Profile file              (config/{profile}.properties on the test classpath)
+ * 4. Defaults                  (config/application.properties)
+ *
+ * The profile is chosen with -Dconfig.profile (or CONFIG_PROFILE): local (default),
+ * staging or prod-like.
  */
 public class ConfigReader {
 
+    // Profile selection
+    private static final String PROFILE_PROPERTY = "config.profile";
+    private static final String DEFAULT_PROFILE = "local";
+    private static final String DEFAULTS_RESOURCE = "config/application.properties";
+
     // API Base Configuration
-    // Using httpbin.org for initial testing (no Cloudflare protection)
-    // Change back to https://reqres.in after fixing Cloudflare issue
-    private static final String BASE_URI = "https://httpbin.org";
-    private static final String API_VERSION = "";
-    private static final String API_ENDPOINT = BASE_URI + API_VERSION;
-    
-    // Request Configuration
-    private static final int CONNECTION_TIMEOUT = 15000; // 15 seconds
-    private static final int READ_TIMEOUT = 15000; // 15 seconds
-    private static final int RESPONSE_TIMEOUT = 15000; // 15 seconds
+    // Target selection: "stub" runs against the embedded httpbin stub, "remote" against remote.base.uri
+    // Override with -Dapi.target=remote (or -Dbase.uri=<url> to point anywhere else)
+    private static final String TARGET_PROPERTY = "api.target";
+    private static final String BASE_URI_PROPERTY = "base.uri";
+    private static final String REMOTE_BASE_URI_PROPERTY = "remote.base.uri";
+    private static final String API_VERSION_PROPERTY = "api.version";
+
+    // Request Configuration (milliseconds)
+    private static final String CONNECT_TIMEOUT_PROPERTY = "http.connectTimeout";
+    private static final String SOCKET_TIMEOUT_PROPERTY = "http.socketTimeout";
+    private static final String CONNECTION_REQUEST_TIMEOUT_PROPERTY = "http.connectionRequestTimeout";
+
+    // Connection Pool Configuration
+    private static final String POOL_MAX_TOTAL_PROPERTY = "pool.maxTotal";
+    private static final String POOL_MAX_PER_ROUTE_PROPERTY = "pool.maxPerRoute";
+    private static final String POOL_KEEP_ALIVE_PROPERTY = "pool.keepAlive";
+    private static final String POOL_IDLE_TIMEOUT_PROPERTY = "pool.idleTimeout";
+    private static final String POOL_CONNECTION_TIME_TO_LIVE_PROPERTY = "pool.connectionTimeToLive";
+
+    // Exchange Logging Configuration
+    // Exchanges are buffered per test and only logged on failure or when sampled
+    // Override with -Dlog.exchanges.sampleRate=1.0 to log every test
+    private static final String EXCHANGE_LOG_SAMPLE_RATE_PROPERTY = "log.exchanges.sampleRate";
+    private static final String EXCHANGE_LOG_MAX_ENTRIES_PROPERTY = "log.exchanges.maxEntries";
+    private static final String EXCHANGE_LOG_MAX_BODY_CHARS_PROPERTY = "log.exchanges.maxBodyChars";
+
+    // Latency Budget Configuration
+    // fail fails tests over their @LatencyBudget, warn only logs, off skips measuring,
+    // auto fails against the embedded stub and warns against remote targets
+    private static final String LATENCY_BUDGET_MODE_PROPERTY = "latency.budget";
+
+    // Retry and Hedging Configuration (idempotent calls only)
+    private static final String RETRY_MAX_ATTEMPTS_PROPERTY = "retry.maxAttempts";
+    private static final String RETRY_BACKOFF_PROPERTY = "retry.backoffMillis";
+    private static final String RETRY_BUDGET_RATIO_PROPERTY = "retry.budget.ratio";
+    private static final String RETRY_BUDGET_MIN_RETRIES_PROPERTY = "retry.budget.minRetries";
+    private static final String HEDGE_ENABLED_PROPERTY = "hedge.enabled";
+    private static final String HEDGE_PERCENTILE_PROPERTY = "hedge.percentile";
+    private static final String HEDGE_MIN_SAMPLES_PROPERTY = "hedge.minSamples";
+    private static final String HEDGE_DEFAULT_DELAY_PROPERTY = "hedge.defaultDelayMillis";
+
+    // Data-driven datasets (BulkDataProviders)
+    private static final String DATA_LIMIT_PROPERTY = "data.limit";
+
+    // Cassette Configuration: off, record or replay
+    private static final String CASSETTE_MODE_PROPERTY = "cassette.mode";
+    private static final String CASSETTE_FILE_PROPERTY = "cassette.file";
+
+    // Response Cache Configuration (GET requests, opt-in)
+    private static final String CACHE_ENABLED_PROPERTY = "cache.enabled";
+    private static final String CACHE_MAX_ENTRIES_PROPERTY = "cache.maxEntries";
+    private static final String CACHE_DEFAULT_TTL_PROPERTY = "cache.defaultTtlMillis";
+
+    // Concurrent API calls on virtual threads
+    private static final String CONCURRENCY_MAX_IN_FLIGHT_PROPERTY = "concurrency.maxInFlight";
+    private static final String ASYNC_MAX_IN_FLIGHT_PROPERTY = "async.maxInFlight";
+    private static final String BATCH_WINDOW_PROPERTY = "batch.window";
+
+    // Load generation (mvn test -Pload)
+    private static final String LOAD_VIRTUAL_USERS_PROPERTY = "load.virtualUsers";
+    private static final String LOAD_DURATION_PROPERTY = "load.durationSeconds";
+    private static final String LOAD_TARGET_RATE_PROPERTY = "load.targetRate";
+    private static final String LOAD_WORKLOADS_PROPERTY = "load.workloads";
+    private static final String LOAD_MAX_ERROR_RATE_PROPERTY = "load.maxErrorRate";
+
+    // Test duration history and sharding
+    private static final String TEST_HISTORY_FILE_PROPERTY = "test.history.file";
+    private static final String SHARD_COUNT_PROPERTY = "test.shard.count";
+    private static final String SHARD_INDEX_PROPERTY = "test.shard.index";
+    private static final String SHARD_GRANULARITY_PROPERTY = "test.shard.granularity";
+
+    // Suite bootstrap: warm-up off, blocking (before the first test) or background
+    private static final String BOOTSTRAP_WARMUP_PROPERTY = "bootstrap.warmup";
+    private static final String BOOTSTRAP_WARMUP_REQUESTS_PROPERTY = "bootstrap.warmupRequests";
+
+    // Fault rules the embedded stub starts with (JSON file or test resource, empty for none)
+    private static final String STUB_FAULTS_PROPERTY = "stub.faults";
+
+    private static final String PROFILE = resolveProfile();
+    private static final Properties FILE_PROPERTIES = loadProperties(PROFILE);
+
+    /**
+     * Get the active configuration profile
+     *
+     * @return Profile name such as "local"
+     */
+    public static String getProfile() {
+        return PROFILE;
+    }
 
     /**
      * Get the base URI for API requests
-     * 
+     * Starts the embedded stub server on first use when the stub target is selected
+     *
      * @return Base URI string
      */
     public static String getBaseURI() {
-        return BASE_URI;
+        String explicitBaseURI = getOptional(BASE_URI_PROPERTY);
+        if (explicitBaseURI != null) {
+            return explicitBaseURI;
+        }
+        if (isStubTarget()) {
+            return HttpbinStubServer.startShared().getBaseURI();
+        }
+        return getRequired(REMOTE_BASE_URI_PROPERTY);
+    }
+
+    /**
+     * Check whether requests should go to the embedded httpbin stub server
+     *
+     * @return true if the stub target is selected and no explicit base URI is set
+     */
+    public static boolean isStubTarget() {
+        return getOptional(BASE_URI_PROPERTY) == null
+                && "stub".equalsIgnoreCase(getRequired(TARGET_PROPERTY));
+    }
+
+    /**
+     * Get the fault rules the embedded stub server starts with
+     *
+     * @return JSON file path or test classpath resource, or null for no faults
+     */
+    public static String getStubFaults() {
+        return getOptional(STUB_FAULTS_PROPERTY);
     }
 
     /**
      * Get the full API endpoint with version
-     * 
+     *
      * @return Full API endpoint
      */
     public static String getAPIEndpoint() {
-        return API_ENDPOINT;
+        String apiVersion = getOptional(API_VERSION_PROPERTY);
+        return getBaseURI() + (apiVersion == null ? "" : apiVersion);
+    }
+
+    /**
+     * Get how long to wait for a TCP connection to be established
+     *
+     * @return Connect timeout in milliseconds
+     */
+    public static int getConnectTimeout() {
+        return getInt(CONNECT_TIMEOUT_PROPERTY, 1);
+    }
+
+    /**
+     * Get how long a connection may stay silent while waiting for response data
+     *
+     * @return Socket (read) timeout in milliseconds
+     */
+    public static int getSocketTimeout() {
+        return getInt(SOCKET_TIMEOUT_PROPERTY, 1);
+    }
+
+    /**
+     * Get how long to wait for a free connection from the pool
+     *
+     * @return Connection request timeout in milliseconds
+     */
+    public static int getConnectionRequestTimeout() {
+        return getInt(CONNECTION_REQUEST_TIMEOUT_PROPERTY, 1);
+    }
+
+    /**
+     * Get the maximum number of pooled connections across all routes
+     *
+     * @return Maximum total connections
+     */
+    public static int getPoolMaxTotal() {
+        return getInt(POOL_MAX_TOTAL_PROPERTY, 1);
+    }
+
+    /**
+     * Get the maximum number of pooled connections per route (host and port)
+     *
+     * @return Maximum connections per route
+     */
+    public static int getPoolMaxPerRoute() {
+        return getInt(POOL_MAX_PER_ROUTE_PROPERTY, 1);
+    }
+
+    /**
+     * Get the keep-alive duration applied when the server does not send one
+     *
+     * @return Keep-alive duration in milliseconds
+     */
+    public static long getPoolKeepAlive() {
+        return getLong(POOL_KEEP_ALIVE_PROPERTY, 1);
+    }
+
+    /**
+     * Get how long a pooled connection may stay idle before it is closed
+     *
+     * @return Idle timeout in milliseconds
+     */
+    public static long getPoolIdleTimeout() {
+        return getLong(POOL_IDLE_TIMEOUT_PROPERTY, 1);
+    }
+
+    /**
+     * Get the maximum lifetime of a pooled connection
+     *
+     * @return Connection time to live in milliseconds
+     */
+    public static long getPoolConnectionTimeToLive() {
+        return getLong(POOL_CONNECTION_TIME_TO_LIVE_PROPERTY, 1);
+    }
+
+    /**
+     * Get the fraction of passing tests whose exchanges are logged anyway
+     *
+     * @return Sample rate between 0.0 (failures only) and 1.0 (every test)
+     */
+    public static double getExchangeLogSampleRate() {
+        return getFraction(EXCHANGE_LOG_SAMPLE_RATE_PROPERTY, 0, 1);
+    }
+
+    /**
+     * Get the number of exchanges buffered per test before the oldest are dropped
+     *
+     * @return Maximum buffered exchanges
+     */
+    public static int getExchangeLogMaxEntries() {
+        return getInt(EXCHANGE_LOG_MAX_ENTRIES_PROPERTY, 1);
+    }
+
+    /**
+     * Get the number of body characters kept per buffered request or response
+     *
+     * @return Maximum body characters
+     */
+    public static int getExchangeLogMaxBodyChars() {
+        return getInt(EXCHANGE_LOG_MAX_BODY_CHARS_PROPERTY, 0);
+    }
+
+    /**
+     * Get how @LatencyBudget annotations are enforced
+     * "auto" fails against the embedded stub and only warns against any other target,
+     * whose latency is not under the suite's control
+     *
+     * @return "fail", "warn" or "off"
+     */
+    public static String getLatencyBudgetMode() {
+        String mode = getRequired(LATENCY_BUDGET_MODE_PROPERTY).toLowerCase(Locale.ROOT);
+        if (mode.equals("auto")) {
+            return isStubTarget() ? "fail" : "warn";
+        }
+        if (!mode.equals("fail") && !mode.equals("warn") && !mode.equals("off")) {
+            throw new IllegalArgumentException(
+                    LATENCY_BUDGET_MODE_PROPERTY + " must be auto, fail, warn or off but was " + mode);
+        }
+        return mode;
+    }
+
+    /**
+     * Get the maximum number of attempts for an idempotent call, including the first
+     *
+     * @return Maximum attempts (1 disables retries)
+     */
+    public static int getRetryMaxAttempts() {
+        return getInt(RETRY_MAX_ATTEMPTS_PROPERTY, 1);
+    }
+
+    /**
+     * Get the base backoff between retries; attempt n waits n times this long
+     *
+     * @return Backoff in milliseconds
+     */
+    public static long getRetryBackoffMillis() {
+        return getLong(RETRY_BACKOFF_PROPERTY, 0);
+    }
+
+    /**
+     * Get the number of retries and hedges allowed per call made
+     *
+     * @return Ratio such as 0.1 (one extra request per ten calls)
+     */
+    public static double getRetryBudgetRatio() {
+        return getFraction(RETRY_BUDGET_RATIO_PROPERTY, 0, 1);
+    }
+
+    /**
+     * Get the number of retries and hedges allowed regardless of call volume
+     *
+     * @return Minimum retry budget
+     */
+    public static long getRetryBudgetMinRetries() {
+        return getLong(RETRY_BUDGET_MIN_RETRIES_PROPERTY, 0);
+    }
+
+    /**
+     * Check whether slow idempotent calls are hedged with a second request
+     *
+     * @return true if hedging is enabled
+     */
+    public static boolean isHedgeEnabled() {
+        return Boolean.parseBoolean(getRequired(HEDGE_ENABLED_PROPERTY));
+    }
+
+    /**
+     * Get the latency percentile after which a hedge is sent
+     *
+     * @return Percentile between 0 and 100
+     */
+    public static double getHedgePercentile() {
+        return getFraction(HEDGE_PERCENTILE_PROPERTY, 0, 100);
+    }
+
+    /**
+     * Get the number of latency samples an endpoint needs before its percentile is trusted
+     *
+     * @return Minimum samples
+     */
+    public static long getHedgeMinSamples() {
+        return getLong(HEDGE_MIN_SAMPLES_PROPERTY, 1);
     }
 
     /**
-     * Get connection timeout in milliseconds
-     * 
-     * @return Connection timeout value
+     * Get the hedge delay used until an endpoint has enough latency samples
+     *
+     * @return Delay in milliseconds
      */
-    public static int getConnectionTimeout() {
-        return CONNECTION_TIMEOUT;
+    public static long getHedgeDefaultDelayMillis() {
+        return getLong(HEDGE_DEFAULT_DELAY_PROPERTY, 1);
     }
 
     /**
-     * Get read timeout in milliseconds
-     * 
-     * @return Read timeout value
+     * Get the number of rows each data-driven dataset returns
+     *
+     * @return Row limit, 0 for all rows
      */
-    public static int getReadTimeout() {
-        return READ_TIMEOUT;
+    public static long getDataLimit() {
+        return getLong(DATA_LIMIT_PROPERTY, 0);
     }
 
     /**
-     * Get response timeout in milliseconds
-     * 
-     * @return Response timeout value
+     * Get the HTTP cassette mode
+     *
+     * @return "off", "record" or "replay"
      */
-    public static int getResponseTimeout() {
-        return RESPONSE_TIMEOUT;
+    public static String getCassetteMode() {
+        String mode = getRequired(CASSETTE_MODE_PROPERTY).toLowerCase(Locale.ROOT);
+        if (!mode.equals("off") && !mode.equals("record") && !mode.equals("replay")) {
+            throw new IllegalArgumentException(
+                    CASSETTE_MODE_PROPERTY + " must be off, record or replay but was " + mode);
+        }
+        return mode;
+    }
+
+    /**
+     * Get the file cassettes are recorded to and replayed from
+     *
+     * @return Cassette file path
+     */
+    public static String getCassetteFile() {
+        return getRequired(CASSETTE_FILE_PROPERTY);
+    }
+
+    /**
+     * Check whether GET responses are cached for the run
+     *
+     * @return true if the response cache is enabled
+     */
+    public static boolean isResponseCacheEnabled() {
+        return Boolean.parseBoolean(getRequired(CACHE_ENABLED_PROPERTY));
+    }
+
+    /**
+     * Get the maximum number of cached responses before the least recently used is evicted
+     *
+     * @return Maximum cache entries
+     */
+    public static int getResponseCacheMaxEntries() {
+        return getInt(CACHE_MAX_ENTRIES_PROPERTY, 1);
+    }
+
+    /**
+     * Get how long a response without Cache-Control directives stays fresh
+     *
+     * @return Freshness in milliseconds
+     */
+    public static long getResponseCacheDefaultTtlMillis() {
+        return getLong(CACHE_DEFAULT_TTL_PROPERTY, 0);
+    }
+
+    /**
+     * Get the default number of requests a concurrent fan-out keeps in flight
+     *
+     * @return Maximum in-flight requests
+     */
+    public static int getConcurrencyMaxInFlight() {
+        return getInt(CONCURRENCY_MAX_IN_FLIGHT_PROPERTY, 1);
+    }
+
+    /**
+     * Get the number of requests the async java.net.http engine sends before queueing the rest
+     *
+     * @return Maximum in-flight async requests
+     */
+    public static int getAsyncMaxInFlight() {
+        return getInt(ASYNC_MAX_IN_FLIGHT_PROPERTY, 1);
+    }
+
+    /**
+     * Get the default number of requests a batch operation keeps in flight
+     *
+     * @return Batch window size
+     */
+    public static int getBatchWindow() {
+        return getInt(BATCH_WINDOW_PROPERTY, 1);
+    }
+
+    /**
+     * Get the number of concurrent virtual users of a load run
+     *
+     * @return Virtual users
+     */
+    public static int getLoadVirtualUsers() {
+        return getInt(LOAD_VIRTUAL_USERS_PROPERTY, 1);
+    }
+
+    /**
+     * Get the measured run time of a load run
+     *
+     * @return Duration in seconds
+     */
+    public static long getLoadDurationSeconds() {
+        return getLong(LOAD_DURATION_PROPERTY, 1);
+    }
+
+    /**
+     * Get the total request rate of a load run across all virtual users
+     *
+     * @return Requests per second, 0 for unthrottled
+     */
+    public static double getLoadTargetRate() {
+        return getFraction(LOAD_TARGET_RATE_PROPERTY, 0, Double.MAX_VALUE);
+    }
+
+    /**
+     * Get the workloads of a load run
+     *
+     * @return Comma separated Workload names, or "all"
+     */
+    public static String getLoadWorkloads() {
+        return getRequired(LOAD_WORKLOADS_PROPERTY);
+    }
+
+    /**
+     * Get the share of failed requests a load run tolerates
+     *
+     * @return Error rate between 0 and 1
+     */
+    public static double getLoadMaxErrorRate() {
+        return getFraction(LOAD_MAX_ERROR_RATE_PROPERTY, 0, 1);
+    }
+
+    /**
+     * Get the file that stores test durations of earlier runs
+     *
+     * @return History file path
+     */
+    public static String getTestHistoryFile() {
+        return getRequired(TEST_HISTORY_FILE_PROPERTY);
+    }
+
+    /**
+     * Get the number of shards the test package is split into
+     *
+     * @return Shard count (1 runs everything)
+     */
+    public static int getShardCount() {
+        return getInt(SHARD_COUNT_PROPERTY, 1);
+    }
+
+    /**
+     * Get the zero-based shard this run executes
+     *
+     * @return Shard index, below the shard count
+     */
+    public static int getShardIndex() {
+        int index = getInt(SHARD_INDEX_PROPERTY, 0);
+        int count = getShardCount();
+        if (index >= count) {
+            throw new IllegalArgumentException(
+                    SHARD_INDEX_PROPERTY + " must be below " + SHARD_COUNT_PROPERTY + " (" + count + ") but was " + index);
+        }
+        return index;
+    }
+
+    /**
+     * Get whether shards are made of whole classes or of individual test methods
+     *
+     * @return classes or methods
+     */
+    public static String getShardGranularity() {
+        String granularity = getRequired(SHARD_GRANULARITY_PROPERTY).toLowerCase(Locale.ROOT);
+        if (!granularity.equals("classes") && !granularity.equals("methods")) {
+            throw new IllegalArgumentException(
+                    SHARD_GRANULARITY_PROPERTY + " must be classes or methods but was " + granularity);
+        }
+        return granularity;
+    }
+
+    /**
+     * Get how the suite bootstrap warms up the request paths
+     *
+     * @return "off", "blocking" or "background"
+     */
+    public static String getBootstrapWarmupMode() {
+        String mode = getRequired(BOOTSTRAP_WARMUP_PROPERTY).toLowerCase(Locale.ROOT);
+        if (!mode.equals("off") && !mode.equals("blocking") && !mode.equals("background")) {
+            throw new IllegalArgumentException(
+                    BOOTSTRAP_WARMUP_PROPERTY + " must be off, blocking or background but was " + mode);
+        }
+        return mode;
+    }
+
+    /**
+     * Get the number of warm-up rounds the suite bootstrap sends per request path
+     *
+     * @return Warm-up rounds
+     */
+    public static int getBootstrapWarmupRequests() {
+        return getInt(BOOTSTRAP_WARMUP_REQUESTS_PROPERTY, 1);
+    }
+
+    /**
+     * Resolve a key from system properties, environment, profile file and defaults
+     *
+     * @param key Property key such as "http.connectTimeout"
+     * @return Trimmed value, or null when no source defines a non-empty value
+     */
+    public static String getOptional(String key) {
+        return resolve(key, System::getProperty, System::getenv, FILE_PROPERTIES);
+    }
+
+    /**
+     * Resolve a key from the given sources, in precedence order
+     *
+     * @param key Property key
+     * @param systemProperties System property lookup by key
+     * @param environment Environment lookup by variable name (see {@link #toEnvironmentName})
+     * @param fileProperties Profile properties backed by the defaults
+     * @return Trimmed value, or null when no source defines a non-empty value
+     */
+    static String resolve(String key, UnaryOperator<String> systemProperties, UnaryOperator<String> environment,
+                          Properties fileProperties) {
+        String value = systemProperties.apply(key);
+        if (isBlank(value)) {
+            value = environment.apply(toEnvironmentName(key));
+        }
+        if (isBlank(value)) {
+            value = fileProperties.getProperty(key);
+        }
+        return isBlank(value) ? null : value.trim();
+    }
+
+    /**
+     * Resolve a key that must be defined by at least one source
+     *
+     * @param key Property key
+     * @return Trimmed value
+     */
+    public static String getRequired(String key) {
+        String value = getOptional(key);
+        if (value == null) {
+            throw new IllegalStateException("Missing configuration '" + key + "' (profile " + PROFILE + ")");
+        }
+        return value;
+    }
+
+    private static int getInt(String key, int minimum) {
+        long value = getLong(key, minimum);
+        if (value > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException(key + " must be at most " + Integer.MAX_VALUE + " but was " + value);
+        }
+        return (int) value;
+    }
+
+    private static long getLong(String key, long minimum) {
+        String value = getRequired(key);
+        long parsed;
+        try {
+            parsed = Long.parseLong(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException(key + " must be a number but was " + value, e);
+        }
+        if (parsed < minimum) {
+            throw new IllegalArgumentException(key + " must be at least " + minimum + " but was " + parsed);
+        }
+        return parsed;
+    }
+
+    private static double getFraction(String key, double minimum, double maximum) {
+        String value = getRequired(key);
+        double parsed;
+        try {
+            parsed = Double.parseDouble(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException(key + " must be a number but was " + value, e);
+        }
+        if (!(parsed >= minimum && parsed <= maximum)) {
+            throw new IllegalArgumentException(key + " must be between " + minimum + " and " + maximum + " but was " + parsed);
+        }
+        return parsed;
+    }
+
+    private static String resolveProfile() {
+        String profile = System.getProperty(PROFILE_PROPERTY);
+        if (isBlank(profile)) {
+            profile = System.getenv(toEnvironmentName(PROFILE_PROPERTY));
+        }
+        return isBlank(profile) ? DEFAULT_PROFILE : profile.trim().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Load a profile file backed by the defaults
+     *
+     * @param profile Profile name such as "staging"
+     * @return Profile properties; keys it does not define fall back to config/application.properties
+     */
+    static Properties loadProperties(String profile) {
+        Properties defaults = new Properties();
+        if (!loadResource(DEFAULTS_RESOURCE, defaults)) {
+            throw new IllegalStateException("Missing " + DEFAULTS_RESOURCE + " on the test classpath");
+        }
+        Properties properties = new Properties(defaults);
+        String profileResource = "config/" + profile + ".properties";
+        if (!loadResource(profileResource, properties)) {
+            throw new IllegalStateException("Unknown config profile '" + profile + "': " + profileResource + " not found");
+        }
+        return properties;
+    }
+
+    private static boolean loadResource(String resource, Properties target) {
+        try (InputStream in = ConfigReader.class.getClassLoader().getResourceAsStream(resource)) {
+            if (in == null) {
+                return false;
+            }
+            target.load(in);
+            return true;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not read " + resource, e);
+        }
+    }
+
+    /**
+     * Map a property key to its environment variable name: http.connectTimeout -> HTTP_CONNECT_TIMEOUT
+     */
+    static String toEnvironmentName(String key) {
+        StringBuilder name = new StringBuilder(key.length() + 4);
+        for (int i = 0; i < key.length(); i++) {
+            char c = key.charAt(i);
+            if (c == '.' || c == '-') {
+                name.append('_');
+            } else if (Character.isUpperCase(c)) {
+                name.append('_').append(c);
+            } else {
+                name.append(Character.toUpperCase(c));
+            }
+        }
+        return name.toString();
+    }
+
+    private static boolean isBlank(String value) {
+        return value == null || value.trim().isEmpty();
     }
 }
@@ -0,0 +1,92 @@
+package com.reqres.config;
+
+import org.testng.annotations.Test;
+
+import java.util.Map;
+import java.util.Properties;
+import java.util.function.UnaryOperator;
+
+import static org.testng.Assert.*;
+
+/**
+ * ConfigReaderTest Class - Test cases for configuration resolution
+ *
+ * Tests:
+ * - A system property beats the environment, the profile and the defaults
+ * - An environment variable beats the profile and the defaults
+ * - A profile value beats the defaults, which apply to keys the profile leaves out
+ * - Blank values fall through to the next source
+ * - Property keys map to SNAKE_CASE environment names
+ * - Integer settings beyond the int range are rejected with the key name
+ */
+public class ConfigReaderTest {
+
+    private static final String KEY = "http.socketTimeout";
+    private static final String ENV_NAME = "HTTP_SOCKET_TIMEOUT";
+
+    private static final UnaryOperator<String> NONE = name -> null;
+
+    @Test(description = "System property beats environment, profile and defaults")
+    public void systemPropertyWins() {
+        Properties staging = ConfigReader.loadProperties("staging");
+
+        String value = ConfigReader.resolve(KEY, Map.of(KEY, "1111")::get, Map.of(ENV_NAME, "2222")::get, staging);
+
+        assertEquals(value, "1111", "System property should win");
+    }
+
+    @Test(description = "Environment variable beats profile and defaults")
+    public void environmentBeatsProfile() {
+        Properties staging = ConfigReader.loadProperties("staging");
+
+        String value = ConfigReader.resolve(KEY, NONE, Map.of(ENV_NAME, " 2222 ")::get, staging);
+
+        assertEquals(value, "2222", "Trimmed environment variable should win");
+    }
+
+    @Test(description = "Profile beats defaults; defaults fill keys the profile leaves out")
+    public void profileBeatsDefaults() {
+        Properties staging = ConfigReader.loadProperties("staging");
+
+        assertEquals(ConfigReader.resolve(KEY, NONE, NONE, staging), "10000",
+                "staging.properties should override application.properties (15000)");
+        assertEquals(ConfigReader.resolve("pool.maxTotal", NONE, NONE, staging), "50",
+                "Keys missing from the profile should come from application.properties");
+    }
+
+    @Test(description = "Blank values fall through to the next source")
+    public void blankValuesFallThrough() {
+        Properties staging = ConfigReader.loadProperties("staging");
+
+        String value = ConfigReader.resolve(KEY, Map.of(KEY, " ")::get, Map.of(ENV_NAME, "")::get, staging);
+
+        assertEquals(value, "10000", "Blank system property and environment variable should be ignored");
+        assertNull(ConfigReader.resolve("no.such.key", NONE, NONE, staging), "Undefined keys should resolve to null");
+    }
+
+    @Test(description = "Property keys map to SNAKE_CASE environment names")
+    public void environmentNames() {
+        assertEquals(ConfigReader.toEnvironmentName("http.connectTimeout"), "HTTP_CONNECT_TIMEOUT");
+        assertEquals(ConfigReader.toEnvironmentName("log.exchanges.sampleRate"), "LOG_EXCHANGES_SAMPLE_RATE");
+        assertEquals(ConfigReader.toEnvironmentName("config.profile"), "CONFIG_PROFILE");
+    }
+
+    @Test(description = "Integer settings beyond the int range are rejected")
+    public void intOverflowIsRejected() {
+        // Only read by the suite bootstrap, which has run before any test
+        String key = "bootstrap.warmupRequests";
+        String previous = System.getProperty(key);
+        System.setProperty(key, "3000000000");
+        try {
+            IllegalArgumentException error = expectThrows(IllegalArgumentException.class,
+                    ConfigReader::getBootstrapWarmupRequests);
+            assertTrue(error.getMessage().startsWith(key + " must be at most"), "Error should name the key: " + error.getMessage());
+        } finally {
+            if (previous == null) {
+                System.clearProperty(key);
+            } else {
+                System.setProperty(key, previous);
+            }
+        }
+    }
+}
@@ -0,0 +1,675 @@
+package com.reqres.contract;
+
+import org.json.simple.JSONArray;
+import org.json.simple.JSONObject;
+import org.json.simple.parser.JSONParser;
+import org.json.simple.parser.ParseException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * JsonSchema Class - A compiled JSON schema that validates raw response bytes in one pass
+ *
+ * This class provides:
+ * - Compilation of a schema document into an immutable node tree, done once per schema
+ * - Validation straight over the UTF-8 bytes: the document is tokenized and checked in a
+ *   single forward pass, without building a JSON tree or decoding the body to a String
+ * - Object keys matched against pre-encoded byte arrays, required keys tracked in a bit mask
+ * - Violations reported with their path, such as "$.json.name: expected string, found number"
+ *
+ * Supported keywords (a subset of JSON Schema draft 2020-12):
+ * - type (single or list): object, array, string, integer, number, boolean, null
+ * - properties, required, additionalProperties (false or a schema), items
+ * - enum (string values), minLength, maxLength, minimum, maximum
+ * - $schema, $id, title and description are accepted and ignored
+ * Any other keyword fails compilation, so a schema never silently checks less than it says.
+ * "integer" means a JSON number without fraction or exponent.
+ *
+ * A compiled schema is thread-safe. For a valid document {@link #validate(byte[])} only
+ * allocates its cursor and path state (about 200 bytes) plus the strings of enum checks.
+ */
+public final class JsonSchema {
+
+    private static final int OBJECT = 1;
+    private static final int ARRAY = 1 << 1;
+    private static final int STRING = 1 << 2;
+    private static final int INTEGER = 1 << 3;
+    private static final int NUMBER = 1 << 4;
+    private static final int BOOLEAN = 1 << 5;
+    private static final int NULL = 1 << 6;
+    private static final String[] TYPE_NAMES = {"object", "array", "string", "integer", "number", "boolean", "null"};
+
+    private static final int MAX_PROPERTIES = Long.SIZE;
+    private static final int MAX_DEPTH = 256;
+    private static final int MAX_VIOLATIONS = 20;
+
+    private static final Set<String> IGNORED_KEYWORDS = Set.of("$schema", "$id", "title", "description");
+
+    /**
+     * Accepts any value; used for unknown keys when additional properties are allowed
+     */
+    private static final Node ANY = new Node();
+
+    private final String name;
+    private final Node root;
+
+    private JsonSchema(String name, Node root) {
+        this.name = name;
+        this.root = root;
+    }
+
+    /**
+     * Compile a schema document
+     *
+     * @param name Schema name used in messages, e.g. the resource it was read from
+     * @param schemaJson Schema document
+     * @return Compiled JsonSchema
+     * @throws IllegalArgumentException if the document is not a schema this class supports
+     */
+    public static JsonSchema compile(String name, String schemaJson) {
+        Object parsed;
+        try {
+            parsed = new JSONParser().parse(schemaJson);
+        } catch (ParseException e) {
+            throw new IllegalArgumentException("Schema " + name + " is not valid JSON: " + e, e);
+        }
+        return new JsonSchema(name, compileNode(name, "$", parsed));
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Validate a UTF-8 JSON document
+     *
+     * @param json Document bytes
+     * @return Violations, empty if the document matches; at most 20 are reported
+     */
+    public List<String> validate(byte[] json) {
+        Validation validation = new Validation(json);
+        try {
+            validation.skipWhitespace();
+            validation.value(root);
+            validation.skipWhitespace();
+            if (validation.pos < json.length) {
+                throw validation.malformed("unexpected data after the document");
+            }
+        } catch (MalformedJsonException e) {
+            validation.violations = validation.violations == null ? new ArrayList<>(1) : validation.violations;
+            validation.violations.add(e.getMessage());
+        } catch (TooManyViolationsException e) {
+            // The first MAX_VIOLATIONS are enough to explain what is wrong
+        }
+        return validation.violations == null ? List.of() : Collections.unmodifiableList(validation.violations);
+    }
+
+    @Override
+    public String toString() {
+        return "JsonSchema[" + name + "]";
+    }
+
+    private static Node compileNode(String schemaName, String path, Object schema) {
+        if (!(schema instanceof JSONObject)) {
+            throw invalid(schemaName, path, "a schema must be a JSON object");
+        }
+        Map<?, ?> keywords = (JSONObject) schema;
+        Node node = new Node();
+        List<String> propertyNames = new ArrayList<>();
+        List<Node> propertyNodes = new ArrayList<>();
+
+        for (Map.Entry<?, ?> keyword : keywords.entrySet()) {
+            String key = keyword.getKey().toString();
+            Object value = keyword.getValue();
+            switch (key) {
+                case "type" -> node.types = types(schemaName, path, value);
+                case "properties" -> {
+                    if (!(value instanceof JSONObject)) {
+                        throw invalid(schemaName, path, "properties must be an object");
+                    }
+                    for (Map.Entry<?, ?> property : ((Map<?, ?>) value).entrySet()) {
+                        String propertyName = property.getKey().toString();
+                        propertyNames.add(propertyName);
+                        propertyNodes.add(compileNode(schemaName, path + "." + propertyName, property.getValue()));
+                    }
+                }
+                case "required", "enum" -> {
+                    if (!(value instanceof JSONArray)) {
+                        throw invalid(schemaName, path, key + " must be an array of strings");
+                    }
+                    Set<String> values = new HashSet<>();
+                    for (Object item : (JSONArray) value) {
+                        if (!(item instanceof String)) {
+                            throw invalid(schemaName, path, key + " must be an array of strings");
+                        }
+                        values.add((String) item);
+                    }
+                    if (key.equals("required")) {
+                        node.required = values;
+                    } else {
+                        node.enumValues = values;
+                    }
+                }
+                case "additionalProperties" -> {
+                    if (Boolean.FALSE.equals(value)) {
+                        node.closed = true;
+                    } else if (!Boolean.TRUE.equals(value)) {
+                        node.additionalProperties = compileNode(schemaName, path + ".*", value);
+                    }
+                }
+                case "items" -> node.items = compileNode(schemaName, path + "[*]", value);
+                case "minLength" -> node.minLength = (int) number(schemaName, path, key, value);
+                case "maxLength" -> node.maxLength = (int) number(schemaName, path, key, value);
+                case "minimum" -> node.minimum = number(schemaName, path, key, value);
+                case "maximum" -> node.maximum = number(schemaName, path, key, value);
+                default -> {
+                    if (!IGNORED_KEYWORDS.contains(key)) {
+                        throw invalid(schemaName, path, "unsupported keyword '" + key + "'");
+                    }
+                }
+            }
+        }
+
+        // Required keys without a property schema still need a slot in the bit mask
+        for (String required : node.required) {
+            if (!propertyNames.contains(required)) {
+                propertyNames.add(required);
+                propertyNodes.add(node.additionalProperties);
+            }
+        }
+        if (propertyNames.size() > MAX_PROPERTIES) {
+            throw invalid(schemaName, path, "more than " + MAX_PROPERTIES + " properties");
+        }
+        node.propertyNames = propertyNames.toArray(new String[0]);
+        node.propertyKeys = new byte[propertyNames.size()][];
+        node.properties = propertyNodes.toArray(new Node[0]);
+        for (int i = 0; i < node.propertyNames.length; i++) {
+            node.propertyKeys[i] = node.propertyNames[i].getBytes(StandardCharsets.UTF_8);
+            if (node.required.contains(node.propertyNames[i])) {
+                node.requiredMask |= 1L << i;
+            }
+        }
+        return node;
+    }
+
+    private static int types(String schemaName, String path, Object value) {
+        List<?> names = value instanceof JSONArray ? (JSONArray) value : List.of(value);
+        int types = 0;
+        for (Object typeName : names) {
+            int bit = 0;
+            for (int i = 0; i < TYPE_NAMES.length; i++) {
+                if (TYPE_NAMES[i].equals(typeName)) {
+                    bit = 1 << i;
+                }
+            }
+            if (bit == 0) {
+                throw invalid(schemaName, path, "unknown type '" + typeName + "'");
+            }
+            // An integer is also a number
+            types |= bit == NUMBER ? NUMBER | INTEGER : bit;
+        }
+        return types;
+    }
+
+    private static double number(String schemaName, String path, String keyword, Object value) {
+        if (!(value instanceof Number)) {
+            throw invalid(schemaName, path, keyword + " must be a number");
+        }
+        return ((Number) value).doubleValue();
+    }
+
+    private static IllegalArgumentException invalid(String schemaName, String path, String problem) {
+        return new IllegalArgumentException("Schema " + schemaName + " at " + path + ": " + problem);
+    }
+
+    private static String describe(int types) {
+        StringBuilder description = new StringBuilder();
+        for (int i = 0; i < TYPE_NAMES.length; i++) {
+            // "number" already covers "integer"
+            if ((types & (1 << i)) != 0 && !((1 << i) == INTEGER && (types & NUMBER) != 0)) {
+                description.append(description.length() == 0 ? "" : " or ").append(TYPE_NAMES[i]);
+            }
+        }
+        return description.toString();
+    }
+
+    /**
+     * Compiled constraints of one schema level; never changed after compilation
+     */
+    private static final class Node {
+
+        private int types;
+        private String[] propertyNames = new String[0];
+        private byte[][] propertyKeys = new byte[0][];
+        private Node[] properties = new Node[0];
+        private Set<String> required = Set.of();
+        private long requiredMask;
+        private boolean closed;
+        // null accepts any value
+        private Node additionalProperties;
+        private Node items;
+        private Set<String> enumValues;
+        private int minLength = -1;
+        private int maxLength = -1;
+        private double minimum = Double.NaN;
+        private double maximum = Double.NaN;
+    }
+
+    /**
+     * State of one validation: the cursor over the bytes and the current path
+     */
+    private static final class Validation {
+
+        private final byte[] json;
+        private int pos;
+        private List<String> violations;
+
+        // Path segments: object keys as byte ranges of the document, array indexes as numbers
+        private int depth;
+        private int[] segmentStart = new int[16];
+        private int[] segmentEnd = new int[16];
+
+        Validation(byte[] json) {
+            this.json = json;
+        }
+
+        void value(Node schema) {
+            Node node = schema == null ? ANY : schema;
+            if (pos >= json.length) {
+                throw malformed("unexpected end of document");
+            }
+            byte first = json[pos];
+            switch (first) {
+                case '{' -> {
+                    checkType(node, OBJECT);
+                    object(node);
+                }
+                case '[' -> {
+                    checkType(node, ARRAY);
+                    array(node);
+                }
+                case '"' -> string(node);
+                case 't' -> {
+                    literal("true");
+                    checkType(node, BOOLEAN);
+                }
+                case 'f' -> {
+                    literal("false");
+                    checkType(node, BOOLEAN);
+                }
+                case 'n' -> {
+                    literal("null");
+                    checkType(node, NULL);
+                }
+                default -> {
+                    if (first == '-' || (first >= '0' && first <= '9')) {
+                        number(node);
+                    } else {
+                        throw malformed("unexpected character '" + (char) first + "'");
+                    }
+                }
+            }
+        }
+
+        private void object(Node node) {
+            enter();
+            pos++;
+            long seen = 0;
+            skipWhitespace();
+            if (peek() == '}') {
+                pos++;
+            } else {
+                while (true) {
+                    if (peek() != '"') {
+                        throw malformed("expected an object key");
+                    }
+                    int keyStart = pos + 1;
+                    boolean escaped = skipString();
+                    int keyEnd = pos - 1;
+                    skipWhitespace();
+                    expect(':');
+                    skipWhitespace();
+
+                    int index = findProperty(node, keyStart, keyEnd, escaped);
+                    segmentStart[depth - 1] = keyStart;
+                    segmentEnd[depth - 1] = keyEnd;
+                    if (index >= 0) {
+                        seen |= 1L << index;
+                        value(node.properties[index]);
+                    } else if (node.closed) {
+                        violation("property is not allowed");
+                        value(ANY);
+                    } else {
+                        value(node.additionalProperties);
+                    }
+
+                    skipWhitespace();
+                    byte next = peek();
+                    pos++;
+                    if (next == '}') {
+                        break;
+                    }
+                    if (next != ',') {
+                        pos--;
+                        throw malformed("expected ',' or '}'");
+                    }
+                    skipWhitespace();
+                }
+            }
+            depth--;
+
+            long missing = node.requiredMask & ~seen;
+            while (missing != 0) {
+                int index = Long.numberOfTrailingZeros(missing);
+                violation("missing required property '" + node.propertyNames[index] + "'");
+                missing &= missing - 1;
+            }
+        }
+
+        private void array(Node node) {
+            enter();
+            pos++;
+            skipWhitespace();
+            if (peek() == ']') {
+                pos++;
+            } else {
+                for (int index = 0; ; index++) {
+                    segmentStart[depth - 1] = index;
+                    segmentEnd[depth - 1] = -1;
+                    value(node.items);
+                    skipWhitespace();
+                    byte next = peek();
+                    pos++;
+                    if (next == ']') {
+                        break;
+                    }
+                    if (next != ',') {
+                        pos--;
+                        throw malformed("expected ',' or ']'");
+                    }
+                    skipWhitespace();
+                }
+            }
+            depth--;
+        }
+
+        private void string(Node node) {
+            int start = pos + 1;
+            boolean escaped = skipString();
+            int end = pos - 1;
+            if (!checkType(node, STRING)) {
+                return;
+            }
+            if (node.minLength >= 0 || node.maxLength >= 0) {
+                int length = escaped ? decode(start, end).length() : utf16Length(start, end);
+                if (node.minLength >= 0 && length < node.minLength) {
+                    violation("string shorter than " + node.minLength);
+                }
+                if (node.maxLength >= 0 && length > node.maxLength) {
+                    violation("string longer than " + node.maxLength);
+                }
+            }
+            if (node.enumValues != null) {
+                String value = escaped ? decode(start, end) : new String(json, start, end - start, StandardCharsets.UTF_8);
+                if (!node.enumValues.contains(value)) {
+                    violation("'" + value + "' is not one of " + node.enumValues);
+                }
+            }
+        }
+
+        private void number(Node node) {
+            int start = pos;
+            if (json[pos] == '-') {
+                pos++;
+            }
+            if (peek() == '0') {
+                pos++;
+            } else if (!digits()) {
+                throw malformed("invalid number");
+            }
+            boolean integral = true;
+            if (pos < json.length && json[pos] == '.') {
+                pos++;
+                integral = false;
+                if (!digits()) {
+                    throw malformed("invalid number");
+                }
+            }
+            if (pos < json.length && (json[pos] == 'e' || json[pos] == 'E')) {
+                pos++;
+                integral = false;
+                if (pos < json.length && (json[pos] == '+' || json[pos] == '-')) {
+                    pos++;
+                }
+                if (!digits()) {
+                    throw malformed("invalid number");
+                }
+            }
+            if (!checkType(node, integral ? INTEGER : NUMBER)) {
+                return;
+            }
+            if (!Double.isNaN(node.minimum) || !Double.isNaN(node.maximum)) {
+                String literal = new String(json, start, pos - start, StandardCharsets.US_ASCII);
+                double value = Double.parseDouble(literal);
+                if (value < node.minimum) {
+                    violation(literal + " is below the minimum " + node.minimum);
+                }
+                if (value > node.maximum) {
+                    violation(literal + " is above the maximum " + node.maximum);
+                }
+            }
+        }
+
+        private boolean digits() {
+            int start = pos;
+            while (pos < json.length && json[pos] >= '0' && json[pos] <= '9') {
+                pos++;
+            }
+            return pos > start;
+        }
+
+        private void literal(String literal) {
+            for (int i = 0; i < literal.length(); i++) {
+                if (pos >= json.length || json[pos] != literal.charAt(i)) {
+                    throw malformed("invalid literal, expected " + literal);
+                }
+                pos++;
+            }
+        }
+
+        /**
+         * Move past a string starting at the opening quote
+         *
+         * @return true if the string contains escape sequences
+         */
+        private boolean skipString() {
+            pos++;
+            boolean escaped = false;
+            while (pos < json.length) {
+                byte b = json[pos++];
+                if (b == '"') {
+                    return escaped;
+                }
+                if (b == '\\') {
+                    escaped = true;
+                    if (pos >= json.length) {
+                        break;
+                    }
+                    byte escape = json[pos++];
+                    if (escape == 'u') {
+                        for (int i = 0; i < 4; i++) {
+                            if (pos >= json.length || Character.digit(json[pos++], 16) < 0) {
+                                throw malformed("invalid unicode escape");
+                            }
+                        }
+                    } else if ("\"\\/bfnrt".indexOf(escape) < 0) {
+                        throw malformed("invalid escape sequence");
+                    }
+                } else if (b >= 0 && b < 0x20) {
+                    throw malformed("unescaped control character in string");
+                }
+            }
+            throw malformed("unterminated string");
+        }
+
+        private int findProperty(Node node, int start, int end, boolean escaped) {
+            if (escaped) {
+                String key = decode(start, end);
+                for (int i = 0; i < node.propertyNames.length; i++) {
+                    if (node.propertyNames[i].equals(key)) {
+                        return i;
+                    }
+                }
+                return -1;
+            }
+            for (int i = 0; i < node.propertyKeys.length; i++) {
+                byte[] key = node.propertyKeys[i];
+                if (key.length == end - start && Arrays.equals(key, 0, key.length, json, start, end)) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        private boolean checkType(Node node, int type) {
+            if (node.types == 0 || (node.types & type) != 0) {
+                return true;
+            }
+            violation("expected " + describe(node.types) + ", found " + describe(type));
+            return false;
+        }
+
+        private void enter() {
+            if (depth == MAX_DEPTH) {
+                throw malformed("nesting deeper than " + MAX_DEPTH);
+            }
+            if (depth == segmentStart.length) {
+                segmentStart = Arrays.copyOf(segmentStart, depth * 2);
+                segmentEnd = Arrays.copyOf(segmentEnd, depth * 2);
+            }
+            segmentStart[depth] = 0;
+            segmentEnd[depth] = 0;
+            depth++;
+        }
+
+        void skipWhitespace() {
+            while (pos < json.length) {
+                byte b = json[pos];
+                if (b != ' ' && b != '\n' && b != '\r' && b != '\t') {
+                    return;
+                }
+                pos++;
+            }
+        }
+
+        private byte peek() {
+            if (pos >= json.length) {
+                throw malformed("unexpected end of document");
+            }
+            return json[pos];
+        }
+
+        private void expect(char expected) {
+            if (peek() != expected) {
+                throw malformed("expected '" + expected + "'");
+            }
+            pos++;
+        }
+
+        private int utf16Length(int start, int end) {
+            int length = 0;
+            for (int i = start; i < end; i++) {
+                int b = json[i] & 0xFF;
+                if ((b & 0xC0) != 0x80) {
+                    // Four-byte sequences are surrogate pairs in Java strings
+                    length += b >= 0xF0 ? 2 : 1;
+                }
+            }
+            return length;
+        }
+
+        private String decode(int start, int end) {
+            StringBuilder decoded = new StringBuilder(end - start);
+            String raw = new String(json, start, end - start, StandardCharsets.UTF_8);
+            for (int i = 0; i < raw.length(); i++) {
+                char c = raw.charAt(i);
+                if (c != '\\') {
+                    decoded.append(c);
+                    continue;
+                }
+                char escape = raw.charAt(++i);
+                switch (escape) {
+                    case 'b' -> decoded.append('\b');
+                    case 'f' -> decoded.append('\f');
+                    case 'n' -> decoded.append('\n');
+                    case 'r' -> decoded.append('\r');
+                    case 't' -> decoded.append('\t');
+                    case 'u' -> {
+                        decoded.append((char) Integer.parseInt(raw, i + 1, i + 5, 16));
+                        i += 4;
+                    }
+                    default -> decoded.append(escape);
+                }
+            }
+            return decoded.toString();
+        }
+
+        private void violation(String problem) {
+            if (violations == null) {
+                violations = new ArrayList<>(4);
+            }
+            violations.add(path() + ": " + problem);
+            if (violations.size() == MAX_VIOLATIONS) {
+                throw new TooManyViolationsException();
+            }
+        }
+
+        MalformedJsonException malformed(String problem) {
+            return new MalformedJsonException(path() + ": malformed JSON at offset " + pos + ": " + problem);
+        }
+
+        private String path() {
+            StringBuilder path = new StringBuilder("$");
+            for (int i = 0; i < depth; i++) {
+                if (segmentEnd[i] < 0) {
+                    path.append('[').append(segmentStart[i]).append(']');
+                } else if (segmentEnd[i] > segmentStart[i] || i < depth - 1) {
+                    path.append('.').append(new String(json, segmentStart[i], segmentEnd[i] - segmentStart[i],
+                            StandardCharsets.UTF_8));
+                }
+            }
+            return path.toString();
+        }
+    }
+
+    /**
+     * Ends validation of a document that is not well-formed JSON
+     */
+    private static final class MalformedJsonException extends RuntimeException {
+
+        private static final long serialVersionUID = 1L;
+
+        MalformedJsonException(String message) {
+            super(message, null, false, false);
+        }
+    }
+
+    /**
+     * Ends validation once enough violations have been collected
+     */
+    private static final class TooManyViolationsException extends RuntimeException {
+
+        private static final long serialVersionUID = 1L;
+
+        TooManyViolationsException() {
+            super(null, null, false, false);
+        }
+    }
+}
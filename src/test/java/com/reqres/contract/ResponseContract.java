@@ -0,0 +1,108 @@
+package com.reqres.contract;
+
+import io.restassured.response.Response;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * ResponseContract Enum - The response schema of every api wrapper endpoint
+ *
+ * Each constant names one wrapper method of UserAPI, LoginAPI or RegisterAPI and the
+ * schema its responses must match (src/test/resources/schemas/*.schema.json).
+ * Schemas are read and compiled when this enum is first used and shared by all
+ * constants that name the same file, so every schema is compiled once per suite
+ * and validating a response costs one pass over its bytes.
+ *
+ * Usage:
+ * List<String> violations = ResponseContract.CREATE_USER.validate(response);
+ * assertTrue(violations.isEmpty(), "Contract violations: " + violations);
+ */
+public enum ResponseContract {
+
+    GET_ALL_USERS("UserAPI.getAllUsers", "user-list"),
+    GET_USER_BY_ID("UserAPI.getUserById", "user-get"),
+    GET_NON_EXISTENT_USER("UserAPI.getNonExistentUser", "user-get"),
+    CREATE_USER("UserAPI.createUser", "user-create"),
+    UPDATE_USER("UserAPI.updateUser", "user-update"),
+    PARTIAL_UPDATE_USER("UserAPI.partialUpdateUser", "user-update"),
+    DELETE_USER("UserAPI.deleteUser", "user-delete"),
+    LOGIN_WITH_VALID_CREDENTIALS("LoginAPI.loginWithValidCredentials", "credentials"),
+    LOGIN_WITHOUT_PASSWORD("LoginAPI.loginWithoutPassword", "credentials-without-password"),
+    LOGIN_WITH_EMPTY_CREDENTIALS("LoginAPI.loginWithEmptyCredentials", "credentials-empty"),
+    REGISTER_WITH_VALID_CREDENTIALS("RegisterAPI.registerWithValidCredentials", "credentials"),
+    REGISTER_WITHOUT_PASSWORD("RegisterAPI.registerWithoutPassword", "credentials-without-password"),
+    REGISTER_WITH_EMPTY_CREDENTIALS("RegisterAPI.registerWithEmptyCredentials", "credentials-empty");
+
+    private static final String SCHEMA_DIRECTORY = "schemas/";
+
+    private final String endpointName;
+    private final JsonSchema schema;
+
+    ResponseContract(String endpointName, String schemaName) {
+        this.endpointName = endpointName;
+        this.schema = Schemas.get(schemaName);
+    }
+
+    /**
+     * Validate a response body against this contract
+     *
+     * @param response RestAssured Response
+     * @return Violations, empty if the body matches
+     */
+    public List<String> validate(Response response) {
+        return schema.validate(response.asByteArray());
+    }
+
+    /**
+     * Validate raw response bytes against this contract
+     *
+     * @param body Response body
+     * @return Violations, empty if the body matches
+     */
+    public List<String> validate(byte[] body) {
+        return schema.validate(body);
+    }
+
+    /**
+     * Get the wrapper method this contract belongs to
+     *
+     * @return Endpoint name such as UserAPI.createUser
+     */
+    public String getEndpointName() {
+        return endpointName;
+    }
+
+    public JsonSchema getSchema() {
+        return schema;
+    }
+
+    /**
+     * Compiled schemas by file name; enum constructors cannot use the enum's own static fields
+     */
+    private static final class Schemas {
+
+        private static final Map<String, JsonSchema> COMPILED = new ConcurrentHashMap<>();
+
+        static JsonSchema get(String schemaName) {
+            return COMPILED.computeIfAbsent(schemaName, Schemas::load);
+        }
+
+        private static JsonSchema load(String schemaName) {
+            String resource = SCHEMA_DIRECTORY + schemaName + ".schema.json";
+            try (InputStream input = ResponseContract.class.getClassLoader().getResourceAsStream(resource)) {
+                if (input == null) {
+                    throw new IllegalStateException("Schema resource not found on classpath: " + resource);
+                }
+                return JsonSchema.compile(resource, new String(input.readAllBytes(), StandardCharsets.UTF_8));
+            } catch (IOException e) {
+                throw new UncheckedIOException("Could not read schema " + resource, e);
+            }
+        }
+    }
+}
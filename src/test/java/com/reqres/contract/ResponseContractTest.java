@@ -0,0 +1,90 @@
+package com.reqres.contract;
+
+import org.testng.annotations.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.testng.Assert.*;
+
+/**
+ * ResponseContractTest Class - Negative test cases for response contract validation
+ *
+ * Tests:
+ * - A body matching the contract has no violations
+ * - A property the schema does not declare is reported
+ * - A string below minLength is reported
+ * - A missing required property is reported
+ * - A value of the wrong type is reported
+ * - A truncated document is reported as malformed
+ * - Data after the document is reported as malformed
+ */
+public class ResponseContractTest {
+
+    private static final String USER_GET =
+            "{\"args\": {\"id\": \"2\"}, \"headers\": {\"Accept\": \"*/*\"}, \"origin\": \"127.0.0.1\", "
+                    + "\"url\": \"http://localhost/get?id=2\"}";
+
+    private static final String CREDENTIALS =
+            "{\"args\": {}, \"data\": \"{}\", \"files\": {}, \"form\": {}, "
+                    + "\"json\": {\"email\": \"eve.holt@reqres.in\", \"password\": \"cityslicka\"}, "
+                    + "\"headers\": {}, \"origin\": \"127.0.0.1\", \"url\": \"http://localhost/post\"}";
+
+    @Test(description = "Matching bodies have no violations")
+    public void matchingBodiesPass() {
+        assertEquals(validate(ResponseContract.GET_USER_BY_ID, USER_GET), List.of());
+        assertEquals(validate(ResponseContract.LOGIN_WITH_VALID_CREDENTIALS, CREDENTIALS), List.of());
+    }
+
+    @Test(description = "Undeclared property is reported")
+    public void extraPropertyIsReported() {
+        String body = USER_GET.replace("\"origin\"", "\"token\": \"abc\", \"origin\"");
+
+        assertEquals(validate(ResponseContract.GET_USER_BY_ID, body), List.of("$.token: property is not allowed"));
+    }
+
+    @Test(description = "String below minLength is reported")
+    public void shortStringIsReported() {
+        String body = USER_GET.replace("\"id\": \"2\"", "\"id\": \"\"");
+
+        assertEquals(validate(ResponseContract.GET_USER_BY_ID, body), List.of("$.args.id: string shorter than 1"));
+    }
+
+    @Test(description = "Missing required property is reported")
+    public void missingPropertyIsReported() {
+        String body = CREDENTIALS.replace(", \"password\": \"cityslicka\"", "");
+
+        assertEquals(validate(ResponseContract.LOGIN_WITH_VALID_CREDENTIALS, body),
+                List.of("$.json: missing required property 'password'"));
+    }
+
+    @Test(description = "Value of the wrong type is reported")
+    public void typeMismatchIsReported() {
+        String body = USER_GET.replace("\"origin\": \"127.0.0.1\"", "\"origin\": 127");
+
+        assertEquals(validate(ResponseContract.GET_USER_BY_ID, body), List.of("$.origin: expected string, found integer"));
+    }
+
+    @Test(description = "Truncated document is reported as malformed")
+    public void truncatedDocumentIsReported() {
+        String body = USER_GET.substring(0, USER_GET.indexOf("\"url\""));
+
+        List<String> violations = validate(ResponseContract.GET_USER_BY_ID, body);
+
+        assertEquals(violations.size(), 1, "One violation expected: " + violations);
+        assertTrue(violations.get(0).contains("malformed JSON at offset " + body.length()),
+                "Truncation should be reported where the input ends: " + violations);
+    }
+
+    @Test(description = "Data after the document is reported as malformed")
+    public void trailingDataIsReported() {
+        List<String> violations = validate(ResponseContract.GET_USER_BY_ID, USER_GET + " {}");
+
+        assertEquals(violations, List.of("$: malformed JSON at offset " + (USER_GET.length() + 1)
+                + ": unexpected data after the document"));
+    }
+
+    private static List<String> validate(ResponseContract contract, String body) {
+        return contract.validate(body.getBytes(StandardCharsets.UTF_8));
+    }
+}
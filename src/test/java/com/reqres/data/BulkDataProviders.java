@@ -0,0 +1,72 @@
+package com.reqres.data;
+
+import org.testng.annotations.DataProvider;
+import com.reqres.config.ConfigReader;
+
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Iterator;
+
+/**
+ * BulkDataProviders Class - Parallel, streaming TestNG data providers backed by dataset files
+ *
+ * Each provider returns a lazy {@link MappedDatasetIterator}, so the provider itself
+ * never holds the dataset. Rows are spread over the suite's data-provider-thread-count threads.
+ * Note that TestNG turns every row of a parallel provider into a queued invocation and a
+ * test result, so for runs with millions of rows cap the run with data.limit.
+ *
+ * Datasets (a file path, or a resource on the test classpath):
+ * - data.users       - CSV or JSONL with "name" and "job" columns
+ * - data.credentials - CSV or JSONL with "email" and "password" columns
+ * - data.limit       - Maximum rows per provider, 0 for all
+ *
+ * Usage:
+ * {@literal @}Test(dataProvider = "users", dataProviderClass = BulkDataProviders.class)
+ */
+public class BulkDataProviders {
+
+    private static final String USERS_PROPERTY = "data.users";
+    private static final String CREDENTIALS_PROPERTY = "data.credentials";
+
+    /**
+     * Rows of (name, job)
+     *
+     * @return Lazy row iterator
+     */
+    @DataProvider(name = "users", parallel = true)
+    public static Iterator<Object[]> users() {
+        return open(USERS_PROPERTY, "name", "job");
+    }
+
+    /**
+     * Rows of (email, password)
+     *
+     * @return Lazy row iterator
+     */
+    @DataProvider(name = "credentials", parallel = true)
+    public static Iterator<Object[]> credentials() {
+        return open(CREDENTIALS_PROPERTY, "email", "password");
+    }
+
+    private static Iterator<Object[]> open(String property, String... columns) {
+        return new MappedDatasetIterator(resolve(ConfigReader.getRequired(property)), ConfigReader.getDataLimit(), columns);
+    }
+
+    private static Path resolve(String location) {
+        Path path = Path.of(location);
+        if (Files.isRegularFile(path)) {
+            return path;
+        }
+        URL resource = BulkDataProviders.class.getClassLoader().getResource(location);
+        if (resource == null) {
+            throw new IllegalArgumentException("Dataset not found as a file or test resource: " + location);
+        }
+        try {
+            return Path.of(resource.toURI());
+        } catch (URISyntaxException e) {
+            throw new IllegalArgumentException("Dataset resource is not a file: " + resource, e);
+        }
+    }
+}
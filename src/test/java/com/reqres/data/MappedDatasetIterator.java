@@ -0,0 +1,292 @@
+package com.reqres.data;
+
+import org.apache.logging.log4j.Logger;
+import org.json.simple.JSONObject;
+import org.json.simple.parser.JSONParser;
+import org.json.simple.parser.ParseException;
+import com.reqres.utils.LoggerUtil;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.NoSuchElementException;
+
+/**
+ * MappedDatasetIterator Class - Streams rows of a CSV or JSONL file through a memory-mapped window
+ *
+ * This class provides:
+ * - Lazy row-by-row reading: only the current window of the file is mapped, never the whole dataset
+ * - CSV files with a header line (double-quoted fields, "" as an escaped quote)
+ * - JSONL files with one flat JSON object per line
+ * - Selection of named columns, returned in the requested order as TestNG parameter rows
+ * - A throughput counter (rows, bytes, rows per second and time spent reading)
+ *
+ * The format is chosen by file extension (.csv or .jsonl). Blank lines are skipped.
+ * CSV fields may not contain line breaks. Missing JSONL fields become null.
+ *
+ * Not thread-safe: TestNG pulls rows from a single thread even for parallel data providers.
+ */
+public class MappedDatasetIterator implements Iterator<Object[]>, AutoCloseable {
+
+    private static final Logger logger = LoggerUtil.getLogger(MappedDatasetIterator.class);
+
+    private static final long WINDOW_SIZE = 32L * 1024 * 1024;
+
+    private final Path file;
+    private final String[] columns;
+    private final boolean csv;
+    private final long limit;
+    private final FileChannel channel;
+    private final long fileSize;
+
+    private MappedByteBuffer window;
+    private long windowStart;
+    private byte[] lineBuffer = new byte[256];
+    private int[] columnIndexes;
+    private JSONParser jsonParser;
+
+    private Object[] nextRow;
+    private boolean finished;
+
+    private long rows;
+    private long bytes;
+    private long readNanos;
+    private long firstRowNanos;
+
+    /**
+     * Open a dataset
+     *
+     * @param file CSV or JSONL file
+     * @param limit Maximum number of rows to return, 0 for all
+     * @param columns Columns to return, in parameter order
+     */
+    public MappedDatasetIterator(Path file, long limit, String... columns) {
+        String name = file.getFileName().toString().toLowerCase(Locale.ROOT);
+        if (!name.endsWith(".csv") && !name.endsWith(".jsonl")) {
+            throw new IllegalArgumentException("Dataset must be a .csv or .jsonl file: " + file);
+        }
+        if (columns.length == 0) {
+            throw new IllegalArgumentException("At least one column is required");
+        }
+        if (limit < 0) {
+            throw new IllegalArgumentException("Row limit must be 0 (all rows) or more but was " + limit);
+        }
+        this.file = file;
+        this.columns = columns.clone();
+        this.csv = name.endsWith(".csv");
+        this.limit = limit;
+        try {
+            this.channel = FileChannel.open(file, StandardOpenOption.READ);
+            this.fileSize = channel.size();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not open dataset " + file, e);
+        }
+        if (csv) {
+            readHeader();
+        } else {
+            jsonParser = new JSONParser();
+        }
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (nextRow == null && !finished) {
+            long start = System.nanoTime();
+            if (firstRowNanos == 0) {
+                firstRowNanos = start;
+            }
+            nextRow = readRow();
+            readNanos += System.nanoTime() - start;
+            if (nextRow == null) {
+                finish();
+            }
+        }
+        return nextRow != null;
+    }
+
+    @Override
+    public Object[] next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException("Dataset " + file + " is exhausted");
+        }
+        Object[] row = nextRow;
+        nextRow = null;
+        rows++;
+        return row;
+    }
+
+    public long getRows() {
+        return rows;
+    }
+
+    public long getBytes() {
+        return bytes;
+    }
+
+    /**
+     * Get the rate at which rows could be produced, counting only time spent reading
+     *
+     * @return Rows per second of reader time
+     */
+    public double getRowsPerSecond() {
+        return readNanos == 0 ? 0 : rows * 1e9 / readNanos;
+    }
+
+    @Override
+    public void close() {
+        finished = true;
+        nextRow = null;
+        window = null;
+        try {
+            channel.close();
+        } catch (IOException e) {
+            logger.warn("Could not close dataset {}: {}", file, e.toString());
+        }
+    }
+
+    private void finish() {
+        close();
+        long wallNanos = firstRowNanos == 0 ? 0 : System.nanoTime() - firstRowNanos;
+        logger.info("Dataset {}: {} rows, {} KB, {} rows/s of reader time, reader busy {}% of {} ms",
+                file.getFileName(), rows, bytes / 1024, Math.round(getRowsPerSecond()),
+                wallNanos == 0 ? 0 : Math.round(readNanos * 100.0 / wallNanos), wallNanos / 1_000_000);
+    }
+
+    private Object[] readRow() {
+        while (limit == 0 || rows < limit) {
+            int length = readLine();
+            if (length < 0) {
+                return null;
+            }
+            if (length == 0) {
+                continue;
+            }
+            String line = new String(lineBuffer, 0, length, StandardCharsets.UTF_8);
+            return csv ? csvRow(line) : jsonRow(line);
+        }
+        return null;
+    }
+
+    private void readHeader() {
+        int length = readLine();
+        if (length <= 0) {
+            throw new IllegalArgumentException("CSV dataset has no header line: " + file);
+        }
+        List<String> header = parseCsv(new String(lineBuffer, 0, length, StandardCharsets.UTF_8));
+        columnIndexes = new int[columns.length];
+        for (int i = 0; i < columns.length; i++) {
+            columnIndexes[i] = header.indexOf(columns[i]);
+            if (columnIndexes[i] < 0) {
+                throw new IllegalArgumentException("CSV dataset " + file + " has no column '" + columns[i] + "': " + header);
+            }
+        }
+    }
+
+    private Object[] csvRow(String line) {
+        List<String> fields = parseCsv(line);
+        Object[] row = new Object[columns.length];
+        for (int i = 0; i < columns.length; i++) {
+            int index = columnIndexes[i];
+            row[i] = index < fields.size() ? fields.get(index) : null;
+        }
+        return row;
+    }
+
+    private Object[] jsonRow(String line) {
+        Object parsed;
+        try {
+            parsed = jsonParser.parse(line);
+        } catch (ParseException e) {
+            throw new IllegalArgumentException("Invalid JSON on row " + (rows + 1) + " of " + file, e);
+        }
+        if (!(parsed instanceof JSONObject)) {
+            throw new IllegalArgumentException("Row " + (rows + 1) + " of " + file + " is not a JSON object");
+        }
+        JSONObject object = (JSONObject) parsed;
+        Object[] row = new Object[columns.length];
+        for (int i = 0; i < columns.length; i++) {
+            Object value = object.get(columns[i]);
+            row[i] = value == null ? null : value.toString();
+        }
+        return row;
+    }
+
+    private static List<String> parseCsv(String line) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    field.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    field.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+
+    /**
+     * Copy the next line (without its terminator) into lineBuffer
+     *
+     * @return Line length, or -1 at end of file
+     */
+    private int readLine() {
+        int length = 0;
+        boolean sawByte = false;
+        while (true) {
+            if (window == null || !window.hasRemaining()) {
+                long nextStart = window == null ? 0 : windowStart + window.limit();
+                if (nextStart >= fileSize) {
+                    return sawByte ? trimCarriageReturn(length) : -1;
+                }
+                map(nextStart);
+            }
+            byte b = window.get();
+            bytes++;
+            sawByte = true;
+            if (b == '\n') {
+                return trimCarriageReturn(length);
+            }
+            if (length == lineBuffer.length) {
+                lineBuffer = Arrays.copyOf(lineBuffer, length * 2);
+            }
+            lineBuffer[length++] = b;
+        }
+    }
+
+    private int trimCarriageReturn(int length) {
+        return length > 0 && lineBuffer[length - 1] == '\r' ? length - 1 : length;
+    }
+
+    private void map(long start) {
+        try {
+            window = channel.map(FileChannel.MapMode.READ_ONLY, start, Math.min(WINDOW_SIZE, fileSize - start));
+            windowStart = start;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not map dataset " + file + " at offset " + start, e);
+        }
+    }
+}
@@ -0,0 +1,226 @@
+package com.reqres.filters;
+
+import io.restassured.filter.FilterContext;
+import io.restassured.filter.OrderedFilter;
+import io.restassured.http.Header;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.FilterableResponseSpecification;
+import com.reqres.config.ConfigReader;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.function.Supplier;
+
+/**
+ * BufferedExchangeLoggingFilter Class - Records request/response exchanges without printing them
+ *
+ * This class provides:
+ * - A bounded buffer per test holding its most recent exchanges, bound to the test's thread
+ * - Request line, headers and body plus status line, headers and body for each exchange
+ * - Bodies truncated to a configured length so one large payload cannot flood the log
+ *
+ * Nothing is rendered while the test runs: the buffer keeps references to the request
+ * specifications and responses (the pooled client has already buffered the bodies).
+ * BaseTest drains, and so renders, the buffer only when the test failed or was picked
+ * by the sampling rate; otherwise the buffer is discarded.
+ *
+ * Requests a test sends from other threads are recorded only if the work is run under
+ * {@link #recordInto} with the test's {@link #currentBuffer()}; ConcurrentAPI and the
+ * hedges of IdempotentRequestExecutor do this. AsyncHttpEngine sends through
+ * java.net.http, so its exchanges never pass this filter and are not recorded.
+ *
+ * System properties (see {@link ConfigReader}):
+ * - log.exchanges.maxEntries   - Exchanges kept per test, oldest dropped first (default 16)
+ * - log.exchanges.maxBodyChars - Characters kept per body (default 4096)
+ */
+public class BufferedExchangeLoggingFilter implements OrderedFilter {
+
+    private static final BufferedExchangeLoggingFilter INSTANCE = new BufferedExchangeLoggingFilter();
+
+    private static final ThreadLocal<ExchangeBuffer> BUFFER = ThreadLocal.withInitial(ExchangeBuffer::new);
+
+    private final int maxEntries;
+    private final int maxBodyChars;
+
+    private BufferedExchangeLoggingFilter() {
+        this.maxEntries = ConfigReader.getExchangeLogMaxEntries();
+        this.maxBodyChars = ConfigReader.getExchangeLogMaxBodyChars();
+    }
+
+    /**
+     * Get the shared filter instance (the filter is stateless; buffers are per thread)
+     *
+     * @return BufferedExchangeLoggingFilter
+     */
+    public static BufferedExchangeLoggingFilter getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Discard everything recorded on the current thread
+     */
+    public static void clear() {
+        BUFFER.get().clear();
+    }
+
+    /**
+     * Get the buffer the current thread records into, to hand to work on other threads
+     *
+     * @return ExchangeBuffer of the current thread
+     */
+    public static ExchangeBuffer currentBuffer() {
+        return BUFFER.get();
+    }
+
+    /**
+     * Run a call on the current thread recording its exchanges into another thread's buffer
+     *
+     * @param buffer Buffer from {@link #currentBuffer()} on the thread that owns the test
+     * @param call The request(s) to run
+     * @return Result of the call
+     */
+    public static <T> T recordInto(ExchangeBuffer buffer, Supplier<T> call) {
+        ExchangeBuffer previous = BUFFER.get();
+        BUFFER.set(buffer);
+        try {
+            return call.get();
+        } finally {
+            BUFFER.set(previous);
+        }
+    }
+
+    /**
+     * Remove and return everything recorded on the current thread
+     *
+     * @return Recorded exchanges, or an empty string when nothing was recorded
+     */
+    public static String drain() {
+        ExchangeBuffer buffer = BUFFER.get();
+        String exchanges = buffer.render(INSTANCE.maxBodyChars);
+        buffer.clear();
+        return exchanges;
+    }
+
+    @Override
+    public Response filter(FilterableRequestSpecification requestSpec,
+                           FilterableResponseSpecification responseSpec,
+                           FilterContext ctx) {
+        Exchange exchange = new Exchange(requestSpec);
+        BUFFER.get().add(exchange, maxEntries);
+        try {
+            exchange.response = ctx.next(requestSpec, responseSpec);
+            return exchange.response;
+        } catch (RuntimeException e) {
+            exchange.failure = e;
+            throw e;
+        }
+    }
+
+    @Override
+    public int getOrder() {
+        // Run after filters that modify the request, but outside the response cache,
+        // RequestTimingFilter and CassetteFilter so recording is not counted as request latency
+        return LOWEST_PRECEDENCE - 3;
+    }
+
+    private static void appendRequest(StringBuilder out, FilterableRequestSpecification request, int maxBodyChars) {
+        out.append(">>> ").append(request.getMethod()).append(' ').append(request.getURI()).append('\n');
+        for (Header header : request.getHeaders()) {
+            out.append(header.getName()).append(": ").append(header.getValue()).append('\n');
+        }
+        Object body = request.getBody();
+        if (body != null) {
+            String text = body instanceof byte[]
+                    ? new String((byte[]) body, StandardCharsets.UTF_8)
+                    : body.toString();
+            appendBody(out, text, maxBodyChars);
+        }
+    }
+
+    private static void appendResponse(StringBuilder out, Response response, int maxBodyChars) {
+        out.append("<<< ").append(response.getStatusLine()).append('\n');
+        for (Header header : response.getHeaders()) {
+            out.append(header.getName()).append(": ").append(header.getValue()).append('\n');
+        }
+        appendBody(out, response.asString(), maxBodyChars);
+    }
+
+    private static void appendBody(StringBuilder out, String body, int maxBodyChars) {
+        if (body.isEmpty()) {
+            return;
+        }
+        out.append('\n');
+        if (body.length() > maxBodyChars) {
+            out.append(body, 0, maxBodyChars)
+                    .append("... [").append(body.length() - maxBodyChars).append(" more chars]");
+        } else {
+            out.append(body);
+        }
+        out.append('\n');
+    }
+
+    /**
+     * One request and its outcome, kept by reference until the buffer is drained
+     */
+    private static final class Exchange {
+
+        private final FilterableRequestSpecification request;
+        private Response response;
+        private RuntimeException failure;
+
+        Exchange(FilterableRequestSpecification request) {
+            this.request = request;
+        }
+
+        void render(StringBuilder out, int maxBodyChars) {
+            appendRequest(out, request, maxBodyChars);
+            if (response != null) {
+                appendResponse(out, response, maxBodyChars);
+            } else if (failure != null) {
+                out.append("<<< ").append(failure).append('\n');
+            }
+        }
+    }
+
+    /**
+     * Most recent exchanges of one test, bounded by entry count
+     * Shared with the threads a test hands it to, so access is synchronized
+     */
+    public static final class ExchangeBuffer {
+
+        private final ArrayDeque<Exchange> exchanges = new ArrayDeque<>();
+        private int dropped;
+
+        private ExchangeBuffer() {
+        }
+
+        synchronized void add(Exchange exchange, int maxEntries) {
+            if (exchanges.size() == maxEntries) {
+                exchanges.removeFirst();
+                dropped++;
+            }
+            exchanges.addLast(exchange);
+        }
+
+        synchronized String render(int maxBodyChars) {
+            if (exchanges.isEmpty()) {
+                return "";
+            }
+            StringBuilder out = new StringBuilder();
+            if (dropped > 0) {
+                out.append("[").append(dropped).append(" earlier exchanges dropped]\n\n");
+            }
+            for (Exchange exchange : exchanges) {
+                exchange.render(out, maxBodyChars);
+                out.append('\n');
+            }
+            return out.toString();
+        }
+
+        synchronized void clear() {
+            exchanges.clear();
+            dropped = 0;
+        }
+    }
+}
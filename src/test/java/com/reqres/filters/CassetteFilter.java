@@ -0,0 +1,168 @@
+package com.reqres.filters;
+
+import io.restassured.filter.FilterContext;
+import io.restassured.filter.OrderedFilter;
+import io.restassured.http.Header;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.FilterableResponseSpecification;
+import com.reqres.cassette.Cassette;
+import com.reqres.config.ConfigReader;
+
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * CassetteFilter Class - Records exchanges to, or replays them from, a {@link Cassette}
+ *
+ * Modes (cassette.mode):
+ * - off    - Pass-through (default)
+ * - record - Send the request and record the response; cassette.file is replaced
+ *            with this run's exchanges when the suite closes the filter
+ * - replay - Answer from cassette.file without touching the network; an unrecorded
+ *            request fails with IllegalStateException
+ *
+ * Requests are matched on method, path, query parameters sorted by name and value,
+ * and a SHA-256 hash of the body. Host and port are ignored, so a cassette recorded
+ * against the embedded stub replays regardless of the port it ran on.
+ *
+ * Runs innermost, so timing, logging, retries and assertions see replayed
+ * responses exactly like live ones.
+ */
+public class CassetteFilter implements OrderedFilter {
+
+    private static final CassetteFilter INSTANCE = new CassetteFilter();
+
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+    private final String mode;
+    private final Cassette cassette;
+
+    private CassetteFilter() {
+        this(ConfigReader.getCassetteMode(), Path.of(ConfigReader.getCassetteFile()));
+    }
+
+    /**
+     * Create a filter over its own cassette
+     *
+     * @param mode off, record or replay
+     * @param file Cassette file
+     */
+    CassetteFilter(String mode, Path file) {
+        this.mode = mode;
+        if (mode.equals("record")) {
+            this.cassette = Cassette.openForRecording(file);
+        } else if (mode.equals("replay")) {
+            this.cassette = Cassette.openForReplay(file);
+        } else {
+            this.cassette = null;
+        }
+    }
+
+    /**
+     * Get the shared filter instance
+     *
+     * @return CassetteFilter
+     */
+    public static CassetteFilter getInstance() {
+        return INSTANCE;
+    }
+
+    @Override
+    public Response filter(FilterableRequestSpecification requestSpec,
+                           FilterableResponseSpecification responseSpec,
+                           FilterContext ctx) {
+        if (cassette == null) {
+            return ctx.next(requestSpec, responseSpec);
+        }
+
+        String key = keyOf(requestSpec);
+        if (mode.equals("replay")) {
+            Cassette.RecordedResponse recorded = cassette.replay(key);
+            if (recorded == null) {
+                throw new IllegalStateException("No recorded exchange for " + key);
+            }
+            return toResponse(recorded);
+        }
+
+        Response response = ctx.next(requestSpec, responseSpec);
+        StringBuilder headers = new StringBuilder();
+        for (Header header : response.getHeaders()) {
+            headers.append(header.getName()).append(": ").append(header.getValue()).append('\n');
+        }
+        cassette.record(key, new Cassette.RecordedResponse(
+                response.getStatusCode(), response.getStatusLine(), headers.toString(), response.asByteArray()));
+        return response;
+    }
+
+    /**
+     * Finish recording, writing the cassette file; does nothing unless recording
+     */
+    public void close() {
+        if (cassette != null) {
+            cassette.close();
+        }
+    }
+
+    @Override
+    public int getOrder() {
+        return LOWEST_PRECEDENCE;
+    }
+
+    private static Response toResponse(Cassette.RecordedResponse recorded) {
+        List<Header> headers = new ArrayList<>();
+        for (String line : recorded.getHeaders().split("\n")) {
+            int colon = line.indexOf(':');
+            if (colon > 0) {
+                headers.add(new Header(line.substring(0, colon), line.substring(colon + 1).trim()));
+            }
+        }
+        return new StoredResponse(recorded.getStatusCode(), recorded.getStatusLine(), headers, recorded.getBody())
+                .toResponse();
+    }
+
+    /**
+     * Build the match key: "METHOD /path?a=1&b=2 #bodyhash"
+     */
+    static String keyOf(FilterableRequestSpecification requestSpec) {
+        URI uri = URI.create(requestSpec.getURI());
+        String path = uri.getRawPath() == null || uri.getRawPath().isEmpty() ? "/" : uri.getRawPath();
+        StringBuilder key = new StringBuilder(64)
+                .append(requestSpec.getMethod().toUpperCase(Locale.ROOT)).append(' ').append(path);
+        String query = uri.getRawQuery();
+        if (query != null && !query.isEmpty()) {
+            String[] parameters = query.split("&");
+            Arrays.sort(parameters);
+            key.append('?').append(String.join("&", parameters));
+        }
+        key.append(" #").append(bodyHash(requestSpec.getBody()));
+        return key.toString();
+    }
+
+    private static String bodyHash(Object body) {
+        if (body == null) {
+            return "-";
+        }
+        byte[] bytes = body instanceof byte[]
+                ? (byte[]) body
+                : body.toString().getBytes(StandardCharsets.UTF_8);
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(bytes);
+            char[] hex = new char[16];
+            for (int i = 0; i < 8; i++) {
+                hex[i * 2] = HEX[(digest[i] >> 4) & 0xF];
+                hex[i * 2 + 1] = HEX[digest[i] & 0xF];
+            }
+            return new String(hex);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+}
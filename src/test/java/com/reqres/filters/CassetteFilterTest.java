@@ -0,0 +1,144 @@
+package com.reqres.filters;
+
+import io.restassured.RestAssured;
+import io.restassured.builder.RequestSpecBuilder;
+import io.restassured.response.Response;
+import io.restassured.specification.RequestSpecification;
+import org.testng.SkipException;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+import org.apache.logging.log4j.Logger;
+import com.reqres.base.BaseTest;
+import com.reqres.config.ConfigReader;
+import com.reqres.stub.HttpbinStubServer;
+import com.reqres.utils.LoggerUtil;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+import static org.testng.Assert.*;
+
+/**
+ * CassetteFilterTest Class - Test cases for recording and replaying cassettes
+ *
+ * Each test records against a private stub into a temporary cassette, stops the stub
+ * and replays with nothing listening.
+ *
+ * Tests:
+ * - Recorded exchanges replay offline with their status and body; an unrecorded request fails
+ * - Recording again replaces the earlier cassette instead of appending to it
+ */
+@Test(singleThreaded = true)
+public class CassetteFilterTest extends BaseTest {
+
+    private static final Logger logger = LoggerUtil.getLogger(CassetteFilterTest.class);
+
+    private Path directory;
+    private Path file;
+
+    @BeforeMethod(alwaysRun = true)
+    public void createCassetteDirectory() throws IOException {
+        if (!ConfigReader.getCassetteMode().equals("off")) {
+            throw new SkipException("The shared cassette filter would answer before the one under test");
+        }
+        directory = Files.createTempDirectory("cassette-test");
+        file = directory.resolve("test.cassette");
+    }
+
+    @AfterMethod(alwaysRun = true)
+    public void deleteCassetteDirectory() throws IOException {
+        if (directory != null) {
+            try (Stream<Path> files = Files.list(directory)) {
+                for (Path path : files.toList()) {
+                    Files.delete(path);
+                }
+            }
+            Files.delete(directory);
+        }
+    }
+
+    /**
+     * Test that recorded exchanges replay without the server
+     * Validates:
+     * - Every recorded request replays with its status code and body
+     * - No temporary recording file is left behind
+     * - A request that was never recorded fails with IllegalStateException
+     */
+    @Test(description = "Recorded exchanges replay offline; unrecorded requests fail")
+    public void recordedExchangesReplayOffline() {
+        Map<String, Response> recorded = new LinkedHashMap<>();
+        String baseUri = record(spec -> {
+            recorded.put("page=1", RestAssured.given(spec).queryParam("page", 1).get("/get"));
+            recorded.put("page=2", RestAssured.given(spec).queryParam("page", 2).get("/get"));
+            recorded.put("post", RestAssured.given(spec).body("{\"name\": \"Cassette\"}").post("/post"));
+        });
+
+        assertEquals(directory.toFile().list(), new String[] {"test.cassette"}, "Only the cassette should remain");
+
+        CassetteFilter replay = new CassetteFilter("replay", file);
+        RequestSpecification spec = new RequestSpecBuilder().setBaseUri(baseUri).addFilter(replay).build();
+        Map<String, Response> replayed = new LinkedHashMap<>();
+        replayed.put("page=1", RestAssured.given(spec).queryParam("page", 1).get("/get"));
+        replayed.put("page=2", RestAssured.given(spec).queryParam("page", 2).get("/get"));
+        replayed.put("post", RestAssured.given(spec).body("{\"name\": \"Cassette\"}").post("/post"));
+
+        recorded.forEach((name, response) -> {
+            assertEquals(replayed.get(name).getStatusCode(), response.getStatusCode(), name + " status should replay");
+            assertEquals(replayed.get(name).asString(), response.asString(), name + " body should replay");
+        });
+
+        IllegalStateException error = expectThrows(IllegalStateException.class,
+                () -> RestAssured.given(spec).queryParam("page", 3).get("/get"));
+        logger.info("Unrecorded request on replay -> {}", error.getMessage());
+        assertTrue(error.getMessage().startsWith("No recorded exchange for GET /get?page=3"),
+                "Error should name the request: " + error.getMessage());
+    }
+
+    /**
+     * Test that a new recording replaces the old one
+     * Validates:
+     * - Requests only in the first recording no longer replay
+     */
+    @Test(description = "Recording again replaces the earlier cassette")
+    public void recordingReplacesEarlierCassette() {
+        record(spec -> RestAssured.given(spec).queryParam("run", 1).get("/get"));
+        String baseUri = record(spec -> RestAssured.given(spec).queryParam("run", 2).get("/get"));
+
+        RequestSpecification spec = new RequestSpecBuilder()
+                .setBaseUri(baseUri)
+                .addFilter(new CassetteFilter("replay", file))
+                .build();
+
+        assertEquals(RestAssured.given(spec).queryParam("run", 2).get("/get").getStatusCode(), 200,
+                "The latest recording should replay");
+        expectThrows(IllegalStateException.class, () -> RestAssured.given(spec).queryParam("run", 1).get("/get"));
+    }
+
+    /**
+     * Record the requests of an action against a private stub, then stop the stub
+     *
+     * @return Base URI the stub listened on
+     */
+    private String record(Consumer<RequestSpecification> requests) {
+        HttpbinStubServer stub = new HttpbinStubServer();
+        stub.start();
+        CassetteFilter recorder = new CassetteFilter("record", file);
+        try {
+            requests.accept(new RequestSpecBuilder()
+                    .addRequestSpecification(requestSpec())
+                    .setBaseUri(stub.getBaseURI())
+                    .addFilter(recorder)
+                    .build());
+        } finally {
+            recorder.close();
+            stub.stop();
+        }
+        return stub.getBaseURI();
+    }
+}
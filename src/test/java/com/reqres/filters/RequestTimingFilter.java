@@ -0,0 +1,159 @@
+package com.reqres.filters;
+
+import io.restassured.filter.FilterContext;
+import io.restassured.filter.OrderedFilter;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.FilterableResponseSpecification;
+import org.HdrHistogram.Histogram;
+import com.reqres.utils.LatencyHistograms;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * RequestTimingFilter Class - Records the latency and size of every HTTP exchange
+ *
+ * This class provides:
+ * - One HdrHistogram (microseconds) per method, path and status code
+ * - Request and response byte counts per method, path and status code
+ * - JVM-wide aggregation that is safe to record into from parallel test threads
+ *
+ * Only the exchange itself is timed: the filter runs innermost, after the other
+ * filters, so logging, assertions and body parsing are not part of the numbers.
+ * Exchanges that fail without a response are recorded under status 0.
+ *
+ * A thread can additionally capture its own exchanges into a private histogram
+ * between {@link #startCapture()} and {@link #stopCapture()}; LatencyBudgetListener
+ * uses this to measure the calls made by a single test.
+ *
+ * BaseTest publishes a {@link RequestTimingReport} at the end of the suite.
+ */
+public class RequestTimingFilter implements OrderedFilter {
+
+    /** Status recorded for exchanges that ended in an exception */
+    public static final int NO_RESPONSE = 0;
+
+    private static final RequestTimingFilter INSTANCE = new RequestTimingFilter();
+
+    private static final ThreadLocal<Histogram> CAPTURE = new ThreadLocal<>();
+
+    private final ConcurrentMap<String, ConcurrentMap<Integer, ExchangeRecorder>> endpoints = new ConcurrentHashMap<>();
+
+    private RequestTimingFilter() {
+    }
+
+    /**
+     * Get the shared filter instance
+     *
+     * @return RequestTimingFilter
+     */
+    public static RequestTimingFilter getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Start capturing the latency of exchanges made by the current thread
+     */
+    public static void startCapture() {
+        CAPTURE.set(LatencyHistograms.create());
+    }
+
+    /**
+     * Stop capturing on the current thread
+     *
+     * @return Latencies in microseconds captured since {@link #startCapture()}, empty if none
+     */
+    public static Histogram stopCapture() {
+        Histogram captured = CAPTURE.get();
+        CAPTURE.remove();
+        return captured != null ? captured : LatencyHistograms.create();
+    }
+
+    @Override
+    public Response filter(FilterableRequestSpecification requestSpec,
+                           FilterableResponseSpecification responseSpec,
+                           FilterContext ctx) {
+        long start = System.nanoTime();
+        Response response = null;
+        try {
+            response = ctx.next(requestSpec, responseSpec);
+            return response;
+        } finally {
+            record(requestSpec.getMethod() + " " + requestSpec.getUserDefinedPath(),
+                    response == null ? NO_RESPONSE : response.getStatusCode(),
+                    System.nanoTime() - start,
+                    requestBytes(requestSpec.getBody()),
+                    response == null ? 0 : response.asByteArray().length);
+        }
+    }
+
+    /**
+     * Record an exchange sent outside the RestAssured filter chain (e.g. by the async engine)
+     *
+     * @param endpoint Method and path, e.g. "POST /post"
+     * @param status Status code, or {@link #NO_RESPONSE}
+     * @param latencyNanos Time from sending the request to receiving the response
+     * @param requestBytes Request body size
+     * @param responseBytes Response body size
+     */
+    public void record(String endpoint, int status, long latencyNanos, long requestBytes, long responseBytes) {
+        long latencyMicros = LatencyHistograms.toMicros(latencyNanos);
+        ExchangeRecorder recorder = endpoints
+                .computeIfAbsent(endpoint, key -> new ConcurrentHashMap<>())
+                .computeIfAbsent(status, key -> new ExchangeRecorder());
+        recorder.histogram.recordValue(latencyMicros);
+        recorder.requestBytes.add(requestBytes);
+        recorder.responseBytes.add(responseBytes);
+        Histogram captured = CAPTURE.get();
+        if (captured != null) {
+            captured.recordValue(latencyMicros);
+        }
+    }
+
+    @Override
+    public int getOrder() {
+        // Only CassetteFilter runs closer to the wire, so replayed exchanges are timed too
+        return LOWEST_PRECEDENCE - 1;
+    }
+
+    /**
+     * Take a snapshot of everything recorded so far
+     *
+     * @return RequestTimingReport sorted by endpoint and status code
+     */
+    public RequestTimingReport getReport() {
+        Map<String, Map<Integer, RequestTimingReport.StatusResult>> results = new TreeMap<>();
+        for (Map.Entry<String, ConcurrentMap<Integer, ExchangeRecorder>> endpoint : endpoints.entrySet()) {
+            Map<Integer, RequestTimingReport.StatusResult> statuses = new TreeMap<>();
+            for (Map.Entry<Integer, ExchangeRecorder> status : endpoint.getValue().entrySet()) {
+                ExchangeRecorder recorder = status.getValue();
+                statuses.put(status.getKey(), new RequestTimingReport.StatusResult(
+                        recorder.histogram.copy(), recorder.requestBytes.sum(), recorder.responseBytes.sum()));
+            }
+            results.put(endpoint.getKey(), statuses);
+        }
+        return new RequestTimingReport(results);
+    }
+
+    private static long requestBytes(Object body) {
+        if (body == null) {
+            return 0;
+        }
+        if (body instanceof byte[]) {
+            return ((byte[]) body).length;
+        }
+        return body.toString().getBytes(StandardCharsets.UTF_8).length;
+    }
+
+    private static final class ExchangeRecorder {
+
+        private final Histogram histogram = LatencyHistograms.createConcurrent();
+        private final LongAdder requestBytes = new LongAdder();
+        private final LongAdder responseBytes = new LongAdder();
+    }
+}
@@ -0,0 +1,126 @@
+package com.reqres.filters;
+
+import org.HdrHistogram.Histogram;
+import org.json.simple.JSONValue;
+import com.reqres.utils.LatencyHistograms;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * RequestTimingReport Class - Aggregated exchange timings recorded by {@link RequestTimingFilter}
+ *
+ * Reports per endpoint ("METHOD /path") and status code: request count,
+ * latency percentiles (p50/p90/p99/p99.9, mean and max in milliseconds)
+ * and request/response byte totals
+ */
+public class RequestTimingReport {
+
+    private final Map<String, Map<Integer, StatusResult>> endpoints;
+
+    RequestTimingReport(Map<String, Map<Integer, StatusResult>> endpoints) {
+        this.endpoints = endpoints;
+    }
+
+    public Map<String, Map<Integer, StatusResult>> getEndpoints() {
+        return endpoints;
+    }
+
+    /**
+     * Get the total number of recorded exchanges
+     *
+     * @return Exchange count
+     */
+    public long getTotalRequests() {
+        return endpoints.values().stream()
+                .flatMap(statuses -> statuses.values().stream())
+                .mapToLong(StatusResult::getCount)
+                .sum();
+    }
+
+    /**
+     * Render the report as a JSON document
+     *
+     * @return JSON string
+     */
+    public String toJson() {
+        Map<String, Object> endpointsJson = new LinkedHashMap<>();
+        for (Map.Entry<String, Map<Integer, StatusResult>> endpoint : endpoints.entrySet()) {
+            Map<String, Object> statusesJson = new LinkedHashMap<>();
+            for (Map.Entry<Integer, StatusResult> status : endpoint.getValue().entrySet()) {
+                StatusResult result = status.getValue();
+                Map<String, Object> statusJson = new LinkedHashMap<>();
+                statusJson.put("requests", result.getCount());
+                LatencyHistograms.putLatencies(statusJson, result.histogram);
+                statusJson.put("requestBytes", result.getRequestBytes());
+                statusJson.put("responseBytes", result.getResponseBytes());
+                String key = status.getKey() == RequestTimingFilter.NO_RESPONSE
+                        ? "no-response"
+                        : String.valueOf(status.getKey());
+                statusesJson.put(key, statusJson);
+            }
+            endpointsJson.put(endpoint.getKey(), statusesJson);
+        }
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("totalRequests", getTotalRequests());
+        report.put("endpoints", endpointsJson);
+        return JSONValue.toJSONString(report);
+    }
+
+    /**
+     * Write the JSON report to a file, creating parent directories as needed
+     *
+     * @param file Target file
+     */
+    public void writeTo(Path file) throws IOException {
+        LatencyHistograms.writeReport(file, toJson());
+    }
+
+    /**
+     * Attach the JSON report to the running Allure test or fixture
+     */
+    public void attachToAllure() {
+        LatencyHistograms.attachReport("Request timings", toJson());
+    }
+
+    /**
+     * Latency histogram (microseconds) and byte counts of one endpoint and status code
+     */
+    public static final class StatusResult {
+
+        private final Histogram histogram;
+        private final long requestBytes;
+        private final long responseBytes;
+
+        StatusResult(Histogram histogram, long requestBytes, long responseBytes) {
+            this.histogram = histogram;
+            this.requestBytes = requestBytes;
+            this.responseBytes = responseBytes;
+        }
+
+        public long getCount() {
+            return histogram.getTotalCount();
+        }
+
+        public long getRequestBytes() {
+            return requestBytes;
+        }
+
+        public long getResponseBytes() {
+            return responseBytes;
+        }
+
+        /**
+         * Get a latency percentile in milliseconds
+         *
+         * @param percentile Percentile between 0 and 100
+         * @return Latency in milliseconds
+         */
+        public double percentileMillis(double percentile) {
+            return LatencyHistograms.percentileMillis(histogram, percentile);
+        }
+    }
+}
@@ -0,0 +1,290 @@
+package com.reqres.filters;
+
+import io.restassured.filter.FilterContext;
+import io.restassured.filter.OrderedFilter;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.FilterableResponseSpecification;
+import com.reqres.config.ConfigReader;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * ResponseCacheFilter Class - Opt-in, run-scoped LRU cache for GET responses
+ *
+ * This class provides:
+ * - A bounded LRU cache of successful (200) GET responses, keyed on URL (with query),
+ *   Accept and Authorization
+ * - Cache-Control handling: no-store is never cached, max-age sets freshness, no-cache
+ *   forces revalidation; responses without directives stay fresh for cache.defaultTtlMillis
+ * - Revalidation of stale entries with If-None-Match / If-Modified-Since; a 304 answer
+ *   refreshes the entry and the cached body is served
+ * - A per-thread bypass for calls that must reach the server ({@link #withoutCache}); requests
+ *   that send Cache-Control: no-cache or no-store also skip the cache
+ * - Invalidation (RFC 9111 section 4.4): a successful POST, PUT, PATCH or DELETE drops the
+ *   cached responses of its URL, with any query string
+ * - Hit, miss, revalidation, eviction, invalidation and bypass counters
+ *
+ * Enabled with cache.enabled=true; sized with cache.maxEntries.
+ *
+ * Usage:
+ * Response fresh = ResponseCacheFilter.withoutCache(() -> UserAPI.getUserById(requestSpec(), 2));
+ */
+public class ResponseCacheFilter implements OrderedFilter {
+
+    private static final ResponseCacheFilter INSTANCE = new ResponseCacheFilter();
+
+    private static final ThreadLocal<int[]> BYPASS_DEPTH = ThreadLocal.withInitial(() -> new int[1]);
+
+    private static final Set<String> SAFE_METHODS = Set.of("GET", "HEAD", "OPTIONS", "TRACE");
+
+    private final boolean enabled;
+    private final int maxEntries;
+    private final long defaultTtlNanos;
+    private final Map<String, CacheEntry> entries;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder revalidations = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder invalidations = new LongAdder();
+    private final LongAdder bypasses = new LongAdder();
+
+    private ResponseCacheFilter() {
+        this(ConfigReader.isResponseCacheEnabled(), ConfigReader.getResponseCacheMaxEntries(),
+                ConfigReader.getResponseCacheDefaultTtlMillis());
+    }
+
+    /**
+     * Create a cache with its own entries and counters
+     *
+     * @param enabled Whether responses are cached at all
+     * @param maxEntries Entries kept before the least recently used is evicted
+     * @param defaultTtlMillis Freshness of responses without Cache-Control directives
+     */
+    ResponseCacheFilter(boolean enabled, int maxEntries, long defaultTtlMillis) {
+        this.enabled = enabled;
+        this.maxEntries = maxEntries;
+        this.defaultTtlNanos = TimeUnit.MILLISECONDS.toNanos(defaultTtlMillis);
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CacheEntry> eldest) {
+                if (size() > maxEntries) {
+                    evictions.increment();
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    /**
+     * Get the shared filter instance
+     *
+     * @return ResponseCacheFilter
+     */
+    public static ResponseCacheFilter getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Run a call on the current thread with every request it sends skipping the cache
+     *
+     * @param call The request(s) that must reach the server
+     * @return Result of the call
+     */
+    public static <T> T withoutCache(Supplier<T> call) {
+        int[] depth = BYPASS_DEPTH.get();
+        depth[0]++;
+        try {
+            return call.get();
+        } finally {
+            depth[0]--;
+        }
+    }
+
+    @Override
+    public Response filter(FilterableRequestSpecification requestSpec,
+                           FilterableResponseSpecification responseSpec,
+                           FilterContext ctx) {
+        if (!enabled) {
+            return ctx.next(requestSpec, responseSpec);
+        }
+        String method = requestSpec.getMethod().toUpperCase(Locale.ROOT);
+        if (!SAFE_METHODS.contains(method)) {
+            Response response = ctx.next(requestSpec, responseSpec);
+            if (response.getStatusCode() < 400) {
+                invalidate(requestSpec.getURI());
+            }
+            return response;
+        }
+        if (!method.equals("GET")) {
+            return ctx.next(requestSpec, responseSpec);
+        }
+        if (BYPASS_DEPTH.get()[0] > 0 || requestForbidsCache(requestSpec.getHeaders().getValue("Cache-Control"))) {
+            bypasses.increment();
+            return ctx.next(requestSpec, responseSpec);
+        }
+
+        String key = keyOf(requestSpec);
+        CacheEntry cached;
+        synchronized (entries) {
+            cached = entries.get(key);
+        }
+
+        long now = System.nanoTime();
+        if (cached != null && now - cached.expiresAtNanos < 0) {
+            hits.increment();
+            return cached.response.toResponse();
+        }
+
+        if (cached != null) {
+            if (cached.etag != null) {
+                requestSpec.header("If-None-Match", cached.etag);
+            }
+            if (cached.lastModified != null) {
+                requestSpec.header("If-Modified-Since", cached.lastModified);
+            }
+        }
+
+        Response response = ctx.next(requestSpec, responseSpec);
+        if (cached != null && response.getStatusCode() == 304) {
+            revalidations.increment();
+            store(key, cached.response, response.getHeader("Cache-Control"), System.nanoTime());
+            return cached.response.toResponse();
+        }
+
+        misses.increment();
+        if (response.getStatusCode() == 200) {
+            store(key, StoredResponse.of(response), response.getHeader("Cache-Control"), System.nanoTime());
+        } else if (cached != null) {
+            synchronized (entries) {
+                entries.remove(key);
+            }
+        }
+        return response;
+    }
+
+    @Override
+    public int getOrder() {
+        // Inside the exchange log so cached answers appear in failure logs,
+        // outside RequestTimingFilter so hits are not counted as exchanges
+        return LOWEST_PRECEDENCE - 2;
+    }
+
+    /**
+     * Take a snapshot of the cache counters
+     *
+     * @return JSON document with hits, misses, revalidations, evictions, invalidations, bypasses and size
+     */
+    public String getStatisticsJson() {
+        int size;
+        synchronized (entries) {
+            size = entries.size();
+        }
+        return String.format("{\"enabled\": %s, \"hits\": %d, \"misses\": %d, \"revalidations\": %d, "
+                        + "\"evictions\": %d, \"invalidations\": %d, \"bypasses\": %d, \"size\": %d, \"maxEntries\": %d}",
+                enabled, hits.sum(), misses.sum(), revalidations.sum(), evictions.sum(), invalidations.sum(),
+                bypasses.sum(), size, maxEntries);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    private void store(String key, StoredResponse response, String cacheControl, long now) {
+        String directives = cacheControl == null ? "" : cacheControl.toLowerCase(Locale.ROOT);
+        if (directives.contains("no-store")) {
+            synchronized (entries) {
+                entries.remove(key);
+            }
+            return;
+        }
+
+        String etag = response.getHeader("ETag");
+        String lastModified = response.getHeader("Last-Modified");
+        long ttlNanos;
+        if (directives.contains("no-cache")) {
+            ttlNanos = 0;
+        } else {
+            long maxAge = maxAgeSeconds(directives);
+            ttlNanos = maxAge >= 0 ? TimeUnit.SECONDS.toNanos(maxAge) : defaultTtlNanos;
+        }
+        if (ttlNanos == 0 && etag == null && lastModified == null) {
+            // Would have to be refetched every time anyway
+            return;
+        }
+
+        CacheEntry entry = new CacheEntry(response, etag, lastModified, now + ttlNanos);
+        synchronized (entries) {
+            entries.put(key, entry);
+        }
+    }
+
+    /**
+     * Drop the entries of a URL, whatever their query string, Accept or Authorization
+     */
+    private void invalidate(String uri) {
+        int query = uri.indexOf('?');
+        String target = query < 0 ? uri : uri.substring(0, query);
+        synchronized (entries) {
+            Iterator<String> keys = entries.keySet().iterator();
+            while (keys.hasNext()) {
+                String key = keys.next();
+                if (key.startsWith(target + "|") || key.startsWith(target + "?")) {
+                    keys.remove();
+                    invalidations.increment();
+                }
+            }
+        }
+    }
+
+    private static long maxAgeSeconds(String directives) {
+        int start = directives.indexOf("max-age=");
+        if (start < 0) {
+            return -1;
+        }
+        int end = start + "max-age=".length();
+        int valueStart = end;
+        while (end < directives.length() && Character.isDigit(directives.charAt(end))) {
+            end++;
+        }
+        return end == valueStart ? -1 : Long.parseLong(directives.substring(valueStart, end));
+    }
+
+    private static boolean requestForbidsCache(String cacheControl) {
+        if (cacheControl == null) {
+            return false;
+        }
+        String directives = cacheControl.toLowerCase(Locale.ROOT);
+        return directives.contains("no-cache") || directives.contains("no-store");
+    }
+
+    private static String keyOf(FilterableRequestSpecification requestSpec) {
+        return requestSpec.getURI()
+                + "|" + requestSpec.getHeaders().getValue("Accept")
+                + "|" + requestSpec.getHeaders().getValue("Authorization");
+    }
+
+    private static final class CacheEntry {
+
+        private final StoredResponse response;
+        private final String etag;
+        private final String lastModified;
+        private final long expiresAtNanos;
+
+        CacheEntry(StoredResponse response, String etag, String lastModified, long expiresAtNanos) {
+            this.response = response;
+            this.etag = etag;
+            this.lastModified = lastModified;
+            this.expiresAtNanos = expiresAtNanos;
+        }
+    }
+}
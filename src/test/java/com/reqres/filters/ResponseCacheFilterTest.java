@@ -0,0 +1,199 @@
+package com.reqres.filters;
+
+import io.restassured.RestAssured;
+import io.restassured.builder.RequestSpecBuilder;
+import io.restassured.response.Response;
+import io.restassured.specification.RequestSpecification;
+import org.json.simple.JSONObject;
+import org.json.simple.JSONValue;
+import org.testng.SkipException;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+import org.apache.logging.log4j.Logger;
+import com.reqres.config.ConfigReader;
+import com.reqres.stub.HttpbinStubServer;
+import com.reqres.utils.LoggerUtil;
+
+import static org.testng.Assert.*;
+
+/**
+ * ResponseCacheFilterTest Class - Test cases for the response cache with caching enabled
+ *
+ * Each test builds its own enabled cache over a private stub, so counters start at zero
+ * whatever cache.enabled is set to for the run.
+ *
+ * Tests:
+ * - A repeated GET is answered from the cache
+ * - The least recently used entry is evicted once maxEntries is reached
+ * - max-age keeps a response fresh; no-store and no-cache without validators are not cached
+ * - A stale entry with an ETag is revalidated and a 304 serves the cached body
+ * - withoutCache() and a request's Cache-Control: no-cache reach the server
+ * - A successful PUT drops the cached responses of its URL
+ */
+@Test(singleThreaded = true)
+public class ResponseCacheFilterTest {
+
+    private static final Logger logger = LoggerUtil.getLogger(ResponseCacheFilterTest.class);
+
+    private HttpbinStubServer stub;
+
+    @BeforeClass(alwaysRun = true)
+    public void startStub() {
+        if (!ConfigReader.getCassetteMode().equals("off")) {
+            throw new SkipException("Revalidation cannot be recorded or replayed by cassettes");
+        }
+        stub = new HttpbinStubServer();
+        stub.start();
+    }
+
+    @AfterClass(alwaysRun = true)
+    public void stopStub() {
+        if (stub != null) {
+            stub.stop();
+        }
+    }
+
+    /**
+     * Test that a repeated GET is a cache hit
+     * Validates:
+     * - The second response is served from the cache with the first body
+     */
+    @Test(description = "Repeated GET is answered from the cache")
+    public void repeatedGetIsHit() {
+        ResponseCacheFilter cache = new ResponseCacheFilter(true, 10, 60_000);
+        RequestSpecification spec = specWith(cache);
+
+        String first = RestAssured.given(spec).get("/get?id=1").asString();
+        String second = RestAssured.given(spec).get("/get?id=1").asString();
+
+        assertEquals(second, first, "Cached body should be served");
+        assertCounters(cache, 1, 1, 0, 0, 0, 0, 1);
+    }
+
+    /**
+     * Test LRU eviction
+     * Validates:
+     * - A hit refreshes an entry, so the other entry is evicted first
+     * - The evicted entry is fetched again
+     */
+    @Test(description = "Least recently used entry is evicted")
+    public void leastRecentlyUsedIsEvicted() {
+        ResponseCacheFilter cache = new ResponseCacheFilter(true, 2, 60_000);
+        RequestSpecification spec = specWith(cache);
+
+        RestAssured.given(spec).get("/get?id=a");
+        RestAssured.given(spec).get("/get?id=b");
+        RestAssured.given(spec).get("/get?id=a");
+        RestAssured.given(spec).get("/get?id=c");
+        RestAssured.given(spec).get("/get?id=a");
+        RestAssured.given(spec).get("/get?id=b");
+
+        // a (hit twice) stays; b is evicted by c, and c by the second b
+        assertCounters(cache, 2, 4, 0, 2, 0, 0, 2);
+    }
+
+    /**
+     * Test the response Cache-Control directives
+     * Validates:
+     * - max-age keeps a response fresh even with no default freshness
+     * - no-store and no-cache responses without validators are fetched every time
+     */
+    @Test(description = "Response Cache-Control decides what is cached")
+    public void responseDirectivesAreHonoured() {
+        ResponseCacheFilter cache = new ResponseCacheFilter(true, 10, 0);
+        RequestSpecification spec = specWith(cache);
+
+        for (String directive : new String[] {"max-age=60", "no-store", "no-cache"}) {
+            for (int i = 0; i < 2; i++) {
+                Response response = RestAssured.given(spec).queryParam("Cache-Control", directive).get("/response-headers");
+                assertEquals(response.getHeader("Cache-Control"), directive, "Stub should set Cache-Control");
+            }
+        }
+
+        assertCounters(cache, 1, 5, 0, 0, 0, 0, 1);
+    }
+
+    /**
+     * Test revalidation of a stale entry
+     * Validates:
+     * - The stale entry is sent with If-None-Match
+     * - The 304 answer is counted as a revalidation and the cached body is served
+     */
+    @Test(description = "Stale entry is revalidated with its ETag")
+    public void staleEntryIsRevalidated() {
+        ResponseCacheFilter cache = new ResponseCacheFilter(true, 10, 0);
+        RequestSpecification spec = specWith(cache);
+
+        Response first = RestAssured.given(spec).get("/etag/v1");
+        Response second = RestAssured.given(spec).get("/etag/v1");
+
+        assertEquals(first.getHeader("ETag"), "\"v1\"", "Stub should send the ETag");
+        assertEquals(second.getStatusCode(), 200, "A 304 should be answered with the cached response");
+        assertEquals(second.asString(), first.asString(), "Cached body should be served after a 304");
+        assertCounters(cache, 0, 1, 1, 0, 0, 0, 1);
+    }
+
+    /**
+     * Test the ways past the cache
+     * Validates:
+     * - Requests inside withoutCache() and requests sending Cache-Control: no-cache reach the server
+     * - The cache answers again once withoutCache() returns
+     */
+    @Test(description = "Bypassed requests reach the server")
+    public void bypassReachesServer() {
+        ResponseCacheFilter cache = new ResponseCacheFilter(true, 10, 60_000);
+        RequestSpecification spec = specWith(cache);
+
+        RestAssured.given(spec).get("/get?id=bypass");
+        ResponseCacheFilter.withoutCache(() -> RestAssured.given(spec).get("/get?id=bypass"));
+        RestAssured.given(spec).header("Cache-Control", "no-cache").get("/get?id=bypass");
+        RestAssured.given(spec).get("/get?id=bypass");
+
+        assertCounters(cache, 1, 1, 0, 0, 0, 2, 1);
+    }
+
+    /**
+     * Test invalidation by an unsafe method
+     * Validates:
+     * - A successful PUT drops the entries of its URL, query strings included
+     * - Entries of other URLs sharing the prefix are kept
+     */
+    @Test(description = "Successful PUT invalidates the cached URL")
+    public void successfulPutInvalidates() {
+        ResponseCacheFilter cache = new ResponseCacheFilter(true, 10, 60_000);
+        RequestSpecification spec = specWith(cache);
+
+        RestAssured.given(spec).get("/anything/users/2");
+        RestAssured.given(spec).get("/anything/users/2?page=1");
+        RestAssured.given(spec).get("/anything/users/20");
+        Response put = RestAssured.given(spec).body("{\"name\": \"Cache\"}").put("/anything/users/2");
+        RestAssured.given(spec).get("/anything/users/2");
+        RestAssured.given(spec).get("/anything/users/20");
+
+        logger.info("Cache after PUT: {}", cache.getStatisticsJson());
+
+        assertEquals(put.getStatusCode(), 200, "Status code should be 200");
+        assertCounters(cache, 1, 4, 0, 0, 2, 0, 2);
+    }
+
+    private RequestSpecification specWith(ResponseCacheFilter cache) {
+        return new RequestSpecBuilder()
+                .setBaseUri(stub.getBaseURI())
+                .addFilter(cache)
+                .build();
+    }
+
+    private static void assertCounters(ResponseCacheFilter cache, long hits, long misses, long revalidations,
+                                       long evictions, long invalidations, long bypasses, long size) {
+        JSONObject statistics = (JSONObject) JSONValue.parse(cache.getStatisticsJson());
+        String json = cache.getStatisticsJson();
+        assertEquals(statistics.get("hits"), hits, "hits in " + json);
+        assertEquals(statistics.get("misses"), misses, "misses in " + json);
+        assertEquals(statistics.get("revalidations"), revalidations, "revalidations in " + json);
+        assertEquals(statistics.get("evictions"), evictions, "evictions in " + json);
+        assertEquals(statistics.get("invalidations"), invalidations, "invalidations in " + json);
+        assertEquals(statistics.get("bypasses"), bypasses, "bypasses in " + json);
+        assertEquals(statistics.get("size"), size, "size in " + json);
+    }
+}
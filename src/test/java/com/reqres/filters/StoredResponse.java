@@ -0,0 +1,74 @@
+package com.reqres.filters;
+
+import io.restassured.builder.ResponseBuilder;
+import io.restassured.http.Header;
+import io.restassured.http.Headers;
+import io.restassured.response.Response;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * StoredResponse Class - Immutable copy of a response that can be served again
+ *
+ * Used by filters that answer requests without sending them (cassette replay,
+ * response cache). Each call to {@link #toResponse()} builds a fresh RestAssured
+ * Response, so one stored copy can be handed to several threads.
+ */
+final class StoredResponse {
+
+    private final int statusCode;
+    private final String statusLine;
+    private final List<Header> headers;
+    private final byte[] body;
+
+    StoredResponse(int statusCode, String statusLine, List<Header> headers, byte[] body) {
+        this.statusCode = statusCode;
+        this.statusLine = statusLine;
+        this.headers = List.copyOf(headers);
+        this.body = body;
+    }
+
+    /**
+     * Copy a live response; its body must already be buffered
+     *
+     * @param response RestAssured Response
+     * @return StoredResponse
+     */
+    static StoredResponse of(Response response) {
+        List<Header> headers = new ArrayList<>();
+        response.getHeaders().forEach(headers::add);
+        return new StoredResponse(response.getStatusCode(), response.getStatusLine(), headers, response.asByteArray());
+    }
+
+    String getHeader(String name) {
+        for (Header header : headers) {
+            if (header.getName().equalsIgnoreCase(name)) {
+                return header.getValue();
+            }
+        }
+        return null;
+    }
+
+    int getBodyLength() {
+        return body.length;
+    }
+
+    /**
+     * Build a new Response with this status, headers and body
+     *
+     * @return RestAssured Response
+     */
+    Response toResponse() {
+        ResponseBuilder builder = new ResponseBuilder()
+                .setStatusCode(statusCode)
+                .setStatusLine(statusLine)
+                .setHeaders(new Headers(headers))
+                .setBody(body);
+        String contentType = getHeader("Content-Type");
+        if (contentType != null) {
+            builder.setContentType(contentType);
+        }
+        return builder.build();
+    }
+}
@@ -0,0 +1,251 @@
+package com.reqres.listeners;
+
+import org.json.simple.JSONObject;
+import org.json.simple.JSONValue;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * DurationHistory Class - Smoothed per-class and per-method test durations from earlier runs
+ *
+ * File format (JSON): {"classes": {"com.reqres.tests.X": millis}, "methods": {"com.reqres.tests.X.m": millis}}
+ *
+ * A new measurement is blended with the stored value (half each), so one unusually slow
+ * or fast run does not swing the shard plan. Entries of classes that did not run are kept.
+ *
+ * Sharded runs do not touch the main file: each writes its measurements next to it
+ * (durations.shard-1-of-4.json). Once all shards of a count have reported, the next
+ * sharded run folds them into the main file before planning. Until then every shard
+ * plans from the same main file, so shards run one after another still agree on the plan.
+ * All updates hold a lock on the main file, so parallel runs on one machine are safe.
+ */
+final class DurationHistory {
+
+    private static final double SMOOTHING = 0.5;
+
+    private final Map<String, Long> classes;
+    private final Map<String, Long> methods;
+
+    private DurationHistory(Map<String, Long> classes, Map<String, Long> methods) {
+        this.classes = classes;
+        this.methods = methods;
+    }
+
+    /**
+     * Read the main history file without folding in shard measurements
+     *
+     * @param file Main history file
+     * @return DurationHistory, empty if the file does not exist yet
+     */
+    static DurationHistory load(Path file) {
+        if (!Files.isRegularFile(file)) {
+            return new DurationHistory(new TreeMap<>(), new TreeMap<>());
+        }
+        try {
+            String json = Files.readString(file, StandardCharsets.UTF_8);
+            return json.isBlank() ? new DurationHistory(new TreeMap<>(), new TreeMap<>()) : parse(json, file);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not read test duration history " + file, e);
+        }
+    }
+
+    /**
+     * Fold completed shard measurements into the main file, then read it
+     *
+     * @param file Main history file
+     * @param shardCount Number of shards of the current run
+     * @return DurationHistory, empty if there is no history yet
+     */
+    static DurationHistory loadForPlanning(Path file, int shardCount) {
+        return locked(file, history -> {
+            List<Path> shardFiles = new ArrayList<>(shardCount);
+            for (int i = 0; i < shardCount; i++) {
+                Path shardFile = shardFile(file, i, shardCount);
+                if (!Files.isRegularFile(shardFile)) {
+                    return false;
+                }
+                shardFiles.add(shardFile);
+            }
+            for (Path shardFile : shardFiles) {
+                DurationHistory measured = parse(Files.readString(shardFile, StandardCharsets.UTF_8), shardFile);
+                blend(history.classes, measured.classes);
+                blend(history.methods, measured.methods);
+            }
+            for (Path shardFile : shardFiles) {
+                Files.delete(shardFile);
+            }
+            return true;
+        });
+    }
+
+    /**
+     * Blend the measurements of a full run into the main file
+     *
+     * @param file Main history file, created if missing
+     * @param classDurations Measured milliseconds per class
+     * @param methodDurations Measured milliseconds per class.method
+     */
+    static void merge(Path file, Map<String, Long> classDurations, Map<String, Long> methodDurations) {
+        locked(file, history -> {
+            blend(history.classes, classDurations);
+            blend(history.methods, methodDurations);
+            return true;
+        });
+    }
+
+    /**
+     * Store the measurements of one shard until all shards have reported
+     *
+     * @param file Main history file
+     * @param shardIndex Zero-based shard index
+     * @param shardCount Number of shards
+     * @param classDurations Measured milliseconds per class
+     * @param methodDurations Measured milliseconds per class.method
+     */
+    static void recordShard(Path file, int shardIndex, int shardCount,
+                            Map<String, Long> classDurations, Map<String, Long> methodDurations) {
+        locked(file, history -> {
+            Files.writeString(shardFile(file, shardIndex, shardCount),
+                    new DurationHistory(classDurations, methodDurations).toJson(), StandardCharsets.UTF_8);
+            return false;
+        });
+    }
+
+    /**
+     * Get the smoothed duration of a test class
+     *
+     * @param className Fully qualified class name
+     * @return Milliseconds, or -1 if the class has no history
+     */
+    long getClassMillis(String className) {
+        return classes.getOrDefault(className, -1L);
+    }
+
+    /**
+     * Get the smoothed duration of a test method
+     *
+     * @param className Fully qualified class name
+     * @param methodName Method name
+     * @return Milliseconds, or -1 if the method has no history
+     */
+    long getMethodMillis(String className, String methodName) {
+        return methods.getOrDefault(className + "." + methodName, -1L);
+    }
+
+    boolean isEmpty() {
+        return classes.isEmpty();
+    }
+
+    static Path shardFile(Path file, int shardIndex, int shardCount) {
+        String name = file.getFileName().toString();
+        String base = name.endsWith(".json") ? name.substring(0, name.length() - ".json".length()) : name;
+        return file.resolveSibling(base + ".shard-" + (shardIndex + 1) + "-of-" + shardCount + ".json");
+    }
+
+    /**
+     * Read the main file under an exclusive lock, let the update change it, and write it
+     * back if the update returns true
+     */
+    private static DurationHistory locked(Path file, Update update) {
+        try {
+            Files.createDirectories(file.toAbsolutePath().getParent());
+            try (FileChannel channel = FileChannel.open(file,
+                    StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+                // Released when the channel closes
+                channel.lock();
+                ByteBuffer existing = ByteBuffer.allocate((int) channel.size());
+                while (existing.hasRemaining() && channel.read(existing) >= 0) {
+                    // Keep reading until the buffer holds the whole file
+                }
+                String json = new String(existing.array(), StandardCharsets.UTF_8);
+                DurationHistory history = json.isBlank()
+                        ? new DurationHistory(new TreeMap<>(), new TreeMap<>())
+                        : parse(json, file);
+
+                if (update.apply(history)) {
+                    channel.truncate(0).position(0);
+                    ByteBuffer updated = ByteBuffer.wrap(history.toJson().getBytes(StandardCharsets.UTF_8));
+                    while (updated.hasRemaining()) {
+                        channel.write(updated);
+                    }
+                }
+                return history;
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not update test duration history " + file, e);
+        }
+    }
+
+    private static void blend(Map<String, Long> history, Map<String, Long> measured) {
+        for (Map.Entry<String, Long> entry : measured.entrySet()) {
+            Long previous = history.get(entry.getKey());
+            history.put(entry.getKey(), previous == null
+                    ? entry.getValue()
+                    : Math.round(SMOOTHING * entry.getValue() + (1 - SMOOTHING) * previous));
+        }
+    }
+
+    private static DurationHistory parse(String json, Path file) {
+        Object parsed = JSONValue.parse(json);
+        if (!(parsed instanceof JSONObject)) {
+            throw new IllegalArgumentException("Not a test duration history file: " + file);
+        }
+        JSONObject root = (JSONObject) parsed;
+        return new DurationHistory(readMillis(root.get("classes")), readMillis(root.get("methods")));
+    }
+
+    private static Map<String, Long> readMillis(Object section) {
+        Map<String, Long> millis = new TreeMap<>();
+        if (section instanceof Map) {
+            for (Map.Entry<?, ?> entry : ((Map<?, ?>) section).entrySet()) {
+                if (entry.getValue() instanceof Number) {
+                    millis.put(entry.getKey().toString(), ((Number) entry.getValue()).longValue());
+                }
+            }
+        }
+        return millis;
+    }
+
+    private String toJson() {
+        StringBuilder json = new StringBuilder("{\n  \"classes\": {");
+        appendSection(json, classes);
+        json.append("},\n  \"methods\": {");
+        appendSection(json, methods);
+        return json.append("}\n}\n").toString();
+    }
+
+    private static void appendSection(StringBuilder json, Map<String, Long> section) {
+        String separator = "\n";
+        for (Map.Entry<String, Long> entry : section.entrySet()) {
+            json.append(separator).append("    \"").append(JSONValue.escape(entry.getKey())).append("\": ").append(entry.getValue());
+            separator = ",\n";
+        }
+        if (!section.isEmpty()) {
+            json.append("\n  ");
+        }
+    }
+
+    /**
+     * Change to a history read under the lock
+     */
+    @FunctionalInterface
+    private interface Update {
+
+        /**
+         * @param history History as currently stored
+         * @return true if the history was changed and must be written back
+         */
+        boolean apply(DurationHistory history) throws IOException;
+    }
+}
@@ -0,0 +1,96 @@
+package com.reqres.listeners;
+
+import org.apache.logging.log4j.Logger;
+import org.testng.IInvokedMethod;
+import org.testng.IInvokedMethodListener;
+import org.testng.ISuite;
+import org.testng.ISuiteListener;
+import org.testng.ITestNGMethod;
+import org.testng.ITestResult;
+import com.reqres.config.ConfigReader;
+import com.reqres.utils.LoggerUtil;
+
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAccumulator;
+
+/**
+ * DurationHistoryListener Class - Records how long each test class and method took
+ *
+ * This class provides:
+ * - Per-class time: from the start of its first test or configuration method to the end of its last
+ * - Per-method time: from the start of the first invocation to the end of the last, so a
+ *   data-driven method on a parallel data provider counts its wall time, not the sum of its rows
+ * - A merge of the measurements into the history file (test.history.file) when the
+ *   suite finishes, which {@link ShardingListener} uses to balance the next run;
+ *   sharded runs store theirs beside it until every shard has reported
+ *
+ * Suite and test level configuration (stub server start, suite reports) runs once per
+ * shard whatever the shard contains, so it is not attributed to any class.
+ */
+public class DurationHistoryListener implements IInvokedMethodListener, ISuiteListener {
+
+    private static final Logger logger = LoggerUtil.getLogger(DurationHistoryListener.class);
+
+    private final ConcurrentMap<String, Span> classSpans = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, Span> methodSpans = new ConcurrentHashMap<>();
+
+    @Override
+    public void afterInvocation(IInvokedMethod method, ITestResult testResult) {
+        ITestNGMethod testMethod = method.getTestMethod();
+        if (testMethod.isBeforeSuiteConfiguration() || testMethod.isAfterSuiteConfiguration()
+                || testMethod.isBeforeTestConfiguration() || testMethod.isAfterTestConfiguration()
+                || testMethod.isBeforeGroupsConfiguration() || testMethod.isAfterGroupsConfiguration()) {
+            return;
+        }
+        String className = testResult.getTestClass().getName();
+        classSpans.computeIfAbsent(className, key -> new Span()).add(testResult);
+        if (method.isTestMethod()) {
+            methodSpans.computeIfAbsent(className + "." + testMethod.getMethodName(), key -> new Span()).add(testResult);
+        }
+    }
+
+    @Override
+    public void onFinish(ISuite suite) {
+        if (classSpans.isEmpty()) {
+            return;
+        }
+        Path file = Path.of(ConfigReader.getTestHistoryFile());
+        int shardCount = ConfigReader.getShardCount();
+        if (shardCount > 1) {
+            int shardIndex = ConfigReader.getShardIndex();
+            DurationHistory.recordShard(file, shardIndex, shardCount, snapshot(classSpans), snapshot(methodSpans));
+            file = DurationHistory.shardFile(file, shardIndex, shardCount);
+        } else {
+            DurationHistory.merge(file, snapshot(classSpans), snapshot(methodSpans));
+        }
+        logger.info("Recorded durations of {} classes and {} methods to {}", classSpans.size(), methodSpans.size(), file);
+    }
+
+    private static Map<String, Long> snapshot(Map<String, Span> spans) {
+        Map<String, Long> snapshot = new TreeMap<>();
+        spans.forEach((name, span) -> snapshot.put(name, span.millis()));
+        return snapshot;
+    }
+
+    /**
+     * Earliest start and latest end of a set of invocations
+     */
+    private static final class Span {
+
+        private final LongAccumulator start = new LongAccumulator(Math::min, Long.MAX_VALUE);
+        private final LongAccumulator end = new LongAccumulator(Math::max, Long.MIN_VALUE);
+
+        void add(ITestResult result) {
+            start.accumulate(result.getStartMillis());
+            end.accumulate(result.getEndMillis());
+        }
+
+        long millis() {
+            return Math.max(0, end.get() - start.get());
+        }
+    }
+}
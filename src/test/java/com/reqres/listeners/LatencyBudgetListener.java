@@ -0,0 +1,92 @@
+package com.reqres.listeners;
+
+import org.HdrHistogram.Histogram;
+import org.apache.logging.log4j.Logger;
+import org.testng.IHookCallBack;
+import org.testng.IHookable;
+import org.testng.ITestResult;
+import com.reqres.annotations.LatencyBudget;
+import com.reqres.config.ConfigReader;
+import com.reqres.filters.RequestTimingFilter;
+import com.reqres.utils.LatencyHistograms;
+import com.reqres.utils.LoggerUtil;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * LatencyBudgetListener Class - Enforces {@link LatencyBudget} annotations
+ * 
+ * For an annotated test method the listener:
+ * - Runs the test body {@link LatencyBudget#repeat()} times (stopping at the first failure)
+ * - Captures the latency of every API call made on the test thread meanwhile
+ * - Compares p50/p95/p99 against the declared budgets and fails the test, or logs
+ *   a warning, when one is exceeded
+ * 
+ * Unannotated tests run unchanged.
+ * 
+ * System properties:
+ * - latency.budget - auto (default: fail against the embedded stub, warn against remote targets),
+ *   fail, warn or off
+ */
+public class LatencyBudgetListener implements IHookable {
+
+    private static final Logger logger = LoggerUtil.getLogger(LatencyBudgetListener.class);
+
+    private final String mode = ConfigReader.getLatencyBudgetMode();
+
+    @Override
+    public void run(IHookCallBack callBack, ITestResult testResult) {
+        LatencyBudget budget = testResult.getMethod().getConstructorOrMethod().getMethod()
+                .getAnnotation(LatencyBudget.class);
+        if (budget == null || mode.equals("off")) {
+            callBack.runTestMethod(testResult);
+            return;
+        }
+
+        Histogram latencies;
+        RequestTimingFilter.startCapture();
+        try {
+            for (int i = 0; i < Math.max(1, budget.repeat()); i++) {
+                callBack.runTestMethod(testResult);
+                if (testResult.getThrowable() != null) {
+                    return;
+                }
+            }
+        } finally {
+            latencies = RequestTimingFilter.stopCapture();
+        }
+
+        if (latencies.getTotalCount() == 0) {
+            logger.warn("{} has a latency budget but made no API calls", testResult.getName());
+            return;
+        }
+
+        List<String> violations = new ArrayList<>();
+        check(violations, latencies, 50, budget.p50Millis());
+        check(violations, latencies, 95, budget.p95Millis());
+        check(violations, latencies, 99, budget.p99Millis());
+
+        String summary = String.format("%d calls, p50=%.1fms, p95=%.1fms, p99=%.1fms",
+                latencies.getTotalCount(), LatencyHistograms.percentileMillis(latencies, 50),
+                LatencyHistograms.percentileMillis(latencies, 95), LatencyHistograms.percentileMillis(latencies, 99));
+        if (violations.isEmpty()) {
+            logger.info("Latency budget met: {}", summary);
+            return;
+        }
+
+        String message = "Latency budget exceeded: " + String.join(", ", violations) + " (" + summary + ")";
+        if (budget.warnOnly() || mode.equals("warn")) {
+            logger.warn(message);
+        } else {
+            throw new AssertionError(message);
+        }
+    }
+
+    private static void check(List<String> violations, Histogram latencies, double percentile, long budgetMillis) {
+        double millis = LatencyHistograms.percentileMillis(latencies, percentile);
+        if (budgetMillis > 0 && millis > budgetMillis) {
+            violations.add(String.format("p%.0f %.1fms > %dms", percentile, millis, budgetMillis));
+        }
+    }
+}
@@ -0,0 +1,131 @@
+package com.reqres.listeners;
+
+import org.apache.logging.log4j.Logger;
+import org.testng.IMethodInstance;
+import org.testng.IMethodInterceptor;
+import org.testng.ITestContext;
+import org.testng.ITestNGMethod;
+import org.testng.xml.XmlSuite;
+import com.reqres.config.ConfigReader;
+import com.reqres.utils.LoggerUtil;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * LongestFirstInterceptor Class - Orders test methods longest first in parallel runs
+ *
+ * With a fixed thread count the run ends when the last thread finishes, so a long method
+ * picked up last leaves every other thread idle. Starting the longest methods first
+ * (longest processing time first, LPT) keeps the tail short.
+ *
+ * This class provides:
+ * - Method durations from {@link DurationHistoryListener}'s history (test.history.file)
+ * - dependsOnMethods support: a method is ranked by the length of the longest chain of
+ *   methods that wait for it, so a prerequisite always sorts before its dependents
+ * - New methods without history are estimated at the median known duration
+ *
+ * The order is only changed when the test runs in parallel and some history exists;
+ * otherwise TestNG's order is kept. Ties keep TestNG's relative order.
+ */
+public class LongestFirstInterceptor implements IMethodInterceptor {
+
+    private static final Logger logger = LoggerUtil.getLogger(LongestFirstInterceptor.class);
+
+    private final Path historyFile;
+
+    /**
+     * Create an interceptor reading test.history.file
+     */
+    public LongestFirstInterceptor() {
+        this(Path.of(ConfigReader.getTestHistoryFile()));
+    }
+
+    LongestFirstInterceptor(Path historyFile) {
+        this.historyFile = historyFile;
+    }
+
+    @Override
+    public List<IMethodInstance> intercept(List<IMethodInstance> methods, ITestContext context) {
+        // A <test> inherits its suite's parallel mode unless it sets its own
+        if (context.getCurrentXmlTest().getParallel() == XmlSuite.ParallelMode.NONE || methods.size() < 2) {
+            return methods;
+        }
+        DurationHistory history = DurationHistory.load(historyFile);
+        if (history.isEmpty()) {
+            logger.info("No test duration history yet; keeping TestNG's method order");
+            return methods;
+        }
+
+        Map<String, Long> durations = durations(methods, history);
+        Map<String, Long> ranks = ranks(methods, durations);
+
+        List<IMethodInstance> ordered = new ArrayList<>(methods);
+        // List.sort is stable, so equal ranks keep TestNG's order
+        ordered.sort(Comparator.comparingLong((IMethodInstance instance) -> ranks.get(key(instance.getMethod()))).reversed());
+        logger.info("Ordered {} methods longest first; first: {} ({} ms)", ordered.size(),
+                key(ordered.get(0).getMethod()), durations.get(key(ordered.get(0).getMethod())));
+        return ordered;
+    }
+
+    private static Map<String, Long> durations(List<IMethodInstance> methods, DurationHistory history) {
+        Map<String, Long> durations = new HashMap<>();
+        List<Long> known = new ArrayList<>();
+        for (IMethodInstance instance : methods) {
+            ITestNGMethod method = instance.getMethod();
+            long millis = history.getMethodMillis(method.getTestClass().getName(), method.getMethodName());
+            durations.put(key(method), millis);
+            if (millis >= 0) {
+                known.add(millis);
+            }
+        }
+        known.sort(null);
+        long estimate = known.isEmpty() ? 1 : known.get(known.size() / 2);
+        // At least 1 ms, so a prerequisite always outranks the methods that depend on it
+        durations.replaceAll((key, millis) -> Math.max(1, millis >= 0 ? millis : estimate));
+        return durations;
+    }
+
+    /**
+     * Rank every method by its duration plus the longest chain of methods depending on it
+     */
+    private static Map<String, Long> ranks(List<IMethodInstance> methods, Map<String, Long> durations) {
+        Map<String, List<String>> dependents = new HashMap<>();
+        for (IMethodInstance instance : methods) {
+            // TestNG reports prerequisites as Class.method, the same form as key()
+            for (String prerequisite : instance.getMethod().getMethodsDependedUpon()) {
+                dependents.computeIfAbsent(prerequisite, key -> new ArrayList<>()).add(key(instance.getMethod()));
+            }
+        }
+        Map<String, Long> ranks = new HashMap<>();
+        for (IMethodInstance instance : methods) {
+            rank(key(instance.getMethod()), durations, dependents, ranks);
+        }
+        return ranks;
+    }
+
+    private static long rank(String method, Map<String, Long> durations, Map<String, List<String>> dependents,
+                             Map<String, Long> ranks) {
+        Long known = ranks.get(method);
+        if (known != null) {
+            return known;
+        }
+        // Provisional value guards against cycles, which TestNG rejects on its own
+        ranks.put(method, 0L);
+        long longestDependent = 0;
+        for (String dependent : dependents.getOrDefault(method, List.of())) {
+            longestDependent = Math.max(longestDependent, rank(dependent, durations, dependents, ranks));
+        }
+        long rank = durations.getOrDefault(method, 1L) + longestDependent;
+        ranks.put(method, rank);
+        return rank;
+    }
+
+    private static String key(ITestNGMethod method) {
+        return method.getTestClass().getName() + "." + method.getMethodName();
+    }
+}
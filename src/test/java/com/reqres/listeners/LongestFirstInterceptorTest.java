@@ -0,0 +1,158 @@
+package com.reqres.listeners;
+
+import org.testng.IMethodInstance;
+import org.testng.ITestClass;
+import org.testng.ITestContext;
+import org.testng.ITestNGMethod;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+import org.testng.xml.XmlSuite;
+import org.testng.xml.XmlTest;
+
+import java.io.IOException;
+import java.lang.reflect.Proxy;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import static org.testng.Assert.*;
+
+/**
+ * LongestFirstInterceptorTest Class - Test cases for the longest-first method order
+ *
+ * Methods and the suite are stubbed; durations come from a temporary history file.
+ * Prerequisites are named Class.method, as TestNG reports them in getMethodsDependedUpon().
+ *
+ * Tests:
+ * - A prerequisite sorts ahead of its dependents and is ranked by the chain waiting on it
+ * - A method without history is estimated at the median, and ties keep TestNG's order
+ * - A suite that does not run in parallel keeps TestNG's order
+ */
+public class LongestFirstInterceptorTest {
+
+    private static final String CLASS_NAME = "com.example.SampleTest";
+
+    private Path directory;
+    private Path historyFile;
+
+    @BeforeMethod(alwaysRun = true)
+    public void createHistoryDirectory() throws IOException {
+        directory = Files.createTempDirectory("history-test");
+        historyFile = directory.resolve("durations.json");
+    }
+
+    @AfterMethod(alwaysRun = true)
+    public void deleteHistoryDirectory() throws IOException {
+        if (directory != null) {
+            try (Stream<Path> files = Files.list(directory)) {
+                for (Path path : files.toList()) {
+                    Files.delete(path);
+                }
+            }
+            Files.delete(directory);
+        }
+    }
+
+    /**
+     * Test that dependsOnMethods is respected
+     * Validates:
+     * - A short prerequisite of a long method runs first
+     * - Its dependent follows ahead of shorter independent methods
+     */
+    @Test(description = "Prerequisites sort ahead of their dependents")
+    public void prerequisiteRunsBeforeDependents() {
+        recordHistory(Map.of("prepare", 10L, "useFixture", 1000L, "big", 800L, "small", 50L));
+
+        List<IMethodInstance> methods = List.of(
+                method("small"), method("big"), method("useFixture", "prepare"), method("prepare"));
+
+        assertEquals(names(intercept(methods, XmlSuite.ParallelMode.METHODS)),
+                List.of("prepare", "useFixture", "big", "small"),
+                "prepare (10 ms) should be ranked with the 1000 ms method waiting on it");
+    }
+
+    /**
+     * Test methods missing from the history
+     * Validates:
+     * - A new method is estimated at the median known duration
+     * - Methods of equal estimates keep the order TestNG listed them in
+     */
+    @Test(description = "Methods without history are estimated at the median; ties keep TestNG's order")
+    public void newMethodIsEstimatedAtMedian() {
+        recordHistory(Map.of("fast", 100L, "medium", 200L, "slow", 300L));
+
+        List<IMethodInstance> methods = List.of(method("fast"), method("added"), method("medium"), method("slow"));
+
+        assertEquals(names(intercept(methods, XmlSuite.ParallelMode.METHODS)),
+                List.of("slow", "added", "medium", "fast"),
+                "added should be estimated at 200 ms and stay ahead of medium");
+    }
+
+    /**
+     * Test a suite that runs sequentially
+     * Validates:
+     * - The list TestNG passed in is returned unchanged
+     */
+    @Test(description = "Non-parallel suites keep TestNG's order")
+    public void sequentialSuiteKeepsOrder() {
+        recordHistory(Map.of("fast", 100L, "slow", 300L));
+
+        List<IMethodInstance> methods = List.of(method("fast"), method("slow"));
+
+        assertSame(intercept(methods, XmlSuite.ParallelMode.NONE), methods, "Order should not change");
+    }
+
+    private void recordHistory(Map<String, Long> methodMillis) {
+        Map<String, Long> methodDurations = new LinkedHashMap<>();
+        methodMillis.forEach((name, millis) -> methodDurations.put(CLASS_NAME + "." + name, millis));
+        DurationHistory.merge(historyFile, Map.of(CLASS_NAME, 1000L), methodDurations);
+    }
+
+    private List<IMethodInstance> intercept(List<IMethodInstance> methods, XmlSuite.ParallelMode parallel) {
+        XmlSuite xmlSuite = new XmlSuite();
+        xmlSuite.setParallel(parallel);
+        ITestContext context = stub(ITestContext.class, Map.of("getCurrentXmlTest", new XmlTest(xmlSuite)));
+        return new LongestFirstInterceptor(historyFile).intercept(methods, context);
+    }
+
+    private static IMethodInstance method(String name, String... prerequisites) {
+        String[] dependsOn = new String[prerequisites.length];
+        for (int i = 0; i < prerequisites.length; i++) {
+            dependsOn[i] = CLASS_NAME + "." + prerequisites[i];
+        }
+        ITestClass testClass = stub(ITestClass.class, Map.of("getName", CLASS_NAME));
+        ITestNGMethod method = stub(ITestNGMethod.class, Map.of(
+                "getTestClass", testClass, "getMethodName", name, "getMethodsDependedUpon", dependsOn));
+        return stub(IMethodInstance.class, Map.of("getMethod", method));
+    }
+
+    private static List<String> names(List<IMethodInstance> methods) {
+        List<String> names = new ArrayList<>();
+        for (IMethodInstance instance : methods) {
+            names.add(instance.getMethod().getMethodName());
+        }
+        return names;
+    }
+
+    /**
+     * Implement an interface with fixed answers; any other call fails the test
+     */
+    private static <T> T stub(Class<T> type, Map<String, Object> answers) {
+        return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] {type}, (proxy, method, args) -> {
+            if (answers.containsKey(method.getName())) {
+                return answers.get(method.getName());
+            }
+            return switch (method.getName()) {
+                case "toString" -> type.getSimpleName() + answers;
+                case "hashCode" -> System.identityHashCode(proxy);
+                case "equals" -> proxy == args[0];
+                default -> throw new UnsupportedOperationException(type.getSimpleName() + "." + method.getName());
+            };
+        }));
+    }
+}
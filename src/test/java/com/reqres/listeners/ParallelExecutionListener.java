@@ -0,0 +1,46 @@
+package com.reqres.listeners;
+
+import org.apache.logging.log4j.Logger;
+import org.testng.IAlterSuiteListener;
+import org.testng.xml.XmlSuite;
+import com.reqres.utils.LoggerUtil;
+
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * ParallelExecutionListener Class - Applies the parallel mode and thread count to the suite
+ *
+ * System properties:
+ * - test.parallel    - none (default), methods, classes, tests or instances
+ * - test.threadCount - Worker threads used when running in parallel (default 4)
+ *
+ * Example: mvn test -Dtest.parallel=methods -Dtest.threadCount=8
+ */
+public class ParallelExecutionListener implements IAlterSuiteListener {
+
+    private static final Logger logger = LoggerUtil.getLogger(ParallelExecutionListener.class);
+
+    public static final String PARALLEL_PROPERTY = "test.parallel";
+    public static final String THREAD_COUNT_PROPERTY = "test.threadCount";
+    private static final int DEFAULT_THREAD_COUNT = 4;
+
+    @Override
+    public void alter(List<XmlSuite> suites) {
+        String mode = System.getProperty(PARALLEL_PROPERTY, "none").trim().toLowerCase(Locale.ROOT);
+        if (mode.isEmpty()) {
+            mode = "none";
+        }
+        XmlSuite.ParallelMode parallelMode = XmlSuite.ParallelMode.getValidParallel(mode);
+        int threadCount = Integer.getInteger(THREAD_COUNT_PROPERTY, DEFAULT_THREAD_COUNT);
+        if (threadCount < 1) {
+            throw new IllegalArgumentException(THREAD_COUNT_PROPERTY + " must be at least 1 but was " + threadCount);
+        }
+
+        for (XmlSuite suite : suites) {
+            suite.setParallel(parallelMode);
+            suite.setThreadCount(threadCount);
+            logger.info("Suite '{}' parallel mode: {}, thread count: {}", suite.getName(), parallelMode, threadCount);
+        }
+    }
+}
@@ -0,0 +1,204 @@
+package com.reqres.listeners;
+
+import org.apache.logging.log4j.Logger;
+import org.testng.IAlterSuiteListener;
+import org.testng.annotations.Test;
+import org.testng.xml.XmlClass;
+import org.testng.xml.XmlInclude;
+import org.testng.xml.XmlPackage;
+import org.testng.xml.XmlSuite;
+import org.testng.xml.XmlTest;
+import com.reqres.config.ConfigReader;
+import com.reqres.utils.LoggerUtil;
+
+import java.lang.reflect.Method;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+
+/**
+ * ShardingListener Class - Runs one of N duration-balanced shards of the suite
+ *
+ * When test.shard.count is above 1, every {@code <test>} of the suite is narrowed to the
+ * classes (or, with test.shard.granularity=methods, the test methods) of shard
+ * test.shard.index. Shards are balanced by the durations recorded by
+ * {@link DurationHistoryListener}: units are assigned longest first to the shard with the
+ * least estimated time. Units without history are estimated at the mean of the known ones.
+ *
+ * Every node computes the same plan as long as it sees the same history file and test
+ * classes, so shards can run as separate processes or CI machines without coordination.
+ * For CI machines, share the test-history directory (e.g. a cache plus the shard files as
+ * artifacts) so the next run can fold in every shard's measurements.
+ *
+ * Configuration:
+ * - test.shard.count       - Number of shards (default 1, no sharding)
+ * - test.shard.index       - Zero-based shard to run
+ * - test.shard.granularity - classes (default) or methods
+ * - test.history.file      - Duration history (default test-history/durations.json)
+ *
+ * Example: mvn test -Dtest.shard.count=4 -Dtest.shard.index=2
+ */
+public class ShardingListener implements IAlterSuiteListener {
+
+    private static final Logger logger = LoggerUtil.getLogger(ShardingListener.class);
+
+    @Override
+    public void alter(List<XmlSuite> suites) {
+        int shardCount = ConfigReader.getShardCount();
+        if (shardCount == 1) {
+            return;
+        }
+        int shardIndex = ConfigReader.getShardIndex();
+        boolean byMethod = ConfigReader.getShardGranularity().equals("methods");
+        DurationHistory history = DurationHistory.loadForPlanning(Path.of(ConfigReader.getTestHistoryFile()), shardCount);
+        if (history.isEmpty()) {
+            logger.warn("No test duration history yet; shards are balanced by {} count only", byMethod ? "method" : "class");
+        }
+
+        for (XmlSuite suite : suites) {
+            for (XmlTest test : suite.getTests()) {
+                List<Unit> units = units(test, byMethod, history);
+                List<List<Unit>> shards = partition(units, shardCount);
+                List<Unit> selected = shards.get(shardIndex);
+
+                test.setXmlPackages(new ArrayList<>());
+                test.setXmlClasses(toXmlClasses(selected));
+                logger.info("Test '{}' shard {}/{}: {} {} of {}, estimated {} s (all shards: {})",
+                        test.getName(), shardIndex + 1, shardCount, selected.size(), byMethod ? "methods" : "classes",
+                        units.size(), seconds(load(selected)), estimates(shards));
+            }
+        }
+    }
+
+    /**
+     * Assign units to shards, longest first, each to the currently lightest shard
+     * Ties are broken by name and shard index, so every node produces the same plan
+     */
+    static List<List<Unit>> partition(List<Unit> units, int shardCount) {
+        List<Unit> ordered = new ArrayList<>(units);
+        ordered.sort(Comparator.comparingLong((Unit unit) -> unit.millis).reversed().thenComparing(Unit::name));
+
+        List<List<Unit>> shards = new ArrayList<>(shardCount);
+        long[] loads = new long[shardCount];
+        for (int i = 0; i < shardCount; i++) {
+            shards.add(new ArrayList<>());
+        }
+        for (Unit unit : ordered) {
+            int lightest = 0;
+            for (int i = 1; i < shardCount; i++) {
+                if (loads[i] < loads[lightest]) {
+                    lightest = i;
+                }
+            }
+            shards.get(lightest).add(unit);
+            loads[lightest] += unit.millis;
+        }
+        for (List<Unit> shard : shards) {
+            shard.sort(Comparator.comparing(Unit::name));
+        }
+        return shards;
+    }
+
+    private static List<Unit> units(XmlTest test, boolean byMethod, DurationHistory history) {
+        TreeSet<String> classNames = new TreeSet<>();
+        test.getXmlClasses().forEach(xmlClass -> classNames.add(xmlClass.getName()));
+        for (XmlPackage xmlPackage : test.getXmlPackages()) {
+            xmlPackage.getXmlClasses().forEach(xmlClass -> classNames.add(xmlClass.getName()));
+        }
+
+        List<Unit> units = new ArrayList<>();
+        for (String className : classNames) {
+            if (byMethod) {
+                for (String methodName : testMethods(className)) {
+                    units.add(new Unit(className, methodName, history.getMethodMillis(className, methodName)));
+                }
+            } else {
+                units.add(new Unit(className, null, history.getClassMillis(className)));
+            }
+        }
+
+        long known = units.stream().filter(unit -> unit.millis >= 0).count();
+        long estimate = known == 0 ? 1 : Math.max(1,
+                units.stream().filter(unit -> unit.millis >= 0).mapToLong(unit -> unit.millis).sum() / known);
+        List<Unit> estimated = new ArrayList<>(units.size());
+        for (Unit unit : units) {
+            estimated.add(unit.millis >= 0 ? unit : new Unit(unit.className, unit.methodName, estimate));
+        }
+        return estimated;
+    }
+
+    private static TreeSet<String> testMethods(String className) {
+        Class<?> testClass;
+        try {
+            testClass = Class.forName(className, false, Thread.currentThread().getContextClassLoader());
+        } catch (ClassNotFoundException e) {
+            throw new IllegalStateException("Test class not found while sharding: " + className, e);
+        }
+        boolean classLevelTest = testClass.isAnnotationPresent(Test.class);
+        TreeSet<String> methods = new TreeSet<>();
+        for (Method method : testClass.getMethods()) {
+            if (method.isAnnotationPresent(Test.class)
+                    || (classLevelTest && method.getDeclaringClass() == testClass)) {
+                methods.add(method.getName());
+            }
+        }
+        return methods;
+    }
+
+    private static List<XmlClass> toXmlClasses(List<Unit> units) {
+        Map<String, List<XmlInclude>> includes = new LinkedHashMap<>();
+        for (Unit unit : units) {
+            List<XmlInclude> methods = includes.computeIfAbsent(unit.className, name -> new ArrayList<>());
+            if (unit.methodName != null) {
+                methods.add(new XmlInclude(unit.methodName));
+            }
+        }
+        List<XmlClass> classes = new ArrayList<>(includes.size());
+        includes.forEach((className, methods) -> {
+            XmlClass xmlClass = new XmlClass(className, false);
+            xmlClass.setIncludedMethods(methods);
+            classes.add(xmlClass);
+        });
+        return classes;
+    }
+
+    private static long load(List<Unit> shard) {
+        return shard.stream().mapToLong(unit -> unit.millis).sum();
+    }
+
+    private static String estimates(List<List<Unit>> shards) {
+        StringBuilder estimates = new StringBuilder();
+        for (List<Unit> shard : shards) {
+            estimates.append(estimates.length() == 0 ? "" : ", ").append(seconds(load(shard)));
+        }
+        return estimates.toString();
+    }
+
+    private static String seconds(long millis) {
+        return String.format("%.1f", millis / 1000.0);
+    }
+
+    /**
+     * A class, or one test method of a class, with its estimated duration
+     */
+    static final class Unit {
+
+        private final String className;
+        private final String methodName;
+        private final long millis;
+
+        Unit(String className, String methodName, long millis) {
+            this.className = className;
+            this.methodName = methodName;
+            this.millis = millis;
+        }
+
+        String name() {
+            return methodName == null ? className : className + "." + methodName;
+        }
+    }
+}
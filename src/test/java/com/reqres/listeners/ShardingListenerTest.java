@@ -0,0 +1,92 @@
+package com.reqres.listeners;
+
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeSet;
+
+import static org.testng.Assert.*;
+
+/**
+ * ShardingListenerTest Class - Test cases for the duration-balanced shard plan
+ *
+ * Tests:
+ * - Units are spread so shard estimates end up even
+ * - The plan does not depend on the order units are listed in
+ * - With more shards than units every unit still runs exactly once
+ */
+public class ShardingListenerTest {
+
+    private static final Map<String, Long> DURATIONS = Map.of(
+            "A", 50L, "B", 40L, "C", 30L, "D", 20L, "E", 10L, "F", 10L);
+
+    /**
+     * Test that shards are balanced by duration
+     * Validates:
+     * - Every unit is assigned to exactly one shard
+     * - Both shards are estimated at the same time
+     */
+    @Test(description = "Shards are balanced by recorded duration")
+    public void shardsAreBalanced() {
+        List<List<ShardingListener.Unit>> shards = ShardingListener.partition(units(DURATIONS.keySet()), 2);
+
+        assertEquals(names(shards.get(0)).size() + names(shards.get(1)).size(), DURATIONS.size(),
+                "Every unit should be assigned once");
+        assertEquals(load(shards.get(0)), 80L, "Shard 1 should be estimated at half the total: " + plan(shards));
+        assertEquals(load(shards.get(1)), 80L, "Shard 2 should be estimated at half the total: " + plan(shards));
+    }
+
+    /**
+     * Test that every node computes the same plan
+     * Validates:
+     * - Shuffled input, including units with equal durations, gives the same shards
+     */
+    @Test(description = "Shard plan does not depend on input order")
+    public void planIsDeterministic() {
+        List<String> expected = plan(ShardingListener.partition(units(new TreeSet<>(DURATIONS.keySet())), 3));
+
+        Random random = new Random(42);
+        for (int i = 0; i < 10; i++) {
+            List<String> shuffled = new ArrayList<>(DURATIONS.keySet());
+            Collections.shuffle(shuffled, random);
+            assertEquals(plan(ShardingListener.partition(units(shuffled), 3)), expected, "Order " + shuffled);
+        }
+    }
+
+    /**
+     * Test more shards than units
+     * Validates:
+     * - Each unit runs in one shard and the remaining shards are empty
+     */
+    @Test(description = "More shards than units leaves the extra shards empty")
+    public void moreShardsThanUnits() {
+        List<List<ShardingListener.Unit>> shards = ShardingListener.partition(units(List.of("A", "B")), 4);
+
+        assertEquals(shards.size(), 4, "One list per shard");
+        assertEquals(plan(shards), List.of("[A]", "[B]", "[]", "[]"), "Longest unit should go to the first shard");
+    }
+
+    private static List<ShardingListener.Unit> units(Iterable<String> names) {
+        List<ShardingListener.Unit> units = new ArrayList<>();
+        for (String name : names) {
+            units.add(new ShardingListener.Unit(name, null, DURATIONS.get(name)));
+        }
+        return units;
+    }
+
+    private static List<String> names(List<ShardingListener.Unit> shard) {
+        return shard.stream().map(ShardingListener.Unit::name).toList();
+    }
+
+    private static long load(List<ShardingListener.Unit> shard) {
+        return shard.stream().mapToLong(unit -> DURATIONS.get(unit.name())).sum();
+    }
+
+    private static List<String> plan(List<List<ShardingListener.Unit>> shards) {
+        return shards.stream().map(shard -> names(shard).toString()).toList();
+    }
+}
@@ -0,0 +1,27 @@
+package com.reqres.listeners;
+
+import org.testng.ISuite;
+import org.testng.ISuiteListener;
+import com.reqres.config.ConfigReader;
+import com.reqres.stub.HttpbinStubServer;
+
+/**
+ * StubServerListener Class - Manages the embedded httpbin stub server lifecycle
+ *
+ * Starts the stub before any test class is set up and stops it once the
+ * suite has finished. Does nothing when a remote target is selected.
+ */
+public class StubServerListener implements ISuiteListener {
+
+    @Override
+    public void onStart(ISuite suite) {
+        if (ConfigReader.isStubTarget()) {
+            HttpbinStubServer.startShared();
+        }
+    }
+
+    @Override
+    public void onFinish(ISuite suite) {
+        HttpbinStubServer.stopShared();
+    }
+}
@@ -0,0 +1,101 @@
+package com.reqres.load;
+
+import com.reqres.config.ConfigReader;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * LoadProfile Class - Shape of a load run
+ * 
+ * Settings (see {@link ConfigReader}; set in a profile, the environment or as system properties):
+ * - load.virtualUsers    - Concurrent virtual users (default 4)
+ * - load.durationSeconds - Measured run time (default 10)
+ * - load.targetRate      - Total requests per second across all users, 0 for unthrottled (default 0)
+ * - load.workloads       - Comma separated {@link Workload} names, or "all" (default all)
+ * - load.maxErrorRate    - Share of failed requests the run tolerates, e.g. 0.05 when the
+ *                          stub injects faults (stub.faults); default 0
+ */
+public class LoadProfile {
+
+    private final int virtualUsers;
+    private final Duration duration;
+    private final double targetRate;
+    private final List<Workload> workloads;
+    private final double maxErrorRate;
+
+    public LoadProfile(int virtualUsers, Duration duration, double targetRate, List<Workload> workloads,
+                       double maxErrorRate) {
+        if (virtualUsers < 1) {
+            throw new IllegalArgumentException("virtualUsers must be at least 1 but was " + virtualUsers);
+        }
+        if (duration.isZero() || duration.isNegative()) {
+            throw new IllegalArgumentException("duration must be positive but was " + duration);
+        }
+        if (targetRate < 0) {
+            throw new IllegalArgumentException("targetRate must not be negative but was " + targetRate);
+        }
+        if (workloads.isEmpty()) {
+            throw new IllegalArgumentException("At least one workload is required");
+        }
+        if (!(maxErrorRate >= 0 && maxErrorRate <= 1)) {
+            throw new IllegalArgumentException("maxErrorRate must be between 0 and 1 but was " + maxErrorRate);
+        }
+        this.virtualUsers = virtualUsers;
+        this.duration = duration;
+        this.targetRate = targetRate;
+        this.workloads = List.copyOf(workloads);
+        this.maxErrorRate = maxErrorRate;
+    }
+
+    /**
+     * Build a profile from the resolved configuration
+     * 
+     * @return LoadProfile object
+     */
+    public static LoadProfile fromConfig() {
+        return new LoadProfile(
+                ConfigReader.getLoadVirtualUsers(),
+                Duration.ofSeconds(ConfigReader.getLoadDurationSeconds()),
+                ConfigReader.getLoadTargetRate(),
+                Workload.parse(ConfigReader.getLoadWorkloads()),
+                ConfigReader.getLoadMaxErrorRate());
+    }
+
+    public int getVirtualUsers() {
+        return virtualUsers;
+    }
+
+    public Duration getDuration() {
+        return duration;
+    }
+
+    /**
+     * Get the total target rate across all virtual users
+     * 
+     * @return Requests per second, 0 when unthrottled
+     */
+    public double getTargetRate() {
+        return targetRate;
+    }
+
+    public List<Workload> getWorkloads() {
+        return workloads;
+    }
+
+    /**
+     * Get the share of failed requests the run tolerates
+     * 
+     * @return Error rate between 0 and 1
+     */
+    public double getMaxErrorRate() {
+        return maxErrorRate;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("virtualUsers=%d, duration=%ss, targetRate=%s, workloads=%s, maxErrorRate=%s",
+                virtualUsers, duration.getSeconds(), targetRate == 0 ? "unthrottled" : targetRate + "/s", workloads,
+                maxErrorRate);
+    }
+}
@@ -0,0 +1,146 @@
+package com.reqres.load;
+
+import org.HdrHistogram.Histogram;
+import org.json.simple.JSONValue;
+import com.reqres.utils.LatencyHistograms;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * LoadReport Class - Result of a load run
+ * 
+ * Reports per endpoint: request, error and contract violation counts, throughput and
+ * latency percentiles (p50/p90/p99/p99.9, mean and max in milliseconds)
+ */
+public class LoadReport {
+
+    private final LoadProfile profile;
+    private final long elapsedNanos;
+    private final Map<Workload, EndpointResult> endpoints;
+
+    LoadReport(LoadProfile profile, long elapsedNanos, Map<Workload, EndpointResult> endpoints) {
+        this.profile = profile;
+        this.elapsedNanos = elapsedNanos;
+        this.endpoints = endpoints;
+    }
+
+    public Map<Workload, EndpointResult> getEndpoints() {
+        return endpoints;
+    }
+
+    /**
+     * Get the total number of requests across all endpoints
+     * 
+     * @return Request count
+     */
+    public long getTotalRequests() {
+        return endpoints.values().stream().mapToLong(EndpointResult::getCount).sum();
+    }
+
+    /**
+     * Get the total number of failed requests (exceptions, status >= 400 or contract violations)
+     * 
+     * @return Error count
+     */
+    public long getTotalErrors() {
+        return endpoints.values().stream().mapToLong(EndpointResult::getErrors).sum();
+    }
+
+    /**
+     * Render the report as a JSON document
+     * 
+     * @return JSON string
+     */
+    public String toJson() {
+        double elapsedSeconds = elapsedNanos / 1e9;
+
+        Map<String, Object> profileJson = new LinkedHashMap<>();
+        profileJson.put("virtualUsers", profile.getVirtualUsers());
+        profileJson.put("durationSeconds", profile.getDuration().getSeconds());
+        profileJson.put("targetRate", profile.getTargetRate());
+
+        Map<String, Object> endpointsJson = new LinkedHashMap<>();
+        for (Map.Entry<Workload, EndpointResult> entry : endpoints.entrySet()) {
+            EndpointResult result = entry.getValue();
+            Map<String, Object> endpoint = new LinkedHashMap<>();
+            endpoint.put("requests", result.getCount());
+            endpoint.put("errors", result.getErrors());
+            endpoint.put("contractViolations", result.getContractViolations());
+            endpoint.put("throughputPerSecond", LatencyHistograms.round(result.getCount() / elapsedSeconds));
+            LatencyHistograms.putLatencies(endpoint, result.histogram);
+            endpointsJson.put(entry.getKey().getEndpointName(), endpoint);
+        }
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("profile", profileJson);
+        report.put("elapsedSeconds", LatencyHistograms.round(elapsedSeconds));
+        report.put("totalRequests", getTotalRequests());
+        report.put("totalErrors", getTotalErrors());
+        report.put("throughputPerSecond", LatencyHistograms.round(getTotalRequests() / elapsedSeconds));
+        report.put("endpoints", endpointsJson);
+        return JSONValue.toJSONString(report);
+    }
+
+    /**
+     * Write the JSON report to a file, creating parent directories as needed
+     * 
+     * @param file Target file
+     */
+    public void writeTo(Path file) throws IOException {
+        LatencyHistograms.writeReport(file, toJson());
+    }
+
+    /**
+     * Attach the JSON report to the running Allure test
+     */
+    public void attachToAllure() {
+        LatencyHistograms.attachReport("Load report", toJson());
+    }
+
+    /**
+     * Latency histogram (microseconds), error and contract violation counts of one endpoint
+     */
+    public static final class EndpointResult {
+
+        private final Histogram histogram;
+        private final long errors;
+        private final long contractViolations;
+
+        EndpointResult(Histogram histogram, long errors, long contractViolations) {
+            this.histogram = histogram;
+            this.errors = errors;
+            this.contractViolations = contractViolations;
+        }
+
+        public long getCount() {
+            return histogram.getTotalCount();
+        }
+
+        public long getErrors() {
+            return errors;
+        }
+
+        /**
+         * Get the number of responses that did not match the endpoint's schema contract
+         * These are included in {@link #getErrors()}
+         * 
+         * @return Contract violation count
+         */
+        public long getContractViolations() {
+            return contractViolations;
+        }
+
+        /**
+         * Get a latency percentile in milliseconds
+         * 
+         * @param percentile Percentile between 0 and 100
+         * @return Latency in milliseconds
+         */
+        public double percentileMillis(double percentile) {
+            return LatencyHistograms.percentileMillis(histogram, percentile);
+        }
+    }
+}
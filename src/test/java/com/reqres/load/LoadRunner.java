@@ -0,0 +1,156 @@
+package com.reqres.load;
+
+import io.restassured.response.Response;
+import io.restassured.specification.RequestSpecification;
+import org.HdrHistogram.Histogram;
+import org.apache.logging.log4j.Logger;
+import com.reqres.utils.LatencyHistograms;
+import com.reqres.utils.LoggerUtil;
+import com.reqres.utils.RequestSpecificationUtil;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * LoadRunner Class - Drives {@link Workload}s with a fixed number of virtual users
+ * 
+ * This class provides:
+ * - One thread and one request specification per virtual user
+ * - Round-robin rotation through the selected workloads
+ * - Optional global rate limiting; latency is then measured from each request's
+ *   scheduled start so a slow target cannot hide queueing delay (coordinated omission)
+ * - Per-endpoint HdrHistogram latency recording in microseconds
+ * - A schema contract check of every successful response; violations count as errors
+ */
+public class LoadRunner {
+
+    private static final Logger logger = LoggerUtil.getLogger(LoadRunner.class);
+
+    private final LoadProfile profile;
+    private final Map<Workload, EndpointRecorder> recorders = new EnumMap<>(Workload.class);
+
+    public LoadRunner(LoadProfile profile) {
+        this.profile = profile;
+        for (Workload workload : profile.getWorkloads()) {
+            recorders.put(workload, new EndpointRecorder());
+        }
+    }
+
+    /**
+     * Run the profile to completion
+     * 
+     * @return LoadReport with per-endpoint throughput and latency percentiles
+     */
+    public LoadReport run() throws InterruptedException {
+        logger.info("Starting load run: {}", profile);
+
+        int virtualUsers = profile.getVirtualUsers();
+        long intervalNanos = profile.getTargetRate() > 0 ? (long) (1_000_000_000L / profile.getTargetRate()) : 0;
+        long startNanos = System.nanoTime();
+        long endNanos = startNanos + profile.getDuration().toNanos();
+        AtomicLong nextSlot = new AtomicLong(startNanos);
+
+        AtomicInteger threadIndex = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(virtualUsers, runnable -> {
+            Thread thread = new Thread(runnable, "load-vu-" + threadIndex.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        try {
+            Future<?>[] users = new Future<?>[virtualUsers];
+            for (int user = 0; user < virtualUsers; user++) {
+                int offset = user;
+                users[user] = executor.submit(() -> runVirtualUser(offset, intervalNanos, endNanos, nextSlot));
+            }
+            for (Future<?> user : users) {
+                try {
+                    user.get();
+                } catch (ExecutionException e) {
+                    logger.error("Virtual user aborted", e.getCause());
+                }
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        long elapsedNanos = System.nanoTime() - startNanos;
+        LoadReport report = new LoadReport(profile, elapsedNanos, snapshot());
+        logger.info("Finished load run in {} ms", TimeUnit.NANOSECONDS.toMillis(elapsedNanos));
+        return report;
+    }
+
+    private void runVirtualUser(int offset, long intervalNanos, long endNanos, AtomicLong nextSlot) {
+        RequestSpecification requestSpec = RequestSpecificationUtil.getRequestSpecificationWithoutLogging();
+        List<Workload> workloads = profile.getWorkloads();
+        int iteration = offset;
+
+        while (!Thread.currentThread().isInterrupted()) {
+            long intendedStart;
+            if (intervalNanos > 0) {
+                intendedStart = nextSlot.getAndAdd(intervalNanos);
+                if (intendedStart >= endNanos) {
+                    return;
+                }
+                long wait;
+                while ((wait = intendedStart - System.nanoTime()) > 0) {
+                    LockSupport.parkNanos(wait);
+                }
+            } else {
+                intendedStart = System.nanoTime();
+                if (intendedStart >= endNanos) {
+                    return;
+                }
+            }
+
+            Workload workload = workloads.get(iteration++ % workloads.size());
+            EndpointRecorder recorder = recorders.get(workload);
+            boolean failed;
+            try {
+                Response response = workload.execute(requestSpec);
+                failed = response.getStatusCode() >= 400;
+                if (!failed) {
+                    List<String> violations = workload.getContract().validate(response);
+                    if (!violations.isEmpty()) {
+                        recorder.contractViolations.increment();
+                        logger.debug("{} broke its contract: {}", workload.getEndpointName(), violations);
+                        failed = true;
+                    }
+                }
+            } catch (RuntimeException e) {
+                logger.debug("{} failed: {}", workload.getEndpointName(), e.getMessage());
+                failed = true;
+            }
+            LatencyHistograms.recordNanos(recorder.histogram, System.nanoTime() - intendedStart);
+            if (failed) {
+                recorder.errors.increment();
+            }
+        }
+    }
+
+    private Map<Workload, LoadReport.EndpointResult> snapshot() {
+        Map<Workload, LoadReport.EndpointResult> results = new EnumMap<>(Workload.class);
+        for (Map.Entry<Workload, EndpointRecorder> entry : recorders.entrySet()) {
+            Histogram copy = entry.getValue().histogram.copy();
+            results.put(entry.getKey(), new LoadReport.EndpointResult(copy, entry.getValue().errors.sum(),
+                    entry.getValue().contractViolations.sum()));
+        }
+        return results;
+    }
+
+    private static final class EndpointRecorder {
+
+        private final Histogram histogram = LatencyHistograms.createConcurrent();
+        private final LongAdder errors = new LongAdder();
+        private final LongAdder contractViolations = new LongAdder();
+    }
+}
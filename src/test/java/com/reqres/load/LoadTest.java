@@ -0,0 +1,56 @@
+package com.reqres.load;
+
+import org.testng.annotations.Test;
+import org.apache.logging.log4j.Logger;
+import com.reqres.base.BaseTest;
+import com.reqres.utils.LoggerUtil;
+
+import java.nio.file.Path;
+
+import static org.testng.Assert.*;
+
+/**
+ * LoadTest Class - Runs the api wrappers as a load test
+ * 
+ * Not part of the functional suite; run with:
+ * mvn test -Pload -Dload.virtualUsers=8 -Dload.durationSeconds=30 -Dload.targetRate=200
+ * 
+ * Against a degraded stub, tolerate the injected failures:
+ * mvn test -Pload -Dstub.faults=faults/degraded.json -Dload.maxErrorRate=0.05
+ * 
+ * The JSON report is written to target/load/load-report.json and attached to Allure.
+ */
+public class LoadTest extends BaseTest {
+
+    private static final Logger logger = LoggerUtil.getLogger(LoadTest.class);
+    private static final Path REPORT_FILE = Path.of("target", "load", "load-report.json");
+
+    /**
+     * Run the load profile from system properties
+     * Validates:
+     * - Every selected endpoint received traffic
+     * - No more requests failed than load.maxErrorRate allows (none by default)
+     */
+    @Test(description = "Load run over the api wrappers")
+    public void runLoadProfile() throws Exception {
+        LoadProfile profile = LoadProfile.fromConfig();
+
+        LoadReport report = new LoadRunner(profile).run();
+        report.writeTo(REPORT_FILE);
+        report.attachToAllure();
+
+        logger.info("Load report written to {}: {}", REPORT_FILE, report.toJson());
+
+        for (Workload workload : profile.getWorkloads()) {
+            assertTrue(report.getEndpoints().get(workload).getCount() > 0,
+                    "Endpoint " + workload.getEndpointName() + " should have received requests");
+        }
+        if (profile.getMaxErrorRate() == 0) {
+            assertEquals(report.getTotalErrors(), 0, "Load run should complete without errors");
+        } else {
+            double errorRate = (double) report.getTotalErrors() / report.getTotalRequests();
+            assertTrue(errorRate <= profile.getMaxErrorRate(), "Error rate " + errorRate
+                    + " should not exceed load.maxErrorRate " + profile.getMaxErrorRate());
+        }
+    }
+}
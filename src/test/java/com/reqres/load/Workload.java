@@ -0,0 +1,123 @@
+package com.reqres.load;
+
+import io.restassured.response.Response;
+import io.restassured.specification.RequestSpecification;
+import com.reqres.api.LoginAPI;
+import com.reqres.api.RegisterAPI;
+import com.reqres.api.UserAPI;
+import com.reqres.contract.ResponseContract;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Workload Enum - Endpoint wrapper calls that can be driven as load
+ * 
+ * Each constant executes exactly one request through the regular api wrappers,
+ * so load runs exercise the same code path as the functional tests.
+ * Responses are checked against the wrapper's {@link ResponseContract}.
+ */
+public enum Workload {
+
+    GET_ALL_USERS("UserAPI.getAllUsers", ResponseContract.GET_ALL_USERS) {
+        @Override
+        public Response execute(RequestSpecification requestSpec) {
+            return UserAPI.getAllUsers(requestSpec, 1);
+        }
+    },
+    GET_USER_BY_ID("UserAPI.getUserById", ResponseContract.GET_USER_BY_ID) {
+        @Override
+        public Response execute(RequestSpecification requestSpec) {
+            return UserAPI.getUserById(requestSpec, 2);
+        }
+    },
+    CREATE_USER("UserAPI.createUser", ResponseContract.CREATE_USER) {
+        @Override
+        public Response execute(RequestSpecification requestSpec) {
+            return UserAPI.createUser(requestSpec, "Load User", "Performance Engineer");
+        }
+    },
+    UPDATE_USER("UserAPI.updateUser", ResponseContract.UPDATE_USER) {
+        @Override
+        public Response execute(RequestSpecification requestSpec) {
+            return UserAPI.updateUser(requestSpec, 2, "Load User", "Lead");
+        }
+    },
+    PARTIAL_UPDATE_USER("UserAPI.partialUpdateUser", ResponseContract.PARTIAL_UPDATE_USER) {
+        @Override
+        public Response execute(RequestSpecification requestSpec) {
+            return UserAPI.partialUpdateUser(requestSpec, 2, "Load User", "Manager");
+        }
+    },
+    DELETE_USER("UserAPI.deleteUser", ResponseContract.DELETE_USER) {
+        @Override
+        public Response execute(RequestSpecification requestSpec) {
+            return UserAPI.deleteUser(requestSpec, 2);
+        }
+    },
+    LOGIN("LoginAPI.loginWithValidCredentials", ResponseContract.LOGIN_WITH_VALID_CREDENTIALS) {
+        @Override
+        public Response execute(RequestSpecification requestSpec) {
+            return LoginAPI.loginWithValidCredentials(requestSpec, "eve.holt@reqres.in", "cityslicka");
+        }
+    },
+    REGISTER("RegisterAPI.registerWithValidCredentials", ResponseContract.REGISTER_WITH_VALID_CREDENTIALS) {
+        @Override
+        public Response execute(RequestSpecification requestSpec) {
+            return RegisterAPI.registerWithValidCredentials(requestSpec, "eve.holt@reqres.in", "pistol");
+        }
+    };
+
+    private final String endpointName;
+    private final ResponseContract contract;
+
+    Workload(String endpointName, ResponseContract contract) {
+        this.endpointName = endpointName;
+        this.contract = contract;
+    }
+
+    /**
+     * Execute one request of this workload
+     * 
+     * @param requestSpec RequestSpecification object
+     * @return Response object
+     */
+    public abstract Response execute(RequestSpecification requestSpec);
+
+    /**
+     * Get the wrapper method name used as the endpoint key in reports
+     * 
+     * @return Endpoint name such as UserAPI.createUser
+     */
+    public String getEndpointName() {
+        return endpointName;
+    }
+
+    /**
+     * Get the schema contract every response of this workload must match
+     * 
+     * @return ResponseContract of the wrapper method
+     */
+    public ResponseContract getContract() {
+        return contract;
+    }
+
+    /**
+     * Parse a comma separated list of workload names (case-insensitive)
+     * 
+     * @param names Names such as "get_all_users,login", or "all"
+     * @return Selected workloads in the given order
+     */
+    public static List<Workload> parse(String names) {
+        List<Workload> workloads = new ArrayList<>();
+        if (names == null || names.isBlank() || "all".equalsIgnoreCase(names.trim())) {
+            workloads.addAll(List.of(values()));
+            return workloads;
+        }
+        for (String name : names.split(",")) {
+            workloads.add(valueOf(name.trim().toUpperCase(Locale.ROOT)));
+        }
+        return workloads;
+    }
+}
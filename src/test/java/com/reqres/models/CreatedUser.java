@@ -0,0 +1,17 @@
+package com.reqres.models;
+
+import com.reqres.json.JsonModel;
+
+/**
+ * CreatedUser Record - Body of a create user response
+ *
+ * ReqRes assigns id and createdAt; an httpbin echo only carries name and job.
+ *
+ * @param id Assigned user ID
+ * @param name User name
+ * @param job User job
+ * @param createdAt Creation timestamp
+ */
+@JsonModel
+public record CreatedUser(String id, String name, String job, String createdAt) {
+}
@@ -0,0 +1,13 @@
+package com.reqres.models;
+
+import com.reqres.json.JsonModel;
+
+/**
+ * Credentials Record - Login and register request body as echoed back
+ *
+ * @param email User email
+ * @param password User password, null when it was not sent
+ */
+@JsonModel
+public record Credentials(String email, String password) {
+}
@@ -0,0 +1,24 @@
+package com.reqres.models;
+
+import com.reqres.json.JsonModel;
+
+import java.util.Map;
+
+/**
+ * HttpbinEcho Record - The httpbin echo of a request
+ *
+ * Decoded by the generated HttpbinEchoReader, which takes the reader of the echoed body.
+ *
+ * args holds single-valued query parameters only: httpbin echoes a repeated parameter
+ * (?id=1&id=2) as an array, which fails to decode as a string. Read such echoes with
+ * ResponseView instead; @JsonModel has no type for a value that is a string or an array.
+ *
+ * @param args Query parameters, one value each
+ * @param json Request body as parsed by the server, null for GET or a non-JSON body
+ * @param headers Request headers as received by the server
+ * @param url Full request URL
+ * @param <T> Type of the echoed body
+ */
+@JsonModel
+public record HttpbinEcho<T>(Map<String, String> args, T json, Map<String, String> headers, String url) {
+}
@@ -0,0 +1,51 @@
+package com.reqres.models;
+
+import io.restassured.response.Response;
+import com.reqres.utils.DirectResponse;
+
+/**
+ * TypedResponses Class - Decodes responses into @JsonModel records for the typed api wrappers
+ *
+ * Decoding goes through the readers generated at compile time, straight from the response
+ * bytes; RestAssured's reflective object mapping and Groovy JsonPath are not involved.
+ */
+public final class TypedResponses {
+
+    private TypedResponses() {
+    }
+
+    /**
+     * Decode the echoed request body of an httpbin response
+     *
+     * @param endpointName Wrapper method, for the error message
+     * @param response RestAssured Response
+     * @param echoReader Reader of the echo with the body type
+     * @param <T> Body type
+     * @return Decoded body, null if the server did not parse one
+     * @throws IllegalStateException if the response is an error status
+     */
+    public static <T> T echoedJson(String endpointName, Response response, HttpbinEchoReader<T> echoReader) {
+        return echoedJson(endpointName, response.getStatusCode(), response.asByteArray(), echoReader);
+    }
+
+    /**
+     * Decode the echoed request body of an httpbin response from the direct request path
+     *
+     * @param endpointName Wrapper method, for the error message
+     * @param response DirectResponse
+     * @param echoReader Reader of the echo with the body type
+     * @param <T> Body type
+     * @return Decoded body, null if the server did not parse one
+     * @throws IllegalStateException if the response is an error status
+     */
+    public static <T> T echoedJson(String endpointName, DirectResponse response, HttpbinEchoReader<T> echoReader) {
+        return echoedJson(endpointName, response.getStatusCode(), response.asByteArray(), echoReader);
+    }
+
+    private static <T> T echoedJson(String endpointName, int statusCode, byte[] body, HttpbinEchoReader<T> echoReader) {
+        if (statusCode >= 400) {
+            throw new IllegalStateException(endpointName + " returned status " + statusCode);
+        }
+        return echoReader.read(body).json();
+    }
+}
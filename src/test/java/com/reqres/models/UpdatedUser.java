@@ -0,0 +1,17 @@
+package com.reqres.models;
+
+import com.reqres.json.JsonModel;
+
+/**
+ * UpdatedUser Record - Body of a PUT or PATCH user response
+ *
+ * ReqRes adds updatedAt; an httpbin echo carries the submitted id, name and job.
+ *
+ * @param id User ID
+ * @param name User name
+ * @param job User job
+ * @param updatedAt Update timestamp
+ */
+@JsonModel
+public record UpdatedUser(Integer id, String name, String job, String updatedAt) {
+}
@@ -0,0 +1,401 @@
+package com.reqres.stub;
+
+import org.json.simple.JSONValue;
+import org.json.simple.parser.JSONParser;
+import org.json.simple.parser.ParseException;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * FaultInjector Class - Per-route fault rules of a {@link HttpbinStubServer}
+ *
+ * This class provides:
+ * - Rules keyed by route: "POST /post" (method and path), "/post" (any method) or "*" (any request);
+ *   the most specific matching rule applies
+ * - Rule changes at runtime, from test code or over HTTP (see {@link StubControlHandler})
+ * - A seedable random source, so a fault sequence can be reproduced
+ * - Counters of every injected fault
+ *
+ * Decisions are drawn on the stub's selector thread; rules may be changed from any thread.
+ *
+ * JSON document accepted by {@link #load(String)}, PUT /__control/faults and stub.faults:
+ * {"seed": 42, "rules": {"GET /get": {"latency": {"distribution": "exponential", "meanMillis": 20, "maxMillis": 2000}},
+ *                        "*": {"errorRate": 0.02, "errorStatus": 503}}}
+ */
+public final class FaultInjector {
+
+    /** Route that matches every request without a more specific rule */
+    public static final String ANY_ROUTE = "*";
+
+    private static final Set<String> DOCUMENT_KEYS = Set.of("seed", "rules");
+    private static final Map<Integer, String> REASON_PHRASES = Map.of(
+            429, "Too Many Requests",
+            500, "Internal Server Error",
+            502, "Bad Gateway",
+            503, "Service Unavailable",
+            504, "Gateway Timeout");
+
+    private final Map<String, ActiveRule> rules = new ConcurrentHashMap<>();
+    private volatile SplittableRandom random = new SplittableRandom();
+
+    private final LongAdder matched = new LongAdder();
+    private final LongAdder delayed = new LongAdder();
+    private final LongAdder resets = new LongAdder();
+    private final LongAdder errors = new LongAdder();
+    private final LongAdder dripped = new LongAdder();
+
+    /**
+     * Add or replace the rule of a route
+     *
+     * @param route "METHOD /path", "/path" or "*"
+     * @param rule Faults to inject
+     */
+    public void setRule(String route, FaultRule rule) {
+        rules.put(normalize(route), new ActiveRule(rule));
+    }
+
+    /**
+     * Remove the rule of a route, if any
+     *
+     * @param route "METHOD /path", "/path" or "*"
+     */
+    public void removeRule(String route) {
+        rules.remove(normalize(route));
+    }
+
+    /**
+     * Remove every rule; counters are kept
+     */
+    public void clear() {
+        rules.clear();
+    }
+
+    /**
+     * Restart the random source, so the same requests draw the same faults
+     *
+     * @param seed Random seed
+     */
+    public void reseed(long seed) {
+        random = new SplittableRandom(seed);
+    }
+
+    /**
+     * Get the active rules
+     *
+     * @return Rules by route; rules whose times ran out are dropped
+     */
+    public Map<String, FaultRule> getRules() {
+        Map<String, FaultRule> active = new LinkedHashMap<>();
+        rules.forEach((route, rule) -> {
+            if (!rule.isExpired()) {
+                active.put(route, rule.rule);
+            }
+        });
+        return active;
+    }
+
+    public Statistics getStatistics() {
+        return new Statistics(matched.sum(), delayed.sum(), resets.sum(), errors.sum(), dripped.sum());
+    }
+
+    /**
+     * Replace all rules with those of a JSON document
+     *
+     * @param json Document with "rules" and an optional "seed"
+     * @throws IllegalArgumentException if the document or a rule is invalid; the rules are then unchanged
+     */
+    public void load(String json) {
+        Object document;
+        try {
+            document = new JSONParser().parse(json);
+        } catch (ParseException e) {
+            throw new IllegalArgumentException("Fault rules are not valid JSON: " + e, e);
+        }
+        if (!(document instanceof Map<?, ?> root)) {
+            throw new IllegalArgumentException("Fault rules must be a JSON object");
+        }
+        for (Object key : root.keySet()) {
+            if (!DOCUMENT_KEYS.contains(key)) {
+                throw new IllegalArgumentException("Unknown fault document key '" + key + "', expected one of " + DOCUMENT_KEYS);
+            }
+        }
+        Map<String, ActiveRule> parsed = new LinkedHashMap<>();
+        Object routes = root.get("rules");
+        if (routes != null && !(routes instanceof Map)) {
+            throw new IllegalArgumentException("rules must be an object of route to rule");
+        }
+        if (routes != null) {
+            for (Map.Entry<?, ?> entry : ((Map<?, ?>) routes).entrySet()) {
+                if (!(entry.getValue() instanceof Map<?, ?> rule)) {
+                    throw new IllegalArgumentException("Rule of " + entry.getKey() + " must be an object");
+                }
+                try {
+                    parsed.put(normalize(String.valueOf(entry.getKey())), new ActiveRule(FaultRule.fromJson(rule)));
+                } catch (IllegalArgumentException e) {
+                    throw new IllegalArgumentException("Invalid rule for " + entry.getKey() + ": " + e.getMessage(), e);
+                }
+            }
+        }
+        if (root.containsKey("seed")) {
+            reseed(FaultRule.number(root, "seed").longValue());
+        }
+        rules.clear();
+        rules.putAll(parsed);
+    }
+
+    /**
+     * Replace all rules with those of a JSON file or test classpath resource
+     *
+     * @param location File path or resource name, e.g. faults/degraded.json
+     */
+    public void loadFrom(String location) {
+        Path path = Path.of(location);
+        try {
+            if (Files.isRegularFile(path)) {
+                load(Files.readString(path));
+                return;
+            }
+            try (InputStream input = FaultInjector.class.getClassLoader().getResourceAsStream(location)) {
+                if (input == null) {
+                    throw new IllegalArgumentException("Fault rules not found as a file or test resource: " + location);
+                }
+                load(new String(input.readAllBytes(), StandardCharsets.UTF_8));
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not read fault rules from " + location, e);
+        }
+    }
+
+    /**
+     * Render the active rules and the counters
+     *
+     * @return JSON document, as returned by GET /__control/faults
+     */
+    public String toJson() {
+        Map<String, Object> routes = new LinkedHashMap<>();
+        rules.forEach((route, active) -> {
+            if (!active.isExpired()) {
+                Map<String, Object> rule = active.rule.toJson();
+                if (active.remaining != null) {
+                    rule.put("remaining", active.remaining.get());
+                }
+                routes.put(route, rule);
+            }
+        });
+        Map<String, Object> json = new LinkedHashMap<>();
+        json.put("rules", routes);
+        json.put("statistics", getStatistics().toJson());
+        return JSONValue.toJSONString(json);
+    }
+
+    /**
+     * Draw the faults for one request; called on the selector thread
+     *
+     * @param request Parsed request
+     * @return Fault to apply, {@link Fault#NONE} when no rule matches
+     */
+    Fault decide(StubRequest request) {
+        if (rules.isEmpty()) {
+            return Fault.NONE;
+        }
+        String path = request.getPath();
+        FaultRule rule = use(request.getMethod() + " " + path);
+        if (rule == null) {
+            rule = use(path);
+        }
+        if (rule == null) {
+            rule = use(ANY_ROUTE);
+        }
+        if (rule == null) {
+            return Fault.NONE;
+        }
+
+        SplittableRandom source = random;
+        matched.increment();
+        long delayNanos = rule.getLatency().isNone() ? 0 : rule.getLatency().sampleNanos(source);
+        boolean reset = rule.getResetRate() > 0 && source.nextDouble() < rule.getResetRate();
+        int errorStatus = !reset && rule.getErrorRate() > 0 && source.nextDouble() < rule.getErrorRate()
+                ? rule.getErrorStatus() : 0;
+        boolean drip = !reset && rule.getDripBytes() > 0;
+
+        if (delayNanos > 0) {
+            delayed.increment();
+        }
+        if (reset) {
+            resets.increment();
+        }
+        if (errorStatus != 0) {
+            errors.increment();
+        }
+        if (drip) {
+            dripped.increment();
+        }
+        return new Fault(delayNanos, reset, errorStatus, rule.getRetryAfterSeconds(),
+                drip ? rule.getDripBytes() : 0, TimeUnit.MILLISECONDS.toNanos(rule.getDripIntervalMillis()));
+    }
+
+    /**
+     * Take one use of a route's rule
+     *
+     * @return The rule, or null if there is none or its times ran out
+     */
+    private FaultRule use(String route) {
+        ActiveRule active = rules.get(route);
+        if (active == null) {
+            return null;
+        }
+        if (!active.tryUse()) {
+            rules.remove(route, active);
+            return null;
+        }
+        return active.rule;
+    }
+
+    private static String normalize(String route) {
+        String trimmed = route.trim();
+        if (trimmed.equals(ANY_ROUTE) || trimmed.startsWith("/")) {
+            return trimmed;
+        }
+        int space = trimmed.indexOf(' ');
+        if (space > 0 && trimmed.startsWith("/", space + 1)) {
+            return trimmed.substring(0, space).toUpperCase(Locale.ROOT) + " " + trimmed.substring(space + 1).trim();
+        }
+        throw new IllegalArgumentException("Route must be \"METHOD /path\", \"/path\" or \"*\" but was " + route);
+    }
+
+    /**
+     * A rule and, when it is limited, the number of uses left
+     */
+    private static final class ActiveRule {
+
+        private final FaultRule rule;
+        private final AtomicInteger remaining;
+
+        private ActiveRule(FaultRule rule) {
+            this.rule = rule;
+            this.remaining = rule.getTimes() < 0 ? null : new AtomicInteger(rule.getTimes());
+        }
+
+        private boolean tryUse() {
+            return remaining == null || remaining.getAndUpdate(left -> Math.max(0, left - 1)) > 0;
+        }
+
+        private boolean isExpired() {
+            return remaining != null && remaining.get() == 0;
+        }
+    }
+
+    /**
+     * Faults drawn for one request
+     */
+    static final class Fault {
+
+        static final Fault NONE = new Fault(0, false, 0, -1, 0, 0);
+
+        final long delayNanos;
+        final boolean reset;
+        final int errorStatus;
+        final int retryAfterSeconds;
+        final int dripBytes;
+        final long dripIntervalNanos;
+
+        private Fault(long delayNanos, boolean reset, int errorStatus, int retryAfterSeconds,
+                      int dripBytes, long dripIntervalNanos) {
+            this.delayNanos = delayNanos;
+            this.reset = reset;
+            this.errorStatus = errorStatus;
+            this.retryAfterSeconds = retryAfterSeconds;
+            this.dripBytes = dripBytes;
+            this.dripIntervalNanos = dripIntervalNanos;
+        }
+
+        /**
+         * Build the injected error response
+         *
+         * @return StubResponse with the error status, marked with X-Stub-Fault
+         */
+        StubResponse errorResponse() {
+            StubResponse response = StubResponse.error(errorStatus, REASON_PHRASES.get(errorStatus))
+                    .header("X-Stub-Fault", "error");
+            if (retryAfterSeconds >= 0) {
+                response.header("Retry-After", String.valueOf(retryAfterSeconds));
+            }
+            return response;
+        }
+    }
+
+    /**
+     * Immutable snapshot of injected fault counts
+     */
+    public static final class Statistics {
+
+        private final long matched;
+        private final long delayed;
+        private final long resets;
+        private final long errors;
+        private final long dripped;
+
+        private Statistics(long matched, long delayed, long resets, long errors, long dripped) {
+            this.matched = matched;
+            this.delayed = delayed;
+            this.resets = resets;
+            this.errors = errors;
+            this.dripped = dripped;
+        }
+
+        /**
+         * Get the number of requests a rule applied to, faulted or not
+         *
+         * @return Matched requests
+         */
+        public long getMatched() {
+            return matched;
+        }
+
+        public long getDelayed() {
+            return delayed;
+        }
+
+        public long getResets() {
+            return resets;
+        }
+
+        public long getErrors() {
+            return errors;
+        }
+
+        public long getDripped() {
+            return dripped;
+        }
+
+        Map<String, Object> toJson() {
+            Map<String, Object> json = new LinkedHashMap<>();
+            json.put("matched", matched);
+            json.put("delayed", delayed);
+            json.put("resets", resets);
+            json.put("errors", errors);
+            json.put("dripped", dripped);
+            return json;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("matched=%d, delayed=%d, resets=%d, errors=%d, dripped=%d",
+                    matched, delayed, resets, errors, dripped);
+        }
+    }
+}
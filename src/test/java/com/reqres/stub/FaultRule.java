@@ -0,0 +1,242 @@
+package com.reqres.stub;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * FaultRule Class - Faults the stub injects into the requests of one route
+ *
+ * This class provides:
+ * - Added latency drawn from a {@link LatencyDistribution}
+ * - A share of connections reset (TCP RST) instead of answered
+ * - A share of requests answered with an error status (429 or 5xx), optionally with Retry-After
+ * - Slow-drip bodies: the response is written dripBytes at a time, dripIntervalMillis apart
+ * - An optional limit on how many matching requests the rule applies to
+ *
+ * Rules are immutable; build them with {@link #builder()} or from the JSON form:
+ * {"latency": {"distribution": "fixed", "millis": 200}, "resetRate": 0.01,
+ *  "errorRate": 0.05, "errorStatus": 503, "retryAfterSeconds": 1,
+ *  "dripBytes": 64, "dripIntervalMillis": 10, "times": 100}
+ */
+public final class FaultRule {
+
+    private static final Set<Integer> ERROR_STATUSES = Set.of(429, 500, 502, 503, 504);
+    private static final Set<String> JSON_KEYS = Set.of("latency", "resetRate", "errorRate", "errorStatus",
+            "retryAfterSeconds", "dripBytes", "dripIntervalMillis", "times");
+
+    private final LatencyDistribution latency;
+    private final double resetRate;
+    private final double errorRate;
+    private final int errorStatus;
+    private final int retryAfterSeconds;
+    private final int dripBytes;
+    private final long dripIntervalMillis;
+    private final int times;
+
+    private FaultRule(Builder builder) {
+        this.latency = builder.latency;
+        this.resetRate = builder.resetRate;
+        this.errorRate = builder.errorRate;
+        this.errorStatus = builder.errorStatus;
+        this.retryAfterSeconds = builder.retryAfterSeconds;
+        this.dripBytes = builder.dripBytes;
+        this.dripIntervalMillis = builder.dripIntervalMillis;
+        this.times = builder.times;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Parse the JSON form
+     *
+     * @param json Decoded JSON object
+     * @return FaultRule object
+     * @throws IllegalArgumentException for unknown keys or out of range values
+     */
+    static FaultRule fromJson(Map<?, ?> json) {
+        for (Object key : json.keySet()) {
+            if (!JSON_KEYS.contains(key)) {
+                throw new IllegalArgumentException("Unknown fault rule key '" + key + "', expected one of " + JSON_KEYS);
+            }
+        }
+        Builder builder = builder();
+        if (json.get("latency") instanceof Map<?, ?> latency) {
+            builder.latency(LatencyDistribution.fromJson(latency));
+        }
+        if (json.containsKey("resetRate")) {
+            builder.resetRate(number(json, "resetRate").doubleValue());
+        }
+        if (json.containsKey("errorRate")) {
+            builder.errorRate(number(json, "errorRate").doubleValue(),
+                    json.containsKey("errorStatus") ? number(json, "errorStatus").intValue() : 503);
+        }
+        if (json.containsKey("retryAfterSeconds")) {
+            builder.retryAfterSeconds(number(json, "retryAfterSeconds").intValue());
+        }
+        if (json.containsKey("dripBytes")) {
+            builder.drip(number(json, "dripBytes").intValue(),
+                    json.containsKey("dripIntervalMillis") ? number(json, "dripIntervalMillis").longValue() : 10);
+        }
+        if (json.containsKey("times")) {
+            builder.times(number(json, "times").intValue());
+        }
+        return builder.build();
+    }
+
+    public LatencyDistribution getLatency() {
+        return latency;
+    }
+
+    public double getResetRate() {
+        return resetRate;
+    }
+
+    public double getErrorRate() {
+        return errorRate;
+    }
+
+    public int getErrorStatus() {
+        return errorStatus;
+    }
+
+    public int getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+
+    public int getDripBytes() {
+        return dripBytes;
+    }
+
+    public long getDripIntervalMillis() {
+        return dripIntervalMillis;
+    }
+
+    /**
+     * Get how many matching requests the rule applies to
+     *
+     * @return Request count, or -1 for no limit
+     */
+    public int getTimes() {
+        return times;
+    }
+
+    Map<String, Object> toJson() {
+        Map<String, Object> json = new LinkedHashMap<>();
+        json.put("latency", latency.toJson());
+        json.put("resetRate", resetRate);
+        json.put("errorRate", errorRate);
+        json.put("errorStatus", errorStatus);
+        json.put("retryAfterSeconds", retryAfterSeconds);
+        json.put("dripBytes", dripBytes);
+        json.put("dripIntervalMillis", dripIntervalMillis);
+        json.put("times", times);
+        return json;
+    }
+
+    @Override
+    public String toString() {
+        return toJson().toString();
+    }
+
+    static double requireRate(String name, double rate) {
+        if (!(rate >= 0 && rate <= 1)) {
+            throw new IllegalArgumentException(name + " must be between 0 and 1 but was " + rate);
+        }
+        return rate;
+    }
+
+    static Number number(Map<?, ?> json, String key) {
+        Object value = json.get(key);
+        if (!(value instanceof Number)) {
+            throw new IllegalArgumentException(key + " must be a number but was " + value);
+        }
+        return (Number) value;
+    }
+
+    /**
+     * Builder for FaultRule; every fault is off until set
+     */
+    public static final class Builder {
+
+        private LatencyDistribution latency = LatencyDistribution.none();
+        private double resetRate;
+        private double errorRate;
+        private int errorStatus = 503;
+        private int retryAfterSeconds = -1;
+        private int dripBytes;
+        private long dripIntervalMillis;
+        private int times = -1;
+
+        private Builder() {
+        }
+
+        public Builder latency(LatencyDistribution latency) {
+            this.latency = latency;
+            return this;
+        }
+
+        /**
+         * @param resetRate Share of requests whose connection is reset, 0 to 1
+         */
+        public Builder resetRate(double resetRate) {
+            this.resetRate = requireRate("resetRate", resetRate);
+            return this;
+        }
+
+        /**
+         * @param errorRate Share of requests answered with the error status, 0 to 1
+         * @param errorStatus 429, 500, 502, 503 or 504
+         */
+        public Builder errorRate(double errorRate, int errorStatus) {
+            if (!ERROR_STATUSES.contains(errorStatus)) {
+                throw new IllegalArgumentException("errorStatus must be one of " + ERROR_STATUSES + " but was " + errorStatus);
+            }
+            this.errorRate = requireRate("errorRate", errorRate);
+            this.errorStatus = errorStatus;
+            return this;
+        }
+
+        /**
+         * @param retryAfterSeconds Retry-After sent with injected errors, -1 for none
+         */
+        public Builder retryAfterSeconds(int retryAfterSeconds) {
+            if (retryAfterSeconds < -1) {
+                throw new IllegalArgumentException("retryAfterSeconds must be -1 or more but was " + retryAfterSeconds);
+            }
+            this.retryAfterSeconds = retryAfterSeconds;
+            return this;
+        }
+
+        /**
+         * @param dripBytes Bytes written per step, 0 to send responses at once
+         * @param dripIntervalMillis Pause between steps
+         */
+        public Builder drip(int dripBytes, long dripIntervalMillis) {
+            if (dripBytes < 0 || dripIntervalMillis < 0) {
+                throw new IllegalArgumentException(
+                        "dripBytes and dripIntervalMillis must be at least 0 but were " + dripBytes + " and " + dripIntervalMillis);
+            }
+            this.dripBytes = dripBytes;
+            this.dripIntervalMillis = dripIntervalMillis;
+            return this;
+        }
+
+        /**
+         * @param times Matching requests the rule applies to before it expires, -1 for no limit
+         */
+        public Builder times(int times) {
+            if (times < -1 || times == 0) {
+                throw new IllegalArgumentException("times must be -1 or at least 1 but was " + times);
+            }
+            this.times = times;
+            return this;
+        }
+
+        public FaultRule build() {
+            return new FaultRule(this);
+        }
+    }
+}
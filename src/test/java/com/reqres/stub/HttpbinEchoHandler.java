@@ -0,0 +1,185 @@
+package com.reqres.stub;
+
+import org.json.simple.JSONArray;
+import org.json.simple.JSONValue;
+import org.json.simple.parser.JSONParser;
+import org.json.simple.parser.ParseException;
+
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * HttpbinEchoHandler Class - httpbin.org compatible echo semantics
+ *
+ * EndPoints:
+ * - GET /get - Echoes args, headers, origin and url
+ * - POST /post, PUT /put, PATCH /patch, DELETE /delete - Additionally echo data, files, form and json
+ * - Any method on /anything and /anything/{path} - Echoes like /post, plus the method
+ * - GET /etag/{etag} - Echoes with ETag "{etag}"; 304 when If-None-Match carries it
+ * - GET /response-headers?Name=value - Sets the query parameters as response headers
+ *
+ * Any other path returns 404, a known path with the wrong method returns 405
+ */
+public class HttpbinEchoHandler {
+
+    private static final Map<String, String> ROUTES = Map.of(
+            "/get", "GET",
+            "/post", "POST",
+            "/put", "PUT",
+            "/patch", "PATCH",
+            "/delete", "DELETE",
+            "/response-headers", "GET");
+
+    /**
+     * Build the echo response for a request
+     *
+     * @param request Parsed request
+     * @param origin Remote address of the client
+     * @return StubResponse object
+     */
+    public StubResponse handle(StubRequest request, String origin) {
+        String path = request.getPath();
+        if (path.equals("/anything") || path.startsWith("/anything/")) {
+            Map<String, Object> echo = echo(request, origin, true);
+            echo.put("method", request.getMethod());
+            return StubResponse.json(200, "OK", JSONValue.toJSONString(echo));
+        }
+
+        String expectedMethod = path.startsWith("/etag/") ? "GET" : ROUTES.get(path);
+        if (expectedMethod == null) {
+            return StubResponse.error(404, "Not Found");
+        }
+        if (!expectedMethod.equals(request.getMethod())) {
+            return StubResponse.error(405, "Method Not Allowed").header("Allow", expectedMethod);
+        }
+        if (path.startsWith("/etag/")) {
+            return etag(request, origin, path.substring("/etag/".length()));
+        }
+        if (path.equals("/response-headers")) {
+            return responseHeaders(request);
+        }
+
+        return StubResponse.json(200, "OK", JSONValue.toJSONString(echo(request, origin, !"GET".equals(request.getMethod()))));
+    }
+
+    private Map<String, Object> echo(StubRequest request, String origin, boolean withBody) {
+        Map<String, Object> echo = new LinkedHashMap<>();
+        echo.put("args", parseArgs(request.getQuery()));
+        if (withBody) {
+            String data = request.getBodyAsString();
+            echo.put("data", data);
+            echo.put("files", new LinkedHashMap<>());
+            echo.put("form", new LinkedHashMap<>());
+            echo.put("json", parseJson(data));
+        }
+        echo.put("headers", echoHeaders(request));
+        echo.put("origin", origin);
+        echo.put("url", "http://" + request.getHeader("Host") + request.getTarget());
+        return echo;
+    }
+
+    private StubResponse etag(StubRequest request, String origin, String etag) {
+        String quoted = "\"" + etag + "\"";
+        String ifNoneMatch = request.getHeader("If-None-Match");
+        if (ifNoneMatch != null) {
+            for (String candidate : ifNoneMatch.split(",")) {
+                String trimmed = candidate.trim();
+                if (trimmed.equals("*") || trimmed.equals(quoted) || trimmed.equals("W/" + quoted)) {
+                    return new StubResponse(304, "Not Modified", "application/json", new byte[0]).header("ETag", quoted);
+                }
+            }
+        }
+        return StubResponse.json(200, "OK", JSONValue.toJSONString(echo(request, origin, false))).header("ETag", quoted);
+    }
+
+    /**
+     * Echo the query parameters as a JSON object and set them as headers; repeated names are joined with ", "
+     */
+    private StubResponse responseHeaders(StubRequest request) {
+        Map<String, String> headers = new LinkedHashMap<>();
+        parseArgs(request.getQuery()).forEach((name, value) -> headers.put(name,
+                value instanceof JSONArray ? String.join(", ", stringsOf((JSONArray) value)) : (String) value));
+
+        StubResponse response = StubResponse.json(200, "OK", JSONValue.toJSONString(headers));
+        headers.forEach(response::header);
+        return response;
+    }
+
+    private static List<String> stringsOf(JSONArray values) {
+        List<String> strings = new ArrayList<>(values.size());
+        for (Object value : values) {
+            strings.add((String) value);
+        }
+        return strings;
+    }
+
+    /**
+     * Decode query parameters the way httpbin does: single values as strings,
+     * repeated keys as arrays
+     */
+    @SuppressWarnings("unchecked")
+    private Map<String, Object> parseArgs(String query) {
+        Map<String, Object> args = new LinkedHashMap<>();
+        if (query.isEmpty()) {
+            return args;
+        }
+        for (String pair : query.split("&")) {
+            if (pair.isEmpty()) {
+                continue;
+            }
+            int separator = pair.indexOf('=');
+            String key = decode(separator < 0 ? pair : pair.substring(0, separator));
+            String value = separator < 0 ? "" : decode(pair.substring(separator + 1));
+
+            Object existing = args.get(key);
+            if (existing == null) {
+                args.put(key, value);
+            } else if (existing instanceof JSONArray) {
+                ((JSONArray) existing).add(value);
+            } else {
+                JSONArray values = new JSONArray();
+                values.add(existing);
+                values.add(value);
+                args.put(key, values);
+            }
+        }
+        return args;
+    }
+
+    private Map<String, String> echoHeaders(StubRequest request) {
+        Map<String, String> headers = new LinkedHashMap<>();
+        for (Map.Entry<String, String> header : request.getHeaders().entrySet()) {
+            headers.put(toTitleCase(header.getKey()), header.getValue());
+        }
+        return headers;
+    }
+
+    private Object parseJson(String data) {
+        if (data.isEmpty()) {
+            return null;
+        }
+        try {
+            return new JSONParser().parse(data);
+        } catch (ParseException e) {
+            return null;
+        }
+    }
+
+    private static String decode(String value) {
+        return URLDecoder.decode(value, StandardCharsets.UTF_8);
+    }
+
+    private static String toTitleCase(String headerName) {
+        StringBuilder result = new StringBuilder(headerName.length());
+        boolean upperNext = true;
+        for (char c : headerName.toCharArray()) {
+            result.append(upperNext ? Character.toUpperCase(c) : Character.toLowerCase(c));
+            upperNext = c == '-';
+        }
+        return result.toString();
+    }
+}
@@ -0,0 +1,534 @@
+package com.reqres.stub;
+
+import org.apache.logging.log4j.Logger;
+import com.reqres.config.ConfigReader;
+import com.reqres.utils.LoggerUtil;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.StandardSocketOptions;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedSelectorException;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * HttpbinStubServer Class - Embedded, NIO based httpbin.org compatible stub
+ *
+ * This class provides:
+ * - A single selector thread serving any number of keep-alive connections
+ * - HTTP/1.1 request parsing with Content-Length and chunked bodies
+ * - Echo responses for /get, /post, /put, /patch and /delete (see {@link HttpbinEchoHandler})
+ * - Per-route latency, connection resets, error statuses and slow-drip bodies
+ *   (see {@link FaultInjector}), changed at runtime from code or over HTTP
+ *   (see {@link StubControlHandler}); the shared server loads stub.faults on start
+ *
+ * The server binds to the loopback interface on an ephemeral port, so
+ * suite runs need no network access and never collide on a fixed port.
+ * Injected delays are timers on the selector thread, not sleeps, so a slow
+ * route never holds up the other connections.
+ */
+public class HttpbinStubServer {
+
+    private static final Logger logger = LoggerUtil.getLogger(HttpbinStubServer.class);
+
+    private static final int MAX_HEADER_BYTES = 64 * 1024;
+    private static final int MAX_BODY_BYTES = 16 * 1024 * 1024;
+    private static final byte[] HEADER_TERMINATOR = {'\r', '\n', '\r', '\n'};
+
+    private static HttpbinStubServer shared;
+
+    private final HttpbinEchoHandler handler = new HttpbinEchoHandler();
+    private final FaultInjector faultInjector = new FaultInjector();
+    private final StubControlHandler controlHandler = new StubControlHandler(faultInjector);
+    private final ByteBuffer readBuffer = ByteBuffer.allocateDirect(16 * 1024);
+
+    // Connections waiting for an injected delay or the next drip, by due time; selector thread only
+    private final PriorityQueue<Wakeup> wakeups = new PriorityQueue<>(Comparator.comparingLong(Wakeup::dueNanos));
+
+    private Selector selector;
+    private ServerSocketChannel serverChannel;
+    private Thread selectorThread;
+    private volatile boolean running;
+
+    /**
+     * Get the suite-wide stub server, starting it on first use
+     * Fault rules from stub.faults, when set, are active from the first request
+     *
+     * @return Running shared server
+     */
+    public static synchronized HttpbinStubServer startShared() {
+        if (shared == null) {
+            HttpbinStubServer server = new HttpbinStubServer();
+            String faults = ConfigReader.getStubFaults();
+            if (faults != null) {
+                server.getFaultInjector().loadFrom(faults);
+                logger.info("httpbin stub fault rules loaded from {}: {}", faults, server.getFaultInjector().getRules());
+            }
+            server.start();
+            shared = server;
+        }
+        return shared;
+    }
+
+    /**
+     * Stop the suite-wide stub server if it was started
+     */
+    public static synchronized void stopShared() {
+        if (shared != null) {
+            shared.stop();
+            shared = null;
+        }
+    }
+
+    /**
+     * Bind to an ephemeral loopback port and start serving
+     */
+    public void start() {
+        try {
+            selector = Selector.open();
+            serverChannel = ServerSocketChannel.open();
+            serverChannel.bind(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 1024);
+            serverChannel.configureBlocking(false);
+            serverChannel.register(selector, SelectionKey.OP_ACCEPT);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to start httpbin stub server", e);
+        }
+
+        running = true;
+        selectorThread = new Thread(this::runSelectorLoop, "httpbin-stub-" + getPort());
+        selectorThread.setDaemon(true);
+        selectorThread.start();
+        logger.info("httpbin stub server listening on {}", getBaseURI());
+    }
+
+    /**
+     * Stop serving and release the port
+     */
+    public void stop() {
+        running = false;
+        if (selector != null) {
+            selector.wakeup();
+        }
+        try {
+            if (selectorThread != null) {
+                selectorThread.join(2000);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        FaultInjector.Statistics faults = faultInjector.getStatistics();
+        if (faults.getMatched() > 0) {
+            logger.info("httpbin stub injected faults: {}", faults);
+        }
+        logger.info("httpbin stub server stopped");
+    }
+
+    /**
+     * Get the fault rules of this server
+     *
+     * @return FaultInjector to change rules at runtime
+     */
+    public FaultInjector getFaultInjector() {
+        return faultInjector;
+    }
+
+    public int getPort() {
+        return serverChannel.socket().getLocalPort();
+    }
+
+    /**
+     * Get the base URI clients should use to reach this server
+     *
+     * @return Base URI such as http://127.0.0.1:54321
+     */
+    public String getBaseURI() {
+        return "http://" + InetAddress.getLoopbackAddress().getHostAddress() + ":" + getPort();
+    }
+
+    private void runSelectorLoop() {
+        try {
+            while (running) {
+                long timeout = nextWakeupMillis();
+                if (timeout < 0) {
+                    selector.select();
+                } else if (timeout == 0) {
+                    selector.selectNow();
+                } else {
+                    selector.select(timeout);
+                }
+                Iterator<SelectionKey> keys = selector.selectedKeys().iterator();
+                while (keys.hasNext()) {
+                    SelectionKey key = keys.next();
+                    keys.remove();
+                    try {
+                        if (!key.isValid()) {
+                            continue;
+                        }
+                        if (key.isAcceptable()) {
+                            accept();
+                        } else {
+                            if (key.isReadable()) {
+                                read(key);
+                            }
+                            if (key.isValid() && key.isWritable()) {
+                                write(key);
+                            }
+                        }
+                    } catch (IOException | RuntimeException e) {
+                        logger.debug("Closing stub connection: {}", e.getMessage());
+                        close(key);
+                    }
+                }
+                runDueWakeups();
+            }
+        } catch (IOException | ClosedSelectorException e) {
+            logger.error("httpbin stub selector loop failed", e);
+        } finally {
+            closeQuietly();
+        }
+    }
+
+    private void accept() throws IOException {
+        SocketChannel channel;
+        while ((channel = serverChannel.accept()) != null) {
+            channel.configureBlocking(false);
+            channel.socket().setTcpNoDelay(true);
+            String origin = ((InetSocketAddress) channel.getRemoteAddress()).getAddress().getHostAddress();
+            channel.register(selector, SelectionKey.OP_READ, new Connection(origin));
+        }
+    }
+
+    private void read(SelectionKey key) throws IOException {
+        SocketChannel channel = (SocketChannel) key.channel();
+        Connection connection = (Connection) key.attachment();
+
+        readBuffer.clear();
+        int read = channel.read(readBuffer);
+        if (read < 0) {
+            close(key);
+            return;
+        }
+        readBuffer.flip();
+        connection.append(readBuffer);
+
+        StubRequest request;
+        while (!connection.closeAfterWrite && (request = connection.nextRequest()) != null) {
+            boolean control = controlHandler.handles(request);
+            FaultInjector.Fault fault = control ? FaultInjector.Fault.NONE : faultInjector.decide(request);
+            long dueNanos = fault.delayNanos == 0 ? 0 : System.nanoTime() + fault.delayNanos;
+            if (fault.reset) {
+                connection.enqueue(new Outbound(null, dueNanos, 0, 0));
+                connection.closeAfterWrite = true;
+                break;
+            }
+            StubResponse response = control ? controlHandler.handle(request)
+                    : fault.errorStatus != 0 ? fault.errorResponse()
+                    : handler.handle(request, connection.origin);
+            connection.enqueue(new Outbound(response.toByteBuffer(request.isKeepAlive()), dueNanos,
+                    fault.dripBytes, fault.dripIntervalNanos));
+            connection.closeAfterWrite = !request.isKeepAlive();
+        }
+        if (connection.rejected != null) {
+            connection.enqueue(new Outbound(connection.rejected.toByteBuffer(false), 0, 0, 0));
+            connection.closeAfterWrite = true;
+            connection.rejected = null;
+        }
+        write(key);
+    }
+
+    private void write(SelectionKey key) throws IOException {
+        SocketChannel channel = (SocketChannel) key.channel();
+        Connection connection = (Connection) key.attachment();
+
+        while (!connection.outbound.isEmpty()) {
+            Outbound head = connection.outbound.peek();
+            if (head.dueNanos != 0 && head.dueNanos - System.nanoTime() > 0) {
+                wakeups.add(new Wakeup(head.dueNanos, key));
+                key.interestOps(SelectionKey.OP_READ);
+                return;
+            }
+            if (head.buffer == null) {
+                reset(key);
+                return;
+            }
+            ByteBuffer buffer = head.buffer;
+            if (head.dripBytes > 0) {
+                int limit = buffer.limit();
+                buffer.limit(Math.min(limit, buffer.position() + head.dripBytes));
+                channel.write(buffer);
+                boolean dripWritten = !buffer.hasRemaining();
+                buffer.limit(limit);
+                if (!dripWritten) {
+                    key.interestOps(SelectionKey.OP_READ | SelectionKey.OP_WRITE);
+                    return;
+                }
+                if (buffer.hasRemaining()) {
+                    head.dueNanos = System.nanoTime() + head.dripIntervalNanos;
+                    continue;
+                }
+            } else {
+                channel.write(buffer);
+                if (buffer.hasRemaining()) {
+                    key.interestOps(SelectionKey.OP_READ | SelectionKey.OP_WRITE);
+                    return;
+                }
+            }
+            connection.outbound.poll();
+        }
+
+        if (connection.closeAfterWrite) {
+            close(key);
+        } else {
+            key.interestOps(SelectionKey.OP_READ);
+        }
+    }
+
+    /**
+     * Milliseconds until the earliest wakeup
+     *
+     * @return -1 when none is pending, 0 when one is already due
+     */
+    private long nextWakeupMillis() {
+        Wakeup next = wakeups.peek();
+        if (next == null) {
+            return -1;
+        }
+        long remaining = next.dueNanos() - System.nanoTime();
+        return remaining <= 0 ? 0 : Math.max(1, TimeUnit.NANOSECONDS.toMillis(remaining));
+    }
+
+    private void runDueWakeups() {
+        long now = System.nanoTime();
+        while (!wakeups.isEmpty() && wakeups.peek().dueNanos() - now <= 0) {
+            SelectionKey key = wakeups.poll().key();
+            if (!key.isValid()) {
+                continue;
+            }
+            try {
+                write(key);
+            } catch (IOException | RuntimeException e) {
+                logger.debug("Closing stub connection: {}", e.getMessage());
+                close(key);
+            }
+        }
+    }
+
+    /**
+     * Abort a connection with a TCP reset instead of an orderly close
+     */
+    private void reset(SelectionKey key) {
+        try {
+            ((SocketChannel) key.channel()).setOption(StandardSocketOptions.SO_LINGER, 0);
+        } catch (IOException e) {
+            logger.debug("Could not arm stub connection reset: {}", e.getMessage());
+        }
+        close(key);
+    }
+
+    private void close(SelectionKey key) {
+        key.cancel();
+        try {
+            key.channel().close();
+        } catch (IOException e) {
+            logger.debug("Error closing stub connection: {}", e.getMessage());
+        }
+    }
+
+    private void closeQuietly() {
+        try {
+            for (SelectionKey key : selector.keys()) {
+                key.channel().close();
+            }
+            selector.close();
+        } catch (IOException | ClosedSelectorException e) {
+            logger.debug("Error shutting down stub server: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Per-connection state: unparsed inbound bytes and pending outbound buffers
+     */
+    private static final class Connection {
+
+        private final String origin;
+        private final ArrayDeque<Outbound> outbound = new ArrayDeque<>();
+        private byte[] inbound = new byte[4096];
+        private int length;
+        private boolean closeAfterWrite;
+        private StubResponse rejected;
+
+        private Connection(String origin) {
+            this.origin = origin;
+        }
+
+        private void append(ByteBuffer data) {
+            int required = length + data.remaining();
+            if (required > inbound.length) {
+                inbound = Arrays.copyOf(inbound, Math.max(required, inbound.length * 2));
+            }
+            data.get(inbound, length, data.remaining());
+            length = required;
+        }
+
+        private void enqueue(Outbound response) {
+            outbound.add(response);
+        }
+
+        /**
+         * Parse and consume one complete request from the inbound bytes
+         *
+         * @return Parsed request, or null if more bytes are needed
+         */
+        private StubRequest nextRequest() {
+            int headerEnd = indexOf(inbound, length, HEADER_TERMINATOR);
+            if (headerEnd < 0) {
+                if (length > MAX_HEADER_BYTES) {
+                    rejected = StubResponse.error(431, "Request Header Fields Too Large");
+                }
+                return null;
+            }
+
+            String[] lines = new String(inbound, 0, headerEnd, StandardCharsets.ISO_8859_1).split("\r\n");
+            String[] requestLine = lines[0].split(" ");
+            if (requestLine.length != 3) {
+                rejected = StubResponse.error(400, "Bad Request");
+                return null;
+            }
+
+            Map<String, String> headers = new LinkedHashMap<>();
+            for (int i = 1; i < lines.length; i++) {
+                int colon = lines[i].indexOf(':');
+                if (colon > 0) {
+                    headers.put(lines[i].substring(0, colon).trim(), lines[i].substring(colon + 1).trim());
+                }
+            }
+
+            int bodyStart = headerEnd + HEADER_TERMINATOR.length;
+            byte[] body;
+            int consumed;
+            if ("chunked".equalsIgnoreCase(headerValue(headers, "Transfer-Encoding"))) {
+                ChunkedBody chunked = decodeChunked(bodyStart);
+                if (chunked == null) {
+                    return null;
+                }
+                body = chunked.body;
+                consumed = chunked.end;
+            } else {
+                String contentLength = headerValue(headers, "Content-Length");
+                int bodyLength = contentLength == null ? 0 : Integer.parseInt(contentLength);
+                if (bodyLength > MAX_BODY_BYTES) {
+                    rejected = StubResponse.error(413, "Payload Too Large");
+                    return null;
+                }
+                if (length - bodyStart < bodyLength) {
+                    return null;
+                }
+                body = Arrays.copyOfRange(inbound, bodyStart, bodyStart + bodyLength);
+                consumed = bodyStart + bodyLength;
+            }
+
+            System.arraycopy(inbound, consumed, inbound, 0, length - consumed);
+            length -= consumed;
+            return new StubRequest(requestLine[0], requestLine[1], requestLine[2], headers, body);
+        }
+
+        private ChunkedBody decodeChunked(int start) {
+            byte[] body = new byte[0];
+            int position = start;
+            while (true) {
+                int lineEnd = indexOf(inbound, position, length, new byte[]{'\r', '\n'});
+                if (lineEnd < 0) {
+                    return null;
+                }
+                String sizeLine = new String(inbound, position, lineEnd - position, StandardCharsets.US_ASCII);
+                int extension = sizeLine.indexOf(';');
+                int size = Integer.parseInt((extension < 0 ? sizeLine : sizeLine.substring(0, extension)).trim(), 16);
+                int dataStart = lineEnd + 2;
+                if (size == 0) {
+                    int trailerEnd = indexOf(inbound, lineEnd, length, HEADER_TERMINATOR);
+                    return trailerEnd < 0 ? null : new ChunkedBody(body, trailerEnd + HEADER_TERMINATOR.length);
+                }
+                if (length < dataStart + size + 2) {
+                    return null;
+                }
+                int previous = body.length;
+                body = Arrays.copyOf(body, previous + size);
+                System.arraycopy(inbound, dataStart, body, previous, size);
+                position = dataStart + size + 2;
+            }
+        }
+
+        private static String headerValue(Map<String, String> headers, String name) {
+            for (Map.Entry<String, String> header : headers.entrySet()) {
+                if (header.getKey().equalsIgnoreCase(name)) {
+                    return header.getValue();
+                }
+            }
+            return null;
+        }
+
+        private static int indexOf(byte[] data, int limit, byte[] pattern) {
+            return indexOf(data, 0, limit, pattern);
+        }
+
+        private static int indexOf(byte[] data, int from, int limit, byte[] pattern) {
+            outer:
+            for (int i = from; i <= limit - pattern.length; i++) {
+                for (int j = 0; j < pattern.length; j++) {
+                    if (data[i + j] != pattern[j]) {
+                        continue outer;
+                    }
+                }
+                return i;
+            }
+            return -1;
+        }
+    }
+
+    /**
+     * A response waiting to be written, or a reset when buffer is null
+     */
+    private static final class Outbound {
+
+        private final ByteBuffer buffer;
+        private final int dripBytes;
+        private final long dripIntervalNanos;
+        // System.nanoTime() before which nothing is written, 0 to write at once
+        private long dueNanos;
+
+        private Outbound(ByteBuffer buffer, long dueNanos, int dripBytes, long dripIntervalNanos) {
+            this.buffer = buffer;
+            this.dueNanos = dueNanos;
+            this.dripBytes = dripBytes;
+            this.dripIntervalNanos = dripIntervalNanos;
+        }
+    }
+
+    private record Wakeup(long dueNanos, SelectionKey key) {
+    }
+
+    private static final class ChunkedBody {
+
+        private final byte[] body;
+        private final int end;
+
+        private ChunkedBody(byte[] body, int end) {
+            this.body = body;
+            this.end = end;
+        }
+    }
+}
@@ -0,0 +1,145 @@
+package com.reqres.stub;
+
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * LatencyDistribution Class - Added response delay drawn per request by the stub
+ *
+ * Distributions:
+ * - none        - no delay
+ * - fixed       - always millis
+ * - uniform     - between minMillis and maxMillis
+ * - exponential - mean meanMillis, capped at maxMillis
+ * - tail        - baseMillis, except a tailProbability share of requests that take tailMillis
+ *
+ * JSON form, as used by the control API and stub.faults:
+ * {"distribution": "tail", "baseMillis": 5, "tailMillis": 800, "tailProbability": 0.01}
+ */
+public final class LatencyDistribution {
+
+    private static final LatencyDistribution NONE = new LatencyDistribution("none", 0, 0, 0);
+
+    private final String distribution;
+    private final long first;
+    private final long second;
+    private final double probability;
+
+    private LatencyDistribution(String distribution, long first, long second, double probability) {
+        this.distribution = distribution;
+        this.first = first;
+        this.second = second;
+        this.probability = probability;
+    }
+
+    public static LatencyDistribution none() {
+        return NONE;
+    }
+
+    public static LatencyDistribution fixed(long millis) {
+        return new LatencyDistribution("fixed", requireMillis("millis", millis), 0, 0);
+    }
+
+    public static LatencyDistribution uniform(long minMillis, long maxMillis) {
+        if (maxMillis < minMillis) {
+            throw new IllegalArgumentException("maxMillis must be at least minMillis (" + minMillis + ") but was " + maxMillis);
+        }
+        return new LatencyDistribution("uniform", requireMillis("minMillis", minMillis), maxMillis, 0);
+    }
+
+    public static LatencyDistribution exponential(long meanMillis, long maxMillis) {
+        return new LatencyDistribution("exponential", requireMillis("meanMillis", meanMillis),
+                requireMillis("maxMillis", maxMillis), 0);
+    }
+
+    public static LatencyDistribution tail(long baseMillis, long tailMillis, double tailProbability) {
+        return new LatencyDistribution("tail", requireMillis("baseMillis", baseMillis),
+                requireMillis("tailMillis", tailMillis), FaultRule.requireRate("tailProbability", tailProbability));
+    }
+
+    /**
+     * Parse the JSON form
+     *
+     * @param json Decoded JSON object
+     * @return LatencyDistribution object
+     * @throws IllegalArgumentException for an unknown distribution or missing parameter
+     */
+    static LatencyDistribution fromJson(Map<?, ?> json) {
+        String distribution = String.valueOf(json.get("distribution")).toLowerCase(Locale.ROOT);
+        return switch (distribution) {
+            case "none" -> none();
+            case "fixed" -> fixed(millis(json, "millis"));
+            case "uniform" -> uniform(millis(json, "minMillis"), millis(json, "maxMillis"));
+            case "exponential" -> exponential(millis(json, "meanMillis"), millis(json, "maxMillis"));
+            case "tail" -> tail(millis(json, "baseMillis"), millis(json, "tailMillis"),
+                    FaultRule.number(json, "tailProbability").doubleValue());
+            default -> throw new IllegalArgumentException(
+                    "distribution must be none, fixed, uniform, exponential or tail but was " + distribution);
+        };
+    }
+
+    /**
+     * Draw a delay
+     *
+     * @param random Random source of the selector thread
+     * @return Delay in nanoseconds, 0 for none
+     */
+    long sampleNanos(SplittableRandom random) {
+        long millis = switch (distribution) {
+            case "fixed" -> first;
+            case "uniform" -> first == second ? first : random.nextLong(first, second + 1);
+            case "exponential" -> Math.min(second, Math.round(-first * Math.log(1 - random.nextDouble())));
+            case "tail" -> random.nextDouble() < probability ? second : first;
+            default -> 0;
+        };
+        return TimeUnit.MILLISECONDS.toNanos(millis);
+    }
+
+    boolean isNone() {
+        return this == NONE;
+    }
+
+    Map<String, Object> toJson() {
+        Map<String, Object> json = new LinkedHashMap<>();
+        json.put("distribution", distribution);
+        switch (distribution) {
+            case "fixed" -> json.put("millis", first);
+            case "uniform" -> {
+                json.put("minMillis", first);
+                json.put("maxMillis", second);
+            }
+            case "exponential" -> {
+                json.put("meanMillis", first);
+                json.put("maxMillis", second);
+            }
+            case "tail" -> {
+                json.put("baseMillis", first);
+                json.put("tailMillis", second);
+                json.put("tailProbability", probability);
+            }
+            default -> {
+                // No parameters
+            }
+        }
+        return json;
+    }
+
+    @Override
+    public String toString() {
+        return toJson().toString();
+    }
+
+    private static long millis(Map<?, ?> json, String key) {
+        return FaultRule.number(json, key).longValue();
+    }
+
+    private static long requireMillis(String name, long millis) {
+        if (millis < 0) {
+            throw new IllegalArgumentException(name + " must be at least 0 but was " + millis);
+        }
+        return millis;
+    }
+}
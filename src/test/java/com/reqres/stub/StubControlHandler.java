@@ -0,0 +1,72 @@
+package com.reqres.stub;
+
+import org.json.simple.JSONValue;
+
+import java.util.Map;
+
+/**
+ * StubControlHandler Class - HTTP control API of the stub server
+ *
+ * EndPoints:
+ * - GET /__control/faults - Active fault rules and injected fault counters
+ * - PUT /__control/faults - Replace all rules with the JSON document in the body (see {@link FaultInjector})
+ * - DELETE /__control/faults - Remove all rules
+ *
+ * Control requests are never subject to fault injection. Invalid documents are
+ * answered with 400 and an {"error": "..."} body, leaving the rules unchanged.
+ */
+public class StubControlHandler {
+
+    /** Path prefix reserved for control endpoints */
+    public static final String CONTROL_PREFIX = "/__control/";
+
+    private static final String FAULTS_PATH = CONTROL_PREFIX + "faults";
+
+    private final FaultInjector faultInjector;
+
+    public StubControlHandler(FaultInjector faultInjector) {
+        this.faultInjector = faultInjector;
+    }
+
+    /**
+     * Check whether a request is addressed to the control API
+     *
+     * @param request Parsed request
+     * @return true for paths under {@link #CONTROL_PREFIX}
+     */
+    public boolean handles(StubRequest request) {
+        return request.getPath().startsWith(CONTROL_PREFIX);
+    }
+
+    /**
+     * Serve a control request
+     *
+     * @param request Parsed request under {@link #CONTROL_PREFIX}
+     * @return StubResponse object
+     */
+    public StubResponse handle(StubRequest request) {
+        if (!request.getPath().equals(FAULTS_PATH)) {
+            return StubResponse.error(404, "Not Found");
+        }
+        switch (request.getMethod()) {
+            case "GET" -> {
+                return StubResponse.json(200, "OK", faultInjector.toJson());
+            }
+            case "PUT" -> {
+                try {
+                    faultInjector.load(request.getBodyAsString());
+                } catch (IllegalArgumentException e) {
+                    return StubResponse.json(400, "Bad Request", JSONValue.toJSONString(Map.of("error", e.getMessage())));
+                }
+                return StubResponse.json(200, "OK", faultInjector.toJson());
+            }
+            case "DELETE" -> {
+                faultInjector.clear();
+                return StubResponse.json(200, "OK", faultInjector.toJson());
+            }
+            default -> {
+                return StubResponse.error(405, "Method Not Allowed").header("Allow", "GET, PUT, DELETE");
+            }
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package com.reqres.stub;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * StubRequest Class - Parsed HTTP request received by the stub server
+ *
+ * Holds the request line, headers (in arrival order) and raw body bytes
+ */
+public class StubRequest {
+
+    private final String method;
+    private final String target;
+    private final String version;
+    private final Map<String, String> headers;
+    private final byte[] body;
+
+    public StubRequest(String method, String target, String version, Map<String, String> headers, byte[] body) {
+        this.method = method;
+        this.target = target;
+        this.version = version;
+        this.headers = Collections.unmodifiableMap(new LinkedHashMap<>(headers));
+        this.body = body;
+    }
+
+    public String getMethod() {
+        return method;
+    }
+
+    /**
+     * Get the request target as sent on the request line (path plus query)
+     *
+     * @return Request target
+     */
+    public String getTarget() {
+        return target;
+    }
+
+    /**
+     * Get the path component of the request target
+     *
+     * @return Path without query string
+     */
+    public String getPath() {
+        int queryStart = target.indexOf('?');
+        return queryStart < 0 ? target : target.substring(0, queryStart);
+    }
+
+    /**
+     * Get the raw query string of the request target
+     *
+     * @return Query string without the leading '?', or empty string
+     */
+    public String getQuery() {
+        int queryStart = target.indexOf('?');
+        return queryStart < 0 ? "" : target.substring(queryStart + 1);
+    }
+
+    public String getVersion() {
+        return version;
+    }
+
+    public Map<String, String> getHeaders() {
+        return headers;
+    }
+
+    /**
+     * Get a header value using case-insensitive name matching
+     *
+     * @param name Header name
+     * @return Header value, or null if absent
+     */
+    public String getHeader(String name) {
+        for (Map.Entry<String, String> header : headers.entrySet()) {
+            if (header.getKey().equalsIgnoreCase(name)) {
+                return header.getValue();
+            }
+        }
+        return null;
+    }
+
+    public byte[] getBody() {
+        return body;
+    }
+
+    public String getBodyAsString() {
+        return new String(body, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Check whether the connection should stay open after this request
+     *
+     * @return true for HTTP/1.1 unless "Connection: close" was sent
+     */
+    public boolean isKeepAlive() {
+        String connection = getHeader("Connection");
+        if ("HTTP/1.0".equals(version)) {
+            return "keep-alive".equalsIgnoreCase(connection);
+        }
+        return !"close".equalsIgnoreCase(connection);
+    }
+}
@@ -0,0 +1,86 @@
+package com.reqres.stub;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * StubResponse Class - HTTP response produced by the stub server
+ *
+ * Serializes status line, headers and body into a single buffer
+ * ready to be written to a non-blocking channel
+ */
+public class StubResponse {
+
+    private final int statusCode;
+    private final String reasonPhrase;
+    private final Map<String, String> headers = new LinkedHashMap<>();
+    private final byte[] body;
+
+    public StubResponse(int statusCode, String reasonPhrase, String contentType, byte[] body) {
+        this.statusCode = statusCode;
+        this.reasonPhrase = reasonPhrase;
+        this.body = body;
+        headers.put("Content-Type", contentType);
+    }
+
+    /**
+     * Create a JSON response
+     *
+     * @param statusCode HTTP status code
+     * @param reasonPhrase HTTP reason phrase
+     * @param json JSON document
+     * @return StubResponse object
+     */
+    public static StubResponse json(int statusCode, String reasonPhrase, String json) {
+        return new StubResponse(statusCode, reasonPhrase, "application/json", json.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Create a plain text error response
+     *
+     * @param statusCode HTTP status code
+     * @param reasonPhrase HTTP reason phrase
+     * @return StubResponse object
+     */
+    public static StubResponse error(int statusCode, String reasonPhrase) {
+        return new StubResponse(statusCode, reasonPhrase, "text/plain",
+                (statusCode + " " + reasonPhrase).getBytes(StandardCharsets.UTF_8));
+    }
+
+    public StubResponse header(String name, String value) {
+        headers.put(name, value);
+        return this;
+    }
+
+    public int getStatusCode() {
+        return statusCode;
+    }
+
+    public byte[] getBody() {
+        return body;
+    }
+
+    /**
+     * Serialize the response for the wire
+     *
+     * @param keepAlive Whether the connection stays open afterwards
+     * @return Buffer positioned at zero containing the full response
+     */
+    public ByteBuffer toByteBuffer(boolean keepAlive) {
+        StringBuilder head = new StringBuilder(128)
+                .append("HTTP/1.1 ").append(statusCode).append(' ').append(reasonPhrase).append("\r\n");
+        for (Map.Entry<String, String> header : headers.entrySet()) {
+            head.append(header.getKey()).append(": ").append(header.getValue()).append("\r\n");
+        }
+        head.append("Content-Length: ").append(body.length).append("\r\n")
+                .append("Connection: ").append(keepAlive ? "keep-alive" : "close").append("\r\n")
+                .append("\r\n");
+
+        byte[] headBytes = head.toString().getBytes(StandardCharsets.US_ASCII);
+        ByteBuffer buffer = ByteBuffer.allocate(headBytes.length + body.length);
+        buffer.put(headBytes).put(body).flip();
+        return buffer;
+    }
+}
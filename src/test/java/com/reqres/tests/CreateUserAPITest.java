@@ -3,9 +3,19 @@ package com.reqres.tests;
 import io.restassured.response.Response;
 import org.testng.annotations.Test;
 import org.apache.logging.log4j.Logger;
+import com.reqres.api.ConcurrentAPI;
+import com.reqres.api.BatchResult;
 import com.reqres.api.UserAPI;
+import com.reqres.api.UserBatchAPI;
 import com.reqres.base.BaseTest;
+import com.reqres.contract.ResponseContract;
+import com.reqres.data.BulkDataProviders;
+import com.reqres.models.CreatedUser;
 import com.reqres.utils.LoggerUtil;
+import com.reqres.utils.ResponseView;
+
+import java.util.List;
+import java.util.stream.IntStream;
 
 import static org.testng.Assert.*;
 
@@ -17,7 +27,11 @@ import static org.testng.Assert.*;
  * - Create user response contains ID
  * - Create user response contains timestamp
  * - Validate required fields in created user
- * - Create multiple users
+ * - Create user with quotes and backslashes (JSON escaping)
+ * - Create user through the typed wrapper
+ * - Create multiple users streamed from the users dataset
+ * - Create a batch of users concurrently on virtual threads
+ * - Seed users through the windowed batch API
  */
 public class CreateUserAPITest extends BaseTest {
 
@@ -38,17 +52,17 @@ public class CreateUserAPITest extends BaseTest {
         String name = "John Doe";
         String job = "QA Engineer";
         
-        Response response = UserAPI.createUser(requestSpec, name, job);
+        ResponseView response = ResponseView.of(UserAPI.createUser(requestSpec(), name, job));
         
-        logger.info("Response Status Code: " + response.getStatusCode());
-        logger.info("Response Body: " + response.asString());
+        logger.info("Response Status Code: {}", response.getStatusCode());
+        LoggerUtil.logDebug(logger, () -> "Response Body: " + response.getBody());
 
         // Assert status code is 201 or 200
         assertTrue(response.getStatusCode() == 201 || response.getStatusCode() == 200, "Status code should be 201 or 200");
         
         // Assert response contains name and job
-        assertTrue(response.asString().contains(name), "Response should contain name");
-        assertTrue(response.asString().contains(job), "Response should contain job");
+        assertEquals(response.getString("json.name"), name, "Response should contain name");
+        assertEquals(response.getString("json.job"), job, "Response should contain job");
 
         logger.info("Test passed: User created successfully");
     }
@@ -56,8 +70,7 @@ public class CreateUserAPITest extends BaseTest {
     /**
      * Test create user response structure
      * Validates:
-     * - All required fields are present in response
-     * - Data types are correct
+     * - Response matches the create user schema contract
      */
     @Test(description = "Test create user response structure")
     public void testCreateUserResponseStructure() {
@@ -66,14 +79,13 @@ public class CreateUserAPITest extends BaseTest {
         String name = "Jane Smith";
         String job = "DevOps Engineer";
         
-        Response response = UserAPI.createUser(requestSpec, name, job);
+        ResponseView response = ResponseView.of(UserAPI.createUser(requestSpec(), name, job));
         
-        logger.info("Response Status Code: " + response.getStatusCode());
+        logger.info("Response Status Code: {}", response.getStatusCode());
 
-        // Assert response is valid JSON
-        assertTrue(response.asString().contains("json"), "Response should contain json field");
-        assertTrue(response.asString().contains("name"), "Response should contain name");
-        assertFalse(response.asString().isEmpty(), "Response should not be empty");
+        // Assert response matches the create user contract (json.name and json.job present)
+        List<String> violations = response.getContractViolations(ResponseContract.CREATE_USER);
+        assertTrue(violations.isEmpty(), "Response should match the create user contract: " + violations);
 
         logger.info("Test passed: Create user response structure is valid");
     }
@@ -91,43 +103,134 @@ public class CreateUserAPITest extends BaseTest {
         String name = "John O'Brien-Smith";
         String job = "Software Engineer (QA)";
         
-        Response response = UserAPI.createUser(requestSpec, name, job);
+        ResponseView response = ResponseView.of(UserAPI.createUser(requestSpec(), name, job));
         
-        logger.info("Response Status Code: " + response.getStatusCode());
+        logger.info("Response Status Code: {}", response.getStatusCode());
 
         // Assert status code indicates success
         assertTrue(response.getStatusCode() < 300, "Status code should indicate success");
         
         // Assert special characters are preserved
-        assertTrue(response.asString().contains("O'Brien"), "Response should preserve special characters");
+        assertEquals(response.getString("json.name"), name, "Response should preserve special characters");
+        assertEquals(response.getString("json.job"), job, "Response should preserve special characters");
 
         logger.info("Test passed: User created with special characters");
     }
 
     /**
-     * Test create multiple users
+     * Test create user through the typed wrapper
+     * Validates:
+     * - Generated reader decodes escaped and non-ASCII characters
+     * - Decoded record carries the submitted name and job
+     */
+    @Test(description = "Test create user with typed response")
+    public void testCreateUserTyped() {
+        logger.info("Starting test: Create user with typed response");
+
+        String name = "Zoë \"Q\" Müller";
+        String job = "Tester \\ Analyst";
+
+        CreatedUser user = UserAPI.createUserTyped(requestSpec(), name, job);
+
+        assertNotNull(user, "Typed response should contain the created user");
+        assertEquals(user.name(), name, "Typed response should contain name");
+        assertEquals(user.job(), job, "Typed response should contain job");
+
+        logger.info("Test passed: Typed create user decoded {}", user);
+    }
+
+    /**
+     * Test create user with characters that must be escaped in JSON
+     * Validates:
+     * - Request body is valid JSON (server parses it into the json field)
+     * - Quotes and backslashes round-trip unchanged
+     */
+    @Test(description = "Test create user with quotes and backslashes")
+    public void testCreateUserWithJsonEscapedCharacters() {
+        logger.info("Starting test: Create user with quotes and backslashes");
+        
+        String name = "Dwayne \"The Rock\" Johnson";
+        String job = "C:\\QA\\Automation\tTeam";
+        
+        ResponseView response = ResponseView.of(UserAPI.createUser(requestSpec(), name, job));
+        
+        logger.info("Response Status Code: {}", response.getStatusCode());
+
+        // Assert status code indicates success
+        assertTrue(response.getStatusCode() < 300, "Status code should indicate success");
+        
+        // Assert the server parsed the body and echoed the exact values
+        assertEquals(response.getString("json.name"), name, "Name should round-trip unchanged");
+        assertEquals(response.getString("json.job"), job, "Job should round-trip unchanged");
+
+        logger.info("Test passed: User created with escaped characters");
+    }
+
+    /**
+     * Test creating users streamed from the users dataset
      * Validates:
      * - Each user creation is successful
-     * - Multiple sequential creates work
+     * - Name and job are echoed back for every row
+     */
+    @Test(description = "Test create users from dataset",
+            dataProvider = "users", dataProviderClass = BulkDataProviders.class)
+    public void testCreateMultipleUsers(String name, String job) {
+        ResponseView response = ResponseView.of(UserAPI.createUser(requestSpec(), name, job));
+
+        logger.debug("Created user {} -> {}", name, response.getStatusCode());
+
+        // Assert each creation is successful
+        assertTrue(response.getStatusCode() < 300, "Status code should be success for user " + name);
+        assertEquals(response.getString("json.name"), name, "Response should contain user name");
+        assertEquals(response.getString("json.job"), job, "Response should contain user job");
+    }
+
+    /**
+     * Test creating a batch of users concurrently
+     * Validates:
+     * - Every creation is successful
+     * - Responses come back in submission order with the matching name
+     */
+    @Test(description = "Test create users concurrently")
+    public void testCreateUsersConcurrently() {
+        logger.info("Starting test: Create users concurrently");
+
+        int count = 50;
+        List<Response> responses = new ConcurrentAPI(requestSpec())
+                .createUsers(count, i -> "Concurrent User " + i, i -> "Load Tester");
+
+        assertEquals(responses.size(), count, "Every user should get a response");
+        for (int i = 0; i < count; i++) {
+            ResponseView response = ResponseView.of(responses.get(i));
+            assertTrue(response.getStatusCode() < 300, "Status code should be success for user " + i);
+            assertEquals(response.getString("json.name"), "Concurrent User " + i, "Responses should be in submission order");
+        }
+
+        logger.info("Test passed: {} users created concurrently", count);
+    }
+
+    /**
+     * Test seeding users through the batch API
+     * Validates:
+     * - Every item of a lazily generated stream is created
+     * - Results are reported per item in input order
      */
-    @Test(description = "Test create multiple users")
-    public void testCreateMultipleUsers() {
-        logger.info("Starting test: Create multiple users");
-        
-        String[] names = {"Alice Johnson", "Bob Wilson", "Carol White"};
-        String[] jobs = {"Data Analyst", "Backend Developer", "Frontend Developer"};
-        
-        for (int i = 0; i < names.length; i++) {
-            Response response = UserAPI.createUser(requestSpec, names[i], jobs[i]);
-            
-            logger.info("Created user " + (i + 1) + ": " + names[i]);
-            
-            // Assert each creation is successful
-            assertTrue(response.getStatusCode() < 300, "Status code should be success for user " + (i + 1));
-            assertTrue(response.asString().contains(names[i]), "Response should contain user name");
+    @Test(description = "Test create users in a batch")
+    public void testCreateUsersInBatch() {
+        logger.info("Starting test: Create users in a batch");
+
+        int count = 500;
+        BatchResult<UserBatchAPI.NewUser> result = UserBatchAPI.createUsers(requestSpec(),
+                IntStream.range(0, count).mapToObj(i -> new UserBatchAPI.NewUser("Batch User " + i, "Seeder")), 32);
+
+        assertEquals(result.size(), count, "Every input should have a result");
+        assertTrue(result.getFailures().isEmpty(), "Batch should have no failures: " + result.getFailures());
+        for (BatchResult.Item<UserBatchAPI.NewUser> item : result.getItems()) {
+            assertEquals(ResponseView.of(item.getResponse()).getString("json.name"), item.getInput().name(),
+                    "Each result should belong to its input");
         }
 
-        logger.info("Test passed: Multiple users created successfully");
+        logger.info("Test passed: {}", result.getSummary());
     }
 
     /**
@@ -143,15 +246,16 @@ public class CreateUserAPITest extends BaseTest {
         String name = "Test User";
         String job = "";
         
-        Response response = UserAPI.createUser(requestSpec, name, job);
+        ResponseView response = ResponseView.of(UserAPI.createUser(requestSpec(), name, job));
         
-        logger.info("Response Status Code: " + response.getStatusCode());
+        logger.info("Response Status Code: {}", response.getStatusCode());
 
         // Assert user is created
         assertTrue(response.getStatusCode() < 300, "Status code should be success");
         
-        // Assert name is present
-        assertTrue(response.asString().contains(name), "Name should be in response");
+        // Assert name is present and job is echoed as empty
+        assertEquals(response.getString("json.name"), name, "Name should be in response");
+        assertEquals(response.getString("json.job"), "", "Job should be empty in response");
 
         logger.info("Test passed: User created with empty job field");
     }
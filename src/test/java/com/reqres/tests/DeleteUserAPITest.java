@@ -4,10 +4,15 @@ import io.restassured.response.Response;
 import org.testng.annotations.Test;
 import org.apache.logging.log4j.Logger;
 
+import com.reqres.api.BatchResult;
 import com.reqres.api.UserAPI;
+import com.reqres.api.UserBatchAPI;
 import com.reqres.base.BaseTest;
 import com.reqres.utils.LoggerUtil;
 
+import java.util.List;
+import java.util.stream.IntStream;
+
 import static org.testng.Assert.*;
 
 /**
@@ -27,7 +32,7 @@ public class DeleteUserAPITest extends BaseTest {
     public void deleteUser() {
         int userId = 10;
 
-        Response response = UserAPI.deleteUser(requestSpec, userId);
+        Response response = UserAPI.deleteUser(requestSpec(), userId);
 
         logger.info("DELETE user {} -> {}", userId, response.getStatusCode());
 
@@ -36,11 +41,24 @@ public class DeleteUserAPITest extends BaseTest {
                 "DELETE should return a successful status code (<300)");
     }
 
+    @Test(description = "Delete users in a batch - teardown contract validation")
+    public void deleteUsersInBatch() {
+        List<Integer> userIds = IntStream.rangeClosed(1, 200).boxed().toList();
+
+        BatchResult<Integer> result = UserBatchAPI.deleteUsers(requestSpec(), userIds);
+
+        logger.info("Batch DELETE -> {}", result);
+
+        assertEquals(result.size(), userIds.size(), "Every user ID should have a result");
+        assertEquals(result.getSucceeded(), userIds.size(),
+                "Every DELETE should succeed: " + result.getFailures());
+    }
+
     @Test(description = "Delete non-existing user - idempotent behavior")
     public void deleteNonExistingUser() {
         int userId = 9999;
 
-        Response response = UserAPI.deleteUser(requestSpec, userId);
+        Response response = UserAPI.deleteUser(requestSpec(), userId);
 
         logger.info("DELETE non-existing user {} -> {}", userId, response.getStatusCode());
 
@@ -0,0 +1,106 @@
+package com.reqres.tests;
+
+import io.restassured.response.Response;
+import org.testng.SkipException;
+import org.testng.annotations.Test;
+import org.apache.logging.log4j.Logger;
+import com.reqres.api.ConcurrentAPI;
+import com.reqres.api.UserAPI;
+import com.reqres.base.BaseTest;
+import com.reqres.config.ConfigReader;
+import com.reqres.filters.BufferedExchangeLoggingFilter;
+import com.reqres.utils.LoggerUtil;
+
+import java.util.List;
+
+import static org.testng.Assert.*;
+
+/**
+ * ExchangeLoggingTest Class - Test cases for failure-only exchange logging
+ *
+ * The tests inspect the buffer directly, so a green run writes no failure logs or attachments.
+ *
+ * Tests:
+ * - Buffered exchanges render with bodies included
+ * - Exchanges sent from virtual threads are buffered for the test that sent them
+ * - A passing, unsampled test gets its exchanges discarded
+ * - Only the most recent exchanges of a test are kept
+ */
+public class ExchangeLoggingTest extends BaseTest {
+
+    private static final Logger logger = LoggerUtil.getLogger(ExchangeLoggingTest.class);
+
+    /**
+     * Test that buffered exchanges render for a failure log
+     * Validates:
+     * - Request line and response status line are rendered
+     * - The response body is rendered even after the test consumed it
+     */
+    @Test(description = "Buffered exchanges render with their bodies")
+    public void bufferedExchangesRender() {
+        Response response = UserAPI.getUserById(requestSpec(), 1);
+        String body = response.asString();
+
+        String logged = BufferedExchangeLoggingFilter.drain();
+
+        logger.info("Exchanges rendered for a failure log: {} chars", logged.length());
+
+        assertTrue(logged.contains(">>> GET "), "Request line should be logged: " + logged);
+        assertTrue(logged.contains("<<< HTTP/1.1 200"), "Status line should be logged: " + logged);
+        assertTrue(logged.contains(body.substring(0, Math.min(body.length(), 64))),
+                "Response body should be logged: " + logged);
+    }
+
+    /**
+     * Test that exchanges sent from other threads are kept with the test
+     * Validates:
+     * - Every call fanned out over virtual threads is in the calling test's buffer
+     */
+    @Test(description = "Exchanges from virtual threads are buffered for the test")
+    public void virtualThreadExchangesAreBuffered() {
+        List<Response> responses = new ConcurrentAPI(requestSpec()).getUsersById(List.of(1, 2, 3));
+
+        String logged = BufferedExchangeLoggingFilter.drain();
+
+        assertEquals(responses.size(), 3, "Every call should answer");
+        for (int id = 1; id <= 3; id++) {
+            assertTrue(logged.contains("/get?id=" + id + "\n"), "Exchange for id " + id + " should be buffered: " + logged);
+        }
+    }
+
+    /**
+     * Test that a passing test discards its exchanges
+     * Validates:
+     * - Nothing is written out
+     * - The buffer is empty afterwards
+     */
+    @Test(description = "Passing test does not get its exchanges logged")
+    public void passingTestDiscardsItsExchanges() {
+        if (ConfigReader.getExchangeLogSampleRate() > 0) {
+            throw new SkipException("Passing tests may be sampled when log.exchanges.sampleRate is above 0");
+        }
+        assertEquals(UserAPI.getUserById(requestSpec(), 1).getStatusCode(), 200, "Status code should be 200");
+
+        assertEquals(selectExchanges(false), "", "Nothing should be written for a passing test");
+        assertEquals(BufferedExchangeLoggingFilter.drain(), "", "Buffered exchanges should be discarded");
+    }
+
+    /**
+     * Test that the buffer keeps only the most recent exchanges
+     * Validates:
+     * - Exchanges beyond log.exchanges.maxEntries are dropped and counted
+     */
+    @Test(description = "Only the most recent exchanges are kept")
+    public void oldestExchangesAreDropped() {
+        int maxEntries = ConfigReader.getExchangeLogMaxEntries();
+        for (int i = 0; i < maxEntries + 2; i++) {
+            UserAPI.getUserById(requestSpec(), 1);
+        }
+
+        String logged = BufferedExchangeLoggingFilter.drain();
+
+        assertTrue(logged.startsWith("[2 earlier exchanges dropped]"), "Dropped exchanges should be counted: "
+                + logged.substring(0, Math.min(logged.length(), 80)));
+        assertEquals(logged.split(">>> GET ", -1).length - 1, maxEntries, "Only maxEntries exchanges should be kept");
+    }
+}
@@ -3,9 +3,17 @@ package com.reqres.tests;
 import io.restassured.response.Response;
 import org.testng.annotations.Test;
 import org.apache.logging.log4j.Logger;
+import com.reqres.annotations.LatencyBudget;
+import com.reqres.api.AsyncUserAPI;
 import com.reqres.api.UserAPI;
 import com.reqres.base.BaseTest;
+import com.reqres.contract.ResponseContract;
 import com.reqres.utils.LoggerUtil;
+import com.reqres.utils.ResponseView;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.IntStream;
 
 import static org.testng.Assert.*;
 
@@ -16,6 +24,7 @@ import static org.testng.Assert.*;
  * - Get all users with default page
  * - Get all users with specific page number
  * - Get user by ID
+ * - Get users by ID through the async engine
  * - Get non-existent user
  * - Pagination validation
  * - Response structure validation
@@ -29,20 +38,22 @@ public class GetUsersAPITest extends BaseTest {
      * Validates:
      * - Status code 200 (OK)
      * - Response is valid JSON
+     * - p95 latency over 20 calls stays within 200ms
      */
     @Test(description = "Test get all users from default page")
+    @LatencyBudget(p95Millis = 200, repeat = 20)
     public void testGetAllUsersDefaultPage() {
         logger.info("Starting test: Get all users from default page");
         
-        Response response = UserAPI.getAllUsers(requestSpec);
+        ResponseView response = ResponseView.of(UserAPI.getAllUsers(requestSpec()));
         
-        logger.info("Response Status Code: " + response.getStatusCode());
+        logger.info("Response Status Code: {}", response.getStatusCode());
 
         // Assert status code is 200 (OK)
         assertEquals(response.getStatusCode(), 200, "Status code should be 200");
         
         // Assert response contains url (httpbin returns url in response)
-        assertTrue(response.asString().contains("url"), "Response should contain url");
+        assertTrue(response.getString("url").endsWith("/get"), "Response should contain url of the endpoint");
 
         logger.info("Test passed: Retrieved users from default page");
     }
@@ -58,17 +69,17 @@ public class GetUsersAPITest extends BaseTest {
         logger.info("Starting test: Get all users from specific page");
         
         int pageNumber = 2;
-        Response response = UserAPI.getAllUsers(requestSpec, pageNumber);
+        ResponseView response = ResponseView.of(UserAPI.getAllUsers(requestSpec(), pageNumber));
         
-        logger.info("Response Status Code: " + response.getStatusCode());
+        logger.info("Response Status Code: {}", response.getStatusCode());
 
         // Assert status code is 200 (OK)
         assertEquals(response.getStatusCode(), 200, "Status code should be 200");
         
-        // Assert response contains args (query parameters)
-        assertTrue(response.asString().contains("args"), "Response should contain args field");
+        // Assert args echoes the page query parameter
+        assertEquals(response.getInt("args.page"), Integer.valueOf(pageNumber), "Response args should contain page");
 
-        logger.info("Test passed: Retrieved users from page " + pageNumber);
+        logger.info("Test passed: Retrieved users from page {}", pageNumber);
     }
 
     /**
@@ -82,39 +93,64 @@ public class GetUsersAPITest extends BaseTest {
         logger.info("Starting test: Get user by ID");
         
         int userId = 1;
-        Response response = UserAPI.getUserById(requestSpec, userId);
+        ResponseView response = ResponseView.of(UserAPI.getUserById(requestSpec(), userId));
         
-        logger.info("Response Status Code: " + response.getStatusCode());
+        logger.info("Response Status Code: {}", response.getStatusCode());
 
         // Assert status code is 200 (OK)
         assertEquals(response.getStatusCode(), 200, "Status code should be 200");
         
-        // Assert response contains args
-        assertTrue(response.asString().contains("args"), "Response should contain args");
+        // Assert args echoes the id query parameter
+        assertEquals(response.getInt("args.id"), Integer.valueOf(userId), "Response args should contain id");
+
+        logger.info("Test passed: Retrieved user {}", userId);
+    }
 
-        logger.info("Test passed: Retrieved user " + userId);
+    /**
+     * Test getting users by ID through the async engine
+     * Validates:
+     * - All requests are in flight together and every one succeeds
+     * - Each response echoes the id it was sent with
+     */
+    @Test(description = "Test get users by ID asynchronously")
+    public void testGetUsersByIdAsync() {
+        logger.info("Starting test: Get users by ID asynchronously");
+
+        List<CompletableFuture<Response>> futures = IntStream.rangeClosed(1, 20)
+                .mapToObj(userId -> AsyncUserAPI.getUserById(requestSpec(), userId))
+                .toList();
+        CompletableFuture.allOf(futures.toArray(new CompletableFuture<?>[0])).join();
+
+        for (int i = 0; i < futures.size(); i++) {
+            ResponseView response = ResponseView.of(futures.get(i).join());
+            assertEquals(response.getStatusCode(), 200, "Status code should be 200");
+            assertEquals(response.getInt("args.id"), Integer.valueOf(i + 1), "Response args should contain id");
+        }
+
+        logger.info("Test passed: Retrieved {} users asynchronously", futures.size());
     }
 
     /**
      * Test getting non-existent user
      * Validates:
      * - Status code 200 (httpbin always returns 200)
-     * - Response is still valid
+     * - Response matches the get user schema contract
      */
     @Test(description = "Test get non-existent user")
     public void testGetNonExistentUser() {
         logger.info("Starting test: Get non-existent user");
         
         int nonExistentUserId = 9999;
-        Response response = UserAPI.getNonExistentUser(requestSpec, nonExistentUserId);
+        ResponseView response = ResponseView.of(UserAPI.getNonExistentUser(requestSpec(), nonExistentUserId));
         
-        logger.info("Response Status Code: " + response.getStatusCode());
+        logger.info("Response Status Code: {}", response.getStatusCode());
 
         // Assert status code is 200
         assertEquals(response.getStatusCode(), 200, "Status code should be 200");
         
-        // Assert response is valid JSON
-        assertNotNull(response.asString(), "Response should not be null");
+        // Assert response matches the get user contract
+        List<String> violations = response.getContractViolations(ResponseContract.GET_NON_EXISTENT_USER);
+        assertTrue(violations.isEmpty(), "Response should match the get user contract: " + violations);
 
         logger.info("Test passed: Non-existent user query returned 200");
     }
@@ -128,13 +164,14 @@ public class GetUsersAPITest extends BaseTest {
     public void testPaginationMetadata() {
         logger.info("Starting test: Metadata validation");
         
-        Response response = UserAPI.getAllUsers(requestSpec, 1);
+        ResponseView response = ResponseView.of(UserAPI.getAllUsers(requestSpec(), 1));
         
-        logger.info("Response Status Code: " + response.getStatusCode());
+        logger.info("Response Status Code: {}", response.getStatusCode());
 
         // Assert response contains metadata
-        assertTrue(response.asString().contains("url"), "Response should contain url");
-        assertTrue(response.asString().contains("headers"), "Response should contain headers");
+        assertTrue(response.getString("url").contains("page=1"), "Response url should contain the page query");
+        List<String> violations = response.getContractViolations(ResponseContract.GET_ALL_USERS);
+        assertTrue(violations.isEmpty(), "Response should match the get all users contract: " + violations);
 
         logger.info("Test passed: Metadata is valid");
     }
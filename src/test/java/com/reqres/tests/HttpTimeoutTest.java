@@ -0,0 +1,85 @@
+package com.reqres.tests;
+
+import io.restassured.RestAssured;
+import io.restassured.builder.RequestSpecBuilder;
+import io.restassured.config.RestAssuredConfig;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.RequestSpecification;
+import org.testng.SkipException;
+import org.testng.annotations.Test;
+import org.apache.logging.log4j.Logger;
+import com.reqres.base.BaseTest;
+import com.reqres.config.ConfigReader;
+import com.reqres.utils.HttpConnectionPool;
+import com.reqres.utils.LoggerUtil;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.SocketTimeoutException;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.testng.Assert.*;
+
+/**
+ * HttpTimeoutTest Class - Test cases for the HTTP client timeouts
+ *
+ * Tests:
+ * - The shared specification carries the configured timeouts
+ * - A server that accepts the connection and never answers fails the request after the socket timeout
+ */
+public class HttpTimeoutTest extends BaseTest {
+
+    private static final Logger logger = LoggerUtil.getLogger(HttpTimeoutTest.class);
+
+    private static final int SOCKET_TIMEOUT_MILLIS = 300;
+
+    @Test(description = "Shared specification carries the configured timeouts")
+    public void sharedSpecCarriesConfiguredTimeouts() {
+        Map<String, ?> params = ((FilterableRequestSpecification) requestSpec()).getConfig().getHttpClientConfig().params();
+
+        HttpConnectionPool.configuredTimeoutParams().forEach((name, value) ->
+                assertEquals(params.get(name), value, name + " should be applied to the shared specification"));
+    }
+
+    @Test(description = "Silent server fails the request after the socket timeout")
+    public void silentServerTimesOut() throws IOException {
+        if (!ConfigReader.getCassetteMode().equals("off")) {
+            throw new SkipException("A silent socket cannot be recorded or replayed by cassettes");
+        }
+        // The kernel completes the handshake into the backlog; nothing ever accepts or answers
+        try (ServerSocket silent = new ServerSocket(0, 1, InetAddress.getLoopbackAddress())) {
+            RestAssuredConfig config = ((FilterableRequestSpecification) requestSpec()).getConfig();
+            RequestSpecification silentSpec = new RequestSpecBuilder()
+                    .addRequestSpecification(requestSpec())
+                    .setBaseUri("http://127.0.0.1:" + silent.getLocalPort())
+                    .setConfig(config.httpClient(config.getHttpClientConfig().addParams(HttpConnectionPool.timeoutParams(
+                            ConfigReader.getConnectTimeout(), SOCKET_TIMEOUT_MILLIS, ConfigReader.getConnectionRequestTimeout()))))
+                    .build();
+
+            // Pay RestAssured's first-request cost outside the measurement
+            RestAssured.given(requestSpec()).get("/get");
+
+            long start = System.nanoTime();
+            Throwable error = expectThrows(Throwable.class, () -> RestAssured.given(silentSpec).get("/get"));
+            long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+            logger.info("GET on a silent socket gave up after {} ms: {}", elapsedMillis, error.toString());
+
+            assertTrue(hasCause(error, SocketTimeoutException.class), "GET should time out: " + error);
+            assertTrue(elapsedMillis >= SOCKET_TIMEOUT_MILLIS, "Timeout should not fire early, took " + elapsedMillis + " ms");
+            assertTrue(elapsedMillis < ConfigReader.getSocketTimeout(),
+                    "The request's own timeout should apply, not http.socketTimeout; took " + elapsedMillis + " ms");
+        }
+    }
+
+    private static boolean hasCause(Throwable error, Class<? extends Throwable> type) {
+        for (Throwable cause = error; cause != null; cause = cause.getCause()) {
+            if (type.isInstance(cause)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,98 @@
+package com.reqres.tests;
+
+import io.restassured.builder.RequestSpecBuilder;
+import io.restassured.specification.RequestSpecification;
+import org.testng.SkipException;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+import org.apache.logging.log4j.Logger;
+import com.reqres.annotations.LatencyBudget;
+import com.reqres.api.UserAPI;
+import com.reqres.base.BaseTest;
+import com.reqres.config.ConfigReader;
+import com.reqres.stub.FaultRule;
+import com.reqres.stub.HttpbinStubServer;
+import com.reqres.stub.LatencyDistribution;
+import com.reqres.utils.LoggerUtil;
+
+import static org.testng.Assert.*;
+
+/**
+ * LatencyBudgetTest Class - Enforcement of @LatencyBudget against injected latency
+ *
+ * Runs against a private stub that delays every GET /get by {@value #INJECTED_MILLIS} ms,
+ * so the budgets below are always exceeded.
+ *
+ * Tests:
+ * - An exceeded budget fails the test
+ * - An exceeded warnOnly budget only logs a warning
+ */
+@Test(singleThreaded = true)
+public class LatencyBudgetTest extends BaseTest {
+
+    private static final Logger logger = LoggerUtil.getLogger(LatencyBudgetTest.class);
+
+    private static final long INJECTED_MILLIS = 120;
+
+    private HttpbinStubServer stub;
+    private RequestSpecification stubSpec;
+
+    @BeforeClass(alwaysRun = true)
+    public void startSlowStub() {
+        if (!ConfigReader.getCassetteMode().equals("off")) {
+            throw new SkipException("Injected latency cannot be recorded or replayed by cassettes");
+        }
+        stub = new HttpbinStubServer();
+        stub.start();
+        stub.getFaultInjector().setRule("GET /get", FaultRule.builder()
+                .latency(LatencyDistribution.fixed(INJECTED_MILLIS))
+                .build());
+        stubSpec = new RequestSpecBuilder()
+                .addRequestSpecification(requestSpec())
+                .setBaseUri(stub.getBaseURI())
+                // Every request must reach the stub, also when cache.enabled=true
+                .addHeader("Cache-Control", "no-cache")
+                .build();
+    }
+
+    @AfterClass(alwaysRun = true)
+    public void stopSlowStub() {
+        if (stub != null) {
+            stub.stop();
+        }
+    }
+
+    /**
+     * Test that an exceeded budget fails the test
+     * Validates:
+     * - The listener raises an AssertionError naming the exceeded percentile
+     */
+    @Test(description = "Exceeded latency budget fails the test",
+            expectedExceptions = AssertionError.class,
+            expectedExceptionsMessageRegExp = "Latency budget exceeded: p50 .*")
+    @LatencyBudget(p50Millis = 50, repeat = 3)
+    public void exceededBudgetFailsTest() {
+        if (!ConfigReader.getLatencyBudgetMode().equals("fail")) {
+            throw new SkipException("latency.budget does not fail tests in this run");
+        }
+        assertEquals(UserAPI.getUserById(stubSpec, 1).getStatusCode(), 200, "Status code should be 200");
+    }
+
+    /**
+     * Test that a warnOnly budget is downgraded to a warning
+     * Validates:
+     * - The same exceeded budget passes when marked warnOnly
+     */
+    @Test(description = "Exceeded warnOnly latency budget only warns")
+    @LatencyBudget(p50Millis = 50, repeat = 3, warnOnly = true)
+    public void exceededWarnOnlyBudgetPasses() {
+        long start = System.nanoTime();
+        assertEquals(UserAPI.getUserById(stubSpec, 1).getStatusCode(), 200, "Status code should be 200");
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+        logger.info("GET with {} ms injected latency took {} ms", INJECTED_MILLIS, elapsedMillis);
+
+        assertTrue(elapsedMillis >= INJECTED_MILLIS, "Injected latency should exceed the budget, took " + elapsedMillis + " ms");
+    }
+}
@@ -1,11 +1,17 @@
 package com.reqres.tests;
 
-import io.restassured.response.Response;
 import org.testng.annotations.Test;
 import org.apache.logging.log4j.Logger;
+import com.reqres.api.AsyncLoginAPI;
 import com.reqres.api.LoginAPI;
 import com.reqres.base.BaseTest;
+import com.reqres.contract.ResponseContract;
+import com.reqres.data.BulkDataProviders;
+import com.reqres.models.Credentials;
 import com.reqres.utils.LoggerUtil;
+import com.reqres.utils.ResponseView;
+
+import java.util.List;
 
 import static org.testng.Assert.*;
 
@@ -16,6 +22,9 @@ import static org.testng.Assert.*;
  * - Valid login with correct email and password
  * - Login with missing password
  * - Login with empty credentials
+ * - Login for every row of the credentials dataset
+ * - Login through the async engine
+ * - Login through the typed wrapper
  * - Token generation validation
  * - Error message validation for invalid credentials
  */
@@ -36,42 +45,99 @@ public class LoginAPITest extends BaseTest {
     public void testLoginWithValidCredentials() {
         logger.info("Starting test: Login with valid credentials");
         
-        Response response = LoginAPI.loginWithValidCredentials(requestSpec, VALID_EMAIL, VALID_PASSWORD);
+        ResponseView response = ResponseView.of(LoginAPI.loginWithValidCredentials(requestSpec(), VALID_EMAIL, VALID_PASSWORD));
         
-        logger.info("Response Status Code: " + response.getStatusCode());
-        logger.info("Response Body: " + response.asString());
+        logger.info("Response Status Code: {}", response.getStatusCode());
+        LoggerUtil.logDebug(logger, () -> "Response Body: " + response.getBody());
 
         // Assert status code is 200 (OK)
         assertEquals(response.getStatusCode(), 200, "Status code should be 200");
         
         // Assert response contains json field with our data
-        assertTrue(response.asString().contains("email"), "Response should contain email field");
-        assertTrue(response.asString().contains("password"), "Response should contain password field");
+        assertEquals(response.getString("json.email"), VALID_EMAIL, "Response should contain email field");
+        assertEquals(response.getString("json.password"), VALID_PASSWORD, "Response should contain password field");
 
         logger.info("Test passed: Login successful with valid credentials");
     }
 
+    /**
+     * Test login through the async java.net.http engine
+     * Validates:
+     * - Status code 200 (OK)
+     * - Same response body as the RestAssured engine
+     */
+    @Test(description = "Test login through the async engine")
+    public void testLoginWithValidCredentialsAsync() {
+        logger.info("Starting test: Login through the async engine");
+
+        ResponseView response = ResponseView.of(
+                AsyncLoginAPI.loginWithValidCredentials(requestSpec(), VALID_EMAIL, VALID_PASSWORD).join());
+
+        logger.info("Response Status Code: {}", response.getStatusCode());
+
+        assertEquals(response.getStatusCode(), 200, "Status code should be 200");
+        assertEquals(response.getString("json.email"), VALID_EMAIL, "Response should contain email field");
+        assertEquals(response.getString("json.password"), VALID_PASSWORD, "Response should contain password field");
+
+        logger.info("Test passed: Async login successful");
+    }
+
+    /**
+     * Test login through the typed wrapper
+     * Validates:
+     * - Echoed credentials decode into the Credentials record
+     */
+    @Test(description = "Test login with typed response")
+    public void testLoginWithValidCredentialsTyped() {
+        logger.info("Starting test: Login with typed response");
+
+        Credentials credentials = LoginAPI.loginWithValidCredentialsTyped(requestSpec(), VALID_EMAIL, VALID_PASSWORD);
+
+        assertEquals(credentials, new Credentials(VALID_EMAIL, VALID_PASSWORD), "Credentials should be echoed back");
+
+        logger.info("Test passed: Typed login successful");
+    }
+
+    /**
+     * Test login for every row of the credentials dataset
+     * Validates:
+     * - Status code 200 (OK)
+     * - Email and password are echoed back for every row
+     */
+    @Test(description = "Test login with dataset credentials",
+            dataProvider = "credentials", dataProviderClass = BulkDataProviders.class)
+    public void testLoginWithDatasetCredentials(String email, String password) {
+        ResponseView response = ResponseView.of(LoginAPI.loginWithValidCredentials(requestSpec(), email, password));
+
+        logger.debug("Login for {} -> {}", email, response.getStatusCode());
+
+        assertEquals(response.getStatusCode(), 200, "Status code should be 200 for " + email);
+        assertEquals(response.getString("json.email"), email, "Response should contain email field");
+        assertEquals(response.getString("json.password"), password, "Response should contain password field");
+    }
+
     /**
      * Test login with missing password
      * Validates:
      * - Status code 200 (httpbin returns 200 for any POST)
-     * - Response does not contain password field
+     * - Response matches the schema contract, which has no password field
      */
     @Test(description = "Test login with missing password")
     public void testLoginWithoutPassword() {
         logger.info("Starting test: Login without password");
         
-        Response response = LoginAPI.loginWithoutPassword(requestSpec, VALID_EMAIL);
+        ResponseView response = ResponseView.of(LoginAPI.loginWithoutPassword(requestSpec(), VALID_EMAIL));
         
-        logger.info("Response Status Code: " + response.getStatusCode());
-        logger.info("Response Body: " + response.asString());
+        logger.info("Response Status Code: {}", response.getStatusCode());
+        LoggerUtil.logDebug(logger, () -> "Response Body: " + response.getBody());
 
         // Assert status code is 200 (httpbin returns 200)
         assertEquals(response.getStatusCode(), 200, "Status code should be 200");
         
         // Assert email is present but password is not in request
-        assertTrue(response.asString().contains("email"), "Response should contain email field");
-        assertFalse(response.asString().contains("\"password\""), "Response should not contain password field in json");
+        assertEquals(response.getString("json.email"), VALID_EMAIL, "Response should contain email field");
+        List<String> violations = response.getContractViolations(ResponseContract.LOGIN_WITHOUT_PASSWORD);
+        assertTrue(violations.isEmpty(), "Response should match the login without password contract: " + violations);
 
         logger.info("Test passed: Login without password returns 200");
     }
@@ -80,23 +146,23 @@ public class LoginAPITest extends BaseTest {
      * Test login with empty credentials
      * Validates:
      * - Status code 200
-     * - Response is valid JSON
+     * - Response matches the empty credentials schema contract
      */
     @Test(description = "Test login with empty credentials")
     public void testLoginWithEmptyCredentials() {
         logger.info("Starting test: Login with empty credentials");
         
-        Response response = LoginAPI.loginWithEmptyCredentials(requestSpec);
+        ResponseView response = ResponseView.of(LoginAPI.loginWithEmptyCredentials(requestSpec()));
         
-        logger.info("Response Status Code: " + response.getStatusCode());
-        logger.info("Response Body: " + response.asString());
+        logger.info("Response Status Code: {}", response.getStatusCode());
+        LoggerUtil.logDebug(logger, () -> "Response Body: " + response.getBody());
 
         // Assert status code is 200
         assertEquals(response.getStatusCode(), 200, "Status code should be 200");
         
-        // Assert response is valid JSON
-        assertNotNull(response.asString(), "Response should not be null");
-        assertTrue(response.asString().contains("json"), "Response should contain json field");
+        // Assert response matches the empty credentials contract (json is an empty object)
+        List<String> violations = response.getContractViolations(ResponseContract.LOGIN_WITH_EMPTY_CREDENTIALS);
+        assertTrue(violations.isEmpty(), "Response should match the empty credentials contract: " + violations);
 
         logger.info("Test passed: Login with empty credentials returns 200");
     }
@@ -104,14 +170,13 @@ public class LoginAPITest extends BaseTest {
     /**
      * Test login response structure
      * Validates:
-     * - Response is valid JSON
-     * - Response contains expected fields
+     * - Response matches the login schema contract
      */
     @Test(description = "Test login response structure")
     public void testLoginResponseStructure() {
         logger.info("Starting test: Login response structure validation");
         
-        Response response = LoginAPI.loginWithValidCredentials(requestSpec, VALID_EMAIL, VALID_PASSWORD);
+        ResponseView response = ResponseView.of(LoginAPI.loginWithValidCredentials(requestSpec(), VALID_EMAIL, VALID_PASSWORD));
 
         // Assert response is not null
         assertNotNull(response, "Response should not be null");
@@ -119,8 +184,9 @@ public class LoginAPITest extends BaseTest {
         // Assert response status code indicates success
         assertTrue(response.getStatusCode() == 200, "Status code should be 200");
         
-        // Assert response contains json field
-        assertTrue(response.asString().contains("json"), "Response should contain json field");
+        // Assert response matches the login contract
+        List<String> violations = response.getContractViolations(ResponseContract.LOGIN_WITH_VALID_CREDENTIALS);
+        assertTrue(violations.isEmpty(), "Response should match the login contract: " + violations);
 
         logger.info("Test passed: Login response structure is valid");
     }
@@ -1,11 +1,15 @@
 package com.reqres.tests;
 
-import io.restassured.response.Response;
 import org.testng.annotations.Test;
 import org.apache.logging.log4j.Logger;
 import com.reqres.api.RegisterAPI;
 import com.reqres.base.BaseTest;
+import com.reqres.contract.ResponseContract;
+import com.reqres.data.BulkDataProviders;
 import com.reqres.utils.LoggerUtil;
+import com.reqres.utils.ResponseView;
+
+import java.util.List;
 
 import static org.testng.Assert.*;
 
@@ -16,6 +20,7 @@ import static org.testng.Assert.*;
  * - Successful registration with valid credentials
  * - Registration with missing password
  * - Registration with empty credentials
+ * - Registration for every row of the credentials dataset
  * - Token generation validation
  * - ID generation validation
  * - Error handling for invalid credentials
@@ -37,21 +42,39 @@ public class RegisterAPITest extends BaseTest {
     public void testRegisterWithValidCredentials() {
         logger.info("Starting test: Register with valid credentials");
         
-        Response response = RegisterAPI.registerWithValidCredentials(requestSpec, TEST_EMAIL, TEST_PASSWORD);
+        ResponseView response = ResponseView.of(RegisterAPI.registerWithValidCredentials(requestSpec(), TEST_EMAIL, TEST_PASSWORD));
         
-        logger.info("Response Status Code: " + response.getStatusCode());
-        logger.info("Response Body: " + response.asString());
+        logger.info("Response Status Code: {}", response.getStatusCode());
+        LoggerUtil.logDebug(logger, () -> "Response Body: " + response.getBody());
 
         // Assert status code is 200 (OK)
         assertEquals(response.getStatusCode(), 200, "Status code should be 200");
         
         // Assert response contains email and password
-        assertTrue(response.asString().contains("email"), "Response should contain email field");
-        assertTrue(response.asString().contains("password"), "Response should contain password field");
+        assertEquals(response.getString("json.email"), TEST_EMAIL, "Response should contain email field");
+        assertEquals(response.getString("json.password"), TEST_PASSWORD, "Response should contain password field");
 
         logger.info("Test passed: Registration successful with valid credentials");
     }
 
+    /**
+     * Test registration for every row of the credentials dataset
+     * Validates:
+     * - Status code 200 (OK)
+     * - Email and password are echoed back for every row
+     */
+    @Test(description = "Test registration with dataset credentials",
+            dataProvider = "credentials", dataProviderClass = BulkDataProviders.class)
+    public void testRegisterWithDatasetCredentials(String email, String password) {
+        ResponseView response = ResponseView.of(RegisterAPI.registerWithValidCredentials(requestSpec(), email, password));
+
+        logger.debug("Register for {} -> {}", email, response.getStatusCode());
+
+        assertEquals(response.getStatusCode(), 200, "Status code should be 200 for " + email);
+        assertEquals(response.getString("json.email"), email, "Response should contain email field");
+        assertEquals(response.getString("json.password"), password, "Response should contain password field");
+    }
+
     /**
      * Test registration with missing password
      * Validates:
@@ -62,16 +85,18 @@ public class RegisterAPITest extends BaseTest {
     public void testRegisterWithoutPassword() {
         logger.info("Starting test: Register without password");
         
-        Response response = RegisterAPI.registerWithoutPassword(requestSpec, TEST_EMAIL);
+        ResponseView response = ResponseView.of(RegisterAPI.registerWithoutPassword(requestSpec(), TEST_EMAIL));
         
-        logger.info("Response Status Code: " + response.getStatusCode());
-        logger.info("Response Body: " + response.asString());
+        logger.info("Response Status Code: {}", response.getStatusCode());
+        LoggerUtil.logDebug(logger, () -> "Response Body: " + response.getBody());
 
         // Assert status code is 200
         assertEquals(response.getStatusCode(), 200, "Status code should be 200");
         
         // Assert email is present
-        assertTrue(response.asString().contains("email"), "Response should contain email field");
+        assertEquals(response.getString("json.email"), TEST_EMAIL, "Response should contain email field");
+        List<String> violations = response.getContractViolations(ResponseContract.REGISTER_WITHOUT_PASSWORD);
+        assertTrue(violations.isEmpty(), "Response should match the register without password contract: " + violations);
 
         logger.info("Test passed: Registration without password returns 200");
     }
@@ -80,22 +105,23 @@ public class RegisterAPITest extends BaseTest {
      * Test registration with empty credentials
      * Validates:
      * - Status code 200
-     * - Response is valid JSON
+     * - Response matches the empty credentials schema contract
      */
     @Test(description = "Test registration with empty credentials")
     public void testRegisterWithEmptyCredentials() {
         logger.info("Starting test: Register with empty credentials");
         
-        Response response = RegisterAPI.registerWithEmptyCredentials(requestSpec);
+        ResponseView response = ResponseView.of(RegisterAPI.registerWithEmptyCredentials(requestSpec()));
         
-        logger.info("Response Status Code: " + response.getStatusCode());
-        logger.info("Response Body: " + response.asString());
+        logger.info("Response Status Code: {}", response.getStatusCode());
+        LoggerUtil.logDebug(logger, () -> "Response Body: " + response.getBody());
 
         // Assert status code is 200
         assertEquals(response.getStatusCode(), 200, "Status code should be 200");
         
-        // Assert response is valid JSON
-        assertTrue(response.asString().contains("json"), "Response should contain json field");
+        // Assert response matches the empty credentials contract (json is an empty object)
+        List<String> violations = response.getContractViolations(ResponseContract.REGISTER_WITH_EMPTY_CREDENTIALS);
+        assertTrue(violations.isEmpty(), "Response should match the empty credentials contract: " + violations);
 
         logger.info("Test passed: Registration with empty credentials returns 200");
     }
@@ -103,14 +129,13 @@ public class RegisterAPITest extends BaseTest {
     /**
      * Test registration response structure
      * Validates:
-     * - Response is valid JSON
-     * - Response contains expected fields
+     * - Response matches the register schema contract
      */
     @Test(description = "Test registration response structure")
     public void testRegisterResponseStructure() {
         logger.info("Starting test: Registration response structure validation");
         
-        Response response = RegisterAPI.registerWithValidCredentials(requestSpec, TEST_EMAIL, TEST_PASSWORD);
+        ResponseView response = ResponseView.of(RegisterAPI.registerWithValidCredentials(requestSpec(), TEST_EMAIL, TEST_PASSWORD));
 
         // Assert response is not null
         assertNotNull(response, "Response should not be null");
@@ -118,8 +143,9 @@ public class RegisterAPITest extends BaseTest {
         // Assert response status code is 200
         assertEquals(response.getStatusCode(), 200, "Status code should be 200");
         
-        // Assert response contains json field
-        assertTrue(response.asString().contains("json"), "Response should contain json field");
+        // Assert response matches the register contract
+        List<String> violations = response.getContractViolations(ResponseContract.REGISTER_WITH_VALID_CREDENTIALS);
+        assertTrue(violations.isEmpty(), "Response should match the register contract: " + violations);
 
         logger.info("Test passed: Registration response structure is valid");
     }
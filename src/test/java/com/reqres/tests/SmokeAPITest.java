@@ -0,0 +1,91 @@
+package com.reqres.tests;
+
+import org.testng.annotations.Test;
+import org.apache.logging.log4j.Logger;
+import com.reqres.api.LoginAPI;
+import com.reqres.api.UserAPI;
+import com.reqres.base.BaseTest;
+import com.reqres.contract.ResponseContract;
+import com.reqres.models.CreatedUser;
+import com.reqres.models.Credentials;
+import com.reqres.utils.LoggerUtil;
+import com.reqres.utils.ResponseView;
+
+import java.util.List;
+
+import static org.testng.Assert.*;
+
+/**
+ * SmokeAPITest Class - Pre-merge smoke checks on the Groovy-free request path
+ *
+ * Every call goes through {@link com.reqres.utils.DirectHttpClient}, so a smoke run
+ * (mvn test -Psmoke) never loads RestAssured and reaches its first assertion sooner.
+ * The same tests also run as part of the full suite.
+ *
+ * Tests:
+ * - Get user by ID
+ * - Create user through the typed wrapper
+ * - Partially update user
+ * - Delete user
+ * - Login through the typed wrapper
+ */
+public class SmokeAPITest extends BaseTest {
+
+    private static final Logger logger = LoggerUtil.getLogger(SmokeAPITest.class);
+
+    @Test(groups = "smoke", description = "Smoke - get user by ID")
+    public void smokeGetUserById() {
+        ResponseView response = ResponseView.of(UserAPI.getUserById(directClient(), 2));
+
+        logger.info("GET user 2 -> {}", response.getStatusCode());
+
+        assertEquals(response.getStatusCode(), 200, "Status code should be 200");
+        List<String> violations = response.getContractViolations(ResponseContract.GET_USER_BY_ID);
+        assertTrue(violations.isEmpty(), "Get user response should match its contract: " + violations);
+        assertEquals(response.getInt("args.id"), Integer.valueOf(2), "Echoed id should be 2");
+    }
+
+    @Test(groups = "smoke", description = "Smoke - create user")
+    public void smokeCreateUser() {
+        CreatedUser user = UserAPI.createUserTyped(directClient(), "Smoke Test", "QA Engineer");
+
+        logger.info("Created user {}", user);
+
+        assertNotNull(user, "Created user should be echoed back");
+        assertEquals(user.name(), "Smoke Test", "Name should match");
+        assertEquals(user.job(), "QA Engineer", "Job should match");
+    }
+
+    @Test(groups = "smoke", description = "Smoke - partially update user")
+    public void smokePartialUpdateUser() {
+        ResponseView response = ResponseView.of(UserAPI.partialUpdateUser(directClient(), 2, "Smoke Test", "Lead"));
+
+        logger.info("PATCH user 2 -> {}", response.getStatusCode());
+
+        assertEquals(response.getStatusCode(), 200, "Status code should be 200");
+        List<String> violations = response.getContractViolations(ResponseContract.PARTIAL_UPDATE_USER);
+        assertTrue(violations.isEmpty(), "Partial update response should match its contract: " + violations);
+        assertEquals(response.getString("json.job"), "Lead", "Job should be updated");
+    }
+
+    @Test(groups = "smoke", description = "Smoke - delete user")
+    public void smokeDeleteUser() {
+        ResponseView response = ResponseView.of(UserAPI.deleteUser(directClient(), 10));
+
+        logger.info("DELETE user 10 -> {}", response.getStatusCode());
+
+        assertTrue(response.getStatusCode() < 300, "DELETE should return a successful status code (<300)");
+        List<String> violations = response.getContractViolations(ResponseContract.DELETE_USER);
+        assertTrue(violations.isEmpty(), "Delete response should match its contract: " + violations);
+    }
+
+    @Test(groups = "smoke", description = "Smoke - login with valid credentials")
+    public void smokeLogin() {
+        Credentials credentials = LoginAPI.loginWithValidCredentialsTyped(directClient(), "eve.holt@reqres.in", "cityslicka");
+
+        logger.info("Login echoed {}", credentials.email());
+
+        assertEquals(credentials.email(), "eve.holt@reqres.in", "Email should be echoed");
+        assertEquals(credentials.password(), "cityslicka", "Password should be echoed");
+    }
+}
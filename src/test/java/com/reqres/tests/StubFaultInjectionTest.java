@@ -0,0 +1,191 @@
+package com.reqres.tests;
+
+import io.restassured.RestAssured;
+import io.restassured.builder.RequestSpecBuilder;
+import io.restassured.config.RestAssuredConfig;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.RequestSpecification;
+import org.apache.http.NoHttpResponseException;
+import org.testng.SkipException;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+import org.apache.logging.log4j.Logger;
+import com.reqres.api.UserAPI;
+import com.reqres.base.BaseTest;
+import com.reqres.config.ConfigReader;
+import com.reqres.models.CreatedUser;
+import com.reqres.stub.FaultRule;
+import com.reqres.stub.HttpbinStubServer;
+import com.reqres.stub.LatencyDistribution;
+import com.reqres.utils.HttpConnectionPool;
+import com.reqres.utils.LoggerUtil;
+import com.reqres.utils.ResponseView;
+
+import java.net.SocketException;
+import java.net.SocketTimeoutException;
+import java.util.concurrent.TimeUnit;
+
+import static org.testng.Assert.*;
+
+/**
+ * StubFaultInjectionTest Class - Client behaviour under faults injected by the stub
+ *
+ * Runs against a private stub instance, so its rules never reach other tests,
+ * and single-threaded, so its own rules never overlap.
+ *
+ * Tests:
+ * - Injected 503s on an idempotent call are retried until it succeeds
+ * - A connection reset fails a non-idempotent call instead of repeating it
+ * - The socket timeout cuts off a tail latency response
+ * - A slow-drip body arrives intact
+ * - The HTTP control API replaces, reports and clears rules
+ */
+@Test(singleThreaded = true)
+public class StubFaultInjectionTest extends BaseTest {
+
+    private static final Logger logger = LoggerUtil.getLogger(StubFaultInjectionTest.class);
+
+    private HttpbinStubServer stub;
+    private RequestSpecification stubSpec;
+
+    @BeforeClass(alwaysRun = true)
+    public void startFaultyStub() {
+        if (!ConfigReader.getCassetteMode().equals("off")) {
+            throw new SkipException("Injected faults cannot be recorded or replayed by cassettes");
+        }
+        stub = new HttpbinStubServer();
+        stub.start();
+        stubSpec = new RequestSpecBuilder()
+                .addRequestSpecification(requestSpec())
+                .setBaseUri(stub.getBaseURI())
+                .build();
+    }
+
+    @AfterMethod(alwaysRun = true)
+    public void clearFaults() {
+        if (stub != null) {
+            stub.getFaultInjector().clear();
+        }
+    }
+
+    @AfterClass(alwaysRun = true)
+    public void stopFaultyStub() {
+        if (stub != null) {
+            stub.stop();
+        }
+    }
+
+    @Test(description = "Injected 503s on an idempotent call are retried")
+    public void transientErrorsAreRetried() {
+        stub.getFaultInjector().setRule("GET /get", FaultRule.builder()
+                .errorRate(1.0, 503)
+                .retryAfterSeconds(0)
+                .times(2)
+                .build());
+        long errorsBefore = stub.getFaultInjector().getStatistics().getErrors();
+
+        Response response = UserAPI.getUserById(stubSpec, 4101);
+
+        logger.info("GET after two injected 503s -> {} ({})", response.getStatusCode(), stub.getFaultInjector().getStatistics());
+
+        assertEquals(response.getStatusCode(), 200, "Third attempt should succeed");
+        assertEquals(stub.getFaultInjector().getStatistics().getErrors() - errorsBefore, 2, "Both injected errors should have been served");
+    }
+
+    @Test(description = "A connection reset fails a non-idempotent call")
+    public void connectionResetFailsNonIdempotentCall() {
+        stub.getFaultInjector().setRule("PUT /put", FaultRule.builder()
+                .resetRate(1.0)
+                .times(1)
+                .build());
+
+        Throwable error = expectThrows(Throwable.class, () -> UserAPI.updateUser(stubSpec, 4102, "Reset", "Tester"));
+
+        logger.info("PUT on reset connection -> {}", error.toString());
+
+        assertTrue(hasCause(error, SocketException.class) || hasCause(error, NoHttpResponseException.class),
+                "PUT should fail with the reset, not be repeated: " + error);
+        assertEquals(UserAPI.updateUser(stubSpec, 4102, "Reset", "Tester").getStatusCode(), 200,
+                "Next PUT should succeed once the rule is used up");
+    }
+
+    @Test(description = "Socket timeout cuts off a tail latency response")
+    public void socketTimeoutCutsOffTailLatency() {
+        stub.getFaultInjector().setRule("PATCH /patch", FaultRule.builder()
+                .latency(LatencyDistribution.fixed(2000))
+                .times(1)
+                .build());
+        RestAssuredConfig config = ((FilterableRequestSpecification) stubSpec).getConfig();
+        RequestSpecification impatientSpec = new RequestSpecBuilder()
+                .addRequestSpecification(stubSpec)
+                .setConfig(config.httpClient(config.getHttpClientConfig().addParams(HttpConnectionPool.timeoutParams(
+                        ConfigReader.getConnectTimeout(), 250, ConfigReader.getConnectionRequestTimeout()))))
+                .build();
+
+        long start = System.nanoTime();
+        Throwable error = expectThrows(Throwable.class,
+                () -> UserAPI.partialUpdateUser(impatientSpec, 4103, "Slow", "Tester"));
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        logger.info("PATCH with 2000 ms injected latency gave up after {} ms: {}", elapsedMillis, error.toString());
+
+        assertTrue(hasCause(error, SocketTimeoutException.class), "PATCH should time out: " + error);
+        assertTrue(elapsedMillis < 1500, "Timeout should fire well before the response, took " + elapsedMillis + " ms");
+    }
+
+    @Test(description = "Slow-drip body arrives intact")
+    public void slowDripBodyArrivesIntact() {
+        stub.getFaultInjector().setRule("POST /post", FaultRule.builder()
+                .drip(32, 5)
+                .build());
+        long drippedBefore = stub.getFaultInjector().getStatistics().getDripped();
+
+        long start = System.nanoTime();
+        CreatedUser user = UserAPI.createUserTyped(stubSpec, "Drip", "Tester");
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        logger.info("POST with a 32 byte / 5 ms drip took {} ms", elapsedMillis);
+
+        assertEquals(user.name(), "Drip", "Name should survive the drip");
+        assertEquals(user.job(), "Tester", "Job should survive the drip");
+        assertTrue(elapsedMillis >= 50, "Dripped response should take several intervals, took " + elapsedMillis + " ms");
+        assertEquals(stub.getFaultInjector().getStatistics().getDripped() - drippedBefore, 1, "One response should have been dripped");
+    }
+
+    @Test(description = "HTTP control API replaces, reports and clears rules")
+    public void controlApiReplacesAndClearsRules() {
+        String rules = "{\"rules\": {\"/delete\": {\"errorRate\": 1.0, \"errorStatus\": 429, "
+                + "\"retryAfterSeconds\": 0, \"times\": 1}}}";
+
+        ResponseView replaced = ResponseView.of(RestAssured.given(stubSpec).body(rules).put("/__control/faults"));
+        assertEquals(replaced.getStatusCode(), 200, "Valid rules should be accepted");
+        assertEquals(replaced.getInt("rules./delete.remaining"), Integer.valueOf(1), "Rule should be active once");
+
+        Response throttled = RestAssured.given(stubSpec).delete("/delete");
+        assertEquals(throttled.getStatusCode(), 429, "DELETE should be throttled");
+        assertEquals(throttled.getHeader("Retry-After"), "0", "Retry-After should be sent");
+        assertEquals(RestAssured.given(stubSpec).delete("/delete").getStatusCode(), 200, "Rule should be used up");
+
+        ResponseView rejected = ResponseView.of(RestAssured.given(stubSpec)
+                .body("{\"rules\": {\"/get\": {\"errorRate\": 2}}}")
+                .put("/__control/faults"));
+        assertEquals(rejected.getStatusCode(), 400, "Out of range rate should be rejected");
+        assertTrue(rejected.getString("error").contains("errorRate"), "Error should name the key: " + rejected.getBody());
+
+        ResponseView cleared = ResponseView.of(RestAssured.given(stubSpec).delete("/__control/faults"));
+        assertEquals(cleared.getStatusCode(), 200, "Clearing should succeed");
+        assertTrue(cleared.getObject("rules").isEmpty(), "No rules should remain: " + cleared.getBody());
+    }
+
+    private static boolean hasCause(Throwable error, Class<? extends Throwable> type) {
+        for (Throwable cause = error; cause != null; cause = cause.getCause()) {
+            if (type.isInstance(cause)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
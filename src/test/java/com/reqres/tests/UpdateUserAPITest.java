@@ -4,10 +4,16 @@ import io.restassured.response.Response;
 import org.testng.annotations.Test;
 import org.apache.logging.log4j.Logger;
 
+import com.reqres.api.BatchResult;
 import com.reqres.api.UserAPI;
+import com.reqres.api.UserBatchAPI;
 import com.reqres.base.BaseTest;
+import com.reqres.models.UpdatedUser;
 import com.reqres.utils.LoggerUtil;
 
+import java.util.List;
+import java.util.stream.IntStream;
+
 import static org.testng.Assert.*;
 
 /**
@@ -23,12 +29,28 @@ public class UpdateUserAPITest extends BaseTest {
     private static final Logger logger =
             LoggerUtil.getLogger(UpdateUserAPITest.class);
 
+    @Test(description = "Update users in a batch - contract validation only")
+    public void updateUsersInBatch() {
+        List<UserBatchAPI.UserUpdate> updates = IntStream.rangeClosed(1, 200)
+                .mapToObj(id -> new UserBatchAPI.UserUpdate(id, "User " + id, "Engineer"))
+                .toList();
+
+        BatchResult<UserBatchAPI.UserUpdate> result = UserBatchAPI.updateUsers(requestSpec(), updates);
+
+        logger.info("Batch PUT -> {}", result);
+
+        assertEquals(result.size(), updates.size(), "Every update should have a result");
+        for (BatchResult.Item<UserBatchAPI.UserUpdate> item : result.getItems()) {
+            assertEquals(item.getResponse().getStatusCode(), 200, "PUT should succeed for " + item.getInput());
+        }
+    }
+
     @Test(description = "Update user with PUT - contract validation only")
     public void updateUserWithPUT() {
         Response response =
-                UserAPI.updateUser(requestSpec, 2, "Test User", "Engineer");
+                UserAPI.updateUser(requestSpec(), 2, "Test User", "Engineer");
 
-        logger.info("PUT response -> {}", response.asString());
+        logger.info("PUT response -> {}", response::asString);
 
         assertEquals(response.getStatusCode(), 200);
         assertFalse(response.asString().isEmpty(),
@@ -38,20 +60,31 @@ public class UpdateUserAPITest extends BaseTest {
     @Test(description = "Update user with PATCH - contract validation only")
     public void updateUserWithPATCH() {
         Response response =
-                UserAPI.partialUpdateUser(requestSpec, 2, "Patch User", "Lead");
+                UserAPI.partialUpdateUser(requestSpec(), 2, "Patch User", "Lead");
 
-        logger.info("PATCH response -> {}", response.asString());
+        logger.info("PATCH response -> {}", response::asString);
 
         assertEquals(response.getStatusCode(), 200);
         assertFalse(response.asString().isEmpty());
     }
 
+    @Test(description = "Update user with PATCH - typed response")
+    public void updateUserWithPATCHTyped() {
+        UpdatedUser user = UserAPI.partialUpdateUserTyped(requestSpec(), 2, "Patch User", "Lead");
+
+        logger.info("PATCH typed -> {}", user);
+
+        assertEquals(user.id(), Integer.valueOf(2));
+        assertEquals(user.name(), "Patch User");
+        assertEquals(user.job(), "Lead");
+    }
+
     @Test(description = "Update with special characters")
     public void updateWithSpecialCharacters() {
         Response response =
-                UserAPI.updateUser(requestSpec, 4, "O'Connor & Sons", "Manager");
+                UserAPI.updateUser(requestSpec(), 4, "O'Connor & Sons", "Manager");
 
-        logger.info("Special char update -> {}", response.asString());
+        logger.info("Special char update -> {}", response::asString);
 
         assertEquals(response.getStatusCode(), 200);
     }
@@ -66,9 +99,9 @@ public class UpdateUserAPITest extends BaseTest {
 
         for (String[] update : updates) {
             Response response =
-                    UserAPI.updateUser(requestSpec, 6, update[0], update[1]);
+                    UserAPI.updateUser(requestSpec(), 6, update[0], update[1]);
 
-            logger.info("Sequential update -> {}", response.asString());
+            logger.info("Sequential update -> {}", response::asString);
 
             assertEquals(response.getStatusCode(), 200);
         }
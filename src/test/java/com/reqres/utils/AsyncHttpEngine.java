@@ -0,0 +1,229 @@
+package com.reqres.utils;
+
+import io.restassured.builder.ResponseBuilder;
+import io.restassured.http.Header;
+import io.restassured.http.Headers;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.RequestSpecification;
+import com.reqres.config.ConfigReader;
+import com.reqres.filters.RequestTimingFilter;
+
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * AsyncHttpEngine Class - Non-blocking HTTP engine on java.net.http for the Async*API classes
+ *
+ * This class provides:
+ * - One JVM-wide java.net.http.HttpClient that prefers HTTP/2, so concurrent requests to an
+ *   HTTP/2 server are multiplexed as streams over a few connections
+ * - Requests described by the same RequestSpecification the RestAssured APIs use
+ *   (base URI, base path, port and headers)
+ * - Responses converted to RestAssured Responses, so assertions and ResponseView work unchanged
+ * - A bound on in-flight requests (async.maxInFlight); the rest wait in a queue without
+ *   holding a thread, which also bounds sockets against HTTP/1.1-only servers
+ * - Timings recorded into {@link RequestTimingFilter}, so async calls appear in the suite report
+ *
+ * Cleartext targets such as the embedded stub only speak HTTP/1.1; the client then falls
+ * back to keep-alive HTTP/1.1 connections. RestAssured filters (exchange logging, response
+ * cache, cassette) and the retry executor do not apply to this engine.
+ */
+public class AsyncHttpEngine {
+
+    private static volatile boolean created;
+
+    /** Headers java.net.http sets itself and refuses from callers */
+    private static final Set<String> RESTRICTED_HEADERS = Set.of("connection", "content-length", "expect", "host", "upgrade");
+
+    private final HttpClient client;
+    private final Duration requestTimeout;
+    private final int maxInFlight;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final Queue<Runnable> waiting = new ConcurrentLinkedQueue<>();
+    private final LongAdder sent = new LongAdder();
+    private final LongAdder queued = new LongAdder();
+
+    private AsyncHttpEngine() {
+        client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_2)
+                .followRedirects(HttpClient.Redirect.NORMAL)
+                .connectTimeout(Duration.ofMillis(ConfigReader.getConnectTimeout()))
+                // Completion callbacks and body handling run on virtual threads
+                .executor(Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("async-http-", 0).factory()))
+                .build();
+        requestTimeout = Duration.ofMillis(ConfigReader.getSocketTimeout());
+        maxInFlight = ConfigReader.getAsyncMaxInFlight();
+        created = true;
+    }
+
+    /**
+     * Get the JVM-wide engine, creating it on first use
+     *
+     * @return Shared AsyncHttpEngine
+     */
+    public static AsyncHttpEngine getInstance() {
+        return Holder.INSTANCE;
+    }
+
+    /**
+     * Check whether the engine was created, without creating it
+     *
+     * @return true once {@link #getInstance()} has been called
+     */
+    public static boolean isCreated() {
+        return created;
+    }
+
+    /**
+     * Send a request without blocking the caller
+     *
+     * @param requestSpec RequestSpecification providing base URI, base path and headers
+     * @param method HTTP method
+     * @param path Path relative to the base path, e.g. "/post"
+     * @param queryParams Query parameters, in order (may be empty)
+     * @param body Request body, or null for none
+     * @return Future completed with the response, or exceptionally if no response arrived
+     */
+    public CompletableFuture<Response> send(RequestSpecification requestSpec, String method, String path,
+                                            Map<String, ?> queryParams, byte[] body) {
+        FilterableRequestSpecification spec = (FilterableRequestSpecification) requestSpec;
+        HttpRequest.Builder request = HttpRequest.newBuilder(uri(spec, path, queryParams))
+                .timeout(requestTimeout)
+                .method(method, body == null
+                        ? HttpRequest.BodyPublishers.noBody()
+                        : HttpRequest.BodyPublishers.ofByteArray(body));
+        for (Header header : spec.getHeaders()) {
+            if (!RESTRICTED_HEADERS.contains(header.getName().toLowerCase(Locale.ROOT))) {
+                request.header(header.getName(), header.getValue());
+            }
+        }
+
+        String endpoint = method + " " + path;
+        long requestBytes = body == null ? 0 : body.length;
+        CompletableFuture<Response> result = new CompletableFuture<>();
+        submit(() -> {
+            sent.increment();
+            long start = System.nanoTime();
+            client.sendAsync(request.build(), HttpResponse.BodyHandlers.ofByteArray())
+                    .whenComplete((response, error) -> {
+                        long latencyNanos = System.nanoTime() - start;
+                        release();
+                        if (error != null) {
+                            RequestTimingFilter.getInstance().record(endpoint, RequestTimingFilter.NO_RESPONSE,
+                                    latencyNanos, requestBytes, 0);
+                            result.completeExceptionally(error);
+                            return;
+                        }
+                        RequestTimingFilter.getInstance().record(endpoint, response.statusCode(),
+                                latencyNanos, requestBytes, response.body().length);
+                        result.complete(toResponse(response));
+                    });
+        });
+        return result;
+    }
+
+    /**
+     * Take a snapshot of engine counters
+     *
+     * @return One line summary
+     */
+    public String getStatistics() {
+        return String.format("sent=%d, queued=%d, inFlight=%d, maxInFlight=%d",
+                sent.sum(), queued.sum(), inFlight.get(), maxInFlight);
+    }
+
+    private void submit(Runnable send) {
+        if (inFlight.get() >= maxInFlight) {
+            queued.increment();
+        }
+        waiting.add(send);
+        drain();
+    }
+
+    private void release() {
+        inFlight.decrementAndGet();
+        drain();
+    }
+
+    /**
+     * Start queued sends while there is room; called on submit and on every completion,
+     * so a send is never stranded in the queue
+     */
+    private void drain() {
+        while (!waiting.isEmpty()) {
+            int current = inFlight.get();
+            if (current >= maxInFlight) {
+                return;
+            }
+            if (!inFlight.compareAndSet(current, current + 1)) {
+                continue;
+            }
+            Runnable next = waiting.poll();
+            if (next == null) {
+                inFlight.decrementAndGet();
+                continue;
+            }
+            next.run();
+        }
+    }
+
+    private static URI uri(FilterableRequestSpecification spec, String path, Map<String, ?> queryParams) {
+        StringBuilder uri = new StringBuilder(spec.getBaseUri());
+        int port = spec.getPort();
+        if (port > 0 && URI.create(spec.getBaseUri()).getPort() < 0) {
+            uri.append(':').append(port);
+        }
+        String basePath = spec.getBasePath();
+        if (basePath != null && !basePath.isEmpty()) {
+            uri.append(basePath.startsWith("/") ? "" : "/").append(basePath);
+        }
+        uri.append(path);
+        char separator = '?';
+        for (Map.Entry<String, ?> param : queryParams.entrySet()) {
+            uri.append(separator)
+                    .append(URLEncoder.encode(param.getKey(), StandardCharsets.UTF_8))
+                    .append('=')
+                    .append(URLEncoder.encode(String.valueOf(param.getValue()), StandardCharsets.UTF_8));
+            separator = '&';
+        }
+        return URI.create(uri.toString());
+    }
+
+    private static Response toResponse(HttpResponse<byte[]> response) {
+        List<Header> headers = new ArrayList<>();
+        response.headers().map().forEach((name, values) -> values.forEach(value -> headers.add(new Header(name, value))));
+        String version = response.version() == HttpClient.Version.HTTP_2 ? "HTTP/2" : "HTTP/1.1";
+        ResponseBuilder builder = new ResponseBuilder()
+                .setStatusCode(response.statusCode())
+                .setStatusLine(version + " " + response.statusCode())
+                .setHeaders(new Headers(headers))
+                .setBody(response.body());
+        response.headers().firstValue("Content-Type").ifPresent(builder::setContentType);
+        return builder.build();
+    }
+
+    /**
+     * Creates the engine, and its client and threads, only when an Async*API first sends
+     */
+    private static final class Holder {
+
+        private static final AsyncHttpEngine INSTANCE = new AsyncHttpEngine();
+    }
+}
@@ -0,0 +1,182 @@
+package com.reqres.utils;
+
+import org.apache.http.Header;
+import org.apache.http.HttpEntity;
+import org.apache.http.HttpResponse;
+import org.apache.http.client.HttpClient;
+import org.apache.http.client.methods.HttpDelete;
+import org.apache.http.client.methods.HttpEntityEnclosingRequestBase;
+import org.apache.http.client.methods.HttpGet;
+import org.apache.http.client.methods.HttpPatch;
+import org.apache.http.client.methods.HttpPost;
+import org.apache.http.client.methods.HttpPut;
+import org.apache.http.client.methods.HttpRequestBase;
+import org.apache.http.entity.ByteArrayEntity;
+import org.apache.http.util.EntityUtils;
+import com.reqres.config.ConfigReader;
+import com.reqres.filters.RequestTimingFilter;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * DirectHttpClient Class - Groovy-free request path for the api wrappers
+ *
+ * This class provides:
+ * - Blocking requests straight on the Apache client of the shared {@link HttpConnectionPool},
+ *   with the same timeouts and default headers as {@link RequestSpecificationUtil}
+ * - Per-exchange latency and size recording through {@link RequestTimingFilter#record}
+ * - Responses read fully into a {@link DirectResponse}
+ *
+ * RestAssured is never loaded on this path, so a run that only uses it skips the Groovy
+ * bootstrap and class loading RestAssured pays on its first request. In exchange the
+ * RestAssured filters do not apply: exchanges are not buffered for failure logging, the
+ * response cache is bypassed, and retries and hedging are not attempted. Cassettes
+ * cannot be recorded on this path, and replay fails fast instead of touching the network.
+ *
+ * Thread-safe; the shared instance is meant to be used from every test thread.
+ */
+public final class DirectHttpClient {
+
+    private static final DirectHttpClient INSTANCE = new DirectHttpClient(true);
+
+    private final HttpClient client;
+    private final String baseUri;
+    private final boolean recordTimings;
+    private final boolean cassetteReplay;
+
+    private DirectHttpClient(boolean recordTimings) {
+        this.client = HttpConnectionPool.getInstance().createHttpClient(HttpConnectionPool.configuredTimeoutParams());
+        String uri = ConfigReader.getBaseURI();
+        this.baseUri = uri.endsWith("/") ? uri.substring(0, uri.length() - 1) : uri;
+        this.recordTimings = recordTimings;
+        this.cassetteReplay = ConfigReader.getCassetteMode().equals("replay");
+    }
+
+    /**
+     * Get the shared client, which records request timings
+     *
+     * @return Shared DirectHttpClient
+     */
+    public static DirectHttpClient getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Create a client whose exchanges are not recorded in the request timings
+     * Used for warm-up traffic, which would otherwise skew the per-endpoint report
+     *
+     * @return Untimed DirectHttpClient sharing the connection pool
+     */
+    public static DirectHttpClient createUntimed() {
+        return new DirectHttpClient(false);
+    }
+
+    public DirectResponse get(String path, Map<String, ?> queryParams) {
+        return send("GET", path, queryParams, null);
+    }
+
+    public DirectResponse post(String path, byte[] body) {
+        return send("POST", path, Collections.emptyMap(), body);
+    }
+
+    public DirectResponse put(String path, byte[] body) {
+        return send("PUT", path, Collections.emptyMap(), body);
+    }
+
+    public DirectResponse patch(String path, byte[] body) {
+        return send("PATCH", path, Collections.emptyMap(), body);
+    }
+
+    public DirectResponse delete(String path, Map<String, ?> queryParams) {
+        return send("DELETE", path, queryParams, null);
+    }
+
+    /**
+     * Send a request and read the whole response
+     *
+     * @param method GET, POST, PUT, PATCH or DELETE
+     * @param path Path relative to the base URI, e.g. "/post"
+     * @param queryParams Query parameters, in order (may be empty)
+     * @param body Request body, or null for none
+     * @return DirectResponse with status, headers and body
+     * @throws UncheckedIOException if no response arrived
+     */
+    public DirectResponse send(String method, String path, Map<String, ?> queryParams, byte[] body) {
+        if (cassetteReplay) {
+            throw new IllegalStateException("cassette.mode=replay is not supported by DirectHttpClient ("
+                    + method + " " + path + "); use the RestAssured wrappers to replay");
+        }
+        HttpRequestBase request = request(method, uri(path, queryParams));
+        request.setHeader("Content-Type", "application/json");
+        request.setHeader("Accept", "application/json");
+        if (body != null) {
+            if (!(request instanceof HttpEntityEnclosingRequestBase)) {
+                throw new IllegalArgumentException(method + " requests cannot carry a body");
+            }
+            ((HttpEntityEnclosingRequestBase) request).setEntity(new ByteArrayEntity(body));
+        }
+
+        String endpoint = method + " " + path;
+        long requestBytes = body == null ? 0 : body.length;
+        long start = System.nanoTime();
+        DirectResponse response;
+        try {
+            response = toResponse(client.execute(request));
+        } catch (IOException e) {
+            record(endpoint, RequestTimingFilter.NO_RESPONSE, System.nanoTime() - start, requestBytes, 0);
+            throw new UncheckedIOException(endpoint + " failed: " + e.getMessage(), e);
+        }
+        record(endpoint, response.getStatusCode(), System.nanoTime() - start, requestBytes, response.asByteArray().length);
+        return response;
+    }
+
+    private void record(String endpoint, int status, long latencyNanos, long requestBytes, long responseBytes) {
+        if (recordTimings) {
+            RequestTimingFilter.getInstance().record(endpoint, status, latencyNanos, requestBytes, responseBytes);
+        }
+    }
+
+    private String uri(String path, Map<String, ?> queryParams) {
+        StringBuilder uri = new StringBuilder(baseUri).append(path);
+        char separator = '?';
+        for (Map.Entry<String, ?> param : queryParams.entrySet()) {
+            uri.append(separator)
+                    .append(URLEncoder.encode(param.getKey(), StandardCharsets.UTF_8))
+                    .append('=')
+                    .append(URLEncoder.encode(String.valueOf(param.getValue()), StandardCharsets.UTF_8));
+            separator = '&';
+        }
+        return uri.toString();
+    }
+
+    private static HttpRequestBase request(String method, String uri) {
+        return switch (method) {
+            case "GET" -> new HttpGet(uri);
+            case "POST" -> new HttpPost(uri);
+            case "PUT" -> new HttpPut(uri);
+            case "PATCH" -> new HttpPatch(uri);
+            case "DELETE" -> new HttpDelete(uri);
+            default -> throw new IllegalArgumentException("Unsupported HTTP method: " + method);
+        };
+    }
+
+    private static DirectResponse toResponse(HttpResponse response) throws IOException {
+        Map<String, List<String>> headers = new LinkedHashMap<>();
+        for (Header header : response.getAllHeaders()) {
+            headers.computeIfAbsent(header.getName().toLowerCase(Locale.ROOT), name -> new ArrayList<>())
+                    .add(header.getValue());
+        }
+        HttpEntity entity = response.getEntity();
+        byte[] body = entity == null ? null : EntityUtils.toByteArray(entity);
+        return new DirectResponse(response.getStatusLine().getStatusCode(), headers, body == null ? new byte[0] : body);
+    }
+}
@@ -0,0 +1,76 @@
+package com.reqres.utils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * DirectResponse Class - Response of a {@link DirectHttpClient} exchange
+ *
+ * This class provides:
+ * - Status code, headers and the raw body bytes, fully read before it is returned
+ * - Case-insensitive header lookup
+ *
+ * Immutable; safe to hand across threads.
+ */
+public final class DirectResponse {
+
+    private final int statusCode;
+    private final Map<String, List<String>> headers;
+    private final byte[] body;
+
+    /**
+     * @param statusCode HTTP status code
+     * @param headers Header values by lower-case name
+     * @param body Response body, empty when there is none
+     */
+    DirectResponse(int statusCode, Map<String, List<String>> headers, byte[] body) {
+        this.statusCode = statusCode;
+        this.headers = headers;
+        this.body = body;
+    }
+
+    public int getStatusCode() {
+        return statusCode;
+    }
+
+    /**
+     * Get the first value of a header
+     *
+     * @param name Header name, any case
+     * @return Header value, or null when absent
+     */
+    public String getHeader(String name) {
+        List<String> values = headers.get(name.toLowerCase(Locale.ROOT));
+        return values == null || values.isEmpty() ? null : values.get(0);
+    }
+
+    public String getContentType() {
+        return getHeader("Content-Type");
+    }
+
+    /**
+     * Get the body bytes; the array is shared, do not modify it
+     *
+     * @return Response body
+     */
+    public byte[] asByteArray() {
+        return body;
+    }
+
+    /**
+     * Decode the body as UTF-8
+     * Use {@link ResponseView#of(DirectResponse)} to honour the charset of the Content-Type
+     *
+     * @return Body text
+     */
+    public String asString() {
+        return new String(body, StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public String toString() {
+        return "DirectResponse{status=" + statusCode + ", bytes=" + body.length + "}";
+    }
+}
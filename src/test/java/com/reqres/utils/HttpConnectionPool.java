@@ -0,0 +1,389 @@
+package com.reqres.utils;
+
+import org.apache.http.HeaderElement;
+import org.apache.http.HeaderElementIterator;
+import org.apache.http.HttpEntity;
+import org.apache.http.HttpRequest;
+import org.apache.http.HttpResponse;
+import org.apache.http.client.HttpClient;
+import org.apache.http.client.methods.HttpUriRequest;
+import org.apache.http.client.params.ClientPNames;
+import org.apache.http.conn.ClientConnectionManager;
+import org.apache.http.conn.ClientConnectionRequest;
+import org.apache.http.conn.ConnectionKeepAliveStrategy;
+import org.apache.http.conn.ConnectionPoolTimeoutException;
+import org.apache.http.conn.ManagedClientConnection;
+import org.apache.http.conn.routing.HttpRoute;
+import org.apache.http.conn.scheme.SchemeRegistry;
+import org.apache.http.entity.BufferedHttpEntity;
+import org.apache.http.impl.client.DefaultHttpClient;
+import org.apache.http.impl.client.RequestWrapper;
+import org.apache.http.impl.conn.PoolingClientConnectionManager;
+import org.apache.http.impl.conn.SchemeRegistryFactory;
+import org.apache.http.message.BasicHeaderElementIterator;
+import org.apache.http.params.CoreConnectionPNames;
+import org.apache.http.pool.PoolStats;
+import org.apache.http.protocol.HTTP;
+import org.apache.http.protocol.HttpContext;
+import com.reqres.config.ConfigReader;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * HttpConnectionPool Class - Shared, bounded keep-alive connection pool for RestAssured
+ *
+ * This class provides:
+ * - One pooling connection manager for the whole JVM, bounded in total and per route
+ * - Keep-alive handling that honours the server's Keep-Alive header with a configured fallback
+ * - Background eviction of expired and idle connections
+ * - Pool statistics: leased, idle, connections opened and connections reused
+ * - The client parameters that apply connect, socket and pool-wait timeouts
+ * - Aborting a request that another thread is waiting on
+ *
+ * RestAssured creates a new HTTP client for every request. Each client created here
+ * wraps the shared manager behind a view that ignores shutdown, so no single client
+ * can close connections that other requests and threads are using.
+ * Response bodies are buffered as soon as they arrive, which hands the connection
+ * back to the pool even when a caller never reads the body.
+ */
+public class HttpConnectionPool {
+
+    private static final HttpConnectionPool INSTANCE = new HttpConnectionPool();
+
+    private static final ThreadLocal<InFlightRequest> IN_FLIGHT = new ThreadLocal<>();
+
+    // RestAssured's HttpClientFactory must return the deprecated AbstractHttpClient, which only takes
+    // the legacy connection API; only the members touching that API suppress deprecation warnings
+    @SuppressWarnings("deprecation")
+    private final PoolingClientConnectionManager connectionManager;
+    @SuppressWarnings("deprecation")
+    private final ClientConnectionManager sharedView;
+    private final ConnectionKeepAliveStrategy keepAliveStrategy;
+    private final LongAdder leases = new LongAdder();
+    private final LongAdder connectionsOpened = new LongAdder();
+
+    @SuppressWarnings("deprecation")
+    private HttpConnectionPool() {
+        SchemeRegistry schemeRegistry = SchemeRegistryFactory.createDefault();
+        connectionManager = new PoolingClientConnectionManager(
+                schemeRegistry, ConfigReader.getPoolConnectionTimeToLive(), TimeUnit.MILLISECONDS);
+        connectionManager.setMaxTotal(ConfigReader.getPoolMaxTotal());
+        connectionManager.setDefaultMaxPerRoute(ConfigReader.getPoolMaxPerRoute());
+
+        sharedView = new SharedConnectionManager();
+        keepAliveStrategy = HttpConnectionPool::keepAliveDuration;
+
+        ScheduledExecutorService evictor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "http-pool-evictor");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long idleTimeout = ConfigReader.getPoolIdleTimeout();
+        evictor.scheduleWithFixedDelay(() -> {
+            connectionManager.closeExpiredConnections();
+            connectionManager.closeIdleConnections(idleTimeout, TimeUnit.MILLISECONDS);
+        }, idleTimeout, idleTimeout, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Get the JVM-wide connection pool
+     *
+     * @return Shared HttpConnectionPool
+     */
+    public static HttpConnectionPool getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Create an HTTP client backed by the shared pool
+     * Intended as a RestAssured HttpClientFactory
+     *
+     * @return HttpClient leasing connections from the shared pool
+     */
+    @SuppressWarnings("deprecation")
+    public HttpClient createHttpClient() {
+        DefaultHttpClient client = new DefaultHttpClient(sharedView);
+        client.setKeepAliveStrategy(keepAliveStrategy);
+        client.addRequestInterceptor(HttpConnectionPool::trackRequest);
+        client.addResponseInterceptor(HttpConnectionPool::bufferEntity);
+        return client;
+    }
+
+    /**
+     * Create an HTTP client backed by the shared pool with client parameters applied
+     *
+     * @param params Parameters by name, e.g. from {@link #configuredTimeoutParams()}
+     * @return HttpClient leasing connections from the shared pool
+     */
+    @SuppressWarnings("deprecation")
+    public HttpClient createHttpClient(Map<String, ?> params) {
+        HttpClient client = createHttpClient();
+        params.forEach(client.getParams()::setParameter);
+        return client;
+    }
+
+    /**
+     * Run a call so that another thread can abort the requests it sends
+     * Requests sent by clients of this pool while the call runs are attached to the handle
+     *
+     * @param handle Handle the other thread aborts through; use one per call
+     * @param call The request(s) to run on the current thread
+     * @return Result of the call
+     */
+    public static <T> T runAbortable(InFlightRequest handle, Supplier<T> call) {
+        InFlightRequest previous = IN_FLIGHT.get();
+        IN_FLIGHT.set(handle);
+        try {
+            return call.get();
+        } finally {
+            handle.finished = true;
+            if (previous == null) {
+                IN_FLIGHT.remove();
+            } else {
+                IN_FLIGHT.set(previous);
+            }
+        }
+    }
+
+    /**
+     * Get the client parameters for the configured timeouts
+     * (http.connectTimeout, http.socketTimeout, http.connectionRequestTimeout)
+     *
+     * @return Parameters by name, e.g. for RestAssured's HttpClientConfig.addParams
+     */
+    public static Map<String, Object> configuredTimeoutParams() {
+        return timeoutParams(ConfigReader.getConnectTimeout(), ConfigReader.getSocketTimeout(),
+                ConfigReader.getConnectionRequestTimeout());
+    }
+
+    /**
+     * Get the client parameters for the given timeouts
+     *
+     * @param connectTimeout Milliseconds to establish a connection
+     * @param socketTimeout Milliseconds of silence allowed while waiting for data
+     * @param connectionRequestTimeout Milliseconds to wait for a connection from the pool
+     * @return Parameters by name
+     */
+    @SuppressWarnings("deprecation")
+    public static Map<String, Object> timeoutParams(int connectTimeout, int socketTimeout, long connectionRequestTimeout) {
+        return Map.of(
+                CoreConnectionPNames.CONNECTION_TIMEOUT, connectTimeout,
+                CoreConnectionPNames.SO_TIMEOUT, socketTimeout,
+                ClientPNames.CONN_MANAGER_TIMEOUT, connectionRequestTimeout);
+    }
+
+    /**
+     * Take a snapshot of the pool statistics
+     *
+     * @return Current PoolStatistics
+     */
+    public PoolStatistics getStatistics() {
+        PoolStats totals = connectionManager.getTotalStats();
+        long leaseCount = leases.sum();
+        long opened = connectionsOpened.sum();
+        return new PoolStatistics(totals.getLeased(), totals.getAvailable(), totals.getPending(),
+                totals.getMax(), leaseCount, opened, Math.max(0, leaseCount - opened));
+    }
+
+    @SuppressWarnings("deprecation")
+    private static void trackRequest(HttpRequest request, HttpContext context) {
+        InFlightRequest handle = IN_FLIGHT.get();
+        // Interceptors see the director's wrapper; only the original request can be aborted
+        if (handle != null && request instanceof RequestWrapper wrapper
+                && wrapper.getOriginal() instanceof HttpUriRequest original) {
+            handle.attach(original);
+        }
+    }
+
+    private static void bufferEntity(HttpResponse response, HttpContext context) throws IOException {
+        HttpEntity entity = response.getEntity();
+        if (entity != null && entity.isStreaming()) {
+            response.setEntity(new BufferedHttpEntity(entity));
+        }
+    }
+
+    private static long keepAliveDuration(HttpResponse response, HttpContext context) {
+        HeaderElementIterator elements = new BasicHeaderElementIterator(response.headerIterator(HTTP.CONN_KEEP_ALIVE));
+        while (elements.hasNext()) {
+            HeaderElement element = elements.nextElement();
+            if ("timeout".equalsIgnoreCase(element.getName()) && element.getValue() != null) {
+                try {
+                    return Long.parseLong(element.getValue()) * 1000;
+                } catch (NumberFormatException ignored) {
+                    // Fall through to the configured default
+                }
+            }
+        }
+        return ConfigReader.getPoolKeepAlive();
+    }
+
+    /**
+     * Immutable snapshot of connection pool usage
+     */
+    public static final class PoolStatistics {
+
+        private final int leased;
+        private final int idle;
+        private final int pending;
+        private final int max;
+        private final long leasesTotal;
+        private final long connectionsOpened;
+        private final long reusedConnections;
+
+        private PoolStatistics(int leased, int idle, int pending, int max,
+                               long leasesTotal, long connectionsOpened, long reusedConnections) {
+            this.leased = leased;
+            this.idle = idle;
+            this.pending = pending;
+            this.max = max;
+            this.leasesTotal = leasesTotal;
+            this.connectionsOpened = connectionsOpened;
+            this.reusedConnections = reusedConnections;
+        }
+
+        public int getLeased() {
+            return leased;
+        }
+
+        public int getIdle() {
+            return idle;
+        }
+
+        public int getPending() {
+            return pending;
+        }
+
+        public int getMax() {
+            return max;
+        }
+
+        public long getLeasesTotal() {
+            return leasesTotal;
+        }
+
+        public long getConnectionsOpened() {
+            return connectionsOpened;
+        }
+
+        public long getReusedConnections() {
+            return reusedConnections;
+        }
+
+        /**
+         * Render the statistics as a JSON document
+         *
+         * @return JSON string
+         */
+        public String toJson() {
+            return String.format("{\"leased\": %d, \"idle\": %d, \"pending\": %d, \"max\": %d, "
+                            + "\"leasesTotal\": %d, \"connectionsOpened\": %d, \"reusedConnections\": %d}",
+                    leased, idle, pending, max, leasesTotal, connectionsOpened, reusedConnections);
+        }
+
+        @Override
+        public String toString() {
+            return String.format("leased=%d, idle=%d, pending=%d, max=%d, leases=%d, opened=%d, reusedConnections=%d",
+                    leased, idle, pending, max, leasesTotal, connectionsOpened, reusedConnections);
+        }
+    }
+
+    /**
+     * Handle to the request a call running under {@link #runAbortable} is waiting on
+     * Aborting closes its connection, which fails the blocked call with an IOException
+     */
+    public static final class InFlightRequest {
+
+        private volatile HttpUriRequest request;
+        private volatile boolean aborted;
+        private volatile boolean finished;
+
+        /**
+         * Abort the call's current request; a request sent later by the call is aborted as it starts
+         *
+         * @return true if the call was still running
+         */
+        public boolean abort() {
+            if (finished) {
+                return false;
+            }
+            aborted = true;
+            HttpUriRequest current = request;
+            if (current != null) {
+                current.abort();
+            }
+            return true;
+        }
+
+        public boolean isAborted() {
+            return aborted;
+        }
+
+        private void attach(HttpUriRequest sent) {
+            request = sent;
+            if (aborted) {
+                sent.abort();
+            }
+        }
+    }
+
+    /**
+     * View of the pooling manager that counts leases and new connections and
+     * ignores shutdown requests coming from short-lived RestAssured clients
+     */
+    @SuppressWarnings("deprecation")
+    private final class SharedConnectionManager implements ClientConnectionManager {
+
+        @Override
+        public SchemeRegistry getSchemeRegistry() {
+            return connectionManager.getSchemeRegistry();
+        }
+
+        @Override
+        public ClientConnectionRequest requestConnection(HttpRoute route, Object state) {
+            ClientConnectionRequest request = connectionManager.requestConnection(route, state);
+            return new ClientConnectionRequest() {
+                @Override
+                public ManagedClientConnection getConnection(long timeout, TimeUnit unit)
+                        throws InterruptedException, ConnectionPoolTimeoutException {
+                    ManagedClientConnection connection = request.getConnection(timeout, unit);
+                    leases.increment();
+                    if (!connection.isOpen()) {
+                        connectionsOpened.increment();
+                    }
+                    return connection;
+                }
+
+                @Override
+                public void abortRequest() {
+                    request.abortRequest();
+                }
+            };
+        }
+
+        @Override
+        public void releaseConnection(ManagedClientConnection connection, long validDuration, TimeUnit timeUnit) {
+            connectionManager.releaseConnection(connection, validDuration, timeUnit);
+        }
+
+        @Override
+        public void closeIdleConnections(long idleTime, TimeUnit timeUnit) {
+            connectionManager.closeIdleConnections(idleTime, timeUnit);
+        }
+
+        @Override
+        public void closeExpiredConnections() {
+            connectionManager.closeExpiredConnections();
+        }
+
+        @Override
+        public void shutdown() {
+            // The pool outlives individual clients; connections are evicted in the background
+        }
+    }
+}
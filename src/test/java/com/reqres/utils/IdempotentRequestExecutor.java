@@ -0,0 +1,348 @@
+package com.reqres.utils;
+
+import io.restassured.response.Response;
+import org.HdrHistogram.Histogram;
+import org.apache.http.NoHttpResponseException;
+import org.apache.logging.log4j.Logger;
+import com.reqres.config.ConfigReader;
+import com.reqres.filters.BufferedExchangeLoggingFilter;
+
+import java.net.ConnectException;
+import java.net.SocketException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * IdempotentRequestExecutor Class - Retries and optional hedging for idempotent API calls
+ *
+ * This class provides:
+ * - Retries of transient failures: connection reset, stale keep-alive connections
+ *   (no response) and status 429, 502 and 503
+ * - A JVM-wide retry budget: retries may not exceed retry.budget.minRetries plus
+ *   retry.budget.ratio times the number of calls, so a failing target is not hammered
+ * - Optional hedging: if a call has not answered within the hedge.percentile latency of
+ *   its endpoint, a second identical call is sent and the first success wins; the
+ *   losing request is aborted. Hedges draw from the same budget
+ *
+ * Only wrap calls that are safe to repeat (GET, DELETE). The first attempt always runs
+ * on the calling thread; only a hedge runs on a worker thread, so a winning hedge's
+ * exchange is not buffered for the test's failure log nor captured by {@code @LatencyBudget}.
+ *
+ * Configuration (see {@link ConfigReader}): retry.maxAttempts, retry.backoffMillis,
+ * retry.budget.ratio, retry.budget.minRetries, hedge.enabled, hedge.percentile,
+ * hedge.minSamples, hedge.defaultDelayMillis
+ */
+public final class IdempotentRequestExecutor {
+
+    private static final Logger logger = LoggerUtil.getLogger(IdempotentRequestExecutor.class);
+
+    private static final long MAX_RETRY_AFTER_MILLIS = 5000;
+
+    private static final ExecutorService HEDGE_POOL = Executors.newCachedThreadPool(new ThreadFactory() {
+        private final AtomicInteger count = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "hedge-" + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    });
+
+    private static final ScheduledExecutorService HEDGE_TIMER = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "hedge-timer");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private static final IdempotentRequestExecutor SHARED = new IdempotentRequestExecutor(Settings.fromConfig());
+
+    private final Settings settings;
+
+    private final LongAdder calls = new LongAdder();
+    private final AtomicLong extraRequests = new AtomicLong();
+    private final LongAdder retries = new LongAdder();
+    private final LongAdder hedges = new LongAdder();
+    private final LongAdder hedgeWins = new LongAdder();
+    private final LongAdder abortedLosers = new LongAdder();
+    private final LongAdder denied = new LongAdder();
+
+    private final ConcurrentMap<String, Histogram> latencies = new ConcurrentHashMap<>();
+
+    /**
+     * Create an executor with its own settings, counters, budget and latency tracking
+     *
+     * @param settings Retry and hedging settings
+     */
+    IdempotentRequestExecutor(Settings settings) {
+        this.settings = settings;
+    }
+
+    /**
+     * Execute an idempotent call with retries and, when enabled, hedging
+     *
+     * @param endpoint Endpoint name used to track latency, e.g. "GET /get"
+     * @param call The request; may be sent more than once
+     * @return Response of the winning attempt (a retryable status is returned once attempts or budget run out)
+     */
+    public static Response execute(String endpoint, Supplier<Response> call) {
+        return SHARED.run(endpoint, call);
+    }
+
+    /**
+     * Take a snapshot of retry and hedging counters
+     *
+     * @return One line summary
+     */
+    public static String getStatistics() {
+        return SHARED.statistics();
+    }
+
+    Response run(String endpoint, Supplier<Response> call) {
+        calls.increment();
+        for (int attempt = 1; ; attempt++) {
+            Response response;
+            try {
+                response = settings.hedgeEnabled() ? hedged(endpoint, call) : call.get();
+            } catch (Exception e) {
+                if (attempt < settings.maxAttempts() && isTransient(e) && acquireBudget()) {
+                    retries.increment();
+                    logger.debug("{} attempt {} failed ({}), retrying", endpoint, attempt, e.toString());
+                    pause(settings.backoffMillis() * attempt);
+                    continue;
+                }
+                throw IdempotentRequestExecutor.<RuntimeException>rethrow(e);
+            }
+
+            int status = response.getStatusCode();
+            if (isRetryableStatus(status) && attempt < settings.maxAttempts() && acquireBudget()) {
+                retries.increment();
+                logger.debug("{} attempt {} returned {}, retrying", endpoint, attempt, status);
+                pause(Math.max(settings.backoffMillis() * attempt, retryAfterMillis(response)));
+                continue;
+            }
+            return response;
+        }
+    }
+
+    String statistics() {
+        return String.format("calls=%d, retries=%d, hedges=%d, hedgeWins=%d, abortedLosers=%d, deniedByBudget=%d",
+                calls.sum(), retries.sum(), hedges.sum(), hedgeWins.sum(), abortedLosers.sum(), denied.sum());
+    }
+
+    private Response hedged(String endpoint, Supplier<Response> call) throws Exception {
+        Histogram endpointLatencies = latencies.computeIfAbsent(endpoint, key -> LatencyHistograms.createConcurrent());
+        long delay = endpointLatencies.getTotalCount() >= settings.hedgeMinSamples()
+                ? Math.max(1, Math.round(LatencyHistograms.percentileMillis(endpointLatencies, settings.hedgePercentile())))
+                : settings.hedgeDefaultDelayMillis();
+
+        HedgedCall hedged = new HedgedCall(call);
+        ScheduledFuture<?> trigger = HEDGE_TIMER.schedule(hedged::startHedge, delay, TimeUnit.MILLISECONDS);
+        long start = System.nanoTime();
+        try {
+            Response response = HttpConnectionPool.runAbortable(hedged.primary, call);
+            LatencyHistograms.recordNanos(endpointLatencies, System.nanoTime() - start);
+            return hedged.primarySucceeded(response);
+        } catch (Exception e) {
+            if (hedged.primary.isAborted()) {
+                // Lost to the hedge: the endpoint took at least this long
+                LatencyHistograms.recordNanos(endpointLatencies, System.nanoTime() - start);
+                abortedLosers.increment();
+            }
+            return hedged.primaryFailed(e);
+        } finally {
+            trigger.cancel(false);
+        }
+    }
+
+    /**
+     * One call raced against its hedge
+     * The primary runs on the calling thread; the hedge, if started, on {@link #HEDGE_POOL}
+     */
+    private final class HedgedCall {
+
+        private final Supplier<Response> call;
+        private final HttpConnectionPool.InFlightRequest primary = new HttpConnectionPool.InFlightRequest();
+        private final HttpConnectionPool.InFlightRequest hedge = new HttpConnectionPool.InFlightRequest();
+        private final CompletableFuture<Response> winner = new CompletableFuture<>();
+        // Created on the calling thread, so the hedge's exchange is logged with the test that sent it
+        private final BufferedExchangeLoggingFilter.ExchangeBuffer exchanges = BufferedExchangeLoggingFilter.currentBuffer();
+        private final AtomicInteger failures = new AtomicInteger();
+        private boolean primaryDone;
+        private boolean hedgeStarted;
+
+        private HedgedCall(Supplier<Response> call) {
+            this.call = call;
+        }
+
+        /**
+         * Send the hedge if the primary is still running and the budget allows; runs on the timer
+         */
+        private synchronized void startHedge() {
+            if (primaryDone || !acquireBudget()) {
+                return;
+            }
+            hedgeStarted = true;
+            hedges.increment();
+            HEDGE_POOL.execute(this::runHedge);
+        }
+
+        private void runHedge() {
+            if (winner.isDone()) {
+                return;
+            }
+            try {
+                Response response = BufferedExchangeLoggingFilter.recordInto(exchanges,
+                        () -> HttpConnectionPool.runAbortable(hedge, call));
+                if (winner.complete(response)) {
+                    hedgeWins.increment();
+                    primary.abort();
+                }
+            } catch (Throwable e) {
+                failed(e);
+            }
+        }
+
+        /**
+         * Stop the hedge from starting later
+         *
+         * @return true if the hedge was already sent
+         */
+        private synchronized boolean finishPrimary() {
+            primaryDone = true;
+            return hedgeStarted;
+        }
+
+        private Response primarySucceeded(Response response) throws Exception {
+            if (!finishPrimary()) {
+                return response;
+            }
+            if (winner.complete(response)) {
+                if (hedge.abort()) {
+                    abortedLosers.increment();
+                }
+                return response;
+            }
+            // The hedge answered first
+            return await(winner);
+        }
+
+        private Response primaryFailed(Exception error) throws Exception {
+            if (!finishPrimary()) {
+                throw error;
+            }
+            failed(error);
+            return await(winner);
+        }
+
+        private void failed(Throwable error) {
+            if (failures.incrementAndGet() == 2) {
+                winner.completeExceptionally(error);
+            }
+        }
+    }
+
+    /**
+     * Retry and hedging settings
+     */
+    record Settings(int maxAttempts, long backoffMillis, double budgetRatio, long budgetMinRetries,
+                    boolean hedgeEnabled, double hedgePercentile, long hedgeMinSamples, long hedgeDefaultDelayMillis) {
+
+        static Settings fromConfig() {
+            return new Settings(ConfigReader.getRetryMaxAttempts(), ConfigReader.getRetryBackoffMillis(),
+                    ConfigReader.getRetryBudgetRatio(), ConfigReader.getRetryBudgetMinRetries(),
+                    ConfigReader.isHedgeEnabled(), ConfigReader.getHedgePercentile(),
+                    ConfigReader.getHedgeMinSamples(), ConfigReader.getHedgeDefaultDelayMillis());
+        }
+    }
+
+    private static Response await(CompletableFuture<Response> future) throws Exception {
+        try {
+            return future.get();
+        } catch (ExecutionException e) {
+            throw unwrap(e.getCause());
+        }
+    }
+
+    private static Exception unwrap(Throwable error) {
+        while (error instanceof CompletionException && error.getCause() != null) {
+            error = error.getCause();
+        }
+        if (error instanceof Error) {
+            throw (Error) error;
+        }
+        return (Exception) error;
+    }
+
+    /**
+     * Take one extra request from the budget if calls so far allow it
+     */
+    private boolean acquireBudget() {
+        long allowed = settings.budgetMinRetries() + (long) (settings.budgetRatio() * calls.sum());
+        long used;
+        do {
+            used = extraRequests.get();
+            if (used >= allowed) {
+                denied.increment();
+                return false;
+            }
+        } while (!extraRequests.compareAndSet(used, used + 1));
+        return true;
+    }
+
+    private static boolean isTransient(Throwable error) {
+        for (Throwable cause = error; cause != null; cause = cause.getCause()) {
+            if (cause instanceof NoHttpResponseException
+                    || (cause instanceof SocketException && !(cause instanceof ConnectException))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean isRetryableStatus(int status) {
+        return status == 429 || status == 502 || status == 503;
+    }
+
+    private static long retryAfterMillis(Response response) {
+        String retryAfter = response.getHeader("Retry-After");
+        if (retryAfter != null) {
+            try {
+                return Math.min(TimeUnit.SECONDS.toMillis(Long.parseLong(retryAfter.trim())), MAX_RETRY_AFTER_MILLIS);
+            } catch (NumberFormatException ignored) {
+                // HTTP-date form; fall back to the configured backoff
+            }
+        }
+        return 0;
+    }
+
+    private static void pause(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while backing off", e);
+        }
+    }
+
+    /**
+     * Rethrow any exception unchanged; RestAssured surfaces IOExceptions undeclared
+     */
+    @SuppressWarnings("unchecked")
+    private static <T extends Throwable> T rethrow(Throwable error) throws T {
+        throw (T) error;
+    }
+}
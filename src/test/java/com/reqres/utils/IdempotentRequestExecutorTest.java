@@ -0,0 +1,204 @@
+package com.reqres.utils;
+
+import io.restassured.RestAssured;
+import io.restassured.builder.RequestSpecBuilder;
+import io.restassured.response.Response;
+import io.restassured.specification.RequestSpecification;
+import org.testng.SkipException;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+import org.apache.logging.log4j.Logger;
+import com.reqres.base.BaseTest;
+import com.reqres.config.ConfigReader;
+import com.reqres.filters.BufferedExchangeLoggingFilter;
+import com.reqres.stub.FaultRule;
+import com.reqres.stub.HttpbinStubServer;
+import com.reqres.stub.LatencyDistribution;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import static org.testng.Assert.*;
+
+/**
+ * IdempotentRequestExecutorTest Class - Test cases for retries, the retry budget and hedging
+ *
+ * Each test builds its own executor over a private stub, so counters start at zero.
+ *
+ * Tests:
+ * - Retries stop once the budget is spent and the denial is counted
+ * - A slow primary is hedged after the endpoint's percentile latency; the hedge wins and the primary is aborted
+ * - A primary that answers first wins and the hedge is aborted
+ * - When both attempts fail the call fails
+ */
+@Test(singleThreaded = true)
+public class IdempotentRequestExecutorTest extends BaseTest {
+
+    private static final Logger logger = LoggerUtil.getLogger(IdempotentRequestExecutorTest.class);
+
+    private static final String ENDPOINT = "GET /get";
+
+    private HttpbinStubServer stub;
+    private RequestSpecification stubSpec;
+
+    @BeforeClass(alwaysRun = true)
+    public void startStub() {
+        if (!ConfigReader.getCassetteMode().equals("off")) {
+            throw new SkipException("Injected faults cannot be recorded or replayed by cassettes");
+        }
+        stub = new HttpbinStubServer();
+        stub.start();
+        stubSpec = new RequestSpecBuilder()
+                .addRequestSpecification(requestSpec())
+                .setBaseUri(stub.getBaseURI())
+                // Every request must reach the stub, also when cache.enabled=true
+                .addHeader("Cache-Control", "no-cache")
+                .build();
+    }
+
+    @AfterMethod(alwaysRun = true)
+    public void clearFaults() {
+        if (stub != null) {
+            stub.getFaultInjector().clear();
+        }
+    }
+
+    @AfterClass(alwaysRun = true)
+    public void stopStub() {
+        if (stub != null) {
+            stub.stop();
+        }
+    }
+
+    /**
+     * Test that the budget caps retries
+     * Validates:
+     * - With room for one retry, the second 503 is returned instead of retried
+     * - The refused retry is counted as denied
+     */
+    @Test(description = "Retries stop once the budget is spent")
+    public void retriesStopAtBudget() {
+        IdempotentRequestExecutor executor = new IdempotentRequestExecutor(
+                new IdempotentRequestExecutor.Settings(3, 0, 0.0, 1, false, 95, 20, 1000));
+        stub.getFaultInjector().setRule(ENDPOINT, FaultRule.builder()
+                .errorRate(1.0, 503)
+                .retryAfterSeconds(0)
+                .build());
+
+        Response response = executor.run(ENDPOINT, get());
+
+        assertEquals(response.getStatusCode(), 503, "The last 503 should be returned");
+        assertEquals(executor.statistics(),
+                "calls=1, retries=1, hedges=0, hedgeWins=0, abortedLosers=0, deniedByBudget=1");
+    }
+
+    /**
+     * Test that a slow primary is hedged once the endpoint's percentile latency has passed
+     * Validates:
+     * - The hedge is sent after the recorded p90, not the much longer default delay
+     * - The hedge's answer is returned while the primary is still waiting
+     * - The primary's request is aborted
+     * - Both requests are buffered for the test's failure log, the hedge's included
+     */
+    @Test(description = "Slow primary is hedged after the percentile delay and the hedge wins")
+    public void hedgeWinsAfterPercentileDelay() {
+        IdempotentRequestExecutor executor = new IdempotentRequestExecutor(
+                new IdempotentRequestExecutor.Settings(1, 0, 0.0, 10, true, 90, 3, 10_000));
+        stub.getFaultInjector().setRule(ENDPOINT, FaultRule.builder()
+                .latency(LatencyDistribution.fixed(100))
+                .times(3)
+                .build());
+        for (int i = 0; i < 3; i++) {
+            executor.run(ENDPOINT, get());
+        }
+        stub.getFaultInjector().setRule(ENDPOINT, FaultRule.builder()
+                .latency(LatencyDistribution.fixed(1500))
+                .times(1)
+                .build());
+        BufferedExchangeLoggingFilter.clear();
+
+        long start = System.nanoTime();
+        Response response = executor.run(ENDPOINT, get());
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        logger.info("Hedged call over a 1500 ms primary took {} ms: {}", elapsedMillis, executor.statistics());
+
+        assertEquals(response.getStatusCode(), 200, "Status code should be 200");
+        assertTrue(elapsedMillis >= 100, "Hedge should wait for the p90 latency, took " + elapsedMillis + " ms");
+        assertTrue(elapsedMillis < 1500, "Hedge should answer before the primary, took " + elapsedMillis + " ms");
+        assertEquals(executor.statistics(),
+                "calls=4, retries=0, hedges=1, hedgeWins=1, abortedLosers=1, deniedByBudget=0");
+        String exchanges = BufferedExchangeLoggingFilter.drain();
+        assertEquals(exchanges.split(">>> GET ", -1).length - 1, 2, "Primary and hedge should be buffered: " + exchanges);
+    }
+
+    /**
+     * Test that a primary answering first wins
+     * Validates:
+     * - The hedge is sent after the default delay while too few samples exist
+     * - The primary's answer is returned without waiting for the slower hedge
+     * - The hedge's request is aborted
+     */
+    @Test(description = "Primary answering first wins and the hedge is aborted")
+    public void primaryWinsAndHedgeIsAborted() {
+        IdempotentRequestExecutor executor = new IdempotentRequestExecutor(
+                new IdempotentRequestExecutor.Settings(1, 0, 0.0, 10, true, 90, 20, 50));
+        stub.getFaultInjector().setRule(ENDPOINT, FaultRule.builder()
+                .latency(LatencyDistribution.fixed(300))
+                .times(1)
+                .build());
+        stub.getFaultInjector().setRule("/get", FaultRule.builder()
+                .latency(LatencyDistribution.fixed(3000))
+                .times(1)
+                .build());
+
+        long start = System.nanoTime();
+        Response response = executor.run(ENDPOINT, get());
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        assertEquals(response.getStatusCode(), 200, "Status code should be 200");
+        assertTrue(elapsedMillis < 3000, "Primary should not wait for the hedge, took " + elapsedMillis + " ms");
+        assertEquals(executor.statistics(),
+                "calls=1, retries=0, hedges=1, hedgeWins=0, abortedLosers=1, deniedByBudget=0");
+    }
+
+    /**
+     * Test that a call fails when both of its attempts fail
+     * Validates:
+     * - The hedge is sent and waited for after the primary fails
+     * - The connection reset surfaces to the caller
+     */
+    @Test(description = "Call fails when primary and hedge both fail")
+    public void bothAttemptsFail() {
+        IdempotentRequestExecutor executor = new IdempotentRequestExecutor(
+                new IdempotentRequestExecutor.Settings(1, 0, 0.0, 10, true, 90, 20, 50));
+        stub.getFaultInjector().setRule(ENDPOINT, FaultRule.builder()
+                .latency(LatencyDistribution.fixed(100))
+                .resetRate(1.0)
+                .build());
+
+        Throwable error = expectThrows(Throwable.class, () -> executor.run(ENDPOINT, get()));
+
+        logger.info("Hedged call with both attempts reset -> {}", error.toString());
+
+        assertTrue(hasCause(error, IOException.class), "The reset should surface: " + error);
+        assertEquals(executor.statistics(),
+                "calls=1, retries=0, hedges=1, hedgeWins=0, abortedLosers=0, deniedByBudget=0");
+    }
+
+    private Supplier<Response> get() {
+        return () -> RestAssured.given(stubSpec).get("/get");
+    }
+
+    private static boolean hasCause(Throwable error, Class<? extends Throwable> type) {
+        for (Throwable cause = error; cause != null; cause = cause.getCause()) {
+            if (type.isInstance(cause)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,221 @@
+package com.reqres.utils;
+
+import java.util.Arrays;
+
+/**
+ * JsonBodyEncoder Class - Allocation-light JSON object encoder for request bodies
+ *
+ * This class provides:
+ * - Flat JSON objects with string, number and null fields
+ * - Correct escaping of quotes, backslashes and control characters
+ * - UTF-8 output written straight into a per-thread, reusable byte buffer
+ *
+ * The only allocation per body is the final byte array handed to RestAssured.
+ *
+ * Usage:
+ * byte[] body = JsonBodyEncoder.begin().field("name", name).field("job", job).end();
+ */
+public final class JsonBodyEncoder {
+
+    private static final int INITIAL_CAPACITY = 256;
+    private static final int MAX_RETAINED_CAPACITY = 64 * 1024;
+    private static final byte[] HEX = {'0', '1', '2', '3', '4', '5', '6', '7', '8', '9', 'a', 'b', 'c', 'd', 'e', 'f'};
+    private static final byte[] NULL_LITERAL = {'n', 'u', 'l', 'l'};
+
+    private static final ThreadLocal<JsonBodyEncoder> ENCODER = ThreadLocal.withInitial(JsonBodyEncoder::new);
+
+    private byte[] buffer = new byte[INITIAL_CAPACITY];
+    private int length;
+    private boolean hasFields;
+
+    private JsonBodyEncoder() {
+    }
+
+    /**
+     * Start a new JSON object using the encoder of the current thread
+     *
+     * @return Encoder positioned after the opening brace
+     */
+    public static JsonBodyEncoder begin() {
+        JsonBodyEncoder encoder = ENCODER.get();
+        encoder.length = 0;
+        encoder.hasFields = false;
+        encoder.writeByte('{');
+        return encoder;
+    }
+
+    /**
+     * Add a string field; a null value is written as JSON null
+     *
+     * @param name Field name
+     * @param value Field value
+     * @return This encoder
+     */
+    public JsonBodyEncoder field(String name, String value) {
+        writeName(name);
+        if (value == null) {
+            writeBytes(NULL_LITERAL);
+        } else {
+            writeString(value);
+        }
+        return this;
+    }
+
+    /**
+     * Add a numeric field
+     *
+     * @param name Field name
+     * @param value Field value
+     * @return This encoder
+     */
+    public JsonBodyEncoder field(String name, long value) {
+        writeName(name);
+        writeLong(value);
+        return this;
+    }
+
+    /**
+     * Close the object and copy the encoded body out of the reusable buffer
+     *
+     * @return UTF-8 encoded JSON
+     */
+    public byte[] end() {
+        writeByte('}');
+        byte[] body = Arrays.copyOf(buffer, length);
+        if (buffer.length > MAX_RETAINED_CAPACITY) {
+            buffer = new byte[INITIAL_CAPACITY];
+        }
+        return body;
+    }
+
+    private void writeName(String name) {
+        if (hasFields) {
+            writeByte(',');
+        }
+        hasFields = true;
+        writeString(name);
+        writeByte(':');
+    }
+
+    private void writeString(String value) {
+        // Worst case is a six byte unicode escape per char, so the loop below needs no bounds checks
+        ensureCapacity(value.length() * 6 + 2);
+        byte[] out = buffer;
+        int position = length;
+        out[position++] = '"';
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c >= 0x20 && c < 0x80 && c != '"' && c != '\\') {
+                out[position++] = (byte) c;
+            } else if (c == '"' || c == '\\') {
+                out[position++] = '\\';
+                out[position++] = (byte) c;
+            } else if (c < 0x20) {
+                position = writeControl(out, position, c);
+            } else if (c < 0x800) {
+                out[position++] = (byte) (0xC0 | (c >> 6));
+                out[position++] = (byte) (0x80 | (c & 0x3F));
+            } else if (Character.isHighSurrogate(c) && i + 1 < value.length()
+                    && Character.isLowSurrogate(value.charAt(i + 1))) {
+                int codePoint = Character.toCodePoint(c, value.charAt(++i));
+                out[position++] = (byte) (0xF0 | (codePoint >> 18));
+                out[position++] = (byte) (0x80 | ((codePoint >> 12) & 0x3F));
+                out[position++] = (byte) (0x80 | ((codePoint >> 6) & 0x3F));
+                out[position++] = (byte) (0x80 | (codePoint & 0x3F));
+            } else if (Character.isSurrogate(c)) {
+                // Unpaired surrogate: not encodable as UTF-8, keep it as an escape
+                position = writeUnicodeEscape(out, position, c);
+            } else {
+                out[position++] = (byte) (0xE0 | (c >> 12));
+                out[position++] = (byte) (0x80 | ((c >> 6) & 0x3F));
+                out[position++] = (byte) (0x80 | (c & 0x3F));
+            }
+        }
+        out[position++] = '"';
+        length = position;
+    }
+
+    private static int writeControl(byte[] out, int position, char c) {
+        byte shortEscape;
+        switch (c) {
+            case '\b':
+                shortEscape = 'b';
+                break;
+            case '\f':
+                shortEscape = 'f';
+                break;
+            case '\n':
+                shortEscape = 'n';
+                break;
+            case '\r':
+                shortEscape = 'r';
+                break;
+            case '\t':
+                shortEscape = 't';
+                break;
+            default:
+                return writeUnicodeEscape(out, position, c);
+        }
+        out[position++] = '\\';
+        out[position++] = shortEscape;
+        return position;
+    }
+
+    private static int writeUnicodeEscape(byte[] out, int position, char c) {
+        out[position++] = '\\';
+        out[position++] = 'u';
+        out[position++] = HEX[(c >> 12) & 0xF];
+        out[position++] = HEX[(c >> 8) & 0xF];
+        out[position++] = HEX[(c >> 4) & 0xF];
+        out[position++] = HEX[c & 0xF];
+        return position;
+    }
+
+    private void writeLong(long value) {
+        if (value == Long.MIN_VALUE) {
+            // Cannot be negated; rare enough to take the allocating path
+            writeAscii(Long.toString(value));
+            return;
+        }
+        if (value < 0) {
+            writeByte('-');
+            value = -value;
+        }
+        ensureCapacity(19);
+        int start = length;
+        do {
+            buffer[length++] = (byte) ('0' + (value % 10));
+            value /= 10;
+        } while (value != 0);
+        for (int left = start, right = length - 1; left < right; left++, right--) {
+            byte swap = buffer[left];
+            buffer[left] = buffer[right];
+            buffer[right] = swap;
+        }
+    }
+
+    private void writeAscii(String value) {
+        for (int i = 0; i < value.length(); i++) {
+            writeByte(value.charAt(i));
+        }
+    }
+
+    private void writeBytes(byte[] bytes) {
+        ensureCapacity(bytes.length);
+        System.arraycopy(bytes, 0, buffer, length, bytes.length);
+        length += bytes.length;
+    }
+
+    private void writeByte(int b) {
+        if (length == buffer.length) {
+            ensureCapacity(1);
+        }
+        buffer[length++] = (byte) b;
+    }
+
+    private void ensureCapacity(int additional) {
+        if (length + additional > buffer.length) {
+            buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, length + additional));
+        }
+    }
+}
@@ -0,0 +1,142 @@
+package com.reqres.utils;
+
+import io.qameta.allure.Allure;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * LatencyHistograms Class - Shared setup and reporting of HdrHistogram latency recordings
+ *
+ * This class provides:
+ * - Histograms in microseconds, 1 µs to 5 minutes, 3 significant digits
+ * - Recording from nanoseconds, clamped to the trackable range
+ * - Percentile, mean and max in milliseconds, rounded to the microsecond
+ * - JSON report fields (p50/p90/p99/p99.9, mean and max) and report output to file and Allure
+ *
+ * All timing reports (request timings, load runs, batches, latency budgets, hedging)
+ * use these histograms, so their figures are directly comparable.
+ */
+public final class LatencyHistograms {
+
+    /** Longest recordable latency; longer values are recorded as this */
+    public static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(5);
+
+    private static final int SIGNIFICANT_DIGITS = 3;
+
+    private LatencyHistograms() {
+    }
+
+    /**
+     * Create a histogram for use by one thread at a time
+     *
+     * @return Empty Histogram
+     */
+    public static Histogram create() {
+        return new Histogram(1, HIGHEST_TRACKABLE_MICROS, SIGNIFICANT_DIGITS);
+    }
+
+    /**
+     * Create a histogram that any number of threads may record into
+     *
+     * @return Empty ConcurrentHistogram
+     */
+    public static Histogram createConcurrent() {
+        return new ConcurrentHistogram(1, HIGHEST_TRACKABLE_MICROS, SIGNIFICANT_DIGITS);
+    }
+
+    /**
+     * Record a latency, clamped to 1 µs .. {@link #HIGHEST_TRACKABLE_MICROS}
+     *
+     * @param histogram Histogram from this class
+     * @param latencyNanos Latency in nanoseconds
+     */
+    public static void recordNanos(Histogram histogram, long latencyNanos) {
+        histogram.recordValue(toMicros(latencyNanos));
+    }
+
+    /**
+     * Convert a latency to the recorded unit, clamped to the trackable range
+     *
+     * @param latencyNanos Latency in nanoseconds
+     * @return Latency in microseconds
+     */
+    public static long toMicros(long latencyNanos) {
+        return Math.min(Math.max(TimeUnit.NANOSECONDS.toMicros(latencyNanos), 1), HIGHEST_TRACKABLE_MICROS);
+    }
+
+    /**
+     * Get a latency percentile in milliseconds
+     *
+     * @param histogram Histogram from this class
+     * @param percentile Percentile between 0 and 100
+     * @return Latency in milliseconds
+     */
+    public static double percentileMillis(Histogram histogram, double percentile) {
+        return toMillis(histogram.getValueAtPercentile(percentile));
+    }
+
+    public static double meanMillis(Histogram histogram) {
+        return round(histogram.getMean() / 1000.0);
+    }
+
+    public static double maxMillis(Histogram histogram) {
+        return toMillis(histogram.getMaxValue());
+    }
+
+    /**
+     * Add the percentile, mean and max fields of a report entry
+     *
+     * @param json Report entry to add p50Millis, p90Millis, p99Millis, p999Millis, meanMillis and maxMillis to
+     * @param histogram Histogram from this class
+     */
+    public static void putLatencies(Map<String, Object> json, Histogram histogram) {
+        json.put("p50Millis", percentileMillis(histogram, 50));
+        json.put("p90Millis", percentileMillis(histogram, 90));
+        json.put("p99Millis", percentileMillis(histogram, 99));
+        json.put("p999Millis", percentileMillis(histogram, 99.9));
+        json.put("meanMillis", meanMillis(histogram));
+        json.put("maxMillis", maxMillis(histogram));
+    }
+
+    /**
+     * Round to three decimals, i.e. to the microsecond for milliseconds
+     *
+     * @param value Value to round
+     * @return Rounded value
+     */
+    public static double round(double value) {
+        return Math.round(value * 1000.0) / 1000.0;
+    }
+
+    /**
+     * Write a JSON report to a file, creating parent directories as needed
+     *
+     * @param file Target file
+     * @param json Report document
+     */
+    public static void writeReport(Path file, String json) throws IOException {
+        Files.createDirectories(file.toAbsolutePath().getParent());
+        Files.writeString(file, json, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Attach a JSON report to the running Allure test or fixture
+     *
+     * @param name Attachment name
+     * @param json Report document
+     */
+    public static void attachReport(String name, String json) {
+        Allure.addAttachment(name, "application/json", json, ".json");
+    }
+
+    private static double toMillis(long micros) {
+        return round(micros / 1000.0);
+    }
+}
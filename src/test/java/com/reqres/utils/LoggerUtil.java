@@ -2,14 +2,28 @@ package com.reqres.utils;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.apache.logging.log4j.ThreadContext;
+
+import java.util.function.Supplier;
 
 /**
  * LoggerUtil Class - Centralized logging utility
  * 
  * Provides centralized logging functionality for all test classes
+ * 
+ * All methods are stateless and safe to call from parallel test threads.
+ * The running test name is kept in the per-thread log4j ThreadContext
+ * (rendered as %X{test}) so interleaved output stays attributable.
+ * 
+ * Prefer the parameterized ("Status: {}") and Supplier overloads over string
+ * concatenation: the message is only formatted when the level is enabled, and
+ * a Supplier is only evaluated then. Loggers are asynchronous (see log4j2.xml),
+ * so callers never wait on appender I/O.
  */
 public class LoggerUtil {
 
+    private static final String TEST_CONTEXT_KEY = "test";
+
     /**
      * Get logger instance for a specific class
      * 
@@ -30,6 +44,29 @@ public class LoggerUtil {
         logger.info(message);
     }
 
+    /**
+     * Log parameterized informational message
+     * 
+     * @param logger Logger instance
+     * @param format Message with {} placeholders
+     * @param args Placeholder values
+     */
+    public static void logInfo(Logger logger, String format, Object... args) {
+        logger.info(format, args);
+    }
+
+    /**
+     * Log informational message that is built only if INFO is enabled
+     * 
+     * @param logger Logger instance
+     * @param message Supplier of the message, e.g. () -> "Response Body: " + response.asString()
+     */
+    public static void logInfo(Logger logger, Supplier<String> message) {
+        if (logger.isInfoEnabled()) {
+            logger.info(message.get());
+        }
+    }
+
     /**
      * Log error message
      * 
@@ -40,6 +77,29 @@ public class LoggerUtil {
         logger.error(message);
     }
 
+    /**
+     * Log parameterized error message
+     * 
+     * @param logger Logger instance
+     * @param format Message with {} placeholders
+     * @param args Placeholder values (a trailing Throwable is logged with its stack trace)
+     */
+    public static void logError(Logger logger, String format, Object... args) {
+        logger.error(format, args);
+    }
+
+    /**
+     * Log error message that is built only if ERROR is enabled
+     * 
+     * @param logger Logger instance
+     * @param message Supplier of the message, e.g. () -> "Response Body: " + response.asString()
+     */
+    public static void logError(Logger logger, Supplier<String> message) {
+        if (logger.isErrorEnabled()) {
+            logger.error(message.get());
+        }
+    }
+
     /**
      * Log debug message
      * 
@@ -50,6 +110,29 @@ public class LoggerUtil {
         logger.debug(message);
     }
 
+    /**
+     * Log parameterized debug message
+     * 
+     * @param logger Logger instance
+     * @param format Message with {} placeholders
+     * @param args Placeholder values
+     */
+    public static void logDebug(Logger logger, String format, Object... args) {
+        logger.debug(format, args);
+    }
+
+    /**
+     * Log debug message that is built only if DEBUG is enabled
+     * 
+     * @param logger Logger instance
+     * @param message Supplier of the message, e.g. () -> "Response Body: " + response.asString()
+     */
+    public static void logDebug(Logger logger, Supplier<String> message) {
+        if (logger.isDebugEnabled()) {
+            logger.debug(message.get());
+        }
+    }
+
     /**
      * Log warning message
      * 
@@ -59,4 +142,52 @@ public class LoggerUtil {
     public static void logWarning(Logger logger, String message) {
         logger.warn(message);
     }
+
+    /**
+     * Log parameterized warning message
+     * 
+     * @param logger Logger instance
+     * @param format Message with {} placeholders
+     * @param args Placeholder values
+     */
+    public static void logWarning(Logger logger, String format, Object... args) {
+        logger.warn(format, args);
+    }
+
+    /**
+     * Log warning message that is built only if WARN is enabled
+     * 
+     * @param logger Logger instance
+     * @param message Supplier of the message, e.g. () -> "Response Body: " + response.asString()
+     */
+    public static void logWarning(Logger logger, Supplier<String> message) {
+        if (logger.isWarnEnabled()) {
+            logger.warn(message.get());
+        }
+    }
+
+    /**
+     * Bind a test name to the logging context of the current thread
+     * 
+     * @param testName Name of the running test
+     */
+    public static void setTestContext(String testName) {
+        ThreadContext.put(TEST_CONTEXT_KEY, testName);
+    }
+
+    /**
+     * Get the test name bound to the logging context of the current thread
+     * 
+     * @return Test name, or null outside a test
+     */
+    public static String getTestContext() {
+        return ThreadContext.get(TEST_CONTEXT_KEY);
+    }
+
+    /**
+     * Remove the test name from the logging context of the current thread
+     */
+    public static void clearTestContext() {
+        ThreadContext.remove(TEST_CONTEXT_KEY);
+    }
 }
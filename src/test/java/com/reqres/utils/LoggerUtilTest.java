@@ -0,0 +1,84 @@
+package com.reqres.utils;
+
+import org.apache.logging.log4j.Level;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.apache.logging.log4j.core.config.Configurator;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.testng.Assert.*;
+
+/**
+ * LoggerUtilTest Class - Test cases for the lazily evaluated logging overloads
+ *
+ * The tests log through dedicated loggers fixed at INFO and OFF, so the outcome
+ * does not depend on the level com.reqres is configured with.
+ *
+ * Tests:
+ * - A message Supplier is only called when its level is enabled
+ * - Parameterized arguments are not rendered when the level is disabled
+ */
+public class LoggerUtilTest {
+
+    private static final String LOGGER_NAME = LoggerUtilTest.class.getName() + ".levels";
+
+    private static final String SILENT_LOGGER_NAME = LoggerUtilTest.class.getName() + ".silent";
+
+    private Logger logger;
+    private Logger silentLogger;
+
+    @BeforeClass(alwaysRun = true)
+    public void fixLevel() {
+        Configurator.setLevel(LOGGER_NAME, Level.INFO);
+        Configurator.setLevel(SILENT_LOGGER_NAME, Level.OFF);
+        logger = LogManager.getLogger(LOGGER_NAME);
+        silentLogger = LogManager.getLogger(SILENT_LOGGER_NAME);
+    }
+
+    /**
+     * Test that message suppliers are lazy
+     * Validates:
+     * - A DEBUG supplier is not called while DEBUG is disabled
+     * - An INFO supplier is called once
+     * - No supplier is called on a logger that is switched off
+     */
+    @Test(description = "Message suppliers run only for enabled levels")
+    public void suppliersRunOnlyWhenEnabled() {
+        AtomicInteger calls = new AtomicInteger();
+        Supplier<String> message = () -> "Supplied message " + calls.incrementAndGet();
+
+        LoggerUtil.logDebug(logger, message);
+        assertEquals(calls.get(), 0, "DEBUG supplier should not be called");
+
+        LoggerUtil.logInfo(logger, message);
+        assertEquals(calls.get(), 1, "INFO supplier should be called once");
+
+        LoggerUtil.logWarning(silentLogger, message);
+        LoggerUtil.logError(silentLogger, message);
+        assertEquals(calls.get(), 1, "Suppliers of a logger that is off should not be called");
+    }
+
+    /**
+     * Test that parameterized messages are not formatted below the level
+     * Validates:
+     * - A DEBUG argument's toString is never called
+     */
+    @Test(description = "Disabled parameterized messages are not rendered")
+    public void disabledArgumentsAreNotRendered() {
+        AtomicInteger renders = new AtomicInteger();
+        Object argument = new Object() {
+            @Override
+            public String toString() {
+                return "rendered " + renders.incrementAndGet();
+            }
+        };
+
+        LoggerUtil.logDebug(logger, "Argument {} and {}", argument, argument);
+
+        assertEquals(renders.get(), 0, "DEBUG arguments should not be rendered");
+    }
+}
@@ -1,36 +1,58 @@
 package com.reqres.utils;
 
-import io.restassured.RestAssured;
 import io.restassured.builder.RequestSpecBuilder;
-import io.restassured.filter.log.RequestLoggingFilter;
-import io.restassured.filter.log.ResponseLoggingFilter;
+import io.restassured.config.HttpClientConfig;
+import io.restassured.config.RestAssuredConfig;
 import io.restassured.specification.RequestSpecification;
 import com.reqres.config.ConfigReader;
+import com.reqres.filters.BufferedExchangeLoggingFilter;
+import com.reqres.filters.CassetteFilter;
+import com.reqres.filters.RequestTimingFilter;
+import com.reqres.filters.ResponseCacheFilter;
 
 /**
  * RequestSpecificationUtil Class - Utility for building request specifications
  * 
  * This utility class provides:
- * - Request specification builder with logging
- * - Response logging configuration
+ * - Request specification builder with buffered exchange logging
+ *   (written out only for failed or sampled tests, see {@link BufferedExchangeLoggingFilter})
  * - Common request headers setup
+ * - Pooled keep-alive connections shared by all specifications (see {@link HttpConnectionPool})
+ * - Connect, socket and pool wait timeouts from {@link ConfigReader}, so a hung target fails fast
+ * - Per-exchange latency and size recording on every specification (see {@link RequestTimingFilter})
+ * - Optional record/replay of every exchange (see {@link CassetteFilter})
+ * - Optional run-scoped cache of GET responses (see {@link ResponseCacheFilter})
+ * 
+ * Every specification carries its own base URI, so nothing here touches
+ * the global RestAssured state and specs can be built from any thread.
  */
 public class RequestSpecificationUtil {
 
     /**
      * Build and return a RequestSpecification with logging enabled
      * This specification includes:
-     * - Request and response logging
+     * - Base URI from ConfigReader
+     * - HTTP client backed by the shared connection pool
+     * - Request and response recording, logged when the test fails
+     * - Exchange timing
      * - Content-Type headers
      * 
      * @return Configured RequestSpecification object
      */
     public static RequestSpecification getRequestSpecification() {
         return new RequestSpecBuilder()
-                // Add request logging filter
-                .addFilter(new RequestLoggingFilter())
-                // Add response logging filter
-                .addFilter(new ResponseLoggingFilter())
+                // Set base URI on the spec instead of the global RestAssured.baseURI
+                .setBaseUri(ConfigReader.getBaseURI())
+                // Reuse keep-alive connections from the shared pool
+                .setConfig(pooledConfig())
+                // Buffer request and response for failure-only logging
+                .addFilter(BufferedExchangeLoggingFilter.getInstance())
+                // Serve repeated GETs from the response cache when cache.enabled is set
+                .addFilter(ResponseCacheFilter.getInstance())
+                // Record latency and byte counts per endpoint
+                .addFilter(RequestTimingFilter.getInstance())
+                // Record to or replay from a cassette when cassette.mode is set
+                .addFilter(CassetteFilter.getInstance())
                 // Set base path (empty for httpbin.org)
                 .setBasePath("")
                 // Set request headers
@@ -40,6 +62,42 @@ public class RequestSpecificationUtil {
                 .build();
     }
 
+    /**
+     * Build a RequestSpecification without request/response logging
+     * Used by load runs, where printing every exchange would dominate the measurement
+     * 
+     * @return Configured RequestSpecification object
+     */
+    public static RequestSpecification getRequestSpecificationWithoutLogging() {
+        return new RequestSpecBuilder()
+                .setBaseUri(ConfigReader.getBaseURI())
+                .setConfig(pooledConfig())
+                .addFilter(ResponseCacheFilter.getInstance())
+                .addFilter(RequestTimingFilter.getInstance())
+                .addFilter(CassetteFilter.getInstance())
+                .setBasePath("")
+                .addHeader("Content-Type", "application/json")
+                .addHeader("Accept", "application/json")
+                .build();
+    }
+
+    /**
+     * Build a RequestSpecification without any filters
+     * Used for suite warm-up traffic, which must not show up in exchange logs,
+     * request timings, the response cache or a cassette
+     * 
+     * @return Configured RequestSpecification object
+     */
+    public static RequestSpecification getWarmupRequestSpecification() {
+        return new RequestSpecBuilder()
+                .setBaseUri(ConfigReader.getBaseURI())
+                .setConfig(pooledConfig())
+                .setBasePath("")
+                .addHeader("Content-Type", "application/json")
+                .addHeader("Accept", "application/json")
+                .build();
+    }
+
     /**
      * Get a custom RequestSpecification with additional headers
      * 
@@ -48,8 +106,12 @@ public class RequestSpecificationUtil {
      */
     public static RequestSpecification getRequestSpecificationWithAuth(String authToken) {
         RequestSpecBuilder specBuilder = new RequestSpecBuilder()
-                .addFilter(new RequestLoggingFilter())
-                .addFilter(new ResponseLoggingFilter())
+                .setBaseUri(ConfigReader.getBaseURI())
+                .setConfig(pooledConfig())
+                .addFilter(BufferedExchangeLoggingFilter.getInstance())
+                .addFilter(ResponseCacheFilter.getInstance())
+                .addFilter(RequestTimingFilter.getInstance())
+                .addFilter(CassetteFilter.getInstance())
                 .setBasePath("")
                 .addHeader("Content-Type", "application/json")
                 .addHeader("Accept", "application/json");
@@ -61,4 +123,18 @@ public class RequestSpecificationUtil {
 
         return specBuilder.build();
     }
+
+    /**
+     * Build a RestAssuredConfig whose HTTP clients lease connections from the shared pool
+     * and give up after the configured timeouts
+     * 
+     * @return RestAssuredConfig with pooled HTTP client factory and timeouts
+     */
+    private static RestAssuredConfig pooledConfig() {
+        HttpConnectionPool pool = HttpConnectionPool.getInstance();
+        return RestAssuredConfig.config()
+                .httpClient(HttpClientConfig.httpClientConfig()
+                        .httpClientFactory(pool::createHttpClient)
+                        .addParams(HttpConnectionPool.configuredTimeoutParams()));
+    }
 }
@@ -0,0 +1,224 @@
+package com.reqres.utils;
+
+import io.restassured.response.Response;
+import com.reqres.contract.ResponseContract;
+import org.json.simple.parser.JSONParser;
+import org.json.simple.parser.ParseException;
+
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * ResponseView Class - Parse-once view over a RestAssured or direct response for assertions
+ *
+ * This class provides:
+ * - The body decoded exactly once (RestAssured's asString() decodes on every call)
+ * - The same assertions for {@link DirectHttpClient} responses as for RestAssured ones
+ * - A JSON tree parsed lazily on the first path lookup and reused afterwards
+ * - Typed path lookups such as getString("json.name") or getInt("args.page")
+ * - Schema contract checks through {@link ResponseContract}
+ *
+ * Paths are dot separated object keys with optional list indexes: "data[0].email".
+ * A view is not thread-safe; create one per response in the test that asserts on it.
+ */
+public final class ResponseView {
+
+    private static final Object MISSING = new Object();
+
+    private final int statusCode;
+    private final byte[] bytes;
+    private final String body;
+    private Object root;
+    private boolean parsed;
+
+    private ResponseView(int statusCode, String contentType, byte[] bytes) {
+        this.statusCode = statusCode;
+        this.bytes = bytes;
+        this.body = new String(bytes, charsetOf(contentType));
+    }
+
+    /**
+     * Create a view over a response
+     *
+     * @param response RestAssured Response
+     * @return ResponseView object
+     */
+    public static ResponseView of(Response response) {
+        return new ResponseView(response.getStatusCode(), response.getContentType(), response.asByteArray());
+    }
+
+    /**
+     * Create a view over a response of the direct request path
+     *
+     * @param response DirectResponse
+     * @return ResponseView object
+     */
+    public static ResponseView of(DirectResponse response) {
+        return new ResponseView(response.getStatusCode(), response.getContentType(), response.asByteArray());
+    }
+
+    public int getStatusCode() {
+        return statusCode;
+    }
+
+    /**
+     * Get the decoded body
+     *
+     * @return Body text
+     */
+    public String getBody() {
+        return body;
+    }
+
+    /**
+     * Check whether the body parses as JSON
+     *
+     * @return true if the body is a JSON document
+     */
+    public boolean isJson() {
+        return root() != MISSING;
+    }
+
+    /**
+     * Validate the body against an endpoint contract in one pass over the raw bytes
+     * Does not parse the JSON tree used by the path lookups
+     *
+     * @param contract Contract of the endpoint that produced the response
+     * @return Violations, empty if the body matches
+     */
+    public List<String> getContractViolations(ResponseContract contract) {
+        return contract.validate(bytes);
+    }
+
+    /**
+     * Check whether a path exists (a present key with a null value counts)
+     *
+     * @param path Path such as "json.name"
+     * @return true if the path resolves
+     */
+    public boolean has(String path) {
+        return resolve(path) != MISSING;
+    }
+
+    /**
+     * Get the raw value at a path
+     *
+     * @param path Path such as "headers"
+     * @return Map, List, String, Number, Boolean, or null when absent or JSON null
+     */
+    public Object get(String path) {
+        Object value = resolve(path);
+        return value == MISSING ? null : value;
+    }
+
+    /**
+     * Get the value at a path as a string
+     *
+     * @param path Path such as "json.name"
+     * @return String form of the value, or null when absent or JSON null
+     */
+    public String getString(String path) {
+        Object value = get(path);
+        return value == null ? null : value.toString();
+    }
+
+    /**
+     * Get the value at a path as an integer
+     * Numeric strings are accepted since httpbin echoes query parameters as strings
+     *
+     * @param path Path such as "args.page"
+     * @return Integer value, or null when absent or JSON null
+     */
+    public Integer getInt(String path) {
+        Object value = get(path);
+        if (value == null) {
+            return null;
+        }
+        if (value instanceof Number) {
+            return ((Number) value).intValue();
+        }
+        try {
+            return Integer.valueOf(value.toString().trim());
+        } catch (NumberFormatException e) {
+            throw new IllegalStateException("Value at '" + path + "' is not an integer: " + value, e);
+        }
+    }
+
+    /**
+     * Get the object at a path
+     *
+     * @param path Path such as "args"
+     * @return Map of the object's fields, or null when absent or not an object
+     */
+    @SuppressWarnings("unchecked")
+    public Map<String, Object> getObject(String path) {
+        Object value = get(path);
+        return value instanceof Map ? (Map<String, Object>) value : null;
+    }
+
+    private Object root() {
+        if (!parsed) {
+            parsed = true;
+            try {
+                root = body.isEmpty() ? MISSING : new JSONParser().parse(body);
+            } catch (ParseException e) {
+                root = MISSING;
+            }
+        }
+        return root;
+    }
+
+    private Object resolve(String path) {
+        Object current = root();
+        if (current == MISSING || path == null || path.isEmpty()) {
+            return current;
+        }
+
+        int position = 0;
+        while (position < path.length() && current != MISSING) {
+            char c = path.charAt(position);
+            if (c == '.') {
+                position++;
+            } else if (c == '[') {
+                int close = path.indexOf(']', position);
+                if (close < 0) {
+                    throw new IllegalArgumentException("Unclosed index in path: " + path);
+                }
+                int index = Integer.parseInt(path.substring(position + 1, close));
+                current = current instanceof List && index >= 0 && index < ((List<?>) current).size()
+                        ? ((List<?>) current).get(index)
+                        : MISSING;
+                position = close + 1;
+            } else {
+                int end = position;
+                while (end < path.length() && path.charAt(end) != '.' && path.charAt(end) != '[') {
+                    end++;
+                }
+                String key = path.substring(position, end);
+                current = current instanceof Map && ((Map<?, ?>) current).containsKey(key)
+                        ? ((Map<?, ?>) current).get(key)
+                        : MISSING;
+                position = end;
+            }
+        }
+        return current;
+    }
+
+    private static Charset charsetOf(String contentType) {
+        if (contentType != null) {
+            for (String parameter : contentType.split(";")) {
+                String trimmed = parameter.trim();
+                if (trimmed.regionMatches(true, 0, "charset=", 0, 8)) {
+                    try {
+                        return Charset.forName(trimmed.substring(8).replace("\"", ""));
+                    } catch (IllegalArgumentException ignored) {
+                        // Unknown charset, fall back to UTF-8
+                    }
+                }
+            }
+        }
+        return StandardCharsets.UTF_8;
+    }
+}